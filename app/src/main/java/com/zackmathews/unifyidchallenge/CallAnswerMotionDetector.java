@@ -0,0 +1,197 @@
+package com.zackmathews.unifyidchallenge;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming detector for a simple call answer motion: the phone starts flat on a table
+ * and ends held up to the ear.
+ * <p>
+ * Accelerometer samples are fed in as they arrive. The detector freezes the averages of the
+ * first @see {@link #EVENT_WINDOW} ns and keeps running sums over the most recent @see {@link #EVENT_WINDOW} ns,
+ * so the end of call decision is constant time and a match can be reported while the call is still going.
+ * Samples from other sensors are ignored. Timestamps are sensor event time in nanoseconds, see @see {@link EventTime}.
+ * Not thread safe, feed it from a single thread.
+ */
+public class CallAnswerMotionDetector {
+    public static final long EVENT_WINDOW = TimeUnit.SECONDS.toNanos(1);
+
+    private static final float TABLE_Z_THRESHOLD = 3.7f;
+    private static final float TABLE_Z_DRIFT = .75f;
+    private static final float EAR_Y_THRESHOLD = 2.5f;
+    private static final float EAR_Y_DRIFT = .75f;
+
+    // Sensor.TYPE_ACCELEROMETER, inlined so the detector has no Android dependency
+    private static final int SENSOR_TYPE_ACCELEROMETER = 1;
+    private static final int INITIAL_WINDOW_CAPACITY = 256;
+
+    /**
+     * Notified the first time the motion is detected during a session.
+     */
+    public interface Listener {
+        /**
+         * @param timestamp event time of the sample that completed the motion, in nanoseconds
+         */
+        void onMotionDetected(long timestamp);
+    }
+
+    private Listener listener;
+
+    private long startTimestamp;
+    private boolean hasStarted;
+    private boolean isStartWindowClosed;
+    private final double[] startSums = new double[3];
+    private int startCount;
+
+    // Ring of |x|, |y|, |z| for samples inside the trailing window
+    private long[] endTimestamps = new long[INITIAL_WINDOW_CAPACITY];
+    private float[] endValues = new float[INITIAL_WINDOW_CAPACITY * 3];
+    private int endHead;
+    private int endCount;
+    private final double[] endSums = new double[3];
+
+    private boolean isMotionDetected;
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Clears all state for a new session.
+     */
+    public void reset() {
+        hasStarted = false;
+        isStartWindowClosed = false;
+        startCount = 0;
+        endHead = 0;
+        endCount = 0;
+        for (int i = 0; i < 3; i++) {
+            startSums[i] = 0;
+            endSums[i] = 0;
+        }
+        isMotionDetected = false;
+    }
+
+    /**
+     * Feeds a sample into the detector.
+     *
+     * @param packet
+     */
+    public void onSample(SensorDataPacket packet) {
+        onSample(packet.sensorId, packet.timestamp, packet.values, packet.valueCount);
+    }
+
+    /**
+     * Feeds a sample into the detector, only accelerometer samples are considered.
+     *
+     * @param sensorId   sensor type of the sample
+     * @param timestamp  sample event time in nanoseconds
+     * @param values     sample values
+     * @param valueCount number of valid entries in values
+     */
+    public void onSample(int sensorId, long timestamp, float[] values, int valueCount) {
+        switch (sensorId) {
+            case SENSOR_TYPE_ACCELEROMETER:
+                onAccelerometerSample(timestamp, values, valueCount);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void onAccelerometerSample(long timestamp, float[] values, int valueCount) {
+        if (valueCount < 3) return;
+        float x = Math.abs(values[0]);
+        float y = Math.abs(values[1]);
+        float z = Math.abs(values[2]);
+
+        if (!hasStarted) {
+            hasStarted = true;
+            startTimestamp = timestamp;
+        }
+        if (!isStartWindowClosed) {
+            if (startTimestamp + EVENT_WINDOW > timestamp) {
+                startSums[0] += x;
+                startSums[1] += y;
+                startSums[2] += z;
+                startCount++;
+            } else {
+                isStartWindowClosed = true;
+            }
+        }
+
+        pushEndSample(timestamp, x, y, z);
+        while (endCount > 0 && endTimestamps[endHead] <= timestamp - EVENT_WINDOW) {
+            popEndSample();
+        }
+
+        if (!isMotionDetected && isStartWindowClosed && isSimpleCallAnswerMotion()) {
+            isMotionDetected = true;
+            if (listener != null) {
+                listener.onMotionDetected(timestamp);
+            }
+        }
+    }
+
+    private void pushEndSample(long timestamp, float x, float y, float z) {
+        if (endCount == endTimestamps.length) {
+            growEndWindow();
+        }
+        int index = (endHead + endCount) % endTimestamps.length;
+        endTimestamps[index] = timestamp;
+        endValues[index * 3] = x;
+        endValues[index * 3 + 1] = y;
+        endValues[index * 3 + 2] = z;
+        endSums[0] += x;
+        endSums[1] += y;
+        endSums[2] += z;
+        endCount++;
+    }
+
+    private void popEndSample() {
+        endSums[0] -= endValues[endHead * 3];
+        endSums[1] -= endValues[endHead * 3 + 1];
+        endSums[2] -= endValues[endHead * 3 + 2];
+        endHead = (endHead + 1) % endTimestamps.length;
+        endCount--;
+    }
+
+    private void growEndWindow() {
+        int capacity = endTimestamps.length * 2;
+        long[] newTimestamps = new long[capacity];
+        float[] newValues = new float[capacity * 3];
+        for (int i = 0; i < endCount; i++) {
+            int index = (endHead + i) % endTimestamps.length;
+            newTimestamps[i] = endTimestamps[index];
+            System.arraycopy(endValues, index * 3, newValues, i * 3, 3);
+        }
+        endTimestamps = newTimestamps;
+        endValues = newValues;
+        endHead = 0;
+    }
+
+    /**
+     * Determines whether or not the samples seen so far started flat on a table and ended held up to the ear,
+     * by comparing the average accelerometer significant axis' (Z axis for flat on table, Y for held up to ear)
+     * of the first and last @see {@link #EVENT_WINDOW} ns against thresholds.
+     * The first window starts with the session's first sample, and in sessions shorter than two windows
+     * both windows average the samples they share.
+     *
+     * @return true if conditions were met for a simple call answer motion, false while either window is empty.
+     */
+    public boolean isSimpleCallAnswerMotion() {
+        if (startCount == 0 || endCount == 0) return false;
+        double startAvgZ = startSums[2] / startCount;
+        double endAvgY = endSums[1] / endCount;
+        return startAvgZ > TABLE_Z_THRESHOLD - TABLE_Z_DRIFT
+                && startAvgZ < TABLE_Z_THRESHOLD + TABLE_Z_DRIFT
+                && endAvgY > EAR_Y_THRESHOLD - EAR_Y_DRIFT
+                && endAvgY < EAR_Y_THRESHOLD + EAR_Y_DRIFT;
+    }
+
+    /**
+     * @return true once the motion has been detected during the current session.
+     */
+    public boolean isMotionDetected() {
+        return isMotionDetected;
+    }
+}
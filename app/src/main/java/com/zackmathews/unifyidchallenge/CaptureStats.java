@@ -0,0 +1,77 @@
+package com.zackmathews.unifyidchallenge;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters for a single capture, updated from the sensor thread and the subscriber thread.
+ */
+public class CaptureStats {
+    private final AtomicLong emitted = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong decimated = new AtomicLong();
+
+    void onEmitted() {
+        emitted.incrementAndGet();
+    }
+
+    void onDelivered() {
+        delivered.incrementAndGet();
+    }
+
+    void onDropped() {
+        dropped.incrementAndGet();
+    }
+
+    void onDecimated() {
+        decimated.incrementAndGet();
+    }
+
+    void reset() {
+        emitted.set(0);
+        delivered.set(0);
+        dropped.set(0);
+        decimated.set(0);
+    }
+
+    /**
+     * @return samples handed to the overflow buffer.
+     */
+    public long getEmittedCount() {
+        return emitted.get();
+    }
+
+    /**
+     * @return samples that reached the subscriber.
+     */
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    /**
+     * @return samples evicted or rejected by the overflow buffer.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * @return samples skipped by per-sensor decimation before reaching the buffer.
+     */
+    public long getDecimatedCount() {
+        return decimated.get();
+    }
+
+    /**
+     * @return samples currently sitting in the overflow buffer.
+     */
+    public long getBacklog() {
+        return emitted.get() - dropped.get() - delivered.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("{ emitted: %d, delivered: %d, dropped: %d, decimated: %d }",
+                getEmittedCount(), getDeliveredCount(), getDroppedCount(), getDecimatedCount());
+    }
+}
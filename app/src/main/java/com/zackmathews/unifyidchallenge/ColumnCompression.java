@@ -0,0 +1,195 @@
+package com.zackmathews.unifyidchallenge;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import java.io.IOException;
+import java.util.zip.CRC32;
+
+/**
+ * Encodes column chunks as @see {@link UnifyChallengeProto.CompressedColumn}s and decodes them again.
+ * <p>
+ * Sensor streams change slowly and arrive at a steady rate, so the delta XOR transform turns most of a chunk into zeros
+ * before the block codec sees it: timestamps become changes in the sampling interval, and values are XORed with the
+ * previous value of the same axis, which leaves the sign, exponent and high mantissa bits zero for small changes.
+ * Splitting values into byte planes then puts those zeros next to each other.
+ */
+public final class ColumnCompression {
+    public static final int TRANSFORM_NONE = 0;
+    public static final int TRANSFORM_DELTA_XOR = 1;
+    private static final int FLOAT_SIZE = 4;
+
+    private ColumnCompression() {
+    }
+
+    /**
+     * @param sensorId
+     * @param stride      values per sample
+     * @param timestamps
+     * @param values      stride values per sample
+     * @param sampleCount number of samples to encode
+     * @param transform   @see {@link #TRANSFORM_NONE} or @see {@link #TRANSFORM_DELTA_XOR}
+     * @param codec
+     * @return the encoded chunk
+     */
+    public static UnifyChallengeProto.CompressedColumn encode(int sensorId, int stride, long[] timestamps, float[] values,
+                                                              int sampleCount, int transform, SessionCodec codec) {
+        if (transform != TRANSFORM_NONE && transform != TRANSFORM_DELTA_XOR)
+            throw new IllegalArgumentException(String.format("Unknown transform %d", transform));
+        long base = sampleCount > 0 ? timestamps[0] : 0;
+        int timestampsLength = 0;
+        long previous = base;
+        long previousDelta = 0;
+        for (int i = 0; i < sampleCount; i++) {
+            long delta = timestamps[i] - previous;
+            timestampsLength += CodedOutputStream.computeSInt64SizeNoTag(transform == TRANSFORM_DELTA_XOR ? delta - previousDelta : delta);
+            previous = timestamps[i];
+            previousDelta = delta;
+        }
+        int valueCount = sampleCount * stride;
+        byte[] payload = new byte[timestampsLength + valueCount * FLOAT_SIZE];
+        CodedOutputStream output = CodedOutputStream.newInstance(payload, 0, timestampsLength);
+        previous = base;
+        previousDelta = 0;
+        try {
+            for (int i = 0; i < sampleCount; i++) {
+                long delta = timestamps[i] - previous;
+                output.writeSInt64NoTag(transform == TRANSFORM_DELTA_XOR ? delta - previousDelta : delta);
+                previous = timestamps[i];
+                previousDelta = delta;
+            }
+        } catch (IOException e) {
+            // Sized exactly above, can't run out of space
+            throw new IllegalStateException(e);
+        }
+        for (int j = 0; j < valueCount; j++) {
+            int bits = Float.floatToRawIntBits(values[j]);
+            if (transform == TRANSFORM_DELTA_XOR) {
+                if (j >= stride) {
+                    bits ^= Float.floatToRawIntBits(values[j - stride]);
+                }
+                for (int plane = 0; plane < FLOAT_SIZE; plane++) {
+                    payload[timestampsLength + plane * valueCount + j] = (byte) (bits >>> (plane * 8));
+                }
+            } else {
+                for (int b = 0; b < FLOAT_SIZE; b++) {
+                    payload[timestampsLength + j * FLOAT_SIZE + b] = (byte) (bits >>> (b * 8));
+                }
+            }
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length);
+        return UnifyChallengeProto.CompressedColumn.newBuilder()
+                .setSensorId(sensorId)
+                .setStride(stride)
+                .setSampleCount(sampleCount)
+                .setBaseTimestamp(base)
+                .setTransform(transform)
+                .setCodec(codec.getId())
+                .setPayloadLength(payload.length)
+                .setChecksum((int) crc.getValue())
+                .setPayload(ByteString.copyFrom(codec.compress(payload, payload.length)))
+                .build();
+    }
+
+    /**
+     * Decoded samples of a compressed chunk. Reused from chunk to chunk so reading a session only allocates
+     * when a chunk is larger than any before it.
+     */
+    public static class DecodedColumn {
+        private final CRC32 crc = new CRC32();
+        private byte[] payload = new byte[0];
+        private long[] timestamps = new long[0];
+        private float[] values = new float[0];
+        private int sensorId;
+        private int stride;
+        private int size;
+
+        /**
+         * Replaces the held samples with the samples of the given chunk.
+         *
+         * @param column
+         * @throws IOException if the chunk is corrupt, fails its checksum or uses an unknown codec or transform
+         */
+        public void decode(UnifyChallengeProto.CompressedColumn column) throws IOException {
+            int transform = column.getTransform();
+            if (transform != TRANSFORM_NONE && transform != TRANSFORM_DELTA_XOR)
+                throw new IOException(String.format("Unknown transform %d", transform));
+            int sampleCount = column.getSampleCount();
+            int stride = column.getStride();
+            int payloadLength = column.getPayloadLength();
+            if (stride <= 0 || sampleCount < 0 || payloadLength < 0 || (long) sampleCount * stride * FLOAT_SIZE > payloadLength)
+                throw new IOException(String.format("Malformed chunk of sensor %d", column.getSensorId()));
+            // Bounded by the payload length, so it can't overflow
+            int valueCount = sampleCount * stride;
+            if (payload.length < payloadLength) {
+                payload = new byte[payloadLength];
+            }
+            SessionCodecs.forId(column.getCodec()).decompress(column.getPayload().toByteArray(), payload, payloadLength);
+            crc.reset();
+            crc.update(payload, 0, payloadLength);
+            if ((int) crc.getValue() != column.getChecksum())
+                throw new IOException(String.format("Checksum mismatch in chunk of sensor %d", column.getSensorId()));
+
+            if (timestamps.length < sampleCount) {
+                timestamps = new long[sampleCount];
+            }
+            if (values.length < valueCount) {
+                values = new float[valueCount];
+            }
+            int timestampsLength = payloadLength - valueCount * FLOAT_SIZE;
+            CodedInputStream input = CodedInputStream.newInstance(payload, 0, timestampsLength);
+            long timestamp = column.getBaseTimestamp();
+            long delta = 0;
+            for (int i = 0; i < sampleCount; i++) {
+                long encoded = input.readSInt64();
+                delta = transform == TRANSFORM_DELTA_XOR ? delta + encoded : encoded;
+                timestamp += delta;
+                timestamps[i] = timestamp;
+            }
+            if (!input.isAtEnd())
+                throw new IOException(String.format("Malformed timestamps in chunk of sensor %d", column.getSensorId()));
+            for (int j = 0; j < valueCount; j++) {
+                int bits = 0;
+                if (transform == TRANSFORM_DELTA_XOR) {
+                    for (int plane = 0; plane < FLOAT_SIZE; plane++) {
+                        bits |= (payload[timestampsLength + plane * valueCount + j] & 0xff) << (plane * 8);
+                    }
+                    if (j >= stride) {
+                        bits ^= Float.floatToRawIntBits(values[j - stride]);
+                    }
+                } else {
+                    for (int b = 0; b < FLOAT_SIZE; b++) {
+                        bits |= (payload[timestampsLength + j * FLOAT_SIZE + b] & 0xff) << (b * 8);
+                    }
+                }
+                values[j] = Float.intBitsToFloat(bits);
+            }
+            this.sensorId = column.getSensorId();
+            this.stride = stride;
+            this.size = sampleCount;
+        }
+
+        public int getSensorId() {
+            return sensorId;
+        }
+
+        public int getStride() {
+            return stride;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public long getTimestamp(int index) {
+            return timestamps[index];
+        }
+
+        public float getValue(int index, int axis) {
+            return values[index * stride + axis];
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package com.zackmathews.unifyidchallenge;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.PublicKey;
+
+/**
+ * Writes sessions in the packed @see {@link UnifyChallengeProto.SensorSession} (v2) layout.
+ * <p>
+ * Samples are buffered per sensor and written as SensorColumn chunks once a chunk fills up,
+ * with packed float values and zigzag encoded timestamp deltas. Sensors are only described once
+ * in the sensor dictionary, so a typical sample takes a few bytes of timestamp plus 4 bytes per axis.
+ * Memory use is bounded by the chunk size regardless of session length.
+ * <p>
+ * Given a @see {@link SessionCodec} the writer produces version 3 sessions instead, where every chunk is transformed
+ * and compressed into a CompressedColumn, see @see {@link ColumnCompression}. Compressed sessions are meant for
+ * finished sessions, chunks are larger and flushing a partially filled chunk costs compression ratio.
+ * Finished sessions can also be encrypted as they are written, see @see {@link EncryptedOutputStream}.
+ * Not thread safe, write from a single thread.
+ */
+public class ColumnarSessionWriter implements SessionWriter {
+    public static final int VERSION = 2;
+    public static final int COMPRESSED_VERSION = 3;
+    public static final int DEFAULT_CHUNK_SAMPLES = 1024;
+    public static final int DEFAULT_COMPRESSED_CHUNK_SAMPLES = 4096;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static class Chunk {
+        final int sensorId;
+        final int stride;
+        final long[] timestamps;
+        final float[] values;
+        int size;
+
+        Chunk(int sensorId, int stride, int capacity) {
+            this.sensorId = sensorId;
+            this.stride = stride;
+            timestamps = new long[capacity];
+            values = new float[capacity * stride];
+        }
+    }
+
+    private final OutputStream stream;
+    private final CodedOutputStream output;
+    private final int chunkSamples;
+    private final SessionCodec codec;
+    private final int transform;
+    private Chunk[] chunks = new Chunk[0];
+    private int[] describedSensorIds = new int[0];
+    private long sampleCount;
+    private long featureWindowCount;
+
+    public ColumnarSessionWriter(OutputStream stream) throws IOException {
+        this(stream, DEFAULT_CHUNK_SAMPLES);
+    }
+
+    /**
+     * @param stream
+     * @param chunkSamples samples buffered per sensor before a column chunk is written
+     * @throws IOException
+     */
+    public ColumnarSessionWriter(OutputStream stream, int chunkSamples) throws IOException {
+        this(stream, chunkSamples, null, ColumnCompression.TRANSFORM_NONE);
+    }
+
+    /**
+     * @param stream
+     * @param chunkSamples samples buffered per sensor before a column chunk is written
+     * @param codec        compresses chunks into a version 3 session, null writes uncompressed version 2 columns
+     * @param transform    transform applied to compressed chunks, see @see {@link ColumnCompression}
+     * @throws IOException
+     */
+    public ColumnarSessionWriter(OutputStream stream, int chunkSamples, SessionCodec codec, int transform) throws IOException {
+        if (chunkSamples <= 0)
+            throw new IllegalArgumentException("Chunk size must be positive");
+        if (transform != ColumnCompression.TRANSFORM_NONE && transform != ColumnCompression.TRANSFORM_DELTA_XOR)
+            throw new IllegalArgumentException(String.format("Unknown transform %d", transform));
+        this.stream = stream;
+        this.chunkSamples = chunkSamples;
+        this.codec = codec;
+        this.transform = transform;
+        output = CodedOutputStream.newInstance(stream, BUFFER_SIZE);
+        // Written first so readers can tell v2 files from SensorDataCollection files
+        output.writeUInt32(UnifyChallengeProto.SensorSession.VERSION_FIELD_NUMBER, codec != null ? COMPRESSED_VERSION : VERSION);
+    }
+
+    public static ColumnarSessionWriter open(File file) throws IOException {
+        return open(file, null);
+    }
+
+    /**
+     * Opens a writer that creates or truncates the given file.
+     *
+     * @param file
+     * @param codec compresses chunks with the delta XOR transform, null writes an uncompressed session
+     * @return
+     * @throws IOException
+     */
+    public static ColumnarSessionWriter open(File file, SessionCodec codec) throws IOException {
+        return open(file, codec, null);
+    }
+
+    /**
+     * Opens a writer that creates or truncates the given file.
+     *
+     * @param file
+     * @param codec     compresses chunks with the delta XOR transform, null writes an uncompressed session
+     * @param recipient encrypts the file for the owner of this RSA key, null writes plaintext
+     * @return
+     * @throws IOException
+     */
+    public static ColumnarSessionWriter open(File file, SessionCodec codec, PublicKey recipient) throws IOException {
+        OutputStream stream = new FileOutputStream(file);
+        try {
+            if (recipient != null) {
+                stream = new EncryptedOutputStream(stream, recipient);
+            }
+            return codec != null
+                    ? new ColumnarSessionWriter(stream, DEFAULT_COMPRESSED_CHUNK_SAMPLES, codec, ColumnCompression.TRANSFORM_DELTA_XOR)
+                    : new ColumnarSessionWriter(stream);
+        } catch (IOException e) {
+            stream.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void writeSample(SensorDataPacket packet) throws IOException {
+        writeSample(packet.sensorId, packet.timestamp, packet.values, packet.valueCount);
+    }
+
+    /**
+     * Buffers a sample in its sensor's chunk. The stride of a sensor is fixed by its first sample,
+     * later samples are truncated or zero padded to match.
+     */
+    @Override
+    public void writeSample(int sensorId, long timestamp, float[] values, int valueCount) throws IOException {
+        Chunk chunk = chunkFor(sensorId, valueCount);
+        if (chunk.size == chunkSamples) {
+            writeChunk(chunk);
+        }
+        chunk.timestamps[chunk.size] = timestamp;
+        int offset = chunk.size * chunk.stride;
+        int copied = Math.min(valueCount, chunk.stride);
+        System.arraycopy(values, 0, chunk.values, offset, copied);
+        for (int i = copied; i < chunk.stride; i++) {
+            chunk.values[offset + i] = 0f;
+        }
+        chunk.size++;
+        sampleCount++;
+    }
+
+    /**
+     * Records the session's clock anchor, which marks its timestamps as sensor event time, see @see {@link EventTime}.
+     *
+     * @param anchor
+     * @throws IOException
+     * @throws IllegalStateException if samples were already written
+     */
+    public void writeClockAnchor(UnifyChallengeProto.ClockAnchor anchor) throws IOException {
+        if (sampleCount > 0)
+            throw new IllegalStateException("The clock anchor must be written before the first sample");
+        output.writeMessage(UnifyChallengeProto.SensorSession.CLOCKANCHOR_FIELD_NUMBER, anchor);
+    }
+
+    /**
+     * Marks the session as resampled, see @see {@link SensorResampler}.
+     *
+     * @param framePeriodNanos time between frames
+     * @throws IOException
+     * @throws IllegalStateException if samples were already written
+     */
+    public void writeFramePeriod(long framePeriodNanos) throws IOException {
+        if (sampleCount > 0)
+            throw new IllegalStateException("The frame period must be written before the first sample");
+        output.writeInt64(UnifyChallengeProto.SensorSession.FRAMEPERIODNANOS_FIELD_NUMBER, framePeriodNanos);
+    }
+
+    /**
+     * Records how feature windows are extracted, see @see {@link FeatureExtractor}.
+     *
+     * @param config
+     * @throws IOException
+     * @throws IllegalStateException if samples were already written
+     */
+    public void writeFeatureConfig(UnifyChallengeProto.FeatureConfig config) throws IOException {
+        if (sampleCount > 0)
+            throw new IllegalStateException("The feature config must be written before the first sample");
+        output.writeMessage(UnifyChallengeProto.SensorSession.FEATURECONFIG_FIELD_NUMBER, config);
+    }
+
+    /**
+     * Appends a feature window. Unlike samples, windows aren't buffered, they are written right away.
+     *
+     * @param window
+     * @throws IOException
+     */
+    public void writeFeatureWindow(UnifyChallengeProto.FeatureWindow window) throws IOException {
+        output.writeMessage(UnifyChallengeProto.SensorSession.FEATUREWINDOWS_FIELD_NUMBER, window);
+        featureWindowCount++;
+    }
+
+    @Override
+    public void writeSensorInfo(UnifyChallengeProto.SensorInfo info) throws IOException {
+        output.writeMessage(UnifyChallengeProto.SensorSession.SENSORS_FIELD_NUMBER, info);
+        if (!isDescribed(info.getSensorId())) {
+            int[] newIds = new int[describedSensorIds.length + 1];
+            System.arraycopy(describedSensorIds, 0, newIds, 0, describedSensorIds.length);
+            newIds[describedSensorIds.length] = info.getSensorId();
+            describedSensorIds = newIds;
+        }
+    }
+
+    private boolean isDescribed(int sensorId) {
+        for (int id : describedSensorIds) {
+            if (id == sensorId) return true;
+        }
+        return false;
+    }
+
+    private Chunk chunkFor(int sensorId, int valueCount) {
+        for (Chunk chunk : chunks) {
+            if (chunk.sensorId == sensorId) return chunk;
+        }
+        Chunk chunk = new Chunk(sensorId, Math.max(valueCount, 1), chunkSamples);
+        Chunk[] newChunks = new Chunk[chunks.length + 1];
+        System.arraycopy(chunks, 0, newChunks, 0, chunks.length);
+        newChunks[chunks.length] = chunk;
+        chunks = newChunks;
+        return chunk;
+    }
+
+    private void writeChunk(Chunk chunk) throws IOException {
+        if (chunk.size == 0) return;
+        if (codec != null) {
+            output.writeMessage(UnifyChallengeProto.SensorSession.COMPRESSEDCOLUMNS_FIELD_NUMBER, ColumnCompression.encode(
+                    chunk.sensorId, chunk.stride, chunk.timestamps, chunk.values, chunk.size, transform, codec));
+            chunk.size = 0;
+            return;
+        }
+        long base = chunk.timestamps[0];
+        int deltasSize = 0;
+        long previous = base;
+        for (int i = 0; i < chunk.size; i++) {
+            deltasSize += CodedOutputStream.computeSInt64SizeNoTag(chunk.timestamps[i] - previous);
+            previous = chunk.timestamps[i];
+        }
+        int valueTotal = chunk.size * chunk.stride;
+        int valuesSize = valueTotal * 4;
+        int messageSize = CodedOutputStream.computeInt32Size(UnifyChallengeProto.SensorColumn.SENSORID_FIELD_NUMBER, chunk.sensorId)
+                + CodedOutputStream.computeInt32Size(UnifyChallengeProto.SensorColumn.STRIDE_FIELD_NUMBER, chunk.stride)
+                + CodedOutputStream.computeSInt64Size(UnifyChallengeProto.SensorColumn.BASETIMESTAMP_FIELD_NUMBER, base)
+                + CodedOutputStream.computeTagSize(UnifyChallengeProto.SensorColumn.TIMESTAMPDELTAS_FIELD_NUMBER)
+                + CodedOutputStream.computeUInt32SizeNoTag(deltasSize) + deltasSize
+                + CodedOutputStream.computeTagSize(UnifyChallengeProto.SensorColumn.VALUES_FIELD_NUMBER)
+                + CodedOutputStream.computeUInt32SizeNoTag(valuesSize) + valuesSize;
+
+        output.writeTag(UnifyChallengeProto.SensorSession.COLUMNS_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(messageSize);
+        output.writeInt32(UnifyChallengeProto.SensorColumn.SENSORID_FIELD_NUMBER, chunk.sensorId);
+        output.writeInt32(UnifyChallengeProto.SensorColumn.STRIDE_FIELD_NUMBER, chunk.stride);
+        output.writeSInt64(UnifyChallengeProto.SensorColumn.BASETIMESTAMP_FIELD_NUMBER, base);
+        output.writeTag(UnifyChallengeProto.SensorColumn.TIMESTAMPDELTAS_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(deltasSize);
+        previous = base;
+        for (int i = 0; i < chunk.size; i++) {
+            output.writeSInt64NoTag(chunk.timestamps[i] - previous);
+            previous = chunk.timestamps[i];
+        }
+        output.writeTag(UnifyChallengeProto.SensorColumn.VALUES_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(valuesSize);
+        for (int i = 0; i < valueTotal; i++) {
+            output.writeFloatNoTag(chunk.values[i]);
+        }
+        chunk.size = 0;
+    }
+
+    @Override
+    public long getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * @return number of feature windows written so far.
+     */
+    public long getFeatureWindowCount() {
+        return featureWindowCount;
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return output.getTotalBytesWritten();
+    }
+
+    /**
+     * Writes partially filled chunks and pushes buffered data to the underlying stream.
+     */
+    @Override
+    public void flush() throws IOException {
+        for (Chunk chunk : chunks) {
+            writeChunk(chunk);
+        }
+        output.flush();
+        stream.flush();
+    }
+
+    /**
+     * Flushes and forces the file to storage. Encrypted sessions only reach the file a sealed chunk at a time.
+     */
+    @Override
+    public void sync() throws IOException {
+        flush();
+        if (stream instanceof FileOutputStream) {
+            ((FileOutputStream) stream).getFD().sync();
+        }
+    }
+
+    /**
+     * Writes remaining chunks and a bare dictionary entry for any sensor that wasn't described
+     * with @see {@link #writeSensorInfo(UnifyChallengeProto.SensorInfo)}, then closes the stream.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            for (Chunk chunk : chunks) {
+                writeChunk(chunk);
+                if (!isDescribed(chunk.sensorId)) {
+                    writeSensorInfo(UnifyChallengeProto.SensorInfo.newBuilder()
+                            .setSensorId(chunk.sensorId).build());
+                }
+            }
+            output.flush();
+        } finally {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.zackmathews.unifyidchallenge;
+
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.util.Arrays;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+
+/**
+ * Decrypts sessions written through @see {@link EncryptedOutputStream}, one chunk at a time.
+ * Meant for the data science side, which holds the private key, e.g. new SessionReader(new EncryptedInputStream(...)).
+ * <p>
+ * Every chunk is authenticated before any of its bytes are returned. A chunk that was modified, reordered or dropped,
+ * or a session that ends before its last chunk, fails with an IOException.
+ */
+public class EncryptedInputStream extends InputStream {
+    // Bounds the chunk buffer a corrupt header can ask for
+    private static final int MAX_CHUNK_SIZE = 64 * 1024 * 1024;
+
+    private final PushbackInputStream stream;
+    private final Cipher cipher;
+    private final SecretKey key;
+    private final byte[] sealed;
+    private final byte[] chunk;
+    private int position;
+    private int limit;
+    private long chunkIndex;
+    private boolean isLastChunkRead;
+
+    /**
+     * Reads the header and unwraps the session key.
+     *
+     * @param source
+     * @param privateKey RSA private key matching the public key the session was encrypted for
+     * @throws IOException if the stream isn't an encrypted session or the key doesn't match
+     */
+    public EncryptedInputStream(InputStream source, PrivateKey privateKey) throws IOException {
+        stream = new PushbackInputStream(source, 1);
+        byte[] magic = new byte[EncryptedOutputStream.MAGIC.length];
+        if (readFully(magic) != magic.length || !Arrays.equals(magic, EncryptedOutputStream.MAGIC))
+            throw new IOException("Not an encrypted session");
+        UnifyChallengeProto.EncryptionHeader header = UnifyChallengeProto.EncryptionHeader.parseDelimitedFrom(stream);
+        if (header == null)
+            throw new IOException("Encrypted session is truncated");
+        if (header.getVersion() != EncryptedOutputStream.VERSION)
+            throw new IOException(String.format("Unsupported encryption version %d", header.getVersion()));
+        if (header.getChunkSize() <= 0 || header.getChunkSize() > MAX_CHUNK_SIZE)
+            throw new IOException(String.format("Invalid chunk size %d", header.getChunkSize()));
+        try {
+            Cipher keyWrap = Cipher.getInstance(EncryptedOutputStream.KEY_WRAP_CIPHER);
+            keyWrap.init(Cipher.UNWRAP_MODE, privateKey, EncryptedOutputStream.KEY_WRAP_PARAMETERS);
+            key = (SecretKey) keyWrap.unwrap(header.getWrappedKey().toByteArray(), EncryptedOutputStream.KEY_ALGORITHM, Cipher.SECRET_KEY);
+            cipher = Cipher.getInstance(EncryptedOutputStream.CIPHER);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Couldn't unwrap the session key", e);
+        }
+        chunk = new byte[header.getChunkSize()];
+        sealed = new byte[header.getChunkSize() + EncryptedOutputStream.TAG_SIZE];
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position == limit && !nextChunk()) return -1;
+        return chunk[position++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) return 0;
+        if (position == limit && !nextChunk()) return -1;
+        int count = Math.min(len, limit - position);
+        System.arraycopy(chunk, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return limit - position;
+    }
+
+    /**
+     * Decrypts the next chunk.
+     *
+     * @return false once the last chunk has been read.
+     */
+    private boolean nextChunk() throws IOException {
+        if (isLastChunkRead) return false;
+        int sealedSize = readFully(sealed);
+        if (sealedSize < EncryptedOutputStream.TAG_SIZE)
+            throw new IOException(String.format("Encrypted session is truncated at chunk %d", chunkIndex));
+        // Only the last chunk may be short, a full chunk is the last one if nothing follows it
+        boolean isLast = sealedSize < sealed.length;
+        if (!isLast) {
+            int next = stream.read();
+            if (next == -1) {
+                isLast = true;
+            } else {
+                stream.unread(next);
+            }
+        }
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(EncryptedOutputStream.TAG_SIZE * 8, EncryptedOutputStream.nonce(chunkIndex)));
+            cipher.updateAAD(EncryptedOutputStream.associatedData(isLast));
+            limit = cipher.doFinal(sealed, 0, sealedSize, chunk, 0);
+        } catch (AEADBadTagException e) {
+            throw new IOException(String.format("Chunk %d failed authentication", chunkIndex), e);
+        } catch (GeneralSecurityException e) {
+            throw new IOException(String.format("Couldn't decrypt chunk %d", chunkIndex), e);
+        }
+        chunkIndex++;
+        position = 0;
+        isLastChunkRead = isLast;
+        return limit > 0;
+    }
+
+    private int readFully(byte[] buffer) throws IOException {
+        int size = 0;
+        while (size < buffer.length) {
+            int read = stream.read(buffer, size, buffer.length - size);
+            if (read == -1) break;
+            size += read;
+        }
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        stream.close();
+    }
+}
@@ -0,0 +1,171 @@
+package com.zackmathews.unifyidchallenge;
+
+import com.google.protobuf.ByteString;
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.spec.MGF1ParameterSpec;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+
+/**
+ * Encrypts a session as it is written, so no plaintext reaches the file.
+ * <p>
+ * Every stream gets a fresh AES-256 key, which is wrapped with the recipient's RSA public key and written in a small
+ * header. The session itself is split into fixed size chunks that are sealed one at a time with AES-GCM, under a nonce
+ * derived from the chunk's index. The last chunk is marked in its associated data, so reordered, dropped or
+ * truncated chunks fail authentication when read back with @see {@link EncryptedInputStream}.
+ * Only one chunk is held in memory.
+ * <p>
+ * Layout: @see {@link #MAGIC}, a length delimited EncryptionHeader, then the sealed chunks, each ciphertext followed
+ * by its 16 byte tag. Every chunk but the last holds exactly chunkSize bytes of plaintext.
+ * Chunks are only sealed whole, @see {@link #flush()} doesn't push a partial chunk to the file.
+ */
+public class EncryptedOutputStream extends OutputStream {
+    public static final int VERSION = 1;
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    static final byte[] MAGIC = {'U', 'I', 'D', 'E'};
+    static final String KEY_ALGORITHM = "AES";
+    static final String CIPHER = "AES/GCM/NoPadding";
+    static final String KEY_WRAP_CIPHER = "RSA/ECB/OAEPPadding";
+    // Spelled out, providers disagree on the MGF1 digest of OAEPWithSHA-256AndMGF1Padding
+    static final OAEPParameterSpec KEY_WRAP_PARAMETERS = new OAEPParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA1, PSource.PSpecified.DEFAULT);
+    static final int TAG_SIZE = 16;
+    private static final int KEY_SIZE_BITS = 256;
+    private static final int NONCE_SIZE = 12;
+    private static final byte[] LAST_CHUNK = {1};
+    private static final byte[] OTHER_CHUNK = {0};
+
+    private final OutputStream stream;
+    private final Cipher cipher;
+    private final SecretKey key;
+    private final byte[] chunk;
+    private final byte[] sealed;
+    private int size;
+    private long chunkIndex;
+    private boolean isClosed;
+
+    public EncryptedOutputStream(OutputStream stream, PublicKey recipient) throws IOException {
+        this(stream, recipient, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Writes the header right away.
+     *
+     * @param stream
+     * @param recipient RSA public key of whoever is meant to read the session
+     * @param chunkSize plaintext bytes per sealed chunk
+     * @throws IOException if the header can't be written or the platform lacks the ciphers
+     */
+    public EncryptedOutputStream(OutputStream stream, PublicKey recipient, int chunkSize) throws IOException {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("Chunk size must be positive");
+        this.stream = stream;
+        chunk = new byte[chunkSize];
+        sealed = new byte[chunkSize + TAG_SIZE];
+        byte[] wrappedKey;
+        try {
+            KeyGenerator generator = KeyGenerator.getInstance(KEY_ALGORITHM);
+            generator.init(KEY_SIZE_BITS);
+            key = generator.generateKey();
+            Cipher keyWrap = Cipher.getInstance(KEY_WRAP_CIPHER);
+            keyWrap.init(Cipher.WRAP_MODE, recipient, KEY_WRAP_PARAMETERS);
+            wrappedKey = keyWrap.wrap(key);
+            cipher = Cipher.getInstance(CIPHER);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Couldn't set up session encryption", e);
+        }
+        stream.write(MAGIC);
+        UnifyChallengeProto.EncryptionHeader.newBuilder()
+                .setVersion(VERSION)
+                .setWrappedKey(ByteString.copyFrom(wrappedKey))
+                .setChunkSize(chunkSize)
+                .build().writeDelimitedTo(stream);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        // A full chunk is only sealed once more data follows, so only an empty session ends in an empty chunk
+        if (size == chunk.length) {
+            seal(false);
+        }
+        chunk[size++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (size == chunk.length) {
+                seal(false);
+            }
+            int count = Math.min(len, chunk.length - size);
+            System.arraycopy(b, off, chunk, size, count);
+            size += count;
+            off += count;
+            len -= count;
+        }
+    }
+
+    private void seal(boolean isLast) throws IOException {
+        int sealedSize;
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_SIZE * 8, nonce(chunkIndex++)));
+            cipher.updateAAD(associatedData(isLast));
+            sealedSize = cipher.doFinal(chunk, 0, size, sealed, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IOException(String.format("Couldn't seal chunk %d", chunkIndex - 1), e);
+        }
+        stream.write(sealed, 0, sealedSize);
+        size = 0;
+    }
+
+    /**
+     * Nonces only need to be unique per key, and every stream has its own key.
+     */
+    static byte[] nonce(long chunkIndex) {
+        byte[] nonce = new byte[NONCE_SIZE];
+        for (int i = 0; i < 8; i++) {
+            nonce[NONCE_SIZE - 1 - i] = (byte) (chunkIndex >>> (i * 8));
+        }
+        return nonce;
+    }
+
+    static byte[] associatedData(boolean isLast) {
+        return isLast ? LAST_CHUNK : OTHER_CHUNK;
+    }
+
+    /**
+     * Flushes sealed chunks, the chunk being filled is held back until it is full or the stream is closed.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void flush() throws IOException {
+        stream.flush();
+    }
+
+    /**
+     * Seals the last chunk and closes the underlying stream.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        if (isClosed) return;
+        isClosed = true;
+        try {
+            seal(true);
+            stream.flush();
+        } finally {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.zackmathews.unifyidchallenge;
+
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time base of captured samples.
+ * <p>
+ * Samples carry the sensor's event time, nanoseconds on the SystemClock.elapsedRealtimeNanos() clock, as reported in
+ * SensorEvent.timestamp. Unlike the wall clock it doesn't jump when the user or the network changes the time, and
+ * samples delivered together from the hardware FIFO keep the times they were measured at. Each session records
+ * a single ClockAnchor so its samples can still be placed on the wall clock.
+ * Sessions written before the anchor existed are stamped with wall clock milliseconds.
+ */
+public final class EventTime {
+    private static final long NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private EventTime() {
+    }
+
+    /**
+     * @param wallClockMillis      System.currentTimeMillis()
+     * @param elapsedRealtimeNanos SystemClock.elapsedRealtimeNanos(), read right after the wall clock
+     * @return
+     */
+    public static UnifyChallengeProto.ClockAnchor anchor(long wallClockMillis, long elapsedRealtimeNanos) {
+        return UnifyChallengeProto.ClockAnchor.newBuilder()
+                .setWallClockMillis(wallClockMillis)
+                .setElapsedRealtimeNanos(elapsedRealtimeNanos)
+                .build();
+    }
+
+    /**
+     * @param anchor    the session's anchor, or null for sessions stamped with wall clock milliseconds
+     * @param timestamp sample timestamp of the session
+     * @return the sample's wall clock time in milliseconds.
+     */
+    public static long toWallClockMillis(UnifyChallengeProto.ClockAnchor anchor, long timestamp) {
+        if (anchor == null) return timestamp;
+        return anchor.getWallClockMillis() + (timestamp - anchor.getElapsedRealtimeNanos()) / NANOS_PER_MILLI;
+    }
+
+    /**
+     * @param anchor    the session's anchor, or null for sessions stamped with wall clock milliseconds
+     * @param timestamp sample timestamp of the session
+     * @return the timestamp in nanoseconds, comparable with other timestamps of the same session.
+     */
+    public static long toEventTimeNanos(UnifyChallengeProto.ClockAnchor anchor, long timestamp) {
+        return anchor == null ? timestamp * NANOS_PER_MILLI : timestamp;
+    }
+}
@@ -0,0 +1,371 @@
+package com.zackmathews.unifyidchallenge;
+
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming stage that summarizes each sensor over fixed length windows instead of keeping every sample.
+ * <p>
+ * Windows start on multiples of the window length, every channel's window closes when its first sample past the end
+ * arrives, and is handed to the @see {@link Listener} as a @see {@link UnifyChallengeProto.FeatureWindow}.
+ * Per axis, a window holds the mean and variance (Welford's update), min and max, jerk as the mean absolute rate
+ * of change between consecutive samples, the number of times the axis crossed its mean, and its spectral energy at
+ * a few frequencies. Mean crossings are counted against the running mean of the window, so the first few samples
+ * of a window are compared with a mean that is still settling. Spectral energy is a single DFT bin per frequency,
+ * evaluated at each sample's own timestamp so jittered sampling doesn't need resampling first, with the window's mean
+ * removed. It is reported as the mean power of that frequency, A^2 / 2 for a sine of amplitude A.
+ * <p>
+ * Everything is accumulated as samples arrive. Nothing is allocated per sample, only each closed window
+ * is built into a message. Timestamps are sensor event time in nanoseconds, see @see {@link EventTime}.
+ * Not thread safe, feed it from a single thread. To instantiate use @see {@link Builder}.
+ */
+public class FeatureExtractor {
+    public static final float[] DEFAULT_SPECTRAL_FREQUENCIES = {1, 2, 4, 8};
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    /**
+     * Notified of every closed window. Windows of one channel arrive in time order, channels are interleaved.
+     */
+    public interface Listener {
+        void onFeatures(UnifyChallengeProto.FeatureWindow window);
+    }
+
+    private static class Channel {
+        final int sensorId;
+        final int stride;
+        long windowStart;
+        long firstTimestamp;
+        long lastTimestamp;
+        int count;
+        final double[] mean;
+        final double[] m2;
+        final float[] min;
+        final float[] max;
+        final double[] jerkSum;
+        int jerkCount;
+        final int[] crossings;
+        final int[] lastSign;
+        // Previous sample, kept across windows so jerk is continuous
+        final float[] previous;
+        long previousTimestamp;
+        boolean hasPrevious;
+        // DFT of a constant 1 per frequency, used to take the mean out of each axis' DFT
+        final double[] unitReal;
+        final double[] unitImaginary;
+        // Per axis and frequency, axis major
+        final double[] real;
+        final double[] imaginary;
+
+        Channel(int sensorId, int stride, int frequencyCount) {
+            this.sensorId = sensorId;
+            this.stride = stride;
+            mean = new double[stride];
+            m2 = new double[stride];
+            min = new float[stride];
+            max = new float[stride];
+            jerkSum = new double[stride];
+            crossings = new int[stride];
+            lastSign = new int[stride];
+            previous = new float[stride];
+            unitReal = new double[frequencyCount];
+            unitImaginary = new double[frequencyCount];
+            real = new double[stride * frequencyCount];
+            imaginary = new double[stride * frequencyCount];
+        }
+
+        void clearWindow() {
+            count = 0;
+            jerkCount = 0;
+            for (int axis = 0; axis < stride; axis++) {
+                mean[axis] = 0;
+                m2[axis] = 0;
+                jerkSum[axis] = 0;
+                crossings[axis] = 0;
+                lastSign[axis] = 0;
+            }
+            for (int i = 0; i < unitReal.length; i++) {
+                unitReal[i] = 0;
+                unitImaginary[i] = 0;
+            }
+            for (int i = 0; i < real.length; i++) {
+                real[i] = 0;
+                imaginary[i] = 0;
+            }
+        }
+    }
+
+    private final Channel[] channels;
+    private final long window;
+    private final float[] frequencies;
+    // Angular frequencies per nanosecond
+    private final double[] omegas;
+    // Phase of the current sample per frequency, shared by its axes
+    private final double[] cosines;
+    private final double[] sines;
+    private Listener listener;
+    private long windowCount;
+
+    private FeatureExtractor(Builder builder) {
+        window = builder.window;
+        frequencies = builder.frequencies.clone();
+        omegas = new double[frequencies.length];
+        cosines = new double[frequencies.length];
+        sines = new double[frequencies.length];
+        for (int i = 0; i < frequencies.length; i++) {
+            omegas[i] = 2 * Math.PI * frequencies[i] / NANOS_PER_SECOND;
+        }
+        channels = new Channel[builder.sensorIds.size()];
+        for (int i = 0; i < channels.length; i++) {
+            channels[i] = new Channel(builder.sensorIds.get(i), builder.strides.get(i), frequencies.length);
+        }
+        listener = builder.listener;
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Clears all state for a new session, open windows are dropped.
+     */
+    public void reset() {
+        for (Channel channel : channels) {
+            channel.clearWindow();
+            channel.hasPrevious = false;
+        }
+        windowCount = 0;
+    }
+
+    /**
+     * Feeds a sample into the extractor.
+     *
+     * @param packet
+     */
+    public void onSample(SensorDataPacket packet) {
+        onSample(packet.sensorId, packet.timestamp, packet.values, packet.valueCount);
+    }
+
+    /**
+     * Feeds a sample into its channel's window, closing the window first if the sample is past its end.
+     * Samples of sensors without a channel are ignored, a sample older than its window is counted in it.
+     *
+     * @param sensorId   sensor type of the sample
+     * @param timestamp  sample event time in nanoseconds
+     * @param values     sample values
+     * @param valueCount number of valid entries in values, missing axes count as 0
+     */
+    public void onSample(int sensorId, long timestamp, float[] values, int valueCount) {
+        Channel channel = channelFor(sensorId);
+        if (channel == null) return;
+        if (channel.count > 0 && timestamp >= channel.windowStart + window) {
+            closeWindow(channel);
+        }
+        if (channel.count == 0) {
+            channel.windowStart = timestamp - timestamp % window;
+            channel.firstTimestamp = timestamp;
+            channel.lastTimestamp = timestamp;
+        }
+        channel.count++;
+        channel.lastTimestamp = Math.max(channel.lastTimestamp, timestamp);
+        int count = channel.count;
+        double elapsed = channel.hasPrevious ? (timestamp - channel.previousTimestamp) / NANOS_PER_SECOND : 0;
+        boolean hasRate = elapsed > 0;
+        if (hasRate) {
+            channel.jerkCount++;
+        }
+
+        int frequencyCount = omegas.length;
+        long phaseTime = timestamp - channel.windowStart;
+        for (int f = 0; f < frequencyCount; f++) {
+            double phase = omegas[f] * phaseTime;
+            cosines[f] = Math.cos(phase);
+            sines[f] = Math.sin(phase);
+            channel.unitReal[f] += cosines[f];
+            channel.unitImaginary[f] -= sines[f];
+        }
+
+        for (int axis = 0; axis < channel.stride; axis++) {
+            float value = axis < valueCount ? values[axis] : 0f;
+            if (count == 1) {
+                channel.min[axis] = value;
+                channel.max[axis] = value;
+            } else {
+                channel.min[axis] = Math.min(channel.min[axis], value);
+                channel.max[axis] = Math.max(channel.max[axis], value);
+            }
+            double delta = value - channel.mean[axis];
+            channel.mean[axis] += delta / count;
+            channel.m2[axis] += delta * (value - channel.mean[axis]);
+
+            double deviation = value - channel.mean[axis];
+            int sign = deviation > 0 ? 1 : deviation < 0 ? -1 : 0;
+            if (sign != 0) {
+                if (channel.lastSign[axis] != 0 && sign != channel.lastSign[axis]) {
+                    channel.crossings[axis]++;
+                }
+                channel.lastSign[axis] = sign;
+            }
+
+            if (hasRate) {
+                channel.jerkSum[axis] += Math.abs(value - channel.previous[axis]) / elapsed;
+            }
+            channel.previous[axis] = value;
+
+            int offset = axis * frequencyCount;
+            for (int f = 0; f < frequencyCount; f++) {
+                channel.real[offset + f] += value * cosines[f];
+                channel.imaginary[offset + f] -= value * sines[f];
+            }
+        }
+        channel.previousTimestamp = timestamp;
+        channel.hasPrevious = true;
+    }
+
+    /**
+     * Closes every open window, e.g. at the end of a session.
+     */
+    public void flush() {
+        for (Channel channel : channels) {
+            if (channel.count > 0) {
+                closeWindow(channel);
+            }
+        }
+    }
+
+    private void closeWindow(Channel channel) {
+        int count = channel.count;
+        UnifyChallengeProto.FeatureWindow.Builder features = UnifyChallengeProto.FeatureWindow.newBuilder()
+                .setSensorId(channel.sensorId)
+                .setStartTimestamp(channel.firstTimestamp)
+                .setEndTimestamp(channel.lastTimestamp)
+                .setSampleCount(count);
+        double squaredCount = (double) count * count;
+        for (int axis = 0; axis < channel.stride; axis++) {
+            double mean = channel.mean[axis];
+            features.addMean((float) mean)
+                    .addVariance((float) (channel.m2[axis] / count))
+                    .addMin(channel.min[axis])
+                    .addMax(channel.max[axis])
+                    .addJerk(channel.jerkCount > 0 ? (float) (channel.jerkSum[axis] / channel.jerkCount) : 0f)
+                    .addZeroCrossings(channel.crossings[axis]);
+        }
+        for (int axis = 0; axis < channel.stride; axis++) {
+            double mean = channel.mean[axis];
+            int offset = axis * omegas.length;
+            for (int f = 0; f < omegas.length; f++) {
+                double real = channel.real[offset + f] - mean * channel.unitReal[f];
+                double imaginary = channel.imaginary[offset + f] - mean * channel.unitImaginary[f];
+                features.addSpectralEnergy((float) (2 * (real * real + imaginary * imaginary) / squaredCount));
+            }
+        }
+        channel.clearWindow();
+        windowCount++;
+        Listener listener = this.listener;
+        if (listener != null) {
+            listener.onFeatures(features.build());
+        }
+    }
+
+    private Channel channelFor(int sensorId) {
+        for (Channel channel : channels) {
+            if (channel.sensorId == sensorId) return channel;
+        }
+        return null;
+    }
+
+    /**
+     * @return how windows are extracted, to record alongside them.
+     */
+    public UnifyChallengeProto.FeatureConfig getConfig() {
+        UnifyChallengeProto.FeatureConfig.Builder config = UnifyChallengeProto.FeatureConfig.newBuilder().setWindowNanos(window);
+        for (float frequency : frequencies) {
+            config.addSpectralFrequencies(frequency);
+        }
+        return config.build();
+    }
+
+    /**
+     * @return window length in nanoseconds.
+     */
+    public long getWindow() {
+        return window;
+    }
+
+    /**
+     * @return windows closed since the last reset, across all channels.
+     */
+    public long getWindowCount() {
+        return windowCount;
+    }
+
+    /**
+     * Builder for creating an instance of @see {@link FeatureExtractor}.
+     * A window length and at least one channel are required.
+     */
+    public static class Builder {
+        private final List<Integer> sensorIds = new ArrayList<>();
+        private final List<Integer> strides = new ArrayList<>();
+        private long window;
+        private float[] frequencies = DEFAULT_SPECTRAL_FREQUENCIES;
+        private Listener listener;
+
+        /**
+         * @param window window length in nanoseconds
+         * @return this builder
+         */
+        public Builder setWindow(long window) {
+            if (window <= 0)
+                throw new IllegalArgumentException("Window must be positive");
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Sets the frequencies spectral energy is measured at. Defaults to @see {@link #DEFAULT_SPECTRAL_FREQUENCIES}.
+         * Each costs a sine and a cosine per sample, keep them below half the slowest channel's rate.
+         *
+         * @param frequencies in Hz, none to leave spectral energy out
+         * @return this builder
+         */
+        public Builder setSpectralFrequencies(float... frequencies) {
+            for (float frequency : frequencies) {
+                if (!(frequency > 0))
+                    throw new IllegalArgumentException("Frequencies must be positive");
+            }
+            this.frequencies = frequencies.clone();
+            return this;
+        }
+
+        /**
+         * Adds a sensor to extract features of.
+         *
+         * @param sensorId e.g. @see {@link android.hardware.Sensor#TYPE_ACCELEROMETER}
+         * @param stride   axes of the sensor to summarize, samples are truncated or zero padded to match
+         * @return this builder
+         */
+        public Builder addChannel(int sensorId, int stride) {
+            if (stride <= 0)
+                throw new IllegalArgumentException("Stride must be positive");
+            if (sensorIds.contains(sensorId))
+                throw new IllegalArgumentException(String.format("Sensor %d already has a channel", sensorId));
+            sensorIds.add(sensorId);
+            strides.add(stride);
+            return this;
+        }
+
+        public Builder setListener(Listener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        public FeatureExtractor build() {
+            if (window == 0)
+                throw new IllegalStateException("A window must be set");
+            if (sensorIds.isEmpty())
+                throw new IllegalStateException("At least one channel must be added");
+            return new FeatureExtractor(this);
+        }
+    }
+}
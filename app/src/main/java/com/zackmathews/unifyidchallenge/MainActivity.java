@@ -8,6 +8,9 @@ import android.content.pm.PackageManager;
 import android.os.Build;
 import android.os.Bundle;
 
+import java.io.FileDescriptor;
+import java.io.PrintWriter;
+
 public class MainActivity extends AppCompatActivity {
     private static final int REQUEST_PHONE_STATE_PERMISSION = 777;
 
@@ -18,6 +21,16 @@ public class MainActivity extends AppCompatActivity {
         getPermissions();
     }
 
+    /**
+     * Adds capture metrics to `adb shell dumpsys activity com.zackmathews.unifyidchallenge` while the activity is running.
+     */
+    @Override
+    public void dump(String prefix, FileDescriptor fd, PrintWriter writer, String[] args) {
+        super.dump(prefix, fd, writer, args);
+        writer.println(String.format("%sCapture metrics:", prefix));
+        SensorDataRepo.getMetrics().dump(writer, prefix + "  ");
+    }
+
     private void getPermissions() {
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
             if (getApplicationContext().checkSelfPermission(Manifest.permission.READ_PHONE_STATE)
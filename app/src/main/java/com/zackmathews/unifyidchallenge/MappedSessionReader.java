@@ -0,0 +1,451 @@
+package com.zackmathews.unifyidchallenge;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads session files of either layout straight out of a memory mapped file, for offline analysis over many sessions.
+ * <p>
+ * Like @see {@link SessionReader} this is a cursor, but nothing is decoded ahead of time: @see {@link #next()} only
+ * records where the current sample's fields are in the mapping, and the getters read them from there.
+ * No SensorData or SensorColumn objects are built and iterating allocates nothing, only sensor metadata and feature
+ * windows are parsed into objects. Compressed v3 chunks are the exception, each is inflated into a reused @see {@link ColumnCompression.DecodedColumn}
+ * and read from there. Runs on the plain JVM, sessions are limited to 2GB.
+ * <p>
+ * Sensors are identified and named the same way as in @see {@link SessionReader}, including negative ids for sensors
+ * of older v1 files that aren't in the file's sensor metadata. A v1 record without a sensor type has the empty name.
+ */
+public class MappedSessionReader implements Closeable {
+    private static final int V2_FIRST_BYTE = UnifyChallengeProto.SensorSession.VERSION_FIELD_NUMBER << 3 | WireFormat.WIRETYPE_VARINT;
+    private static final int FIXED32_SIZE = 4;
+
+    private final RandomAccessFile file;
+    private final ByteBuffer buffer;
+    private final int version;
+    private final List<UnifyChallengeProto.SensorInfo> sensorInfos = new ArrayList<>();
+    private UnifyChallengeProto.ClockAnchor clockAnchor;
+    private long framePeriod;
+    private UnifyChallengeProto.FeatureConfig featureConfig;
+    private final List<UnifyChallengeProto.FeatureWindow> featureWindows = new ArrayList<>();
+    // Next top level field
+    private int position;
+
+    // Version 1, names of sensors without metadata in order of appearance, their ids are -(index + 1)
+    private byte[][] unknownSensorNames = new byte[0][];
+    // Version 2, the column being read
+    private int columnSensorId;
+    private int stride;
+    private int deltaPosition;
+    private int deltaLimit;
+    private int columnValuesPosition;
+    private int columnValuesLimit;
+    // Version 3, the decoded compressed column being read
+    private ColumnCompression.DecodedColumn decodedColumn;
+    private int decodedIndex;
+    private int decodedSize;
+
+    private int sensorId;
+    private long timestamp;
+    private int valueCount;
+    // Offset of each value of the current sample, values of v2 samples are contiguous
+    private final int[] valuePositions = new int[SensorDataPacket.MAX_VALUES];
+    // Whether the current sample's values are in the decoded column instead of the mapping
+    private boolean isDecodedSample;
+
+    public MappedSessionReader(File file) throws IOException {
+        this.file = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = this.file.getChannel();
+            if (channel.size() > Integer.MAX_VALUE)
+                throw new IOException(String.format("%s is too large to map", file.getName()));
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.limit() > 0 && (buffer.get(0) & 0xff) == V2_FIRST_BYTE) {
+                position = 1;
+                version = (int) readVarint();
+            } else {
+                version = 1;
+            }
+        } catch (IOException e) {
+            this.file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Moves to the next sample.
+     *
+     * @return false at the end of the session.
+     * @throws IOException if the file is truncated or malformed
+     */
+    public boolean next() throws IOException {
+        try {
+            return version == 1 ? nextRecord() : nextColumnSample();
+        } catch (IndexOutOfBoundsException e) {
+            throw new InvalidProtocolBufferException(String.format("Session is truncated at offset %d", position));
+        }
+    }
+
+    private boolean nextRecord() throws IOException {
+        while (position < buffer.limit()) {
+            int tag = (int) readVarint();
+            int field = WireFormat.getTagFieldNumber(tag);
+            if (field == UnifyChallengeProto.SensorDataCollection.SENSORDATA_FIELD_NUMBER) {
+                int end = readLengthDelimitedEnd();
+                readRecord(end);
+                position = end;
+                return true;
+            } else if (field == UnifyChallengeProto.SensorDataCollection.SENSORS_FIELD_NUMBER) {
+                readSensorInfo();
+            } else {
+                skipField(tag);
+            }
+        }
+        return false;
+    }
+
+    private void readRecord(int end) throws IOException {
+        // Absent, the sensor type is the empty string
+        int namePosition = position;
+        int nameLength = 0;
+        boolean hasSensorId = false;
+        valueCount = 0;
+        while (position < end) {
+            int tag = (int) readVarint();
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case UnifyChallengeProto.SensorData.SENSORTYPE_FIELD_NUMBER:
+                    nameLength = (int) readVarint();
+                    namePosition = position;
+                    position += nameLength;
+                    break;
+                case UnifyChallengeProto.SensorData.SENSORVALUES_FIELD_NUMBER:
+                    if (WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                        int valuesEnd = readLengthDelimitedEnd();
+                        for (; position < valuesEnd; position += FIXED32_SIZE) {
+                            addValuePosition(position);
+                        }
+                    } else {
+                        addValuePosition(position);
+                        position += FIXED32_SIZE;
+                    }
+                    break;
+                case UnifyChallengeProto.SensorData.TIMESTAMP_FIELD_NUMBER:
+                    timestamp = readVarint();
+                    break;
+                case UnifyChallengeProto.SensorData.SENSORID_FIELD_NUMBER:
+                    sensorId = (int) readVarint();
+                    hasSensorId = true;
+                    break;
+                default:
+                    skipField(tag);
+                    break;
+            }
+        }
+        if (position != end)
+            throw new InvalidProtocolBufferException(String.format("Malformed record ending at offset %d", end));
+        if (!hasSensorId) {
+            sensorId = idForName(namePosition, nameLength);
+        }
+    }
+
+    private void addValuePosition(int valuePosition) {
+        if (valueCount < valuePositions.length) {
+            valuePositions[valueCount++] = valuePosition;
+        }
+    }
+
+    private boolean nextColumnSample() throws IOException {
+        while (deltaPosition == deltaLimit && decodedIndex == decodedSize) {
+            if (!readColumn()) return false;
+        }
+        if (decodedIndex < decodedSize) {
+            sensorId = decodedColumn.getSensorId();
+            timestamp = decodedColumn.getTimestamp(decodedIndex++);
+            valueCount = Math.min(decodedColumn.getStride(), valuePositions.length);
+            isDecodedSample = true;
+            return true;
+        }
+        isDecodedSample = false;
+        int nextField = position;
+        position = deltaPosition;
+        long delta = readVarint();
+        deltaPosition = position;
+        position = nextField;
+        timestamp += (delta >>> 1) ^ -(delta & 1);
+        if (columnValuesPosition + stride * FIXED32_SIZE > columnValuesLimit)
+            throw new InvalidProtocolBufferException(String.format("Column ending at offset %d has fewer values than timestamps", columnValuesLimit));
+        sensorId = columnSensorId;
+        valueCount = Math.min(stride, valuePositions.length);
+        for (int axis = 0; axis < valueCount; axis++) {
+            valuePositions[axis] = columnValuesPosition + axis * FIXED32_SIZE;
+        }
+        columnValuesPosition += stride * FIXED32_SIZE;
+        return true;
+    }
+
+    private boolean readColumn() throws IOException {
+        while (position < buffer.limit()) {
+            int tag = (int) readVarint();
+            int field = WireFormat.getTagFieldNumber(tag);
+            if (field == UnifyChallengeProto.SensorSession.COLUMNS_FIELD_NUMBER) {
+                int end = readLengthDelimitedEnd();
+                readColumnHeader(end);
+                decodedIndex = decodedSize = 0;
+                return true;
+            } else if (field == UnifyChallengeProto.SensorSession.COMPRESSEDCOLUMNS_FIELD_NUMBER) {
+                if (decodedColumn == null) {
+                    decodedColumn = new ColumnCompression.DecodedColumn();
+                }
+                decodedColumn.decode(UnifyChallengeProto.CompressedColumn.parseFrom(copyMessage()));
+                deltaPosition = deltaLimit = 0;
+                decodedIndex = 0;
+                decodedSize = decodedColumn.size();
+                return true;
+            } else if (field == UnifyChallengeProto.SensorSession.SENSORS_FIELD_NUMBER) {
+                readSensorInfo();
+            } else if (field == UnifyChallengeProto.SensorSession.CLOCKANCHOR_FIELD_NUMBER) {
+                clockAnchor = UnifyChallengeProto.ClockAnchor.parseFrom(copyMessage());
+            } else if (field == UnifyChallengeProto.SensorSession.FRAMEPERIODNANOS_FIELD_NUMBER) {
+                framePeriod = readVarint();
+            } else if (field == UnifyChallengeProto.SensorSession.FEATURECONFIG_FIELD_NUMBER) {
+                featureConfig = UnifyChallengeProto.FeatureConfig.parseFrom(copyMessage());
+            } else if (field == UnifyChallengeProto.SensorSession.FEATUREWINDOWS_FIELD_NUMBER) {
+                featureWindows.add(UnifyChallengeProto.FeatureWindow.parseFrom(copyMessage()));
+            } else {
+                skipField(tag);
+            }
+        }
+        return false;
+    }
+
+    private void readColumnHeader(int end) throws IOException {
+        int valuesLength = 0;
+        columnValuesPosition = -1;
+        deltaPosition = deltaLimit = -1;
+        while (position < end) {
+            int tag = (int) readVarint();
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case UnifyChallengeProto.SensorColumn.SENSORID_FIELD_NUMBER:
+                    columnSensorId = (int) readVarint();
+                    break;
+                case UnifyChallengeProto.SensorColumn.STRIDE_FIELD_NUMBER:
+                    stride = (int) readVarint();
+                    break;
+                case UnifyChallengeProto.SensorColumn.BASETIMESTAMP_FIELD_NUMBER:
+                    long base = readVarint();
+                    timestamp = (base >>> 1) ^ -(base & 1);
+                    break;
+                case UnifyChallengeProto.SensorColumn.TIMESTAMPDELTAS_FIELD_NUMBER:
+                    deltaLimit = readLengthDelimitedEnd();
+                    deltaPosition = position;
+                    position = deltaLimit;
+                    break;
+                case UnifyChallengeProto.SensorColumn.VALUES_FIELD_NUMBER:
+                    valuesLength = (int) readVarint();
+                    columnValuesPosition = position;
+                    position += valuesLength;
+                    columnValuesLimit = position;
+                    break;
+                default:
+                    skipField(tag);
+                    break;
+            }
+        }
+        if (position != end || stride <= 0 || deltaLimit == -1 || columnValuesPosition == -1)
+            throw new InvalidProtocolBufferException(String.format("Malformed column ending at offset %d", end));
+        if (valuesLength % (stride * FIXED32_SIZE) != 0)
+            throw new InvalidProtocolBufferException(String.format("Column values ending at offset %d don't match its stride", end));
+    }
+
+    private void readSensorInfo() throws IOException {
+        // Copied out, metadata is rare and small
+        sensorInfos.add(UnifyChallengeProto.SensorInfo.parseFrom(copyMessage()));
+    }
+
+    /**
+     * Copies a length delimited message out of the mapping, protobuf can't read direct buffers on every platform.
+     */
+    private byte[] copyMessage() throws InvalidProtocolBufferException {
+        int end = readLengthDelimitedEnd();
+        byte[] message = new byte[end - position];
+        ByteBuffer source = buffer.duplicate();
+        source.position(position);
+        source.get(message);
+        position = end;
+        return message;
+    }
+
+    private int idForName(int namePosition, int nameLength) {
+        for (UnifyChallengeProto.SensorInfo info : sensorInfos) {
+            if (info.hasName() && nameEquals(namePosition, nameLength, info.getNameBytes())) return info.getSensorId();
+        }
+        for (int i = 0; i < unknownSensorNames.length; i++) {
+            if (nameEquals(namePosition, nameLength, unknownSensorNames[i])) return -(i + 1);
+        }
+        byte[] name = new byte[nameLength];
+        for (int i = 0; i < nameLength; i++) {
+            name[i] = buffer.get(namePosition + i);
+        }
+        byte[][] newNames = new byte[unknownSensorNames.length + 1][];
+        System.arraycopy(unknownSensorNames, 0, newNames, 0, unknownSensorNames.length);
+        newNames[unknownSensorNames.length] = name;
+        unknownSensorNames = newNames;
+        return -unknownSensorNames.length;
+    }
+
+    private boolean nameEquals(int namePosition, int nameLength, ByteString name) {
+        if (name.size() != nameLength) return false;
+        for (int i = 0; i < nameLength; i++) {
+            if (buffer.get(namePosition + i) != name.byteAt(i)) return false;
+        }
+        return true;
+    }
+
+    private boolean nameEquals(int namePosition, int nameLength, byte[] name) {
+        if (name.length != nameLength) return false;
+        for (int i = 0; i < nameLength; i++) {
+            if (buffer.get(namePosition + i) != name[i]) return false;
+        }
+        return true;
+    }
+
+    private long readVarint() throws InvalidProtocolBufferException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get(position++);
+            result |= (long) (b & 0x7f) << shift;
+            if (b >= 0) return result;
+        }
+        throw new InvalidProtocolBufferException(String.format("Malformed varint at offset %d", position));
+    }
+
+    /**
+     * Reads a length prefix and returns where the field ends.
+     */
+    private int readLengthDelimitedEnd() throws InvalidProtocolBufferException {
+        int length = (int) readVarint();
+        if (length < 0 || length > buffer.limit() - position)
+            throw new InvalidProtocolBufferException(String.format("Session is truncated at offset %d", position));
+        return position + length;
+    }
+
+    private void skipField(int tag) throws InvalidProtocolBufferException {
+        switch (WireFormat.getTagWireType(tag)) {
+            case WireFormat.WIRETYPE_VARINT:
+                readVarint();
+                break;
+            case WireFormat.WIRETYPE_FIXED64:
+                position += 8;
+                break;
+            case WireFormat.WIRETYPE_LENGTH_DELIMITED:
+                position = readLengthDelimitedEnd();
+                break;
+            case WireFormat.WIRETYPE_FIXED32:
+                position += FIXED32_SIZE;
+                break;
+            default:
+                throw new InvalidProtocolBufferException(String.format("Unexpected field %d at offset %d", tag, position));
+        }
+    }
+
+    /**
+     * @return 1 for SensorDataCollection files, 2 for SensorSession files, 3 for compressed SensorSession files.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * @return sensor metadata read so far, complete once @see {@link #next()} returned false.
+     */
+    public List<UnifyChallengeProto.SensorInfo> getSensorInfos() {
+        return sensorInfos;
+    }
+
+    /**
+     * @return the session's clock anchor, read along with the first sample. Null for sessions stamped
+     * with wall clock milliseconds, see @see {@link EventTime}.
+     */
+    public UnifyChallengeProto.ClockAnchor getClockAnchor() {
+        return clockAnchor;
+    }
+
+    /**
+     * @return time between frames of a resampled session in nanoseconds, read along with the first sample.
+     * 0 if samples are as the sensors reported them.
+     */
+    public long getFramePeriod() {
+        return framePeriod;
+    }
+
+    /**
+     * @return how the session's feature windows were extracted, or null if it has none, see @see {@link FeatureExtractor}.
+     * Read along with the first sample, sessions without samples are read through once @see {@link #next()} returned false.
+     */
+    public UnifyChallengeProto.FeatureConfig getFeatureConfig() {
+        return featureConfig;
+    }
+
+    /**
+     * @return feature windows read so far, complete once @see {@link #next()} returned false.
+     */
+    public List<UnifyChallengeProto.FeatureWindow> getFeatureWindows() {
+        return featureWindows;
+    }
+
+    public int getSensorId() {
+        return sensorId;
+    }
+
+    /**
+     * @return the sensor's name, or null if the file doesn't describe the sensor before its samples.
+     */
+    public String getSensorName() {
+        for (UnifyChallengeProto.SensorInfo info : sensorInfos) {
+            if (info.getSensorId() == sensorId) return info.getName();
+        }
+        if (sensorId < 0 && -sensorId <= unknownSensorNames.length) {
+            return new String(unknownSensorNames[-sensorId - 1], StandardCharsets.UTF_8);
+        }
+        return null;
+    }
+
+    /**
+     * @return the sample's time, event time nanoseconds if the session has a clock anchor.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public int getValueCount() {
+        return valueCount;
+    }
+
+    public float getValue(int axis) {
+        if (axis >= valueCount) throw new IndexOutOfBoundsException(String.format("Sample has %d values", valueCount));
+        if (isDecodedSample) return decodedColumn.getValue(decodedIndex - 1, axis);
+        return buffer.getFloat(valuePositions[axis]);
+    }
+
+    /**
+     * Closes the file. The mapping itself is released once the reader is garbage collected.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+}
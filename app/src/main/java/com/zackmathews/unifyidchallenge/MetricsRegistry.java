@@ -0,0 +1,278 @@
+package com.zackmathews.unifyidchallenge;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Named counters, gauges and histograms that can be updated from any thread without locking.
+ * <p>
+ * Metrics are looked up by name once, callers keep the returned instance and update it on the hot path,
+ * where an update is a handful of atomic operations and never allocates. Only registering and dumping
+ * take the registry's lock. Dump the registry with @see {@link #dump(PrintWriter, String)}, e.g. from
+ * Activity.dump() so it shows up in dumpsys, or to a file with @see {@link #dump(File)}.
+ */
+public class MetricsRegistry {
+    /**
+     * Microsecond bucket bounds suited to thread handoff and I/O latencies.
+     */
+    public static final long[] LATENCY_BOUNDS_US = {50, 100, 250, 500, 1000, 2500, 5000, 10000, 25000, 50000,
+            100000, 250000, 500000, 1000000};
+
+    private final Map<String, Object> metrics = new TreeMap<>();
+
+    /**
+     * A monotonically increasing count.
+     */
+    public static class Counter {
+        private final AtomicLong value = new AtomicLong();
+
+        public void increment() {
+            value.incrementAndGet();
+        }
+
+        public void add(long delta) {
+            value.addAndGet(delta);
+        }
+
+        public long get() {
+            return value.get();
+        }
+    }
+
+    /**
+     * A value that goes up and down. Either set it as it changes, or override @see {@link #get()}
+     * to read it when the registry is dumped.
+     */
+    public static class Gauge {
+        private final AtomicLong value = new AtomicLong();
+
+        public void set(long value) {
+            this.value.set(value);
+        }
+
+        public long get() {
+            return value.get();
+        }
+    }
+
+    /**
+     * Counts recorded values in fixed buckets. Bucket i holds values up to bounds[i],
+     * the last bucket holds everything above the largest bound.
+     */
+    public static class Histogram {
+        private final long[] bounds;
+        private final AtomicLongArray buckets;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong sum = new AtomicLong();
+        private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+        Histogram(long[] bounds) {
+            if (bounds.length == 0)
+                throw new IllegalArgumentException("A histogram needs at least one bucket bound");
+            for (int i = 1; i < bounds.length; i++) {
+                if (bounds[i] <= bounds[i - 1])
+                    throw new IllegalArgumentException("Bucket bounds must be strictly increasing");
+            }
+            this.bounds = bounds.clone();
+            buckets = new AtomicLongArray(bounds.length + 1);
+        }
+
+        public void record(long value) {
+            int low = 0;
+            int high = bounds.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (value <= bounds[mid]) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            buckets.incrementAndGet(low);
+            count.incrementAndGet();
+            sum.addAndGet(value);
+            long current;
+            while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+                // Lost a race with a larger or concurrent value, retry against the new max
+            }
+        }
+
+        public long getCount() {
+            return count.get();
+        }
+
+        public long getSum() {
+            return sum.get();
+        }
+
+        /**
+         * @return the largest recorded value, or 0 if nothing was recorded.
+         */
+        public long getMax() {
+            return count.get() == 0 ? 0 : max.get();
+        }
+
+        /**
+         * @return bucket bounds, the last bucket is unbounded.
+         */
+        public long[] getBounds() {
+            return bounds.clone();
+        }
+
+        public long getBucketCount(int bucket) {
+            return buckets.get(bucket);
+        }
+
+        /**
+         * Estimates a percentile from the buckets.
+         *
+         * @param percentile between 0 and 100
+         * @return the upper bound of the bucket holding the percentile, or the max for the last bucket.
+         */
+        public long getPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100)
+                throw new IllegalArgumentException("Percentile must be between 0 and 100");
+            long total = 0;
+            long[] counts = new long[bounds.length + 1];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            if (total == 0) return 0;
+            long rank = (long) Math.ceil(total * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < bounds.length; i++) {
+                seen += counts[i];
+                if (seen >= Math.max(rank, 1)) return Math.min(bounds[i], getMax());
+            }
+            return getMax();
+        }
+    }
+
+    /**
+     * @param name
+     * @return the counter registered under the name, created on first use.
+     * @throws IllegalArgumentException if another kind of metric is registered under the name
+     */
+    public Counter counter(String name) {
+        synchronized (metrics) {
+            Object metric = metrics.get(name);
+            if (metric == null) {
+                metric = new Counter();
+                metrics.put(name, metric);
+            }
+            return cast(name, metric, Counter.class);
+        }
+    }
+
+    /**
+     * @param name
+     * @return the gauge registered under the name, created on first use.
+     * @throws IllegalArgumentException if another kind of metric is registered under the name
+     */
+    public Gauge gauge(String name) {
+        synchronized (metrics) {
+            Object metric = metrics.get(name);
+            if (metric == null) {
+                metric = new Gauge();
+                metrics.put(name, metric);
+            }
+            return cast(name, metric, Gauge.class);
+        }
+    }
+
+    /**
+     * Registers a gauge that computes its value, replacing any gauge of the same name.
+     *
+     * @param name
+     * @param gauge
+     * @throws IllegalArgumentException if another kind of metric is registered under the name
+     */
+    public void register(String name, Gauge gauge) {
+        synchronized (metrics) {
+            Object metric = metrics.get(name);
+            if (metric != null) {
+                cast(name, metric, Gauge.class);
+            }
+            metrics.put(name, gauge);
+        }
+    }
+
+    /**
+     * @param name
+     * @param bounds strictly increasing bucket bounds, only used when the histogram is created
+     * @return the histogram registered under the name, created on first use.
+     * @throws IllegalArgumentException if another kind of metric is registered under the name
+     */
+    public Histogram histogram(String name, long[] bounds) {
+        synchronized (metrics) {
+            Object metric = metrics.get(name);
+            if (metric == null) {
+                metric = new Histogram(bounds);
+                metrics.put(name, metric);
+            }
+            return cast(name, metric, Histogram.class);
+        }
+    }
+
+    private static <T> T cast(String name, Object metric, Class<T> type) {
+        if (!type.isInstance(metric))
+            throw new IllegalArgumentException(String.format("%s is already registered as a %s", name, metric.getClass().getSimpleName()));
+        return type.cast(metric);
+    }
+
+    /**
+     * Writes every metric in name order, one per line. Values are read one at a time,
+     * so metrics updated during the dump may be slightly out of step with each other.
+     *
+     * @param writer
+     * @param prefix written at the start of every line
+     */
+    public void dump(PrintWriter writer, String prefix) {
+        synchronized (metrics) {
+            for (Map.Entry<String, Object> entry : metrics.entrySet()) {
+                Object metric = entry.getValue();
+                if (metric instanceof Counter) {
+                    writer.println(String.format("%s%s: %d", prefix, entry.getKey(), ((Counter) metric).get()));
+                } else if (metric instanceof Gauge) {
+                    writer.println(String.format("%s%s: %d", prefix, entry.getKey(), ((Gauge) metric).get()));
+                } else {
+                    Histogram histogram = (Histogram) metric;
+                    long count = histogram.getCount();
+                    long[] counts = new long[histogram.bounds.length + 1];
+                    for (int i = 0; i < counts.length; i++) {
+                        counts[i] = histogram.getBucketCount(i);
+                    }
+                    writer.println(String.format("%s%s: { count: %d, mean: %d, p50: %d, p90: %d, p99: %d, max: %d, buckets: %s }",
+                            prefix, entry.getKey(), count, count == 0 ? 0 : histogram.getSum() / count,
+                            histogram.getPercentile(50), histogram.getPercentile(90), histogram.getPercentile(99),
+                            histogram.getMax(), Arrays.toString(counts)));
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Writes a timestamped dump to the file, replacing its contents.
+     *
+     * @param file
+     * @throws IOException
+     */
+    public void dump(File file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"))) {
+            writer.println(String.format("Metrics at %s", new Date()));
+            dump(writer, "");
+            if (writer.checkError()) throw new IOException(String.format("Couldn't write %s", file.getName()));
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.zackmathews.unifyidchallenge;
+
+/**
+ * Estimates device orientation from the accelerometer and gyroscope, so the fused rotation vector sensor doesn't
+ * have to run in the sensor HAL.
+ * <p>
+ * This is Madgwick's IMU filter: every gyroscope sample rotates the estimate by the measured angular rate, then nudges it
+ * one gradient descent step towards the orientation in which gravity points where the latest accelerometer sample says.
+ * The gain beta trades gyroscope drift against accelerometer noise. Without a magnetometer the heading is relative to
+ * the device's heading when the filter started, like Sensor.TYPE_GAME_ROTATION_VECTOR, tilt is absolute.
+ * The first accelerometer sample sets the initial tilt, so the estimate doesn't have to converge from flat.
+ * <p>
+ * The orientation is a unit quaternion rotating device coordinates into world coordinates, the same convention as the
+ * rotation vector sensors. Updating allocates nothing. Timestamps are sensor event time in nanoseconds.
+ * Not thread safe, feed it from a single thread.
+ */
+public class OrientationFilter {
+    public static final float DEFAULT_BETA = .1f;
+
+    // Sensor.TYPE_* inlined so the filter has no Android dependency
+    private static final int SENSOR_TYPE_ACCELEROMETER = 1;
+    private static final int SENSOR_TYPE_GYROSCOPE = 4;
+    // Gaps longer than this, e.g. across a pause in delivery, aren't integrated
+    private static final long MAX_GYROSCOPE_GAP_NS = 500000000L;
+
+    private final float beta;
+    // Orientation as w, x, y, z
+    private float q0 = 1;
+    private float q1;
+    private float q2;
+    private float q3;
+    private float ax;
+    private float ay;
+    private float az;
+    private boolean hasAccelerometer;
+    private long lastGyroscopeTimestamp;
+    private boolean hasGyroscope;
+
+    public OrientationFilter() {
+        this(DEFAULT_BETA);
+    }
+
+    /**
+     * @param beta accelerometer correction gain, higher converges faster but lets more linear acceleration through
+     */
+    public OrientationFilter(float beta) {
+        if (beta < 0)
+            throw new IllegalArgumentException("Beta can't be negative");
+        this.beta = beta;
+    }
+
+    /**
+     * Clears all state for a new session.
+     */
+    public void reset() {
+        q0 = 1;
+        q1 = q2 = q3 = 0;
+        hasAccelerometer = false;
+        hasGyroscope = false;
+    }
+
+    /**
+     * Feeds a sample into the filter, only accelerometer and gyroscope samples are considered.
+     *
+     * @param sensorId   sensor type of the sample
+     * @param timestamp  sample event time in nanoseconds
+     * @param values     sample values
+     * @param valueCount number of valid entries in values
+     */
+    public void onSample(int sensorId, long timestamp, float[] values, int valueCount) {
+        if (valueCount < 3) return;
+        switch (sensorId) {
+            case SENSOR_TYPE_ACCELEROMETER:
+                onAccelerometer(values[0], values[1], values[2]);
+                break;
+            case SENSOR_TYPE_GYROSCOPE:
+                onGyroscope(timestamp, values[0], values[1], values[2]);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * @param x acceleration in m/s^2, including gravity
+     * @param y
+     * @param z
+     */
+    public void onAccelerometer(float x, float y, float z) {
+        if (x == 0 && y == 0 && z == 0) return;
+        ax = x;
+        ay = y;
+        az = z;
+        if (!hasAccelerometer) {
+            hasAccelerometer = true;
+            alignWithGravity();
+        }
+    }
+
+    /**
+     * Integrates the angular rate since the previous gyroscope sample and corrects towards the latest accelerometer sample.
+     *
+     * @param timestamp sample event time in nanoseconds
+     * @param x         angular rate in rad/s
+     * @param y
+     * @param z
+     */
+    public void onGyroscope(long timestamp, float x, float y, float z) {
+        long elapsed = timestamp - lastGyroscopeTimestamp;
+        boolean isContinuous = hasGyroscope && elapsed > 0 && elapsed <= MAX_GYROSCOPE_GAP_NS;
+        if (!hasGyroscope || elapsed > 0) {
+            lastGyroscopeTimestamp = timestamp;
+        }
+        hasGyroscope = true;
+        if (!isContinuous) return;
+        update(x, y, z, elapsed * 1e-9f);
+    }
+
+    private void update(float gx, float gy, float gz, float dt) {
+        // Rate of change of the quaternion from the gyroscope
+        float qDot0 = .5f * (-q1 * gx - q2 * gy - q3 * gz);
+        float qDot1 = .5f * (q0 * gx + q2 * gz - q3 * gy);
+        float qDot2 = .5f * (q0 * gy - q1 * gz + q3 * gx);
+        float qDot3 = .5f * (q0 * gz + q1 * gy - q2 * gx);
+
+        if (hasAccelerometer) {
+            float norm = invSqrt(ax * ax + ay * ay + az * az);
+            float x = ax * norm;
+            float y = ay * norm;
+            float z = az * norm;
+            float q0q0 = q0 * q0;
+            float q1q1 = q1 * q1;
+            float q2q2 = q2 * q2;
+            float q3q3 = q3 * q3;
+            // Gradient of the error between estimated and measured gravity
+            float s0 = 4 * q0 * q2q2 + 2 * q2 * x + 4 * q0 * q1q1 - 2 * q1 * y;
+            float s1 = 4 * q1 * q3q3 - 2 * q3 * x + 4 * q0q0 * q1 - 2 * q0 * y - 4 * q1 + 8 * q1 * q1q1 + 8 * q1 * q2q2 + 4 * q1 * z;
+            float s2 = 4 * q0q0 * q2 + 2 * q0 * x + 4 * q2 * q3q3 - 2 * q3 * y - 4 * q2 + 8 * q2 * q1q1 + 8 * q2 * q2q2 + 4 * q2 * z;
+            float s3 = 4 * q1q1 * q3 - 2 * q1 * x + 4 * q2q2 * q3 - 2 * q2 * y;
+            float stepNorm = s0 * s0 + s1 * s1 + s2 * s2 + s3 * s3;
+            if (stepNorm > 0) {
+                stepNorm = invSqrt(stepNorm);
+                qDot0 -= beta * s0 * stepNorm;
+                qDot1 -= beta * s1 * stepNorm;
+                qDot2 -= beta * s2 * stepNorm;
+                qDot3 -= beta * s3 * stepNorm;
+            }
+        }
+
+        q0 += qDot0 * dt;
+        q1 += qDot1 * dt;
+        q2 += qDot2 * dt;
+        q3 += qDot3 * dt;
+        normalize();
+    }
+
+    /**
+     * Sets the tilt that rotates the measured gravity onto the world's up axis, with no rotation about it.
+     */
+    private void alignWithGravity() {
+        float norm = invSqrt(ax * ax + ay * ay + az * az);
+        float x = ax * norm;
+        float y = ay * norm;
+        float z = az * norm;
+        if (z < -.9999f) {
+            // Upside down, any half turn about a horizontal axis will do
+            q0 = 0;
+            q1 = 1;
+            q2 = q3 = 0;
+            return;
+        }
+        // Half way between the two vectors: w = 1 + cos, axis = gravity x up
+        q0 = 1 + z;
+        q1 = y;
+        q2 = -x;
+        q3 = 0;
+        normalize();
+    }
+
+    private void normalize() {
+        float norm = invSqrt(q0 * q0 + q1 * q1 + q2 * q2 + q3 * q3);
+        q0 *= norm;
+        q1 *= norm;
+        q2 *= norm;
+        q3 *= norm;
+    }
+
+    private static float invSqrt(float value) {
+        return (float) (1 / Math.sqrt(value));
+    }
+
+    /**
+     * @return true once the filter has seen an accelerometer sample, before that the orientation is meaningless.
+     */
+    public boolean hasOrientation() {
+        return hasAccelerometer;
+    }
+
+    /**
+     * Writes the orientation in rotation vector layout.
+     *
+     * @param out receives x, y, z, w of the quaternion, needs room for 4 values
+     */
+    public void getRotationVector(float[] out) {
+        out[0] = q1;
+        out[1] = q2;
+        out[2] = q3;
+        out[3] = q0;
+    }
+}
@@ -0,0 +1,268 @@
+package com.zackmathews.unifyidchallenge;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableOperator;
+import io.reactivex.rxjava3.core.FlowableSubscriber;
+import io.reactivex.rxjava3.functions.Consumer;
+
+/**
+ * Decides what @see {@link RawSensorCapture} does with samples when its subscriber falls behind.
+ * Every strategy is bounded so a slow consumer can't grow the queue without limit,
+ * dropped samples are reported through @see {@link CaptureStats} and recycled to their @see {@link SensorPacketPool}.
+ * Create one with the static factories and pass it to @see {@link RawSensorCapture.Builder#setOverflowStrategy(OverflowStrategy)}.
+ */
+public class OverflowStrategy {
+    enum Kind {
+        BUFFER,
+        DROP_OLDEST,
+        LATEST,
+        DECIMATE
+    }
+
+    final Kind kind;
+    final int capacity;
+    final int decimationFactor;
+
+    private OverflowStrategy(Kind kind, int capacity, int decimationFactor) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Overflow buffer capacity must be positive");
+        if (decimationFactor <= 0)
+            throw new IllegalArgumentException("Decimation factor must be positive");
+        this.kind = kind;
+        this.capacity = capacity;
+        this.decimationFactor = decimationFactor;
+    }
+
+    /**
+     * Buffers up to capacity samples, newer samples are dropped while the buffer is full.
+     *
+     * @param capacity
+     * @return
+     */
+    public static OverflowStrategy buffer(int capacity) {
+        return new OverflowStrategy(Kind.BUFFER, capacity, 1);
+    }
+
+    /**
+     * Buffers up to capacity samples, the oldest buffered sample is evicted to make room for a new one.
+     *
+     * @param capacity
+     * @return
+     */
+    public static OverflowStrategy dropOldest(int capacity) {
+        return new OverflowStrategy(Kind.DROP_OLDEST, capacity, 1);
+    }
+
+    /**
+     * Only keeps the most recent sample while the subscriber is busy.
+     *
+     * @return
+     */
+    public static OverflowStrategy latest() {
+        return new OverflowStrategy(Kind.LATEST, 1, 1);
+    }
+
+    /**
+     * Buffers up to capacity samples. Once the buffer is half full each sensor only forwards
+     * every factor-th sample until the subscriber catches up, so one bursty sensor can't crowd out the others.
+     * Samples that still don't fit are dropped like @see {@link #buffer(int)}.
+     *
+     * @param capacity
+     * @param factor
+     * @return
+     */
+    public static OverflowStrategy decimate(int capacity, int factor) {
+        return new OverflowStrategy(Kind.DECIMATE, capacity, factor);
+    }
+
+    /**
+     * @param backlog samples emitted but not yet delivered
+     * @return true if per-sensor decimation should kick in.
+     */
+    boolean shouldDecimate(long backlog) {
+        return kind == Kind.DECIMATE && decimationFactor > 1 && backlog >= capacity / 2;
+    }
+
+    Flowable<SensorDataPacket> apply(Flowable<SensorDataPacket> source, final CaptureStats stats) {
+        final boolean isDroppingOldest = kind == Kind.DROP_OLDEST || kind == Kind.LATEST;
+        return source.lift(new FlowableOperator<SensorDataPacket, SensorDataPacket>() {
+            @Override
+            public Subscriber<? super SensorDataPacket> apply(Subscriber<? super SensorDataPacket> downstream) {
+                return new BoundedDropSubscriber(downstream, capacity, isDroppingOldest, stats);
+            }
+        }).doOnNext(new Consumer<SensorDataPacket>() {
+            @Override
+            public void accept(SensorDataPacket packet) {
+                stats.onDelivered();
+            }
+        });
+    }
+
+    /**
+     * Bounded queue between the sensor thread and the subscriber.
+     * Unlike onBackpressureBuffer it sees the packet it drops, so the packet goes back to its @see {@link SensorPacketPool}
+     * instead of being left for the garbage collector while the pool allocates a replacement.
+     */
+    private static final class BoundedDropSubscriber implements FlowableSubscriber<SensorDataPacket>, Subscription {
+        private final Subscriber<? super SensorDataPacket> downstream;
+        private final int capacity;
+        private final boolean isDroppingOldest;
+        private final CaptureStats stats;
+        private final ArrayDeque<SensorDataPacket> queue;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private Subscription upstream;
+        private volatile boolean isDone;
+        private volatile boolean isCancelled;
+        private Throwable error;
+
+        BoundedDropSubscriber(Subscriber<? super SensorDataPacket> downstream, int capacity, boolean isDroppingOldest, CaptureStats stats) {
+            this.downstream = downstream;
+            this.capacity = capacity;
+            this.isDroppingOldest = isDroppingOldest;
+            this.stats = stats;
+            queue = new ArrayDeque<>(capacity);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(SensorDataPacket packet) {
+            SensorDataPacket dropped;
+            synchronized (queue) {
+                if (queue.size() < capacity) {
+                    dropped = null;
+                } else if (isDroppingOldest) {
+                    dropped = queue.poll();
+                } else {
+                    dropped = packet;
+                }
+                if (dropped != packet) {
+                    queue.offer(packet);
+                }
+            }
+            if (dropped != null) {
+                stats.onDropped();
+                dropped.recycle();
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            isDone = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            isDone = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onError(new IllegalArgumentException("Requested count must be positive"));
+                return;
+            }
+            long current;
+            do {
+                current = requested.get();
+            } while (!requested.compareAndSet(current, current + n < 0 ? Long.MAX_VALUE : current + n));
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            isCancelled = true;
+            upstream.cancel();
+            if (wip.getAndIncrement() == 0) {
+                clear();
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) return;
+            int missed = 1;
+            while (true) {
+                long r = requested.get();
+                long emitted = 0;
+                while (emitted != r) {
+                    if (isCancelled) {
+                        clear();
+                        return;
+                    }
+                    boolean isFinished = isDone;
+                    SensorDataPacket packet;
+                    synchronized (queue) {
+                        packet = queue.poll();
+                    }
+                    if (packet == null) {
+                        if (isFinished) {
+                            terminate();
+                            return;
+                        }
+                        break;
+                    }
+                    downstream.onNext(packet);
+                    emitted++;
+                }
+                if (emitted == r) {
+                    if (isCancelled) {
+                        clear();
+                        return;
+                    }
+                    boolean isEmpty;
+                    boolean isFinished = isDone;
+                    synchronized (queue) {
+                        isEmpty = queue.isEmpty();
+                    }
+                    if (isFinished && isEmpty) {
+                        terminate();
+                        return;
+                    }
+                }
+                if (emitted != 0 && r != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+        private void terminate() {
+            if (error != null) {
+                downstream.onError(error);
+            } else {
+                downstream.onComplete();
+            }
+        }
+
+        /**
+         * Packets that never reach the subscriber are recycled, the same as dropped ones.
+         */
+        private void clear() {
+            synchronized (queue) {
+                SensorDataPacket packet;
+                while ((packet = queue.poll()) != null) {
+                    packet.recycle();
+                }
+            }
+        }
+    }
+}
@@ -3,70 +3,213 @@ package com.zackmathews.unifyidchallenge;
 import android.content.Context;
 import android.hardware.Sensor;
 import android.hardware.SensorEvent;
-import android.hardware.SensorEventListener;
+import android.hardware.SensorEventListener2;
 import android.hardware.SensorManager;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.util.Log;
+import android.util.SparseIntArray;
 
-import java.util.Date;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import androidx.annotation.NonNull;
-import io.reactivex.rxjava3.subjects.BehaviorSubject;
-import io.reactivex.rxjava3.subjects.Subject;
+import io.reactivex.rxjava3.core.BackpressureStrategy;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableEmitter;
+import io.reactivex.rxjava3.core.FlowableOnSubscribe;
 
 /**
  * Responsible for interacting with Android hardware to report sensor data.
- * Sensor data is encapsulated in @see {@link SensorDataPacket}
+ * Sensor data is encapsulated in @see {@link SensorDataPacket}, stamped with the sensor's event time, see @see {@link EventTime}.
  * To instantiate use @see {@link Builder}.
  *
- * @see RawSensorCapture#beginCapture() returns a @see {@link Subject} that consumers can subscribe to.
+ * @see RawSensorCapture#beginCapture() returns a @see {@link Flowable} that consumers can subscribe to.
+ * If the subscriber falls behind, samples are handled by the @see {@link OverflowStrategy} set in the Builder.
+ * With batching enabled samples are held in the sensor hub's FIFO and delivered in bursts,
+ * the FIFO is flushed before the Flowable completes so no samples are left behind.
+ * <p>
+ * Sensor callbacks are delivered on a high priority HandlerThread owned by the capture, not the main thread,
+ * so UI work and broadcasts don't delay or drop samples. The thread lives from @see {@link #beginCapture()}
+ * until the capture completes, and every emitter call is made from it.
+ * <p>
+ * With @see {@link Builder#enableFusedRotationSensor()} orientation is computed on the sensor thread by an
+ * @see {@link OrientationFilter} and emitted as Sensor.TYPE_GAME_ROTATION_VECTOR packets, so the fused
+ * rotation vector doesn't have to run in the sensor HAL.
  * Make sure you call @see {@link RawSensorCapture#stopCapture()} to release resources.
  */
-public class RawSensorCapture implements SensorEventListener {
-    static class SensorDataPacket {
-        public String sensorType;
-        public Float[] values;
-        public Date date;
-    }
+public class RawSensorCapture implements SensorEventListener2 {
+    private static final int DEFAULT_OVERFLOW_CAPACITY = 1024;
+    // Upper bound on how long stopCapture waits for the FIFO flush to be acknowledged
+    private static final long FLUSH_TIMEOUT_MS = 2000;
+    // Ahead of the UI thread, so main thread jank doesn't back up sensor delivery
+    private static final int DEFAULT_SENSOR_THREAD_PRIORITY = Process.THREAD_PRIORITY_URGENT_DISPLAY;
+    private static final String FUSED_ROTATION_SENSOR_NAME = "Orientation Filter";
+    private static final String FUSED_ROTATION_SENSOR_VENDOR = "UnifyID";
 
-    private Subject<SensorDataPacket> packetObservable;
+    private volatile FlowableEmitter<SensorDataPacket> packetEmitter;
     private Context context;
     private SensorManager sensorManager;
     private HashMap<Integer, Sensor> sensorMap = new HashMap<>();
+    private HashMap<Integer, SensorConfig> sensorConfigs = new HashMap<>();
+    private SensorPacketPool packetPool;
+    private OverflowStrategy overflowStrategy;
+    private final CaptureStats captureStats = new CaptureStats();
+    // Samples seen per sensor type, used for decimation
+    private final SparseIntArray sensorSampleCounts = new SparseIntArray();
+    private boolean isBatchingEnabled;
+    private int sensorThreadPriority;
+    private volatile HandlerThread sensorThread;
+    private volatile Handler sensorHandler;
+    // Sensor thread only
+    private int pendingFlushes;
+    private OrientationFilter orientationFilter;
+    private final float[] fusedRotation = new float[4];
+    private long fusedPeriodNs;
+    private long nextFusedTimestamp;
+    private final Runnable flushTimeout = new Runnable() {
+        @Override
+        public void run() {
+            Log.w(getClass().getSimpleName(), "Timed out waiting for sensor FIFO flush");
+            finishCapture();
+        }
+    };
 
     /**
      * Registers any sensors enabled in the Builder and begins reporting sensor data.
      * Make sure you call @see {@link RawSensorCapture#stopCapture()} to free allocated resources.
      *
-     * @return @see {@link Subject} to subscribe to sensor data encapsulated in @see {@link SensorDataPacket}.
+     * @return @see {@link Flowable} to subscribe to sensor data encapsulated in @see {@link SensorDataPacket}.
+     * @throws IllegalStateException if a capture is still running
      */
-    public Subject<SensorDataPacket> beginCapture() {
+    public Flowable<SensorDataPacket> beginCapture() {
+        if (sensorThread != null)
+            throw new IllegalStateException("Capture already running, stop it before beginning another");
+        sensorThread = new HandlerThread("SensorEvents", sensorThreadPriority);
+        sensorThread.start();
+        sensorHandler = new Handler(sensorThread.getLooper());
+        captureStats.reset();
+        sensorSampleCounts.clear();
+        if (orientationFilter != null) {
+            orientationFilter.reset();
+            nextFusedTimestamp = 0;
+        }
+        Flowable<SensorDataPacket> source = Flowable.create(new FlowableOnSubscribe<SensorDataPacket>() {
+            @Override
+            public void subscribe(@NonNull FlowableEmitter<SensorDataPacket> emitter) {
+                packetEmitter = emitter;
+            }
+        }, BackpressureStrategy.MISSING);
         for (HashMap.Entry<Integer, Sensor> entry : sensorMap.entrySet()) {
             Sensor s = entry.getValue();
-            sensorManager.registerListener(this, s, SensorManager.SENSOR_DELAY_UI, SensorManager.SENSOR_DELAY_UI);
+            SensorConfig config = sensorConfigs.get(entry.getKey());
+            if (config.getMaxReportLatencyUs() > 0 && s.getFifoMaxEventCount() == 0) {
+                Log.d(getClass().getSimpleName(), String.format("%s has no hardware FIFO, samples won't be batched", s.getName()));
+            }
+            sensorManager.registerListener(this, s, config.getSamplingPeriodUs(), config.getMaxReportLatencyUs(), sensorHandler);
         }
-        packetObservable = BehaviorSubject.create();
-        return packetObservable;
+        return overflowStrategy.apply(source, captureStats);
     }
 
     /**
-     * Unregisters sensors and frees memory from the Subject observable.
+     * Stops capturing sensor data and completes the capture Flowable.
+     * When batching is enabled the sensor FIFOs are flushed first, so the Flowable completes
+     * asynchronously once every sensor has delivered its buffered samples.
+     * The Flowable always completes on the sensor thread, which then quits. Safe to call from any thread.
      */
     public void stopCapture() {
+        Handler handler = sensorHandler;
+        if (handler == null) return;
+        handler.post(new Runnable() {
+            @Override
+            public void run() {
+                // A flush is already pending, it finishes the capture
+                if (pendingFlushes > 0) return;
+                if (isBatchingEnabled && packetEmitter != null) {
+                    pendingFlushes = sensorMap.size();
+                    if (sensorManager.flush(RawSensorCapture.this)) {
+                        sensorHandler.postDelayed(flushTimeout, FLUSH_TIMEOUT_MS);
+                        return;
+                    }
+                }
+                finishCapture();
+            }
+        });
+    }
+
+    private void finishCapture() {
+        if (sensorThread == null) return;
+        sensorHandler.removeCallbacks(flushTimeout);
+        pendingFlushes = 0;
         sensorManager.unregisterListener(this);
-        packetObservable = null;
+        FlowableEmitter<SensorDataPacket> emitter = packetEmitter;
+        packetEmitter = null;
+        if (emitter != null) {
+            emitter.onComplete();
+        }
+        // Events already queued on the looper are dropped by onSensorChanged once the emitter is cleared
+        sensorThread.quitSafely();
+        sensorThread = null;
+        sensorHandler = null;
+    }
+
+    /**
+     * @return the rate settings each enabled sensor is registered with.
+     */
+    public List<SensorConfig> getSensorConfigs() {
+        return new ArrayList<>(sensorConfigs.values());
+    }
+
+    /**
+     * @return counters for the current or most recent capture, including samples dropped on overflow.
+     */
+    public CaptureStats getCaptureStats() {
+        return captureStats;
+    }
+
+    /**
+     * @return the pool backing emitted packets, or null if pooling wasn't enabled in the Builder.
+     */
+    public SensorPacketPool getPacketPool() {
+        return packetPool;
     }
 
     @Override
     public void onSensorChanged(SensorEvent event) {
-        SensorDataPacket packet = new SensorDataPacket();
-        packet.date = new Date(System.currentTimeMillis());
-        packet.values = new Float[event.values.length];
-        // Protobuf and Arrays.asList needs this to be Float vs float
-        for (int i = 0; i < event.values.length; i++) {
-            packet.values[i] = event.values[i];
-        }
-        packet.sensorType = event.sensor.getName();
-        packetObservable.onNext(packet);
+        FlowableEmitter<SensorDataPacket> emitter = packetEmitter;
+        if (emitter == null) return;
+        int sensorType = event.sensor.getType();
+        if (orientationFilter != null) {
+            // Fed before decimation, the filter needs every sample to integrate the gyroscope
+            orientationFilter.onSample(sensorType, event.timestamp, event.values, event.values.length);
+        }
+        emit(emitter, sensorType, event.timestamp, event.values);
+        // The gyroscope drives the filter, so fused samples are emitted on its clock
+        if (orientationFilter != null && sensorType == Sensor.TYPE_GYROSCOPE && orientationFilter.hasOrientation()
+                && event.timestamp >= nextFusedTimestamp) {
+            nextFusedTimestamp = event.timestamp + fusedPeriodNs;
+            orientationFilter.getRotationVector(fusedRotation);
+            emit(emitter, Sensor.TYPE_GAME_ROTATION_VECTOR, event.timestamp, fusedRotation);
+        }
+    }
+
+    private void emit(FlowableEmitter<SensorDataPacket> emitter, int sensorType, long timestamp, float[] values) {
+        int sampleCount = sensorSampleCounts.get(sensorType) + 1;
+        sensorSampleCounts.put(sensorType, sampleCount);
+        if (overflowStrategy.shouldDecimate(captureStats.getBacklog())
+                && sampleCount % overflowStrategy.decimationFactor != 0) {
+            captureStats.onDecimated();
+            return;
+        }
+        SensorDataPacket packet = packetPool != null ? packetPool.obtain() : new SensorDataPacket();
+        // Event time of the measurement itself, batched samples keep the time they were taken
+        packet.set(sensorType, timestamp, values);
+        packet.callbackNanos = System.nanoTime();
+        captureStats.onEmitted();
+        emitter.onNext(packet);
     }
 
     @Override
@@ -74,14 +217,28 @@ public class RawSensorCapture implements SensorEventListener {
 
     }
 
+    @Override
+    public void onFlushCompleted(Sensor sensor) {
+        if (pendingFlushes > 0 && --pendingFlushes == 0) {
+            finishCapture();
+        }
+    }
+
     /**
      * Builder for creating an instance of @see {@link RawSensorCapture}.
      * A nonnull @see {@link Context} is required or else an Exception will be thrown.
      */
     public static class Builder {
         private Context context;
-        private boolean enableRotation, enableAccel, enableGyroscope;
+        private boolean enableRotation, enableAccel, enableGyroscope, enableFusedRotation;
+        private float fusionBeta = OrientationFilter.DEFAULT_BETA;
+        private int packetPoolCapacity;
+        private OverflowStrategy overflowStrategy = OverflowStrategy.buffer(DEFAULT_OVERFLOW_CAPACITY);
+        private int maxReportLatencyUs;
+        private int sensorThreadPriority = DEFAULT_SENSOR_THREAD_PRIORITY;
+        private HashMap<Integer, int[]> sensorRates = new HashMap<>();
         private HashMap<Integer, Sensor> sensorMap = new HashMap<>();
+        private HashMap<Integer, SensorConfig> sensorConfigs = new HashMap<>();
         private SensorManager sensorManager;
 
         /**
@@ -106,6 +263,34 @@ public class RawSensorCapture implements SensorEventListener {
             return this;
         }
 
+        /**
+         * Computes orientation from the accelerometer and gyroscope with an @see {@link OrientationFilter}
+         * and emits it as @see {@link Sensor#TYPE_GAME_ROTATION_VECTOR}, x, y, z, w of the quaternion.
+         * Use it in place of @see {@link #enableRotationSensor()} to keep the fused sensor off in the HAL.
+         * Heading is relative to where the capture started. Enables both source sensors, fused samples are emitted
+         * at most at the rate set for Sensor.TYPE_GAME_ROTATION_VECTOR, by default as fast as the gyroscope.
+         *
+         * @return this builder
+         */
+        public Builder enableFusedRotationSensor() {
+            return enableFusedRotationSensor(OrientationFilter.DEFAULT_BETA);
+        }
+
+        /**
+         * @param beta filter gain, see @see {@link OrientationFilter#OrientationFilter(float)}
+         * @return this builder
+         * @see #enableFusedRotationSensor()
+         */
+        public Builder enableFusedRotationSensor(float beta) {
+            if (beta < 0)
+                throw new IllegalArgumentException("Beta can't be negative");
+            enableFusedRotation = true;
+            enableAccel = true;
+            enableGyroscope = true;
+            fusionBeta = beta;
+            return this;
+        }
+
         /**
          * Enables use of @see {@link Sensor#TYPE_ACCELEROMETER}
          *
@@ -126,6 +311,89 @@ public class RawSensorCapture implements SensorEventListener {
             return this;
         }
 
+        /**
+         * Sets the sampling period for a sensor, batching latency falls back to @see {@link #enableBatching(int)}.
+         *
+         * @param sensorType       e.g. @see {@link Sensor#TYPE_ACCELEROMETER}
+         * @param samplingPeriodUs a SensorManager.SENSOR_DELAY_* constant or a period in microseconds
+         * @return this builder
+         */
+        public Builder setSamplingRate(int sensorType, int samplingPeriodUs) {
+            return setSamplingRate(sensorType, samplingPeriodUs, -1);
+        }
+
+        /**
+         * Sets the sampling period and batching latency for a sensor, overriding the defaults of
+         * @see {@link SensorManager#SENSOR_DELAY_UI} and @see {@link #enableBatching(int)}.
+         * The period is clamped to the sensor's min and max delay when the capture is built.
+         *
+         * @param sensorType         e.g. @see {@link Sensor#TYPE_ACCELEROMETER}
+         * @param samplingPeriodUs   a SensorManager.SENSOR_DELAY_* constant or a period in microseconds
+         * @param maxReportLatencyUs maximum batching delay in microseconds, 0 to disable batching for this sensor
+         * @return this builder
+         */
+        public Builder setSamplingRate(int sensorType, int samplingPeriodUs, int maxReportLatencyUs) {
+            if (samplingPeriodUs < 0)
+                throw new IllegalArgumentException("Sampling period can't be negative");
+            sensorRates.put(sensorType, new int[]{samplingPeriodUs, maxReportLatencyUs});
+            return this;
+        }
+
+        /**
+         * Emits packets from a preallocated ring of the given size instead of allocating per event.
+         * Subscribers must copy what they need and call @see {@link SensorDataPacket#recycle()}
+         * on every packet they receive.
+         *
+         * @param capacity number of packets that may be in flight before the pool falls back to allocating
+         * @return this builder
+         */
+        public Builder usePacketPool(int capacity) {
+            if (capacity <= 0)
+                throw new IllegalArgumentException("Packet pool capacity must be positive");
+            packetPoolCapacity = capacity;
+            return this;
+        }
+
+        /**
+         * Lets the sensor hub hold samples in its hardware FIFO for up to the given latency before waking the app,
+         * samples are then delivered in bursts. Sensors without a FIFO deliver as they did before.
+         *
+         * @param maxReportLatencyUs maximum delay before a sample is reported, in microseconds
+         * @return this builder
+         */
+        public Builder enableBatching(int maxReportLatencyUs) {
+            if (maxReportLatencyUs <= 0)
+                throw new IllegalArgumentException("Max report latency must be positive");
+            this.maxReportLatencyUs = maxReportLatencyUs;
+            return this;
+        }
+
+        /**
+         * Sets the priority of the thread sensor callbacks are delivered on.
+         * Defaults to @see {@link Process#THREAD_PRIORITY_URGENT_DISPLAY}.
+         *
+         * @param priority a Process.THREAD_PRIORITY_* value
+         * @return this builder
+         */
+        public Builder setSensorThreadPriority(int priority) {
+            if (priority < Process.THREAD_PRIORITY_URGENT_AUDIO || priority > Process.THREAD_PRIORITY_LOWEST)
+                throw new IllegalArgumentException("Thread priority out of range");
+            sensorThreadPriority = priority;
+            return this;
+        }
+
+        /**
+         * Sets how samples are handled when the subscriber can't keep up.
+         * Defaults to @see {@link OverflowStrategy#buffer(int)}.
+         *
+         * @param strategy
+         * @return this builder
+         */
+        public Builder setOverflowStrategy(@NonNull OverflowStrategy strategy) {
+            overflowStrategy = strategy;
+            return this;
+        }
+
         /**
          * Builds an instance of @see {@link RawSensorCapture}
          * using the given context and flags for which sensors
@@ -157,15 +425,80 @@ public class RawSensorCapture implements SensorEventListener {
             if (enableGyroscope) {
                 Sensor gyroscopeSensor = sensorManager.getDefaultSensor(Sensor.TYPE_GYROSCOPE);
                 if (gyroscopeSensor == null)
-                    throw new IllegalStateException("Couldn't instantiate the accelerometer sensor. Check your device.");
+                    throw new IllegalStateException("Couldn't instantiate the gyroscope sensor. Check your device.");
                 sensorMap.put(Sensor.TYPE_GYROSCOPE, gyroscopeSensor);
             }
+            boolean isBatchingEnabled = false;
+            for (HashMap.Entry<Integer, Sensor> entry : sensorMap.entrySet()) {
+                SensorConfig config = resolveConfig(entry.getValue(), sensorRates.get(entry.getKey()));
+                sensorConfigs.put(entry.getKey(), config);
+                isBatchingEnabled |= config.getMaxReportLatencyUs() > 0;
+            }
+            if (enableFusedRotation) {
+                // Not registered with the SensorManager, the filter runs at the gyroscope's rate and latency
+                SensorConfig gyroscopeConfig = sensorConfigs.get(Sensor.TYPE_GYROSCOPE);
+                int[] rate = sensorRates.get(Sensor.TYPE_GAME_ROTATION_VECTOR);
+                int samplingPeriodUs = rate != null ? toPeriodUs(rate[0]) : gyroscopeConfig.getSamplingPeriodUs();
+                sensorConfigs.put(Sensor.TYPE_GAME_ROTATION_VECTOR, new SensorConfig(Sensor.TYPE_GAME_ROTATION_VECTOR,
+                        FUSED_ROTATION_SENSOR_NAME, FUSED_ROTATION_SENSOR_VENDOR, 0, 1,
+                        Math.max(samplingPeriodUs, gyroscopeConfig.getSamplingPeriodUs()), gyroscopeConfig.getMaxReportLatencyUs()));
+            }
             RawSensorCapture rawSensorCapture = new RawSensorCapture();
             rawSensorCapture.context = context;
             rawSensorCapture.sensorManager = sensorManager;
             rawSensorCapture.sensorMap = sensorMap;
+            rawSensorCapture.overflowStrategy = overflowStrategy;
+            rawSensorCapture.sensorConfigs = sensorConfigs;
+            rawSensorCapture.isBatchingEnabled = isBatchingEnabled;
+            rawSensorCapture.sensorThreadPriority = sensorThreadPriority;
+            if (enableFusedRotation) {
+                rawSensorCapture.orientationFilter = new OrientationFilter(fusionBeta);
+                rawSensorCapture.fusedPeriodNs = TimeUnit.MICROSECONDS.toNanos(
+                        sensorConfigs.get(Sensor.TYPE_GAME_ROTATION_VECTOR).getSamplingPeriodUs());
+            }
+            if (packetPoolCapacity > 0) {
+                rawSensorCapture.packetPool = new SensorPacketPool(packetPoolCapacity);
+            }
             return rawSensorCapture;
         }
+
+        private SensorConfig resolveConfig(Sensor sensor, int[] rate) {
+            int samplingPeriodUs = toPeriodUs(rate != null ? rate[0] : SensorManager.SENSOR_DELAY_UI);
+            int latencyUs = rate != null && rate[1] >= 0 ? rate[1] : maxReportLatencyUs;
+            int minDelayUs = sensor.getMinDelay();
+            int maxDelayUs = sensor.getMaxDelay();
+            int clampedPeriodUs = samplingPeriodUs;
+            if (minDelayUs > 0 && clampedPeriodUs < minDelayUs) {
+                clampedPeriodUs = minDelayUs;
+            } else if (maxDelayUs > 0 && clampedPeriodUs > maxDelayUs) {
+                clampedPeriodUs = maxDelayUs;
+            }
+            if (clampedPeriodUs != samplingPeriodUs) {
+                Log.w(getClass().getSimpleName(), String.format("%s supports periods of %d-%dus, using %dus instead of %dus",
+                        sensor.getName(), minDelayUs, maxDelayUs, clampedPeriodUs, samplingPeriodUs));
+            }
+            return new SensorConfig(sensor.getType(), sensor.getName(), sensor.getVendor(), sensor.getResolution(),
+                    sensor.getMaximumRange(), clampedPeriodUs, latencyUs);
+        }
+
+        /**
+         * Converts SensorManager.SENSOR_DELAY_* constants to the periods the framework uses for them,
+         * anything else is already a period in microseconds.
+         */
+        private static int toPeriodUs(int samplingPeriod) {
+            switch (samplingPeriod) {
+                case SensorManager.SENSOR_DELAY_FASTEST:
+                    return 0;
+                case SensorManager.SENSOR_DELAY_GAME:
+                    return 20000;
+                case SensorManager.SENSOR_DELAY_UI:
+                    return 66667;
+                case SensorManager.SENSOR_DELAY_NORMAL:
+                    return 200000;
+                default:
+                    return samplingPeriod;
+            }
+        }
     }
 
     private RawSensorCapture() {
@@ -0,0 +1,76 @@
+package com.zackmathews.unifyidchallenge;
+
+/**
+ * Rate settings a sensor was registered with by @see {@link RawSensorCapture}, along with its hardware description.
+ * Recorded once in session metadata so consumers know the true sampling rate and precision of each stream,
+ * samples themselves only carry the sensor id.
+ */
+public class SensorConfig {
+    private final int sensorId;
+    private final String name;
+    private final String vendor;
+    private final float resolution;
+    private final float maximumRange;
+    private final int samplingPeriodUs;
+    private final int maxReportLatencyUs;
+
+    public SensorConfig(int sensorId, String name, String vendor, float resolution, float maximumRange,
+                        int samplingPeriodUs, int maxReportLatencyUs) {
+        this.sensorId = sensorId;
+        this.name = name;
+        this.vendor = vendor;
+        this.resolution = resolution;
+        this.maximumRange = maximumRange;
+        this.samplingPeriodUs = samplingPeriodUs;
+        this.maxReportLatencyUs = maxReportLatencyUs;
+    }
+
+    /**
+     * @return the sensor type, see @see {@link android.hardware.Sensor#getType()}.
+     */
+    public int getSensorId() {
+        return sensorId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getVendor() {
+        return vendor;
+    }
+
+    /**
+     * @return smallest difference between two values the sensor reports, in the sensor's unit.
+     */
+    public float getResolution() {
+        return resolution;
+    }
+
+    /**
+     * @return maximum value the sensor reports, in the sensor's unit.
+     */
+    public float getMaximumRange() {
+        return maximumRange;
+    }
+
+    /**
+     * @return requested period between samples in microseconds, after clamping to what the sensor supports.
+     */
+    public int getSamplingPeriodUs() {
+        return samplingPeriodUs;
+    }
+
+    /**
+     * @return maximum time samples may be held in the hardware FIFO in microseconds, 0 if not batched.
+     */
+    public int getMaxReportLatencyUs() {
+        return maxReportLatencyUs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("{ sensor: %s, id: %d, samplingPeriodUs: %d, maxReportLatencyUs: %d }",
+                name, sensorId, samplingPeriodUs, maxReportLatencyUs);
+    }
+}
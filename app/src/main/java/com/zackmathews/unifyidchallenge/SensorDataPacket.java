@@ -0,0 +1,84 @@
+package com.zackmathews.unifyidchallenge;
+
+/**
+ * A single sensor sample reported by @see {@link RawSensorCapture}.
+ * Values and timestamps are kept as primitives so building a packet never boxes.
+ * <p>
+ * Packets handed out by a @see {@link SensorPacketPool} are reused, similar to android.os.Message.
+ * Consumers must copy anything they want to keep and then call @see {@link SensorDataPacket#recycle()}.
+ */
+public class SensorDataPacket {
+    /**
+     * Upper bound on values per event, covers rotation vector (5) and uncalibrated sensors (6).
+     */
+    public static final int MAX_VALUES = 8;
+
+    /**
+     * Sensor type as reported by @see {@link android.hardware.Sensor#getType()}.
+     * The sensor's name and vendor are recorded once per session, see @see {@link SensorConfig}.
+     */
+    public int sensorId;
+    public final float[] values = new float[MAX_VALUES];
+    public int valueCount;
+    /**
+     * Sensor event time in nanoseconds, see @see {@link EventTime}.
+     */
+    public long timestamp;
+    /**
+     * System.nanoTime() when the sensor callback produced this packet, 0 if it didn't come from a callback.
+     * Used to measure how long samples wait before they are consumed.
+     */
+    public long callbackNanos;
+
+    private final SensorPacketPool pool;
+    boolean isInPool;
+
+    SensorDataPacket(SensorPacketPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Creates a standalone packet that isn't backed by a pool.
+     */
+    public SensorDataPacket() {
+        this(null);
+    }
+
+    /**
+     * Copies the given sample into this packet, values past @see {@link #MAX_VALUES} are dropped.
+     *
+     * @param sensorId
+     * @param timestamp
+     * @param source
+     */
+    public void set(int sensorId, long timestamp, float[] source) {
+        this.sensorId = sensorId;
+        this.timestamp = timestamp;
+        callbackNanos = 0;
+        valueCount = Math.min(source.length, MAX_VALUES);
+        System.arraycopy(source, 0, values, 0, valueCount);
+    }
+
+    /**
+     * @return a standalone copy of this packet that is safe to retain after recycling.
+     */
+    public SensorDataPacket copy() {
+        SensorDataPacket copy = new SensorDataPacket();
+        copy.sensorId = sensorId;
+        copy.timestamp = timestamp;
+        copy.callbackNanos = callbackNanos;
+        copy.valueCount = valueCount;
+        System.arraycopy(values, 0, copy.values, 0, valueCount);
+        return copy;
+    }
+
+    /**
+     * Returns this packet to its pool. No-op for standalone packets.
+     * The packet must not be touched after calling this.
+     */
+    public void recycle() {
+        if (pool != null) {
+            pool.release(this);
+        }
+    }
+}
@@ -1,24 +1,34 @@
 package com.zackmathews.unifyidchallenge;
 
 import android.content.Context;
+import android.hardware.Sensor;
+import android.hardware.SensorManager;
+import android.os.SystemClock;
+import android.util.Base64;
 import android.util.Log;
+import android.util.SparseArray;
 
 import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
 import java.util.Arrays;
 import java.util.Date;
-import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import androidx.annotation.NonNull;
-import io.reactivex.rxjava3.internal.observers.BlockingBaseObserver;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Scheduler;
 import io.reactivex.rxjava3.schedulers.Schedulers;
-import io.reactivex.rxjava3.subjects.Subject;
+import io.reactivex.rxjava3.subscribers.DisposableSubscriber;
 
 /**
  * This repo acts as the source of truth for sensor data.
@@ -26,158 +36,537 @@ import io.reactivex.rxjava3.subjects.Subject;
  * @see RawSensorCapture feeds sensor data and the repo determines
  * whether or not conditions are met for that data to be written to disk.
  * Following MVVM it would be very easy to add a ViewModel to render this data in the UI.
+ * <p>
+ * Session state is confined to a single capture thread shared by all repos. Samples reach it through
+ * the lock-free single producer queues of the capture Flowable, and starting, classifying and persisting
+ * a session are queued on the same thread, so they always see every sample that arrived before them.
+ * Matching sessions are then handed to a @see {@link SessionPersistenceQueue} that writes them out in the background.
+ * <p>
+ * Unless capture windows are set, sessions are journaled to an append-only .partial file as they are captured
+ * and checkpointed to storage every second, so a session interrupted by a crash is salvaged on the next start.
+ * Kept sessions are recorded in a @see {@link SessionCatalog}, compressed once they are finished, encrypted if the build sets a session public key, and uploaded in batches by a @see {@link SessionUploader}
+ * if the build sets an upload endpoint.
+ * <p>
+ * With resampling enabled, samples go through a @see {@link SensorResampler} first, and the session, the journal and the
+ * classifier see aligned frames on a fixed rate timeline instead of samples in arrival order.
+ * <p>
+ * With feature extraction enabled, samples are also summarized by a @see {@link FeatureExtractor} and the feature windows
+ * are journaled with the session, alongside the raw samples or instead of them. A session of features only is a small
+ * fraction of its raw size, and goes through compression, encryption, the catalog and uploads like any other session.
+ * <p>
+ * Capture is instrumented through a process-wide @see {@link MetricsRegistry}: samples per sensor, queue depth,
+ * overflow drops, callback to consumer latency and journal bytes. Samples aren't logged unless
+ * @see {@link #setSampleLogInterval(int)} opts in.
  */
 public class SensorDataRepo {
+    private static final int PACKET_POOL_CAPACITY = 512;
+    // Keeps pooled packets in flight (overflow buffer + capture queue) below the pool size
+    private static final int OVERFLOW_CAPACITY = 256;
+    private static final int CAPTURE_QUEUE_SIZE = 128;
+    private static final int OVERFLOW_DECIMATION_FACTOR = 2;
+    // Let the sensor hub batch samples instead of waking the CPU for each one
+    private static final int MAX_REPORT_LATENCY_US = 200000;
+    // At most this much of a streamed session is lost if the process is killed mid call
+    private static final long CHECKPOINT_INTERVAL_NS = TimeUnit.SECONDS.toNanos(1);
+    private static final long KEEP_FULL_SESSION = -1;
+    private static final int RAW_SAMPLES = 0;
+    private static final long NO_FEATURES = 0;
+    // Values per sample kept by the resampler and the feature extractor, x, y, z or a quaternion
+    private static final int AXIS_STRIDE = 3;
+    private static final int ROTATION_VECTOR_STRIDE = 4;
+    // Batched sensors deliver up to the report latency apart, frames wait that long for the slowest one
+    private static final long RESAMPLING_LOOKAHEAD_NS = TimeUnit.MICROSECONDS.toNanos(MAX_REPORT_LATENCY_US) + TimeUnit.MILLISECONDS.toNanos(50);
+    // Repos are created per call, the capture thread outlives them so sessions never overlap
+    private static final ExecutorService captureExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(@NonNull Runnable runnable) {
+            return new Thread(runnable, "SensorCapture");
+        }
+    });
+    private static final Scheduler captureScheduler = Schedulers.from(captureExecutor);
+    private static final String UPLOAD_DIRECTORY = "uploads";
+    private static final String CATALOG_NAME = "sessions.catalog";
+    private static SessionPersistenceQueue persistenceQueue;
+    private static SessionUploader uploader;
+    private static SessionCatalog catalog;
+    private static final MetricsRegistry metrics = new MetricsRegistry();
     private Context context;
     private RawSensorCapture rawSensorCapture;
-    private Subject<RawSensorCapture.SensorDataPacket> sensorPacketObservable;
-    private List<RawSensorCapture.SensorDataPacket> packets = new ArrayList<>();
+    private Flowable<SensorDataPacket> sensorPacketObservable;
+    private volatile long headWindowMs = KEEP_FULL_SESSION;
+    private volatile long tailWindowMs = KEEP_FULL_SESSION;
+    private volatile int framePeriodUs = RAW_SAMPLES;
+    private volatile long featureWindowMs = NO_FEATURES;
+    private volatile boolean isKeepingSamples = true;
+    private volatile boolean lastSessionResult;
+    private volatile int sampleLogInterval;
+    // Capture thread only. Session is only set in windowed mode, otherwise samples are streamed straight to disk
+    private SensorSessionBuffer session;
+    private SensorResampler resampler;
+    private final SensorDataPacket framePacket = new SensorDataPacket();
+    private FeatureExtractor featureExtractor;
+    private boolean isWritingSamples;
+    private ColumnarSessionWriter sessionWriter;
+    private File partialSessionFile;
+    // Places the session's event time samples on the wall clock
+    private UnifyChallengeProto.ClockAnchor clockAnchor;
+    private long lastCheckpointTimestamp;
+    private long consumedCount;
+    private long reportedBytes;
+    private final CallAnswerMotionDetector motionDetector = new CallAnswerMotionDetector();
+    // Written once in the constructor, before the capture thread sees this repo
+    private final SparseArray<MetricsRegistry.Counter> sampleCounters = new SparseArray<>();
+    private final MetricsRegistry.Gauge queueDepth = metrics.gauge("capture.queueDepth");
+    private final MetricsRegistry.Histogram callbackLatency = metrics.histogram("capture.callbackLatencyUs", MetricsRegistry.LATENCY_BOUNDS_US);
+    private final MetricsRegistry.Counter bytesWritten = metrics.counter("journal.bytesWritten");
 
     public SensorDataRepo(@NonNull Context context) {
         this.context = context;
+        initPersistenceQueue(context);
         rawSensorCapture = new RawSensorCapture.Builder().with(context)
                 .enableAccelerometerSensor()
                 .enableGyroscopeSensor()
-                .enableRotationSensor().build();
+                // Computed from accelerometer and gyroscope, keeps the fused rotation vector off in the sensor HAL
+                .enableFusedRotationSensor()
+                // Motion classification needs a fast accelerometer, orientation is only context
+                .setSamplingRate(Sensor.TYPE_ACCELEROMETER, SensorManager.SENSOR_DELAY_GAME)
+                .setSamplingRate(Sensor.TYPE_GYROSCOPE, SensorManager.SENSOR_DELAY_GAME)
+                .setSamplingRate(Sensor.TYPE_GAME_ROTATION_VECTOR, SensorManager.SENSOR_DELAY_NORMAL)
+                .usePacketPool(PACKET_POOL_CAPACITY)
+                .setOverflowStrategy(OverflowStrategy.decimate(OVERFLOW_CAPACITY, OVERFLOW_DECIMATION_FACTOR))
+                .enableBatching(MAX_REPORT_LATENCY_US)
+                .build();
+        motionDetector.setListener(new CallAnswerMotionDetector.Listener() {
+            @Override
+            public void onMotionDetected(long timestamp) {
+                Log.d(SensorDataRepo.class.getSimpleName(), String.format("Call answer motion detected at %s",
+                        new Date(EventTime.toWallClockMillis(clockAnchor, timestamp))));
+            }
+        });
+        initMetrics();
+    }
+
+    private void initMetrics() {
+        for (SensorConfig config : rawSensorCapture.getSensorConfigs()) {
+            sampleCounters.put(config.getSensorId(), metrics.counter(String.format("capture.samples.%s", config.getName())));
+        }
+        // Read from the capture's own counters when dumped, they cover the current or most recent capture
+        final CaptureStats captureStats = rawSensorCapture.getCaptureStats();
+        metrics.register("capture.dropped", new MetricsRegistry.Gauge() {
+            @Override
+            public long get() {
+                return captureStats.getDroppedCount();
+            }
+        });
+        metrics.register("capture.decimated", new MetricsRegistry.Gauge() {
+            @Override
+            public long get() {
+                return captureStats.getDecimatedCount();
+            }
+        });
+    }
+
+    private static synchronized void initPersistenceQueue(Context context) {
+        if (persistenceQueue == null) {
+            persistenceQueue = new SessionPersistenceQueue(context.getFilesDir(), SessionCodecs.DEFLATE, readSessionPublicKey());
+            catalog = new SessionCatalog(new File(context.getFilesDir(), CATALOG_NAME));
+            persistenceQueue.setCatalog(catalog);
+            if (!BuildConfig.UPLOAD_ENDPOINT.isEmpty()) {
+                uploader = new SessionUploader.Builder()
+                        .setEndpoint(BuildConfig.UPLOAD_ENDPOINT)
+                        .setDirectories(context.getFilesDir(), new File(context.getFilesDir(), UPLOAD_DIRECTORY))
+                        .setCatalog(catalog)
+                        .build();
+                persistenceQueue.setListener(new SessionPersistenceQueue.Listener() {
+                    @Override
+                    public void onSessionPersisted(File session) {
+                        uploader.uploadPending();
+                    }
+                });
+                // Sessions and batches left over from earlier runs
+                uploader.uploadPending();
+            }
+            // Sessions that were pending when the process last died
+            persistenceQueue.recover();
+        }
     }
 
     /**
-     * Starts capturing sensor data, clears the buffer of packets if it contains any.
+     * @return the key sessions are encrypted for, or null if the build doesn't set one.
+     */
+    private static PublicKey readSessionPublicKey() {
+        if (BuildConfig.SESSION_PUBLIC_KEY.isEmpty()) return null;
+        try {
+            return KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(Base64.decode(BuildConfig.SESSION_PUBLIC_KEY, Base64.DEFAULT)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            // Never fall back to plaintext when encryption was asked for
+            throw new IllegalStateException("SESSION_PUBLIC_KEY isn't a valid RSA public key", e);
+        }
+    }
+
+    /**
+     * Keeps only the start and end of each session in memory and writes them once the call ends,
+     * instead of streaming every sample to disk. Takes effect on the next capture.
+     * Memory use is bounded by these windows regardless of call length.
+     *
+     * @param headWindowMs milliseconds kept from the start of the session
+     * @param tailWindowMs milliseconds kept from the end of the session
+     * @throws IllegalArgumentException if either window isn't positive, use @see {@link #streamFullSessions()} to keep everything
+     */
+    public void setCaptureWindows(long headWindowMs, long tailWindowMs) {
+        if (headWindowMs <= 0 || tailWindowMs <= 0)
+            throw new IllegalArgumentException("Capture windows must be positive");
+        this.headWindowMs = headWindowMs;
+        this.tailWindowMs = tailWindowMs;
+    }
+
+    /**
+     * Streams every sample of the session to disk as it is captured, this is the default.
+     * Takes effect on the next capture.
+     */
+    public void streamFullSessions() {
+        headWindowMs = KEEP_FULL_SESSION;
+        tailWindowMs = KEEP_FULL_SESSION;
+    }
+
+    /**
+     * Resamples every sensor onto a common timeline before samples are classified and written,
+     * so each sensor has exactly one sample per frame. Takes effect on the next capture.
+     * Orientation is interpolated with SLERP, everything else linearly.
+     *
+     * @param framePeriodUs time between frames in microseconds
+     */
+    public void enableResampling(int framePeriodUs) {
+        if (framePeriodUs <= 0)
+            throw new IllegalArgumentException("Frame period must be positive");
+        this.framePeriodUs = framePeriodUs;
+    }
+
+    /**
+     * Keeps samples as the sensors reported them, this is the default. Takes effect on the next capture.
+     */
+    public void disableResampling() {
+        framePeriodUs = RAW_SAMPLES;
+    }
+
+    /**
+     * Summarizes every sensor over windows of the given length and writes the feature windows with the session,
+     * see @see {@link FeatureExtractor}. Features are extracted after resampling, if it is enabled.
+     * Takes effect on the next capture.
+     *
+     * @param windowMs         window length in milliseconds
+     * @param isKeepingSamples true to write raw samples as well, false to write only features
+     */
+    public void enableFeatureExtraction(long windowMs, boolean isKeepingSamples) {
+        if (windowMs <= 0)
+            throw new IllegalArgumentException("Feature window must be positive");
+        this.featureWindowMs = windowMs;
+        this.isKeepingSamples = isKeepingSamples;
+    }
+
+    /**
+     * Writes raw samples only, this is the default. Takes effect on the next capture.
+     */
+    public void disableFeatureExtraction() {
+        featureWindowMs = NO_FEATURES;
+        isKeepingSamples = true;
+    }
+
+    /**
+     * Logs every nth sample received, for debugging. Formatting samples is far more expensive than capturing them,
+     * keep this off unless you need to see the raw stream. Takes effect immediately.
+     *
+     * @param interval log one sample out of this many, 0 to stop logging samples
+     */
+    public void setSampleLogInterval(int interval) {
+        if (interval < 0)
+            throw new IllegalArgumentException("Sample log interval can't be negative");
+        sampleLogInterval = interval;
+    }
+
+    /**
+     * @return capture metrics shared by every repo in the process.
+     */
+    public static MetricsRegistry getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Starts capturing sensor data into a new partial session file.
      */
     public void startSensorCapture() {
         Log.d(getClass().getSimpleName(), "Starting sensor capture");
-        packets.clear();
+        final long headWindowMs = this.headWindowMs;
+        final long tailWindowMs = this.tailWindowMs;
+        final int framePeriodUs = this.framePeriodUs;
+        final long featureWindowMs = this.featureWindowMs;
+        final boolean isKeepingSamples = this.isKeepingSamples;
+        // Queued ahead of the first sample on the capture thread
+        captureExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                isWritingSamples = isKeepingSamples;
+                session = headWindowMs == KEEP_FULL_SESSION || !isWritingSamples ? null : SensorSessionBuffer.windowed(
+                        TimeUnit.MILLISECONDS.toNanos(headWindowMs), TimeUnit.MILLISECONDS.toNanos(tailWindowMs));
+                resampler = framePeriodUs == RAW_SAMPLES ? null : newResampler(framePeriodUs);
+                featureExtractor = featureWindowMs == NO_FEATURES ? null : newFeatureExtractor(featureWindowMs);
+                motionDetector.reset();
+                consumedCount = 0;
+                openSessionWriter();
+            }
+        });
         sensorPacketObservable = rawSensorCapture.beginCapture();
-        sensorPacketObservable.observeOn(Schedulers.io()).subscribe(new BlockingBaseObserver<RawSensorCapture.SensorDataPacket>() {
+        sensorPacketObservable.observeOn(captureScheduler, false, CAPTURE_QUEUE_SIZE).subscribe(new DisposableSubscriber<SensorDataPacket>() {
             @Override
-            public void onNext(@NonNull RawSensorCapture.SensorDataPacket sensorDataPacket) {
-                packets.add(sensorDataPacket);
-                Log.d(getClass().getSimpleName(), String.format("Received packet { type: %s, data: %s, date: %s",
-                        sensorDataPacket.sensorType,
-                        Arrays.toString(sensorDataPacket.values), sensorDataPacket.date));
+            public void onNext(@NonNull SensorDataPacket sensorDataPacket) {
+                if (resampler != null) {
+                    resampler.onSample(sensorDataPacket);
+                } else {
+                    consumeSample(sensorDataPacket);
+                }
+                recordSample(sensorDataPacket);
+                sensorDataPacket.recycle();
             }
 
             @Override
             public void onError(@NonNull Throwable e) {
                 e.printStackTrace();
             }
+
+            @Override
+            public void onComplete() {
+                Log.d(getClass().getSimpleName(), "Sensor capture completed");
+                onSessionComplete();
+            }
         });
     }
 
     /**
      * Stops capturing sensor data.
+     * Buffered samples are flushed from the sensor hub first. The capture thread then drains every queued sample
+     * before it classifies and persists the session, so the tail of the session is never lost.
      */
     public void stopSensorCapture() {
         Log.d(getClass().getSimpleName(), "Stopping sensor capture");
         rawSensorCapture.stopCapture();
         sensorPacketObservable = null;
-        boolean isSimpleCallAnswerMotion = isSimpleCallAnswerMotion();
-        Log.d(getClass().getSimpleName(), String.format("isSimpleCallAnswerMotion: %b", isSimpleCallAnswerMotion));
-        if (isSimpleCallAnswerMotion) {
-            try {
-                writeSessionToDisk();
-            } catch (IOException e) {
-                e.printStackTrace();
+    }
+
+    private SensorResampler newResampler(int framePeriodUs) {
+        SensorResampler.Builder builder = new SensorResampler.Builder()
+                .setFramePeriod(TimeUnit.MICROSECONDS.toNanos(framePeriodUs))
+                .setMaxLookahead(RESAMPLING_LOOKAHEAD_NS);
+        for (SensorConfig config : rawSensorCapture.getSensorConfigs()) {
+            if (isRotationVector(config)) {
+                builder.addChannel(config.getSensorId(), ROTATION_VECTOR_STRIDE, SensorResampler.INTERPOLATE_SLERP);
+            } else {
+                builder.addChannel(config.getSensorId(), AXIS_STRIDE, SensorResampler.INTERPOLATE_LINEAR);
             }
         }
+        final SensorResampler resampler = builder.build();
+        final int[] sensorIds = resampler.getSensorIds();
+        resampler.setListener(new SensorResampler.Listener() {
+            @Override
+            public void onFrame(long timestamp, float[] frame) {
+                // Each frame is consumed as one sample per sensor, all at the frame's time
+                for (int sensorId : sensorIds) {
+                    int offset = resampler.getChannelOffset(sensorId);
+                    framePacket.sensorId = sensorId;
+                    framePacket.timestamp = timestamp;
+                    framePacket.valueCount = resampler.getChannelStride(sensorId);
+                    System.arraycopy(frame, offset, framePacket.values, 0, framePacket.valueCount);
+                    consumeSample(framePacket);
+                }
+            }
+        });
+        return resampler;
+    }
+
+    private FeatureExtractor newFeatureExtractor(long windowMs) {
+        FeatureExtractor.Builder builder = new FeatureExtractor.Builder()
+                .setWindow(TimeUnit.MILLISECONDS.toNanos(windowMs));
+        for (SensorConfig config : rawSensorCapture.getSensorConfigs()) {
+            builder.addChannel(config.getSensorId(), isRotationVector(config) ? ROTATION_VECTOR_STRIDE : AXIS_STRIDE);
+        }
+        return builder.setListener(new FeatureExtractor.Listener() {
+            @Override
+            public void onFeatures(UnifyChallengeProto.FeatureWindow window) {
+                if (sessionWriter == null) return;
+                try {
+                    sessionWriter.writeFeatureWindow(window);
+                    // Sessions of features only are checkpointed as windows close
+                    if (!isWritingSamples) {
+                        checkpoint(window.getEndTimestamp());
+                    }
+                } catch (IOException e) {
+                    e.printStackTrace();
+                    discardPartialSession();
+                }
+            }
+        }).build();
+    }
+
+    private static boolean isRotationVector(SensorConfig config) {
+        return config.getSensorId() == Sensor.TYPE_ROTATION_VECTOR || config.getSensorId() == Sensor.TYPE_GAME_ROTATION_VECTOR;
     }
 
     /**
-     * Determines whether or not the phone started
-     * flat on a table and ended held up to the ear.
-     * Looks at packets in the first X ms and last X ms,
-     * calculates the average of the accelerometer significant axis' (Z axis for flat on table, Y for held up to ear).
-     * Note: Clears the buffer of packets.
-     *
-     * @return true if conditions were met for a simple call answer motion.
+     * Hands a sample, or one sensor's part of a resampled frame, to the session, the feature extractor and the classifier.
      */
-    public boolean isSimpleCallAnswerMotion() {
-        if (packets != null && packets.size() > 0) {
-            final long EVENT_WINDOW = 1000; // milliseconds
-
-            final float TABLE_Z_THRESHOLD = 3.7f;
-            final float TABLE_Z_DRIFT = .75f;
-            final float EAR_Y_THRESHOLD = 2.5f;
-            final float EAR_Y_DRIFT = .75f;
-
-            int length = packets.size();
-            Date start = packets.get(0).date;
-            Date end = (length - 1 > 0) ? packets.get(length - 1).date : null;
-            if (end == null) return false;
-
-            float[] startAvgAccelerometer = new float[3];
-            float[] endAvgAccelerometer = new float[3];
-            int lo = 1, hi = length - 1;
-            int loCount = 0, hiCount = 0;
-            boolean isFinishedLo = false;
-            boolean isFinishedHi = false;
-            while (lo < hi || (!isFinishedLo && !isFinishedHi)) {
-                RawSensorCapture.SensorDataPacket loPacket = packets.get(lo);
-                RawSensorCapture.SensorDataPacket hiPacket = packets.get(hi);
-                Date loTimestamp = loPacket.date;
-                Date hiTimestamp = hiPacket.date;
-                if (start.getTime() + EVENT_WINDOW > loTimestamp.getTime()) {
-                    startAvgAccelerometer[0] += Math.abs(loPacket.values[0]);
-                    startAvgAccelerometer[1] += Math.abs(loPacket.values[1]);
-                    startAvgAccelerometer[2] += Math.abs(loPacket.values[2]);
-                    loCount++;
-                } else {
-                    isFinishedLo = true;
-                }
+    private void consumeSample(SensorDataPacket packet) {
+        if (isWritingSamples) {
+            if (session != null) {
+                session.append(packet);
+            } else {
+                streamSample(packet);
+            }
+        }
+        if (featureExtractor != null) {
+            featureExtractor.onSample(packet);
+        }
+        motionDetector.onSample(packet);
+    }
 
-                if (end.getTime() - EVENT_WINDOW < hiTimestamp.getTime()) {
-                    endAvgAccelerometer[0] += Math.abs(hiPacket.values[0]);
-                    endAvgAccelerometer[1] += Math.abs(hiPacket.values[1]);
-                    endAvgAccelerometer[2] += Math.abs(hiPacket.values[2]);
-                    hiCount++;
-                } else {
-                    isFinishedHi = true;
-                }
-                lo++;
-                hi--;
+    private void recordSample(SensorDataPacket packet) {
+        MetricsRegistry.Counter counter = sampleCounters.get(packet.sensorId);
+        if (counter != null) {
+            counter.increment();
+        }
+        consumedCount++;
+        CaptureStats captureStats = rawSensorCapture.getCaptureStats();
+        queueDepth.set(captureStats.getEmittedCount() - captureStats.getDroppedCount() - consumedCount);
+        if (packet.callbackNanos != 0) {
+            callbackLatency.record((System.nanoTime() - packet.callbackNanos) / 1000);
+        }
+        int interval = sampleLogInterval;
+        if (interval > 0 && consumedCount % interval == 0) {
+            Log.d(getClass().getSimpleName(), String.format("Received packet { type: %d, data: %s, date: %s",
+                    packet.sensorId,
+                    Arrays.toString(Arrays.copyOf(packet.values, packet.valueCount)),
+                    new Date(EventTime.toWallClockMillis(clockAnchor, packet.timestamp))));
+        }
+    }
+
+    private void openSessionWriter() {
+        clockAnchor = EventTime.anchor(System.currentTimeMillis(), SystemClock.elapsedRealtimeNanos());
+        partialSessionFile = new File(context.getFilesDir(),
+                String.format(Locale.getDefault(), "ID_SENSOR_%d%s", clockAnchor.getWallClockMillis(), SessionPersistenceQueue.PARTIAL_SUFFIX));
+        lastCheckpointTimestamp = 0;
+        reportedBytes = 0;
+        try {
+            ColumnarSessionWriter writer = ColumnarSessionWriter.open(partialSessionFile);
+            sessionWriter = writer;
+            writer.writeClockAnchor(clockAnchor);
+            if (resampler != null) {
+                writer.writeFramePeriod(resampler.getFramePeriod());
             }
-            startAvgAccelerometer[0] /= loCount;
-            startAvgAccelerometer[1] /= loCount;
-            startAvgAccelerometer[2] /= loCount;
+            if (featureExtractor != null) {
+                writer.writeFeatureConfig(featureExtractor.getConfig());
+            }
+            // Sensor dictionary goes first so readers can name samples as they stream
+            for (SensorConfig config : rawSensorCapture.getSensorConfigs()) {
+                sessionWriter.writeSensorInfo(UnifyChallengeProto.SensorInfo.newBuilder()
+                        .setSensorId(config.getSensorId())
+                        .setName(config.getName())
+                        .setVendor(config.getVendor())
+                        .setResolution(config.getResolution())
+                        .setMaximumRange(config.getMaximumRange())
+                        .setSamplingPeriodUs(config.getSamplingPeriodUs())
+                        .setMaxReportLatencyUs(config.getMaxReportLatencyUs()).build());
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            discardPartialSession();
+        }
+    }
 
-            endAvgAccelerometer[0] /= hiCount;
-            endAvgAccelerometer[1] /= hiCount;
-            endAvgAccelerometer[2] /= hiCount;
+    private void streamSample(SensorDataPacket packet) {
+        if (sessionWriter == null) return;
+        try {
+            sessionWriter.writeSample(packet);
+            checkpoint(packet.timestamp);
+        } catch (IOException e) {
+            e.printStackTrace();
+            discardPartialSession();
+        }
+    }
 
-            return startAvgAccelerometer[2] > TABLE_Z_THRESHOLD - TABLE_Z_DRIFT
-                    && startAvgAccelerometer[2] < TABLE_Z_THRESHOLD + TABLE_Z_DRIFT
-                    && endAvgAccelerometer[1] > EAR_Y_THRESHOLD - EAR_Y_DRIFT
-                    && endAvgAccelerometer[1] < EAR_Y_THRESHOLD + EAR_Y_DRIFT;
+    private void checkpoint(long timestamp) throws IOException {
+        if (timestamp - lastCheckpointTimestamp >= CHECKPOINT_INTERVAL_NS) {
+            sessionWriter.sync();
+            lastCheckpointTimestamp = timestamp;
+            reportBytesWritten();
         }
-        return false;
     }
 
-    /**
-     * Builds a protobuf summation of sensor data + timestamps and then writes to disk.
-     *
-     * @throws IOException
-     */
-    public void writeSessionToDisk() throws IOException {
-        if (packets != null && packets.size() > 0) {
-            List<UnifyChallengeProto.SensorData> sensorData = new ArrayList<>();
-            for (RawSensorCapture.SensorDataPacket packet : packets) {
-                List<Float> values = Arrays.asList(packet.values);
-                UnifyChallengeProto.SensorData data = UnifyChallengeProto.SensorData
-                        .newBuilder().addAllSensorValues(values)
-                        .setSensorType(packet.sensorType)
-                        .setTimestamp(packet.date.getTime()).build();
-                sensorData.add(data);
-            }
-            UnifyChallengeProto.SensorDataCollection collection = UnifyChallengeProto.SensorDataCollection.newBuilder().addAllSensorData(sensorData).build();
-            File path = context.getFilesDir();
-            File file = new File(path, String.format(Locale.getDefault(), "ID_SENSOR_%d", System.currentTimeMillis()));
-            try (FileOutputStream stream = new FileOutputStream(file)) {
-                collection.writeTo(stream);
-            } catch (FileNotFoundException e) {
+    private void reportBytesWritten() {
+        long written = sessionWriter.getBytesWritten();
+        bytesWritten.add(written - reportedBytes);
+        reportedBytes = written;
+    }
+
+    private void discardPartialSession() {
+        if (sessionWriter != null) {
+            reportBytesWritten();
+            try {
+                sessionWriter.close();
+            } catch (IOException e) {
                 e.printStackTrace();
             }
-            Log.d(getClass().getSimpleName(), String.format("Wrote session to filename: %s in directory: %s", file.getName(), file.getAbsolutePath()));
-            packets.clear();
+            sessionWriter = null;
+        }
+        if (partialSessionFile != null && partialSessionFile.exists() && !partialSessionFile.delete()) {
+            Log.w(getClass().getSimpleName(), String.format("Couldn't delete %s", partialSessionFile.getName()));
+        }
+        partialSessionFile = null;
+    }
+
+    private void onSessionComplete() {
+        Log.d(getClass().getSimpleName(), String.format("Capture stats: %s", rawSensorCapture.getCaptureStats()));
+        if (resampler != null) {
+            resampler.flush();
+            Log.d(getClass().getSimpleName(), String.format("Resampled into %d frames, %d with held values, %d samples dropped",
+                    resampler.getFrameCount(), resampler.getHeldFrameCount(), resampler.getDroppedSampleCount()));
+            resampler = null;
         }
+        if (featureExtractor != null) {
+            featureExtractor.flush();
+            Log.d(getClass().getSimpleName(), String.format("Extracted %d feature windows", featureExtractor.getWindowCount()));
+            featureExtractor = null;
+        }
+        if (session != null) {
+            Log.d(getClass().getSimpleName(), String.format("Retained %d of %d samples", session.size(), session.getReceivedCount()));
+        }
+        boolean isSimpleCallAnswerMotion = motionDetector.isSimpleCallAnswerMotion();
+        lastSessionResult = isSimpleCallAnswerMotion;
+        Log.d(getClass().getSimpleName(), String.format("isSimpleCallAnswerMotion: %b", isSimpleCallAnswerMotion));
+        if (isSimpleCallAnswerMotion && sessionWriter != null) {
+            reportBytesWritten();
+            persistenceQueue.enqueue(sessionWriter, partialSessionFile, session);
+            sessionWriter = null;
+            partialSessionFile = null;
+        } else {
+            discardPartialSession();
+        }
+        session = null;
+    }
+
+    /**
+     * @return index of persisted sessions, query it off the main thread.
+     */
+    public SessionCatalog getSessionCatalog() {
+        return catalog;
+    }
+
+    /**
+     * Determines whether or not the phone started
+     * flat on a table and ended held up to the ear.
+     * Classification happens incrementally as samples arrive, see @see {@link CallAnswerMotionDetector}.
+     * Safe to call from any thread.
+     *
+     * @return true if conditions were met for a simple call answer motion in the most recently completed session.
+     */
+    public boolean isSimpleCallAnswerMotion() {
+        return lastSessionResult;
     }
 }
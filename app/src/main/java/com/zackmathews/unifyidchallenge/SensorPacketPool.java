@@ -0,0 +1,72 @@
+package com.zackmathews.unifyidchallenge;
+
+/**
+ * Fixed size ring of preallocated @see {@link SensorDataPacket} slots.
+ * Free slots are handed out from the head of the ring and recycled packets are appended to the tail,
+ * so once the ring is warm capturing a sample doesn't allocate.
+ * <p>
+ * If every slot is in flight (consumer is behind) a standalone packet is allocated instead
+ * and counted in @see {@link #getMissCount()}. Once recycled those packets refill the ring.
+ */
+public class SensorPacketPool {
+    private final SensorDataPacket[] ring;
+    private int head;
+    private int freeCount;
+    private long missCount;
+
+    public SensorPacketPool(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Pool capacity must be positive");
+        ring = new SensorDataPacket[capacity];
+        for (int i = 0; i < capacity; i++) {
+            SensorDataPacket packet = new SensorDataPacket(this);
+            packet.isInPool = true;
+            ring[i] = packet;
+        }
+        freeCount = capacity;
+    }
+
+    /**
+     * @return a free packet from the ring, or a new one if the ring is exhausted.
+     */
+    public synchronized SensorDataPacket obtain() {
+        if (freeCount == 0) {
+            missCount++;
+            return new SensorDataPacket(this);
+        }
+        SensorDataPacket packet = ring[head];
+        ring[head] = null;
+        head = (head + 1) % ring.length;
+        freeCount--;
+        packet.isInPool = false;
+        return packet;
+    }
+
+    synchronized void release(SensorDataPacket packet) {
+        if (packet.isInPool) {
+            throw new IllegalStateException("Packet was already recycled");
+        }
+        if (freeCount == ring.length) {
+            // Ring is full, let the extra packet be collected
+            return;
+        }
+        packet.isInPool = true;
+        ring[(head + freeCount) % ring.length] = packet;
+        freeCount++;
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    public synchronized int getFreeCount() {
+        return freeCount;
+    }
+
+    /**
+     * @return number of times @see {@link #obtain()} had to allocate because no slot was free.
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+}
@@ -0,0 +1,443 @@
+package com.zackmathews.unifyidchallenge;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming stage that aligns several sensors onto one fixed rate timeline.
+ * <p>
+ * Sensors report interleaved, at their own jittery rates, and batched sensors deliver bursts out of step with each other.
+ * The resampler keeps the recent samples of each channel in a preallocated ring and emits a frame every frame period,
+ * on a grid of multiples of the period, with every channel's value interpolated at the frame's time: linearly, or with
+ * SLERP for orientation quaternions. A frame is emitted as soon as every channel has a sample at or after its time.
+ * If a channel lags more than the max lookahead behind the newest sample, frames are emitted anyway and that channel
+ * holds its latest value, so a stalled sensor delays frames by at most the lookahead.
+ * <p>
+ * Frames are written into a single preallocated array handed to the @see {@link Listener}, channels are laid out
+ * back to back in the order they were added, see @see {@link #getChannelOffset(int)}. Nothing is allocated per sample
+ * or per frame. Timestamps are sensor event time in nanoseconds, see @see {@link EventTime}.
+ * Not thread safe, feed it from a single thread. To instantiate use @see {@link Builder}.
+ */
+public class SensorResampler {
+    public static final int INTERPOLATE_LINEAR = 0;
+    /**
+     * Spherical interpolation of the first four values as an x, y, z, w quaternion, e.g. a rotation vector.
+     * Values past the quaternion are interpolated linearly.
+     */
+    public static final int INTERPOLATE_SLERP = 1;
+    public static final int DEFAULT_CHANNEL_CAPACITY = 256;
+    // Below this angle between quaternions SLERP degenerates, a normalized linear interpolation is as accurate
+    private static final double SLERP_THRESHOLD = .9995;
+
+    /**
+     * Notified of every frame, in time order.
+     */
+    public interface Listener {
+        /**
+         * @param timestamp frame time in nanoseconds
+         * @param frame     every channel's values, reused for the next frame so copy anything you want to keep
+         */
+        void onFrame(long timestamp, float[] frame);
+    }
+
+    private static class Channel {
+        final int sensorId;
+        final int stride;
+        final int interpolation;
+        final int offset;
+        final long[] timestamps;
+        final float[] values;
+        int head;
+        int count;
+
+        Channel(int sensorId, int stride, int interpolation, int offset, int capacity) {
+            this.sensorId = sensorId;
+            this.stride = stride;
+            this.interpolation = interpolation;
+            this.offset = offset;
+            timestamps = new long[capacity];
+            values = new float[capacity * stride];
+        }
+
+        int index(int i) {
+            return (head + i) % timestamps.length;
+        }
+
+        long latest() {
+            return timestamps[index(count - 1)];
+        }
+    }
+
+    private final Channel[] channels;
+    private final long framePeriod;
+    private final long maxLookahead;
+    private final float[] frame;
+    private Listener listener;
+
+    private long nextFrameTime;
+    private boolean hasStarted;
+    // Newest timestamp seen on any channel
+    private long watermark;
+    private long frameCount;
+    private long heldFrameCount;
+    private long droppedSampleCount;
+
+    private SensorResampler(Builder builder) {
+        channels = new Channel[builder.sensorIds.size()];
+        int offset = 0;
+        for (int i = 0; i < channels.length; i++) {
+            channels[i] = new Channel(builder.sensorIds.get(i), builder.strides.get(i), builder.interpolations.get(i),
+                    offset, builder.channelCapacity);
+            offset += channels[i].stride;
+        }
+        framePeriod = builder.framePeriod;
+        maxLookahead = builder.maxLookahead;
+        frame = new float[offset];
+        listener = builder.listener;
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Clears all state for a new session.
+     */
+    public void reset() {
+        for (Channel channel : channels) {
+            channel.head = 0;
+            channel.count = 0;
+        }
+        hasStarted = false;
+        frameCount = 0;
+        heldFrameCount = 0;
+        droppedSampleCount = 0;
+    }
+
+    /**
+     * Feeds a sample into the resampler.
+     *
+     * @param packet
+     */
+    public void onSample(SensorDataPacket packet) {
+        onSample(packet.sensorId, packet.timestamp, packet.values, packet.valueCount);
+    }
+
+    /**
+     * Feeds a sample into the resampler and emits every frame that became complete.
+     * Samples of sensors without a channel are ignored, samples older than their channel's latest one are dropped.
+     *
+     * @param sensorId   sensor type of the sample
+     * @param timestamp  sample event time in nanoseconds
+     * @param values     sample values
+     * @param valueCount number of valid entries in values
+     */
+    public void onSample(int sensorId, long timestamp, float[] values, int valueCount) {
+        Channel channel = channelFor(sensorId);
+        if (channel == null) return;
+        if (channel.count > 0 && timestamp <= channel.latest()) {
+            droppedSampleCount++;
+            return;
+        }
+        if (channel.count == channel.timestamps.length) {
+            // Lookahead is too long for the capacity, the oldest sample has to go before frames reach it
+            channel.head = channel.index(1);
+            channel.count--;
+            droppedSampleCount++;
+        }
+        int index = channel.index(channel.count++);
+        channel.timestamps[index] = timestamp;
+        int copied = Math.min(valueCount, channel.stride);
+        System.arraycopy(values, 0, channel.values, index * channel.stride, copied);
+        for (int i = copied; i < channel.stride; i++) {
+            channel.values[index * channel.stride + i] = 0f;
+        }
+        if (!hasStarted || timestamp > watermark) {
+            watermark = timestamp;
+        }
+        if (!hasStarted) {
+            hasStarted = true;
+            // Frames sit on multiples of the period, so sessions resampled at the same rate line up
+            nextFrameTime = ceilToPeriod(timestamp);
+        }
+        emitFrames(false);
+    }
+
+    /**
+     * Emits the remaining frames up to the newest sample, holding the latest value of channels that lag behind.
+     * Call at the end of a session.
+     */
+    public void flush() {
+        if (hasStarted) {
+            emitFrames(true);
+        }
+    }
+
+    private void emitFrames(boolean isFlushing) {
+        while (true) {
+            long time = nextFrameTime;
+            boolean isTimedOut = isFlushing ? time <= watermark : time <= watermark - maxLookahead;
+            if (!isTimedOut && !isComplete(time)) return;
+            boolean isHeld = false;
+            for (Channel channel : channels) {
+                isHeld |= !interpolate(channel, time);
+            }
+            if (isHeld) {
+                heldFrameCount++;
+            }
+            frameCount++;
+            nextFrameTime += framePeriod;
+            if (listener != null) {
+                listener.onFrame(time, frame);
+            }
+        }
+    }
+
+    private boolean isComplete(long time) {
+        for (Channel channel : channels) {
+            if (channel.count == 0 || channel.latest() < time) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Writes the channel's value at the given time into the frame.
+     *
+     * @return false if the value was held or padded instead of interpolated.
+     */
+    private boolean interpolate(Channel channel, long time) {
+        if (channel.count == 0) {
+            for (int i = 0; i < channel.stride; i++) {
+                frame[channel.offset + i] = 0f;
+            }
+            return false;
+        }
+        // Samples before the one at or before this frame aren't needed for this or any later frame
+        while (channel.count > 1 && channel.timestamps[channel.index(1)] <= time) {
+            channel.head = channel.index(1);
+            channel.count--;
+        }
+        int a = channel.index(0);
+        long timeA = channel.timestamps[a];
+        if (channel.count == 1 || timeA >= time) {
+            // Hold the only sample, or the first one for frames before the channel started
+            System.arraycopy(channel.values, a * channel.stride, frame, channel.offset, channel.stride);
+            return timeA == time;
+        }
+        int b = channel.index(1);
+        float fraction = (float) ((double) (time - timeA) / (channel.timestamps[b] - timeA));
+        int first = 0;
+        if (channel.interpolation == INTERPOLATE_SLERP && channel.stride >= 4) {
+            slerp(channel.values, a * channel.stride, b * channel.stride, fraction, frame, channel.offset);
+            first = 4;
+        }
+        for (int i = first; i < channel.stride; i++) {
+            float valueA = channel.values[a * channel.stride + i];
+            frame[channel.offset + i] = valueA + (channel.values[b * channel.stride + i] - valueA) * fraction;
+        }
+        return true;
+    }
+
+    /**
+     * Interpolates between the x, y, z, w quaternions at offsets a and b along the shorter arc.
+     */
+    static void slerp(float[] values, int a, int b, float fraction, float[] out, int offset) {
+        double dot = 0;
+        for (int i = 0; i < 4; i++) {
+            dot += values[a + i] * values[b + i];
+        }
+        // q and -q are the same orientation, interpolate towards whichever is closer
+        double sign = dot < 0 ? -1 : 1;
+        dot *= sign;
+        double weightA;
+        double weightB;
+        if (dot > SLERP_THRESHOLD) {
+            weightA = 1 - fraction;
+            weightB = fraction;
+        } else {
+            double theta = Math.acos(dot);
+            double sinTheta = Math.sin(theta);
+            weightA = Math.sin((1 - fraction) * theta) / sinTheta;
+            weightB = Math.sin(fraction * theta) / sinTheta;
+        }
+        weightB *= sign;
+        double norm = 0;
+        for (int i = 0; i < 4; i++) {
+            double value = weightA * values[a + i] + weightB * values[b + i];
+            out[offset + i] = (float) value;
+            norm += value * value;
+        }
+        norm = Math.sqrt(norm);
+        if (norm > 0) {
+            for (int i = 0; i < 4; i++) {
+                out[offset + i] /= norm;
+            }
+        }
+    }
+
+    private long ceilToPeriod(long timestamp) {
+        long remainder = timestamp % framePeriod;
+        if (remainder == 0) return timestamp;
+        return remainder > 0 ? timestamp - remainder + framePeriod : timestamp - remainder;
+    }
+
+    private Channel channelFor(int sensorId) {
+        for (Channel channel : channels) {
+            if (channel.sensorId == sensorId) return channel;
+        }
+        return null;
+    }
+
+    /**
+     * @param sensorId
+     * @return index of the sensor's first value in a frame, or -1 if the sensor has no channel.
+     */
+    public int getChannelOffset(int sensorId) {
+        Channel channel = channelFor(sensorId);
+        return channel != null ? channel.offset : -1;
+    }
+
+    /**
+     * @param sensorId
+     * @return values per frame of the sensor's channel, or 0 if the sensor has no channel.
+     */
+    public int getChannelStride(int sensorId) {
+        Channel channel = channelFor(sensorId);
+        return channel != null ? channel.stride : 0;
+    }
+
+    /**
+     * @return sensor ids of the channels, in frame order.
+     */
+    public int[] getSensorIds() {
+        int[] sensorIds = new int[channels.length];
+        for (int i = 0; i < channels.length; i++) {
+            sensorIds[i] = channels[i].sensorId;
+        }
+        return sensorIds;
+    }
+
+    /**
+     * @return values per frame, across all channels.
+     */
+    public int getFrameWidth() {
+        return frame.length;
+    }
+
+    /**
+     * @return frame period in nanoseconds.
+     */
+    public long getFramePeriod() {
+        return framePeriod;
+    }
+
+    /**
+     * @return frames emitted since the last reset.
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * @return frames in which at least one channel held a value instead of interpolating it.
+     */
+    public long getHeldFrameCount() {
+        return heldFrameCount;
+    }
+
+    /**
+     * @return samples dropped for arriving out of order or overflowing their channel.
+     */
+    public long getDroppedSampleCount() {
+        return droppedSampleCount;
+    }
+
+    /**
+     * Builder for creating an instance of @see {@link SensorResampler}.
+     * A frame period and at least one channel are required.
+     */
+    public static class Builder {
+        private final List<Integer> sensorIds = new ArrayList<>();
+        private final List<Integer> strides = new ArrayList<>();
+        private final List<Integer> interpolations = new ArrayList<>();
+        private long framePeriod;
+        private long maxLookahead;
+        private int channelCapacity = DEFAULT_CHANNEL_CAPACITY;
+        private Listener listener;
+
+        /**
+         * @param framePeriod time between frames in nanoseconds
+         * @return this builder
+         */
+        public Builder setFramePeriod(long framePeriod) {
+            if (framePeriod <= 0)
+                throw new IllegalArgumentException("Frame period must be positive");
+            this.framePeriod = framePeriod;
+            return this;
+        }
+
+        /**
+         * Sets how far behind the newest sample a channel may lag before frames are emitted without it.
+         * Should cover the sensors' batching latency. Defaults to 0, where frames never wait.
+         *
+         * @param maxLookahead in nanoseconds
+         * @return this builder
+         */
+        public Builder setMaxLookahead(long maxLookahead) {
+            if (maxLookahead < 0)
+                throw new IllegalArgumentException("Max lookahead can't be negative");
+            this.maxLookahead = maxLookahead;
+            return this;
+        }
+
+        /**
+         * Sets how many samples each channel keeps. It has to hold a channel's samples over the max lookahead,
+         * older samples are dropped. Defaults to @see {@link #DEFAULT_CHANNEL_CAPACITY}.
+         *
+         * @param capacity
+         * @return this builder
+         */
+        public Builder setChannelCapacity(int capacity) {
+            if (capacity < 2)
+                throw new IllegalArgumentException("Channels need room for at least two samples");
+            channelCapacity = capacity;
+            return this;
+        }
+
+        /**
+         * Adds a sensor to the frame.
+         *
+         * @param sensorId      e.g. @see {@link android.hardware.Sensor#TYPE_ACCELEROMETER}
+         * @param stride        values of the sensor kept per frame, samples are truncated or zero padded to match
+         * @param interpolation @see {@link #INTERPOLATE_LINEAR} or @see {@link #INTERPOLATE_SLERP}
+         * @return this builder
+         */
+        public Builder addChannel(int sensorId, int stride, int interpolation) {
+            if (stride <= 0)
+                throw new IllegalArgumentException("Stride must be positive");
+            if (interpolation != INTERPOLATE_LINEAR && interpolation != INTERPOLATE_SLERP)
+                throw new IllegalArgumentException(String.format("Unknown interpolation %d", interpolation));
+            if (interpolation == INTERPOLATE_SLERP && stride < 4)
+                throw new IllegalArgumentException("SLERP needs a stride of at least 4");
+            if (sensorIds.contains(sensorId))
+                throw new IllegalArgumentException(String.format("Sensor %d already has a channel", sensorId));
+            sensorIds.add(sensorId);
+            strides.add(stride);
+            interpolations.add(interpolation);
+            return this;
+        }
+
+        public Builder setListener(Listener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        public SensorResampler build() {
+            if (framePeriod == 0)
+                throw new IllegalStateException("A frame period must be set");
+            if (sensorIds.isEmpty())
+                throw new IllegalStateException("At least one channel must be added");
+            return new SensorResampler(this);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.zackmathews.unifyidchallenge;
+
+/**
+ * Columnar (struct of arrays) store for a capture session.
+ * Each sensor gets its own @see {@link Column} of growable primitive arrays for timestamps and values,
+ * so a sample costs 8 bytes plus 4 bytes per axis instead of a packet, a Date and boxed Floats.
+ * <p>
+ * Columns are read in place through their accessors, nothing is copied out when classifying or persisting.
+ * <p>
+ * Created with @see {@link #windowed(long, long)} the buffer only keeps the opening window and a ring of the
+ * most recent samples for each sensor, so a long call uses the same bounded memory as a short one.
+ * Not thread safe, a session is expected to be filled from a single consumer thread.
+ */
+public class SensorSessionBuffer {
+    private static final int INITIAL_CAPACITY = 256;
+    private static final long KEEP_ALL = -1;
+
+    /**
+     * Samples for a single sensor, in arrival order.
+     * In windowed mode the column holds the frozen opening window followed by a ring of the most recent samples.
+     */
+    public static class Column {
+        private final int sensorId;
+        private final int stride;
+        private final long headWindow;
+        private final long tailWindow;
+
+        // Opening samples, or every sample when not windowed
+        private long[] timestamps = new long[INITIAL_CAPACITY];
+        private float[] values;
+        private int headSize;
+        private boolean isHeadClosed;
+
+        // Trailing window ring, only used once the opening window closes
+        private long[] tailTimestamps;
+        private float[] tailValues;
+        private int tailStart;
+        private int tailSize;
+        private long discardedCount;
+
+        Column(int sensorId, int stride, long headWindow, long tailWindow) {
+            this.sensorId = sensorId;
+            this.stride = stride;
+            this.headWindow = headWindow;
+            this.tailWindow = tailWindow;
+            values = new float[INITIAL_CAPACITY * stride];
+        }
+
+        void append(long timestamp, float[] source, int count) {
+            if (!isHeadClosed) {
+                if (headWindow == KEEP_ALL || headSize == 0 || timestamp < timestamps[0] + headWindow) {
+                    if (headSize == timestamps.length) {
+                        growHead();
+                    }
+                    timestamps[headSize] = timestamp;
+                    copyValues(source, count, values, headSize * stride);
+                    headSize++;
+                    return;
+                }
+                isHeadClosed = true;
+                tailTimestamps = new long[INITIAL_CAPACITY];
+                tailValues = new float[INITIAL_CAPACITY * stride];
+            }
+            while (tailSize > 0 && tailTimestamps[tailStart] <= timestamp - tailWindow) {
+                tailStart = (tailStart + 1) % tailTimestamps.length;
+                tailSize--;
+                discardedCount++;
+            }
+            if (tailSize == tailTimestamps.length) {
+                growTail();
+            }
+            int slot = (tailStart + tailSize) % tailTimestamps.length;
+            tailTimestamps[slot] = timestamp;
+            copyValues(source, count, tailValues, slot * stride);
+            tailSize++;
+        }
+
+        private void copyValues(float[] source, int count, float[] target, int offset) {
+            int copied = Math.min(count, stride);
+            System.arraycopy(source, 0, target, offset, copied);
+            for (int i = copied; i < stride; i++) {
+                target[offset + i] = 0f;
+            }
+        }
+
+        private void growHead() {
+            int capacity = timestamps.length * 2;
+            long[] newTimestamps = new long[capacity];
+            System.arraycopy(timestamps, 0, newTimestamps, 0, headSize);
+            float[] newValues = new float[capacity * stride];
+            System.arraycopy(values, 0, newValues, 0, headSize * stride);
+            timestamps = newTimestamps;
+            values = newValues;
+        }
+
+        // The ring only grows until it covers the trailing window at the sensor's rate
+        private void growTail() {
+            int capacity = tailTimestamps.length * 2;
+            long[] newTimestamps = new long[capacity];
+            float[] newValues = new float[capacity * stride];
+            for (int i = 0; i < tailSize; i++) {
+                int slot = (tailStart + i) % tailTimestamps.length;
+                newTimestamps[i] = tailTimestamps[slot];
+                System.arraycopy(tailValues, slot * stride, newValues, i * stride, stride);
+            }
+            tailTimestamps = newTimestamps;
+            tailValues = newValues;
+            tailStart = 0;
+        }
+
+        /**
+         * @return the id of the sensor, see @see {@link android.hardware.Sensor#getType()}.
+         */
+        public int getSensorId() {
+            return sensorId;
+        }
+
+        /**
+         * @return number of values stored per sample.
+         */
+        public int getStride() {
+            return stride;
+        }
+
+        /**
+         * @return number of retained samples, opening window first.
+         */
+        public int size() {
+            return headSize + tailSize;
+        }
+
+        /**
+         * @return samples dropped between the opening and trailing windows.
+         */
+        public long getDiscardedCount() {
+            return discardedCount;
+        }
+
+        public long getTimestamp(int index) {
+            if (index < headSize) return timestamps[index];
+            return tailTimestamps[tailSlot(index)];
+        }
+
+        public float getValue(int index, int axis) {
+            if (index < headSize) return values[index * stride + axis];
+            return tailValues[tailSlot(index) * stride + axis];
+        }
+
+        private int tailSlot(int index) {
+            if (index >= headSize + tailSize)
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size());
+            return (tailStart + index - headSize) % tailTimestamps.length;
+        }
+
+        long footprintBytes() {
+            long bytes = timestamps.length * 8L + values.length * 4L;
+            if (tailTimestamps != null) {
+                bytes += tailTimestamps.length * 8L + tailValues.length * 4L;
+            }
+            return bytes;
+        }
+    }
+
+    private final long headWindow;
+    private final long tailWindow;
+    private Column[] columns = new Column[0];
+    private int received;
+
+    /**
+     * Creates a buffer that keeps every sample of the session.
+     */
+    public SensorSessionBuffer() {
+        this(KEEP_ALL, KEEP_ALL);
+    }
+
+    private SensorSessionBuffer(long headWindow, long tailWindow) {
+        this.headWindow = headWindow;
+        this.tailWindow = tailWindow;
+    }
+
+    /**
+     * Creates a buffer that keeps the first headWindow and the last tailWindow of samples for each sensor,
+     * anything in between is discarded as the session goes.
+     *
+     * @param headWindow opening context to keep, in timestamp units (nanoseconds of event time, see @see {@link EventTime})
+     * @param tailWindow trailing context to keep, in timestamp units
+     * @return
+     */
+    public static SensorSessionBuffer windowed(long headWindow, long tailWindow) {
+        if (headWindow <= 0 || tailWindow <= 0)
+            throw new IllegalArgumentException("Capture windows must be positive");
+        return new SensorSessionBuffer(headWindow, tailWindow);
+    }
+
+    /**
+     * @return true if only the opening and trailing windows are retained.
+     */
+    public boolean isWindowed() {
+        return headWindow != KEEP_ALL;
+    }
+
+    /**
+     * Appends the sample held by the packet. The packet can be recycled as soon as this returns.
+     *
+     * @param packet
+     */
+    public void append(SensorDataPacket packet) {
+        Column column = getColumnForSensor(packet.sensorId);
+        if (column == null) {
+            column = addColumn(packet.sensorId, packet.valueCount);
+        }
+        column.append(packet.timestamp, packet.values, packet.valueCount);
+        received++;
+    }
+
+    private Column addColumn(int sensorId, int stride) {
+        Column column = new Column(sensorId, Math.max(stride, 1), headWindow, tailWindow);
+        Column[] newColumns = new Column[columns.length + 1];
+        System.arraycopy(columns, 0, newColumns, 0, columns.length);
+        newColumns[columns.length] = column;
+        columns = newColumns;
+        return column;
+    }
+
+    /**
+     * @param sensorId
+     * @return the column for the given sensor, or null if no samples were received from it.
+     */
+    public Column getColumnForSensor(int sensorId) {
+        for (Column column : columns) {
+            if (column.sensorId == sensorId) return column;
+        }
+        return null;
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    public Column getColumn(int index) {
+        return columns[index];
+    }
+
+    /**
+     * @return total number of samples received across all sensors, including discarded ones.
+     */
+    public int getReceivedCount() {
+        return received;
+    }
+
+    /**
+     * @return total number of retained samples across all sensors.
+     */
+    public int size() {
+        int size = 0;
+        for (Column column : columns) {
+            size += column.size();
+        }
+        return size;
+    }
+
+    /**
+     * @return approximate heap used by the backing arrays in bytes.
+     */
+    public long getFootprintBytes() {
+        long bytes = 0;
+        for (Column column : columns) {
+            bytes += column.footprintBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Drops all samples and columns.
+     */
+    public void clear() {
+        columns = new Column[0];
+        received = 0;
+    }
+}
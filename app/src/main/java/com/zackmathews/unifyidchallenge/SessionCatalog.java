@@ -0,0 +1,381 @@
+package com.zackmathews.unifyidchallenge;
+
+import android.util.Log;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Index of persisted sessions, so finding a session doesn't mean listing the files directory and parsing ID_SENSOR_
+ * files. Each entry records when the session was captured, how many samples each sensor contributed, how many feature
+ * windows it holds, how the file is stored and whether it has been uploaded.
+ * <p>
+ * The catalog is an append-only file of length delimited CatalogEntry records. A later record for a session replaces
+ * the earlier one, that's how upload state changes and deletions are recorded. The file is read on first use, a torn
+ * record at its end is cut off, and it is rewritten without replaced records once they outnumber live ones.
+ * <p>
+ * Thread safe. Every method may do I/O, keep them off the main thread.
+ */
+public class SessionCatalog {
+    private static final String SESSION_PREFIX = "ID_SENSOR_";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int MIN_RECORDS_TO_COMPACT = 64;
+
+    private final File file;
+    // Live entries by session name, in the order sessions were first recorded. Loaded on first use
+    private LinkedHashMap<String, UnifyChallengeProto.CatalogEntry> entries;
+    private int recordCount;
+
+    public SessionCatalog(@NonNull File file) {
+        this.file = file;
+    }
+
+    /**
+     * Records a newly persisted session, or replaces its entry.
+     *
+     * @param entry
+     * @throws IOException
+     */
+    public synchronized void add(@NonNull UnifyChallengeProto.CatalogEntry entry) throws IOException {
+        load();
+        append(entry);
+    }
+
+    /**
+     * Removes a session from the catalog, e.g. once retention deleted it.
+     *
+     * @param name
+     * @throws IOException
+     */
+    public synchronized void remove(@NonNull String name) throws IOException {
+        load();
+        if (!entries.containsKey(name)) return;
+        append(UnifyChallengeProto.CatalogEntry.newBuilder().setName(name).setIsDeleted(true).build());
+    }
+
+    /**
+     * Updates the upload state of sessions in the catalog, unknown sessions are ignored.
+     *
+     * @param names
+     * @param state
+     * @param batchId batch the sessions were packed into, or null
+     * @throws IOException
+     */
+    public synchronized void setUploadState(@NonNull List<String> names, UnifyChallengeProto.UploadState state, String batchId) throws IOException {
+        load();
+        for (String name : names) {
+            UnifyChallengeProto.CatalogEntry entry = entries.get(name);
+            if (entry == null) continue;
+            UnifyChallengeProto.CatalogEntry.Builder updated = entry.toBuilder().setUploadState(state);
+            if (batchId != null) {
+                updated.setBatchId(batchId);
+            } else {
+                updated.clearBatchId();
+            }
+            append(updated.build());
+        }
+    }
+
+    /**
+     * @param name
+     * @return the session's entry, or null if it isn't in the catalog.
+     * @throws IOException
+     */
+    public synchronized UnifyChallengeProto.CatalogEntry getEntry(@NonNull String name) throws IOException {
+        load();
+        return entries.get(name);
+    }
+
+    /**
+     * @return every session in the catalog, in the order they were recorded.
+     * @throws IOException
+     */
+    public synchronized List<UnifyChallengeProto.CatalogEntry> getEntries() throws IOException {
+        load();
+        return new ArrayList<>(entries.values());
+    }
+
+    /**
+     * @param state
+     * @return sessions in the given upload state, in the order they were recorded.
+     * @throws IOException
+     */
+    public synchronized List<UnifyChallengeProto.CatalogEntry> getEntries(UnifyChallengeProto.UploadState state) throws IOException {
+        load();
+        List<UnifyChallengeProto.CatalogEntry> matches = new ArrayList<>();
+        for (UnifyChallengeProto.CatalogEntry entry : entries.values()) {
+            if (entry.getUploadState() == state) {
+                matches.add(entry);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Adds sessions that were persisted before the catalog existed. Their files are read once to summarize them,
+     * encrypted sessions can't be read on the device and are only recorded with their size.
+     *
+     * @param directory
+     * @throws IOException
+     */
+    public synchronized void indexDirectory(@NonNull File directory) throws IOException {
+        load();
+        File[] sessions = directory.listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(File dir, String name) {
+                return name.startsWith(SESSION_PREFIX) && name.indexOf('.') == -1;
+            }
+        });
+        if (sessions == null) return;
+        Arrays.sort(sessions);
+        for (File session : sessions) {
+            if (!entries.containsKey(session.getName())) {
+                Log.d(getClass().getSimpleName(), String.format("Indexing %s", session.getName()));
+                append(summarize(session));
+            }
+        }
+    }
+
+    /**
+     * Builds an entry from the session file itself, as far as it can be read.
+     * The file's modification time stands in for when it was persisted.
+     *
+     * @param session
+     * @return
+     */
+    public static UnifyChallengeProto.CatalogEntry summarize(@NonNull File session) {
+        return summarizeFile(session).toBuilder().setPersistedAt(session.lastModified()).build();
+    }
+
+    private static UnifyChallengeProto.CatalogEntry summarizeFile(File session) {
+        Summary summary = new Summary();
+        byte[] magic = new byte[EncryptedOutputStream.MAGIC.length];
+        try (InputStream stream = new FileInputStream(session)) {
+            if (stream.read(magic) == magic.length && Arrays.equals(magic, EncryptedOutputStream.MAGIC)) {
+                summary.setEncrypted(true);
+                return summary.toEntry(session);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            return summary.toEntry(session);
+        }
+        try {
+            summary.readSamples(session);
+        } catch (IOException e) {
+            // Keeps what was read up to the damage
+            e.printStackTrace();
+        }
+        return summary.toEntry(session);
+    }
+
+    private void load() throws IOException {
+        if (entries != null) return;
+        LinkedHashMap<String, UnifyChallengeProto.CatalogEntry> loaded = new LinkedHashMap<>();
+        int records = 0;
+        int validLength = 0;
+        if (file.exists()) {
+            try (InputStream stream = new FileInputStream(file)) {
+                CodedInputStream input = CodedInputStream.newInstance(stream);
+                input.setSizeLimit(Integer.MAX_VALUE);
+                while (!input.isAtEnd()) {
+                    try {
+                        // A record cut between two of its fields would otherwise replace the entry without them
+                        apply(loaded, SessionStreamReader.readMessage(input, UnifyChallengeProto.CatalogEntry.parser()));
+                    } catch (InvalidProtocolBufferException e) {
+                        break;
+                    }
+                    records++;
+                    validLength = input.getTotalBytesRead();
+                }
+            }
+            if (validLength < file.length()) {
+                Log.w(getClass().getSimpleName(), String.format("Dropping %d bytes of torn records from %s", file.length() - validLength, file.getName()));
+                try (RandomAccessFile access = new RandomAccessFile(file, "rw")) {
+                    access.setLength(validLength);
+                }
+            }
+        }
+        entries = loaded;
+        recordCount = records;
+        if (recordCount >= MIN_RECORDS_TO_COMPACT && recordCount > 2 * entries.size()) {
+            compact();
+        }
+    }
+
+    private static void apply(LinkedHashMap<String, UnifyChallengeProto.CatalogEntry> entries, UnifyChallengeProto.CatalogEntry entry) {
+        if (entry.getIsDeleted()) {
+            entries.remove(entry.getName());
+        } else {
+            entries.put(entry.getName(), entry);
+        }
+    }
+
+    private void append(UnifyChallengeProto.CatalogEntry entry) throws IOException {
+        try (FileOutputStream stream = new FileOutputStream(file, true)) {
+            entry.writeDelimitedTo(stream);
+            stream.getFD().sync();
+        }
+        apply(entries, entry);
+        recordCount++;
+    }
+
+    /**
+     * Replaces the file with one that only holds live entries.
+     */
+    private void compact() throws IOException {
+        File tempFile = new File(file.getParentFile(), file.getName() + TEMP_SUFFIX);
+        try (FileOutputStream stream = new FileOutputStream(tempFile)) {
+            for (UnifyChallengeProto.CatalogEntry entry : entries.values()) {
+                entry.writeDelimitedTo(stream);
+            }
+            stream.getFD().sync();
+        }
+        if (!tempFile.renameTo(file))
+            throw new IOException(String.format("Couldn't rename %s to %s", tempFile.getName(), file.getName()));
+        Log.d(getClass().getSimpleName(), String.format("Compacted %d records to %d", recordCount, entries.size()));
+        recordCount = entries.size();
+    }
+
+    /**
+     * Collects a session's catalog entry while its samples are written.
+     */
+    public static class Summary {
+        private int[] sensorIds = new int[0];
+        private long[] sampleCounts = new long[0];
+        private long startTimestamp = Long.MAX_VALUE;
+        private long endTimestamp = Long.MIN_VALUE;
+        private UnifyChallengeProto.ClockAnchor clockAnchor;
+        private int version;
+        private int codec = -1;
+        private boolean isEncrypted;
+        private long featureWindowCount;
+
+        public void onSample(int sensorId, long timestamp) {
+            startTimestamp = Math.min(startTimestamp, timestamp);
+            endTimestamp = Math.max(endTimestamp, timestamp);
+            for (int i = 0; i < sensorIds.length; i++) {
+                if (sensorIds[i] == sensorId) {
+                    sampleCounts[i]++;
+                    return;
+                }
+            }
+            sensorIds = Arrays.copyOf(sensorIds, sensorIds.length + 1);
+            sampleCounts = Arrays.copyOf(sampleCounts, sampleCounts.length + 1);
+            sensorIds[sensorIds.length - 1] = sensorId;
+            sampleCounts[sampleCounts.length - 1] = 1;
+        }
+
+        /**
+         * Counts a feature window, sessions that only hold features span from their first to their last window.
+         *
+         * @param window
+         */
+        public void onFeatureWindow(UnifyChallengeProto.FeatureWindow window) {
+            startTimestamp = Math.min(startTimestamp, window.getStartTimestamp());
+            endTimestamp = Math.max(endTimestamp, window.getEndTimestamp());
+            featureWindowCount++;
+        }
+
+        /**
+         * Reads a plaintext session's samples and layout.
+         *
+         * @param session
+         * @throws IOException if the session can't be read, samples up to that point are kept
+         */
+        public void readSamples(@NonNull File session) throws IOException {
+            try (SessionReader reader = SessionReader.open(session)) {
+                version = reader.getVersion();
+                while (reader.next()) {
+                    onSample(reader.getSensorId(), reader.getTimestamp());
+                }
+                clockAnchor = reader.getClockAnchor();
+                for (UnifyChallengeProto.FeatureWindow window : reader.getFeatureWindows()) {
+                    onFeatureWindow(window);
+                }
+            }
+        }
+
+        /**
+         * Forgets the samples and feature windows seen so far, e.g. when writing them failed.
+         */
+        public void clearSamples() {
+            sensorIds = new int[0];
+            sampleCounts = new long[0];
+            startTimestamp = Long.MAX_VALUE;
+            endTimestamp = Long.MIN_VALUE;
+            featureWindowCount = 0;
+        }
+
+        /**
+         * @param clockAnchor the session's anchor, sample timestamps are recorded as wall clock time through it
+         */
+        public void setClockAnchor(UnifyChallengeProto.ClockAnchor clockAnchor) {
+            this.clockAnchor = clockAnchor;
+        }
+
+        /**
+         * @param version session layout, see @see {@link SessionReader#getVersion()}
+         */
+        public void setVersion(int version) {
+            this.version = version;
+        }
+
+        /**
+         * @param codec id of the codec chunks are compressed with, see @see {@link SessionCodecs}
+         */
+        public void setCodec(int codec) {
+            this.codec = codec;
+        }
+
+        public void setEncrypted(boolean isEncrypted) {
+            this.isEncrypted = isEncrypted;
+        }
+
+        /**
+         * @param session the persisted file
+         * @return a new, not yet uploaded, entry for the session.
+         */
+        public UnifyChallengeProto.CatalogEntry toEntry(@NonNull File session) {
+            UnifyChallengeProto.CatalogEntry.Builder entry = UnifyChallengeProto.CatalogEntry.newBuilder()
+                    .setName(session.getName())
+                    .setSizeBytes(session.length())
+                    .setIsEncrypted(isEncrypted)
+                    .setUploadState(UnifyChallengeProto.UploadState.NOT_UPLOADED)
+                    .setPersistedAt(System.currentTimeMillis());
+            if (startTimestamp <= endTimestamp) {
+                entry.setStartTimestamp(EventTime.toWallClockMillis(clockAnchor, startTimestamp))
+                        .setEndTimestamp(EventTime.toWallClockMillis(clockAnchor, endTimestamp));
+            }
+            for (int i = 0; i < sensorIds.length; i++) {
+                entry.addSensorSamples(UnifyChallengeProto.SensorSampleCount.newBuilder()
+                        .setSensorId(sensorIds[i])
+                        .setSampleCount(sampleCounts[i]));
+            }
+            if (version != 0) {
+                entry.setVersion(version);
+            }
+            if (codec != -1) {
+                entry.setCodec(codec);
+            }
+            if (featureWindowCount > 0) {
+                entry.setFeatureWindowCount(featureWindowCount);
+            }
+            return entry.build();
+        }
+    }
+}
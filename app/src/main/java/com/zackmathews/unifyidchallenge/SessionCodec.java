@@ -0,0 +1,29 @@
+package com.zackmathews.unifyidchallenge;
+
+import java.io.IOException;
+
+/**
+ * Block compression applied to column chunks of compressed sessions, see @see {@link ColumnCompression}.
+ * The id is stored with every chunk so readers can pick the matching codec from @see {@link SessionCodecs}.
+ */
+public interface SessionCodec {
+    /**
+     * @return id recorded in each chunk, unique among registered codecs.
+     */
+    int getId();
+
+    /**
+     * @param input
+     * @param length number of bytes of input to compress
+     * @return the compressed block
+     */
+    byte[] compress(byte[] input, int length);
+
+    /**
+     * @param input
+     * @param output         receives the decompressed block
+     * @param expectedLength size of the block before compression
+     * @throws IOException if the block is corrupt or doesn't decompress to the expected length
+     */
+    void decompress(byte[] input, byte[] output, int expectedLength) throws IOException;
+}
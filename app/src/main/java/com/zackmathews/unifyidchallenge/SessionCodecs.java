@@ -0,0 +1,127 @@
+package com.zackmathews.unifyidchallenge;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Codecs session chunks can be compressed with.
+ * Other codecs can be plugged in with @see {@link #register(SessionCodec)}, readers then pick them up by id.
+ */
+public final class SessionCodecs {
+    public static final int ID_NONE = 0;
+    public static final int ID_DEFLATE = 1;
+
+    /**
+     * Stores blocks as they are, chunks still get transforms and checksums.
+     */
+    public static final SessionCodec NONE = new SessionCodec() {
+        @Override
+        public int getId() {
+            return ID_NONE;
+        }
+
+        @Override
+        public byte[] compress(byte[] input, int length) {
+            return Arrays.copyOf(input, length);
+        }
+
+        @Override
+        public void decompress(byte[] input, byte[] output, int expectedLength) throws IOException {
+            if (input.length != expectedLength)
+                throw new IOException(String.format("Expected %d bytes, block has %d", expectedLength, input.length));
+            System.arraycopy(input, 0, output, 0, expectedLength);
+        }
+    };
+
+    public static final SessionCodec DEFLATE = deflate(Deflater.DEFAULT_COMPRESSION);
+
+    private static SessionCodec[] codecs = {NONE, DEFLATE};
+
+    private SessionCodecs() {
+    }
+
+    /**
+     * Raw deflate blocks (no zlib header), all levels decompress the same way.
+     *
+     * @param level 0-9 or Deflater.DEFAULT_COMPRESSION, higher levels trade CPU time for size
+     * @return
+     */
+    public static SessionCodec deflate(final int level) {
+        if (level != Deflater.DEFAULT_COMPRESSION && (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION))
+            throw new IllegalArgumentException("Deflate level must be between 0 and 9");
+        return new SessionCodec() {
+            @Override
+            public int getId() {
+                return ID_DEFLATE;
+            }
+
+            @Override
+            public byte[] compress(byte[] input, int length) {
+                Deflater deflater = new Deflater(level, true);
+                try {
+                    deflater.setInput(input, 0, length);
+                    deflater.finish();
+                    byte[] output = new byte[Math.max(64, length / 2)];
+                    int size = 0;
+                    while (!deflater.finished()) {
+                        if (size == output.length) {
+                            output = Arrays.copyOf(output, output.length * 2);
+                        }
+                        size += deflater.deflate(output, size, output.length - size);
+                    }
+                    return Arrays.copyOf(output, size);
+                } finally {
+                    deflater.end();
+                }
+            }
+
+            @Override
+            public void decompress(byte[] input, byte[] output, int expectedLength) throws IOException {
+                Inflater inflater = new Inflater(true);
+                try {
+                    // Raw inflate needs a trailing byte to detect the end of the stream
+                    inflater.setInput(Arrays.copyOf(input, input.length + 1));
+                    int size = inflater.inflate(output, 0, expectedLength);
+                    if (size != expectedLength || !inflater.finished())
+                        throw new IOException(String.format("Expected %d bytes, block inflated to %d", expectedLength, size));
+                } catch (DataFormatException e) {
+                    throw new IOException("Corrupt deflate block", e);
+                } finally {
+                    inflater.end();
+                }
+            }
+        };
+    }
+
+    /**
+     * Makes a codec available to readers, replacing any registered codec with the same id.
+     *
+     * @param codec
+     */
+    public static synchronized void register(SessionCodec codec) {
+        for (int i = 0; i < codecs.length; i++) {
+            if (codecs[i].getId() == codec.getId()) {
+                codecs[i] = codec;
+                return;
+            }
+        }
+        SessionCodec[] newCodecs = Arrays.copyOf(codecs, codecs.length + 1);
+        newCodecs[codecs.length] = codec;
+        codecs = newCodecs;
+    }
+
+    /**
+     * @param id
+     * @return the registered codec with the given id
+     * @throws IOException if no codec with that id is registered
+     */
+    public static synchronized SessionCodec forId(int id) throws IOException {
+        for (SessionCodec codec : codecs) {
+            if (codec.getId() == id) return codec;
+        }
+        throw new IOException(String.format("No codec registered for id %d", id));
+    }
+}
@@ -0,0 +1,467 @@
+package com.zackmathews.unifyidchallenge;
+
+import android.util.Log;
+
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.security.PublicKey;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Persists finished sessions on a background thread, so neither the call broadcast nor the capture thread waits on disk.
+ * <p>
+ * A session handed to @see {@link #enqueue(SessionWriter, File, SensorSessionBuffer)} is written out, closed,
+ * fsynced and renamed from .partial to .pending. From then on the job lives on disk: the worker fsyncs the pending file
+ * and renames it to its final ID_SENSOR_ name, retrying with exponential backoff if that fails.
+ * <p>
+ * Given a codec, the queue also compresses each finished session before it becomes pending. The journal is streamed
+ * uncompressed so it stays cheap to append to and readable up to a torn write, and is rewritten once as a compressed
+ * version 3 session (see @see {@link ColumnCompression}). If that fails the uncompressed session is kept instead,
+ * or for recovered sessions the journal is left for the next recovery.
+ * Given a recipient key, that rewrite is encrypted as well (see @see {@link EncryptedOutputStream}). The journal stays
+ * plaintext in app private storage since recovery has to read it back, and is deleted once the session is rewritten.
+ * <p>
+ * Files left behind when the process dies are picked up again by @see {@link #recover()}. Pending files are persisted,
+ * partial files are journals of sessions that were still being captured. Their intact prefix is copied out,
+ * everything after the last complete record is a torn write and is dropped, and the salvaged session is
+ * classified again so only call answer motions are kept. Sessions that only hold feature windows can't be classified
+ * again and aren't kept.
+ */
+public class SessionPersistenceQueue {
+    public static final String PARTIAL_SUFFIX = ".partial";
+    public static final String PENDING_SUFFIX = ".pending";
+    private static final String COMPACTED_SUFFIX = ".compacted";
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long INITIAL_RETRY_DELAY_MS = 1000;
+
+    /**
+     * Notified on the persistence thread once a session has reached its final name.
+     */
+    public interface Listener {
+        void onSessionPersisted(File session);
+    }
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(@NonNull Runnable runnable) {
+            return new Thread(runnable, "SessionPersistence");
+        }
+    });
+    private final File directory;
+    private final SessionCodec codec;
+    private final PublicKey recipient;
+    private volatile Listener listener;
+    private volatile SessionCatalog catalog;
+
+    /**
+     * @param directory where pending sessions are looked for by @see {@link #recover()}
+     */
+    public SessionPersistenceQueue(@NonNull File directory) {
+        this(directory, null, null);
+    }
+
+    /**
+     * @param directory where pending sessions are looked for by @see {@link #recover()}
+     * @param codec     compresses finished sessions, null keeps them as they were captured
+     * @param recipient encrypts finished sessions for the owner of this RSA key, null keeps them in plaintext
+     */
+    public SessionPersistenceQueue(@NonNull File directory, SessionCodec codec, PublicKey recipient) {
+        this.directory = directory;
+        this.codec = codec;
+        this.recipient = recipient;
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Records every persisted session in the catalog. @see {@link #recover()} also indexes sessions that
+     * were persisted before the catalog was set.
+     *
+     * @param catalog
+     */
+    public void setCatalog(SessionCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    /**
+     * Takes ownership of a finished session and persists it in the background.
+     * In windowed mode the retained samples are written first, merged back into timestamp order.
+     * Sessions without samples or feature windows are deleted instead.
+     *
+     * @param writer      open writer of the session, closed by the queue
+     * @param partialFile file the writer writes to
+     * @param buffer      samples retained in windowed mode, or null if every sample was already streamed to the writer
+     */
+    public void enqueue(@NonNull final SessionWriter writer, @NonNull final File partialFile, final SensorSessionBuffer buffer) {
+        final SessionCatalog.Summary summary = new SessionCatalog.Summary();
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                File pendingFile;
+                try {
+                    pendingFile = finishSession(writer, partialFile, buffer, summary);
+                } catch (IOException e) {
+                    // The journal is left for the next recovery
+                    e.printStackTrace();
+                    return;
+                }
+                if (pendingFile != null) {
+                    persist(pendingFile, summary, 1);
+                } else if (partialFile.exists() && !partialFile.delete()) {
+                    Log.w(SessionPersistenceQueue.class.getSimpleName(), String.format("Couldn't delete %s", partialFile.getName()));
+                }
+            }
+        });
+    }
+
+    /**
+     * Re-queues sessions that were being captured or pending when the process last died.
+     * Must be called before any new capture opens a partial file in the directory, the files to recover are
+     * listed before this returns.
+     */
+    public void recover() {
+        final File[] files = directory.listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(File dir, String name) {
+                return name.endsWith(PARTIAL_SUFFIX) || name.endsWith(PENDING_SUFFIX);
+            }
+        });
+        if (files == null) return;
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                for (File file : files) {
+                    Log.d(SessionPersistenceQueue.class.getSimpleName(), String.format("Recovering session %s", file.getName()));
+                    File pendingFile = file;
+                    // Summaries of pending files were lost with the process, they are summarized from the file
+                    SessionCatalog.Summary summary = null;
+                    if (file.getName().endsWith(PARTIAL_SUFFIX)) {
+                        summary = new SessionCatalog.Summary();
+                        try {
+                            pendingFile = recoverPartialSession(file, summary);
+                        } catch (IOException e) {
+                            e.printStackTrace();
+                            continue;
+                        }
+                    }
+                    if (pendingFile != null) {
+                        persist(pendingFile, summary, 1);
+                    }
+                }
+                SessionCatalog catalog = SessionPersistenceQueue.this.catalog;
+                if (catalog != null) {
+                    try {
+                        catalog.indexDirectory(directory);
+                    } catch (IOException e) {
+                        e.printStackTrace();
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Copies the intact samples of a partial session into a pending file and deletes the journal.
+     *
+     * @return the pending file, or null if nothing worth keeping was salvaged.
+     * @throws IOException if the rewrite failed, the journal is kept
+     */
+    private File recoverPartialSession(File partialFile, SessionCatalog.Summary summary) throws IOException {
+        CallAnswerMotionDetector detector = new CallAnswerMotionDetector();
+        File compactedFile = compactSession(partialFile, detector, summary);
+        boolean isSimpleCallAnswerMotion = detector.isSimpleCallAnswerMotion();
+        Log.d(getClass().getSimpleName(), String.format("Recovered %s, isSimpleCallAnswerMotion: %b",
+                partialFile.getName(), isSimpleCallAnswerMotion));
+        File pendingFile = null;
+        if (compactedFile != null && isSimpleCallAnswerMotion) {
+            pendingFile = makePending(compactedFile, partialFile);
+        } else if (compactedFile != null && !compactedFile.delete()) {
+            Log.w(getClass().getSimpleName(), String.format("Couldn't delete %s", compactedFile.getName()));
+        }
+        if (!partialFile.delete()) {
+            Log.w(getClass().getSimpleName(), String.format("Couldn't delete %s", partialFile.getName()));
+        }
+        return pendingFile;
+    }
+
+    /**
+     * Rewrites the intact samples of a session next to it, compressed with the queue's codec and encrypted for its recipient.
+     * Everything after the last complete record of the source is a torn write and is dropped.
+     *
+     * @param sourceFile
+     * @param detector   classifies the copied samples, or null
+     * @param summary    summarizes the copied samples for the catalog, left without samples if nothing is copied
+     * @return the rewritten session, or null if it has no samples.
+     * @throws IOException if the rewrite failed, the source is left untouched
+     */
+    private File compactSession(File sourceFile, CallAnswerMotionDetector detector, SessionCatalog.Summary summary) throws IOException {
+        File compactedFile = new File(sourceFile.getParentFile(), baseName(sourceFile) + COMPACTED_SUFFIX);
+        float[] values = new float[SensorDataPacket.MAX_VALUES];
+        SessionReader source;
+        try {
+            source = SessionReader.open(sourceFile);
+        } catch (IOException e) {
+            // Nothing readable, not even the session header
+            e.printStackTrace();
+            summary.clearSamples();
+            return null;
+        }
+        long sampleCount;
+        long featureWindowCount;
+        try (SessionReader reader = source;
+             ColumnarSessionWriter writer = ColumnarSessionWriter.open(compactedFile, codec, recipient)) {
+            int infoCount = 0;
+            int windowCount = 0;
+            boolean hasHeader = false;
+            while (nextIntact(reader, sourceFile)) {
+                UnifyChallengeProto.ClockAnchor anchor = reader.getClockAnchor();
+                if (!hasHeader) {
+                    copyHeader(reader, writer, summary);
+                    hasHeader = true;
+                }
+                infoCount = copySensorInfos(reader, writer, infoCount);
+                windowCount = copyFeatureWindows(reader, writer, windowCount, summary);
+                int valueCount = reader.getValueCount();
+                for (int i = 0; i < valueCount; i++) {
+                    values[i] = reader.getValue(i);
+                }
+                writer.writeSample(reader.getSensorId(), reader.getTimestamp(), values, valueCount);
+                summary.onSample(reader.getSensorId(), reader.getTimestamp());
+                if (detector != null) {
+                    // Journals from before the clock anchor are in milliseconds
+                    detector.onSample(reader.getSensorId(), EventTime.toEventTimeNanos(anchor, reader.getTimestamp()), values, valueCount);
+                }
+            }
+            // Sessions that only hold features have no samples to copy the header with
+            if (!hasHeader) {
+                copyHeader(reader, writer, summary);
+            }
+            copySensorInfos(reader, writer, infoCount);
+            copyFeatureWindows(reader, writer, windowCount, summary);
+            sampleCount = writer.getSampleCount();
+            featureWindowCount = writer.getFeatureWindowCount();
+        } catch (IOException e) {
+            // Only reading past a torn tail is expected to fail, a failed rewrite must not cost the source
+            summary.clearSamples();
+            if (compactedFile.exists() && !compactedFile.delete()) {
+                Log.w(getClass().getSimpleName(), String.format("Couldn't delete %s", compactedFile.getName()));
+            }
+            throw e;
+        }
+        if (sampleCount == 0 && featureWindowCount == 0) {
+            summary.clearSamples();
+            if (compactedFile.exists() && !compactedFile.delete()) {
+                Log.w(getClass().getSimpleName(), String.format("Couldn't delete %s", compactedFile.getName()));
+            }
+            return null;
+        }
+        Log.d(getClass().getSimpleName(), String.format("Compacted %d samples and %d feature windows of %s from %d to %d bytes",
+                sampleCount, featureWindowCount, sourceFile.getName(), sourceFile.length(), compactedFile.length()));
+        summary.setVersion(codec != null ? ColumnarSessionWriter.COMPRESSED_VERSION : ColumnarSessionWriter.VERSION);
+        if (codec != null) {
+            summary.setCodec(codec.getId());
+        }
+        summary.setEncrypted(recipient != null);
+        return compactedFile;
+    }
+
+    /**
+     * @return false once the reader reaches the end of the source or its torn tail, everything before the torn tail is intact.
+     */
+    private boolean nextIntact(SessionReader reader, File sourceFile) {
+        try {
+            return reader.next();
+        } catch (IOException e) {
+            Log.d(getClass().getSimpleName(), String.format("%s is truncated: %s", sourceFile.getName(), e.getMessage()));
+            return false;
+        }
+    }
+
+    /**
+     * Copies the fields that have to precede the first sample.
+     */
+    private static void copyHeader(SessionReader reader, ColumnarSessionWriter writer, SessionCatalog.Summary summary) throws IOException {
+        UnifyChallengeProto.ClockAnchor anchor = reader.getClockAnchor();
+        if (anchor != null) {
+            writer.writeClockAnchor(anchor);
+            summary.setClockAnchor(anchor);
+        }
+        if (reader.getFramePeriod() > 0) {
+            writer.writeFramePeriod(reader.getFramePeriod());
+        }
+        if (reader.getFeatureConfig() != null) {
+            writer.writeFeatureConfig(reader.getFeatureConfig());
+        }
+    }
+
+    private static int copyFeatureWindows(SessionReader reader, ColumnarSessionWriter writer, int copied,
+                                          SessionCatalog.Summary summary) throws IOException {
+        List<UnifyChallengeProto.FeatureWindow> windows = reader.getFeatureWindows();
+        for (int i = copied; i < windows.size(); i++) {
+            writer.writeFeatureWindow(windows.get(i));
+            summary.onFeatureWindow(windows.get(i));
+        }
+        return windows.size();
+    }
+
+    private static int copySensorInfos(SessionReader reader, SessionWriter writer, int copied) throws IOException {
+        List<UnifyChallengeProto.SensorInfo> infos = reader.getSensorInfos();
+        for (int i = copied; i < infos.size(); i++) {
+            writer.writeSensorInfo(infos.get(i));
+        }
+        return infos.size();
+    }
+
+    /**
+     * @return the pending file, or null if the session had no samples.
+     */
+    private File finishSession(SessionWriter writer, File partialFile, SensorSessionBuffer buffer, SessionCatalog.Summary summary) throws IOException {
+        try {
+            if (buffer != null) {
+                writeBuffer(buffer, writer);
+            }
+        } finally {
+            writer.close();
+        }
+        if (isEmpty(writer)) return null;
+        File compactedFile = null;
+        if (codec != null || recipient != null) {
+            try {
+                compactedFile = compactSession(partialFile, null, summary);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        if (compactedFile == null) {
+            if (recipient != null)
+                throw new IOException(String.format("Couldn't encrypt %s", partialFile.getName()));
+            try {
+                summary.readSamples(partialFile);
+            } catch (IOException e) {
+                // Only the catalog's statistics are incomplete
+                e.printStackTrace();
+            }
+            return makePending(partialFile, partialFile);
+        }
+        File pendingFile = makePending(compactedFile, partialFile);
+        if (!partialFile.delete()) {
+            Log.w(getClass().getSimpleName(), String.format("Couldn't delete %s", partialFile.getName()));
+        }
+        return pendingFile;
+    }
+
+    /**
+     * @return true if the session has neither samples nor feature windows.
+     */
+    private static boolean isEmpty(SessionWriter writer) {
+        return writer.getSampleCount() == 0 && !(writer instanceof ColumnarSessionWriter
+                && ((ColumnarSessionWriter) writer).getFeatureWindowCount() > 0);
+    }
+
+    /**
+     * Syncs a finished session and renames it to the pending name of its partial file.
+     */
+    private static File makePending(File file, File partialFile) throws IOException {
+        sync(file);
+        File pendingFile = new File(partialFile.getParentFile(), baseName(partialFile) + PENDING_SUFFIX);
+        if (!file.renameTo(pendingFile)) {
+            throw new IOException(String.format("Couldn't rename %s to %s", file.getName(), pendingFile.getName()));
+        }
+        return pendingFile;
+    }
+
+    private static void writeBuffer(SensorSessionBuffer buffer, SessionWriter writer) throws IOException {
+        int[] cursors = new int[buffer.getColumnCount()];
+        float[] values = new float[SensorDataPacket.MAX_VALUES];
+        while (true) {
+            SensorSessionBuffer.Column next = null;
+            int nextIndex = -1;
+            for (int c = 0; c < cursors.length; c++) {
+                SensorSessionBuffer.Column column = buffer.getColumn(c);
+                if (cursors[c] < column.size() && (next == null
+                        || column.getTimestamp(cursors[c]) < next.getTimestamp(cursors[nextIndex]))) {
+                    next = column;
+                    nextIndex = c;
+                }
+            }
+            if (next == null) break;
+            int i = cursors[nextIndex]++;
+            int stride = Math.min(next.getStride(), values.length);
+            for (int axis = 0; axis < stride; axis++) {
+                values[axis] = next.getValue(i, axis);
+            }
+            writer.writeSample(next.getSensorId(), next.getTimestamp(i), values, stride);
+        }
+    }
+
+    /**
+     * @param summary catalog entry of the session collected so far, or null to summarize the persisted file
+     */
+    private void persist(final File pendingFile, final SessionCatalog.Summary summary, final int attempt) {
+        // Already persisted by an earlier attempt or a recovery pass
+        if (!pendingFile.exists()) return;
+        try {
+            sync(pendingFile);
+            File file = new File(pendingFile.getParentFile(), baseName(pendingFile));
+            if (!pendingFile.renameTo(file)) {
+                throw new IOException(String.format("Couldn't rename %s to %s", pendingFile.getName(), file.getName()));
+            }
+            Log.d(getClass().getSimpleName(), String.format("Wrote session to filename: %s in directory: %s", file.getName(), file.getAbsolutePath()));
+            SessionCatalog catalog = this.catalog;
+            if (catalog != null) {
+                try {
+                    catalog.add(summary != null ? summary.toEntry(file) : SessionCatalog.summarize(file));
+                } catch (IOException e) {
+                    // The session is persisted, the next recovery indexes it
+                    e.printStackTrace();
+                }
+            }
+            Listener listener = this.listener;
+            if (listener != null) {
+                listener.onSessionPersisted(file);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            if (attempt == MAX_ATTEMPTS) {
+                Log.w(getClass().getSimpleName(), String.format("Giving up on %s after %d attempts until the next recovery", pendingFile.getName(), attempt));
+                return;
+            }
+            executor.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    persist(pendingFile, summary, attempt + 1);
+                }
+            }, INITIAL_RETRY_DELAY_MS << (attempt - 1), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Forces the file's contents to storage.
+     *
+     * @param file
+     * @throws IOException
+     */
+    static void sync(File file) throws IOException {
+        try (RandomAccessFile access = new RandomAccessFile(file, "rw")) {
+            access.getFD().sync();
+        }
+    }
+
+    private static String baseName(File file) {
+        String name = file.getName();
+        int suffix = name.lastIndexOf('.');
+        return suffix == -1 ? name : name.substring(0, suffix);
+    }
+}
@@ -0,0 +1,318 @@
+package com.zackmathews.unifyidchallenge;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.security.PrivateKey;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads session files in either layout, one sample at a time.
+ * Version 1 files are SensorDataCollection records (see @see {@link SessionStreamWriter}),
+ * version 2 and 3 files are packed SensorSession columns (see @see {@link ColumnarSessionWriter}),
+ * compressed in version 3.
+ * The layout is detected from the first byte: v2 files start with the version field.
+ * <p>
+ * The reader is a cursor, @see {@link #next()} moves it to the next sample and the getters describe that sample.
+ * In v2 files samples come back chunk by chunk, so they are in time order per sensor but not across sensors.
+ * Older v1 files name the sensor in every record instead of setting its id, sensors in those files that
+ * aren't in the file's sensor metadata get negative ids, one per distinct name. A record without a sensor type
+ * has the empty name.
+ */
+public class SessionReader implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int V2_FIRST_BYTE = UnifyChallengeProto.SensorSession.VERSION_FIELD_NUMBER << 3 | WireFormat.WIRETYPE_VARINT;
+
+    private final InputStream stream;
+    private final int version;
+    private final List<UnifyChallengeProto.SensorInfo> sensorInfos;
+    private UnifyChallengeProto.ClockAnchor clockAnchor;
+    private long framePeriod;
+    private UnifyChallengeProto.FeatureConfig featureConfig;
+    private final List<UnifyChallengeProto.FeatureWindow> featureWindows = new ArrayList<>();
+    // Version 1
+    private SessionStreamReader recordReader;
+    private final List<String> unknownSensorNames = new ArrayList<>();
+    // Version 2 and 3, the chunk being read is either a column or a decoded compressed column
+    private CodedInputStream input;
+    private UnifyChallengeProto.SensorColumn column;
+    private ColumnCompression.DecodedColumn decodedColumn;
+    private int columnSize;
+    private int columnIndex;
+
+    private int sensorId;
+    private String sensorName;
+    private long timestamp;
+    private final float[] values = new float[SensorDataPacket.MAX_VALUES];
+    private int valueCount;
+
+    public SessionReader(InputStream source) throws IOException {
+        PushbackInputStream pushback = new PushbackInputStream(source, 1);
+        stream = pushback;
+        int first = pushback.read();
+        if (first != -1) {
+            pushback.unread(first);
+        }
+        if (first == V2_FIRST_BYTE) {
+            input = CodedInputStream.newInstance(pushback, BUFFER_SIZE);
+            input.setSizeLimit(Integer.MAX_VALUE);
+            input.readTag();
+            version = input.readUInt32();
+            sensorInfos = new ArrayList<>();
+        } else {
+            recordReader = new SessionStreamReader(pushback);
+            version = 1;
+            sensorInfos = recordReader.getSensorInfos();
+        }
+    }
+
+    public static SessionReader open(File file) throws IOException {
+        InputStream stream = new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE);
+        try {
+            return new SessionReader(stream);
+        } catch (IOException e) {
+            stream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a session encrypted with @see {@link EncryptedOutputStream}.
+     *
+     * @param file
+     * @param privateKey RSA private key matching the public key the session was encrypted for
+     * @return
+     * @throws IOException if the key doesn't match or the file isn't an encrypted session
+     */
+    public static SessionReader open(File file, PrivateKey privateKey) throws IOException {
+        InputStream stream = new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE);
+        try {
+            return new SessionReader(new EncryptedInputStream(stream, privateKey));
+        } catch (IOException e) {
+            stream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads a whole session file into a columnar buffer.
+     *
+     * @param file
+     * @return
+     * @throws IOException
+     */
+    public static SensorSessionBuffer readSession(File file) throws IOException {
+        SensorSessionBuffer buffer = new SensorSessionBuffer();
+        SensorDataPacket packet = new SensorDataPacket();
+        try (SessionReader reader = open(file)) {
+            while (reader.next()) {
+                packet.set(reader.sensorId, reader.timestamp, reader.values);
+                packet.valueCount = reader.valueCount;
+                buffer.append(packet);
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Moves to the next sample.
+     *
+     * @return false at the end of the session.
+     * @throws IOException if the file is truncated or malformed
+     */
+    public boolean next() throws IOException {
+        return version == 1 ? nextRecord() : nextColumnSample();
+    }
+
+    private boolean nextRecord() throws IOException {
+        UnifyChallengeProto.SensorData data = recordReader.readNext();
+        if (data == null) return false;
+        if (data.hasSensorId()) {
+            if (sensorName == null || sensorId != data.getSensorId()) {
+                sensorId = data.getSensorId();
+                sensorName = nameForId(sensorId);
+            }
+        } else {
+            sensorName = data.getSensorType();
+            sensorId = idForName(sensorName);
+        }
+        timestamp = data.getTimestamp();
+        valueCount = Math.min(data.getSensorValuesCount(), values.length);
+        for (int i = 0; i < valueCount; i++) {
+            values[i] = data.getSensorValues(i);
+        }
+        return true;
+    }
+
+    private boolean nextColumnSample() throws IOException {
+        while (columnIndex == columnSize) {
+            if (!readColumn()) return false;
+        }
+        if (column == null) {
+            if (columnIndex == 0) {
+                sensorId = decodedColumn.getSensorId();
+                sensorName = nameForId(sensorId);
+            }
+            timestamp = decodedColumn.getTimestamp(columnIndex);
+            valueCount = Math.min(decodedColumn.getStride(), values.length);
+            for (int i = 0; i < valueCount; i++) {
+                values[i] = decodedColumn.getValue(columnIndex, i);
+            }
+            columnIndex++;
+            return true;
+        }
+        if (columnIndex == 0) {
+            sensorId = column.getSensorId();
+            sensorName = nameForId(sensorId);
+            timestamp = column.getBaseTimestamp();
+        }
+        timestamp += column.getTimestampDeltas(columnIndex);
+        int stride = column.getStride();
+        valueCount = Math.min(stride, values.length);
+        for (int i = 0; i < valueCount; i++) {
+            values[i] = column.getValues(columnIndex * stride + i);
+        }
+        columnIndex++;
+        return true;
+    }
+
+    private boolean readColumn() throws IOException {
+        while (true) {
+            input.resetSizeCounter();
+            int tag = input.readTag();
+            if (tag == 0) return false;
+            int field = WireFormat.getTagFieldNumber(tag);
+            if (field == UnifyChallengeProto.SensorSession.COLUMNS_FIELD_NUMBER) {
+                column = SessionStreamReader.readMessage(input, UnifyChallengeProto.SensorColumn.parser());
+                columnSize = column.getTimestampDeltasCount();
+                columnIndex = 0;
+                return true;
+            } else if (field == UnifyChallengeProto.SensorSession.COMPRESSEDCOLUMNS_FIELD_NUMBER) {
+                if (decodedColumn == null) {
+                    decodedColumn = new ColumnCompression.DecodedColumn();
+                }
+                decodedColumn.decode(SessionStreamReader.readMessage(input, UnifyChallengeProto.CompressedColumn.parser()));
+                column = null;
+                columnSize = decodedColumn.size();
+                columnIndex = 0;
+                return true;
+            } else if (field == UnifyChallengeProto.SensorSession.SENSORS_FIELD_NUMBER) {
+                sensorInfos.add(SessionStreamReader.readMessage(input, UnifyChallengeProto.SensorInfo.parser()));
+            } else if (field == UnifyChallengeProto.SensorSession.CLOCKANCHOR_FIELD_NUMBER) {
+                clockAnchor = SessionStreamReader.readMessage(input, UnifyChallengeProto.ClockAnchor.parser());
+            } else if (field == UnifyChallengeProto.SensorSession.FRAMEPERIODNANOS_FIELD_NUMBER) {
+                framePeriod = input.readInt64();
+            } else if (field == UnifyChallengeProto.SensorSession.FEATURECONFIG_FIELD_NUMBER) {
+                featureConfig = SessionStreamReader.readMessage(input, UnifyChallengeProto.FeatureConfig.parser());
+            } else if (field == UnifyChallengeProto.SensorSession.FEATUREWINDOWS_FIELD_NUMBER) {
+                featureWindows.add(SessionStreamReader.readMessage(input, UnifyChallengeProto.FeatureWindow.parser()));
+            } else if (!input.skipField(tag)) {
+                return false;
+            }
+        }
+    }
+
+    private int idForName(String name) {
+        for (UnifyChallengeProto.SensorInfo info : sensorInfos) {
+            if (info.hasName() && name.equals(info.getName())) return info.getSensorId();
+        }
+        int index = unknownSensorNames.indexOf(name);
+        if (index == -1) {
+            unknownSensorNames.add(name);
+            index = unknownSensorNames.size() - 1;
+        }
+        return -(index + 1);
+    }
+
+    private String nameForId(int id) {
+        for (UnifyChallengeProto.SensorInfo info : sensorInfos) {
+            if (info.getSensorId() == id) return info.getName();
+        }
+        return null;
+    }
+
+    /**
+     * @return 1 for SensorDataCollection files, 2 for SensorSession files, 3 for compressed SensorSession files.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * @return sensor metadata read so far, complete once @see {@link #next()} returned false.
+     */
+    public List<UnifyChallengeProto.SensorInfo> getSensorInfos() {
+        return sensorInfos;
+    }
+
+    /**
+     * @return the session's clock anchor, read along with the first sample. Null for sessions stamped
+     * with wall clock milliseconds, see @see {@link EventTime}.
+     */
+    public UnifyChallengeProto.ClockAnchor getClockAnchor() {
+        return clockAnchor;
+    }
+
+    /**
+     * @return time between frames of a resampled session in nanoseconds, read along with the first sample.
+     * 0 if samples are as the sensors reported them.
+     */
+    public long getFramePeriod() {
+        return framePeriod;
+    }
+
+    /**
+     * @return how the session's feature windows were extracted, or null if it has none, see @see {@link FeatureExtractor}.
+     * Read along with the first sample, sessions without samples are read through once @see {@link #next()} returned false.
+     */
+    public UnifyChallengeProto.FeatureConfig getFeatureConfig() {
+        return featureConfig;
+    }
+
+    /**
+     * @return feature windows read so far, complete once @see {@link #next()} returned false.
+     */
+    public List<UnifyChallengeProto.FeatureWindow> getFeatureWindows() {
+        return featureWindows;
+    }
+
+    public int getSensorId() {
+        return sensorId;
+    }
+
+    /**
+     * @return the sensor's name, or null if the file doesn't describe the sensor before its samples.
+     */
+    public String getSensorName() {
+        return sensorName;
+    }
+
+    /**
+     * @return the sample's time, event time nanoseconds if the session has a clock anchor.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public int getValueCount() {
+        return valueCount;
+    }
+
+    public float getValue(int axis) {
+        return values[axis];
+    }
+
+    @Override
+    public void close() throws IOException {
+        stream.close();
+    }
+}
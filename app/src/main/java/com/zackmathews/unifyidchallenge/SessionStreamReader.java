@@ -0,0 +1,99 @@
+package com.zackmathews.unifyidchallenge;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import com.google.protobuf.WireFormat;
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a session file one SensorData record at a time instead of parsing the whole
+ * @see {@link UnifyChallengeProto.SensorDataCollection}, so memory use doesn't grow with the session.
+ * Reads files written by @see {@link SessionStreamWriter} as well as ones written with SensorDataCollection.writeTo.
+ */
+public class SessionStreamReader implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream stream;
+    private final CodedInputStream input;
+    private final List<UnifyChallengeProto.SensorInfo> sensorInfos = new ArrayList<>();
+
+    public SessionStreamReader(InputStream stream) {
+        this.stream = stream;
+        input = CodedInputStream.newInstance(stream, BUFFER_SIZE);
+        // Sessions can be larger than the default 64MB limit, records are bounded individually
+        input.setSizeLimit(Integer.MAX_VALUE);
+    }
+
+    public static SessionStreamReader open(File file) throws FileNotFoundException {
+        return new SessionStreamReader(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+    }
+
+    /**
+     * Reads the next sample, collecting any sensor metadata found along the way.
+     *
+     * @return the next sample or null at the end of the session.
+     * @throws IOException if the file is truncated or malformed
+     */
+    public UnifyChallengeProto.SensorData readNext() throws IOException {
+        while (true) {
+            input.resetSizeCounter();
+            int tag = input.readTag();
+            if (tag == 0) return null;
+            int field = WireFormat.getTagFieldNumber(tag);
+            if (field == UnifyChallengeProto.SensorDataCollection.SENSORDATA_FIELD_NUMBER) {
+                return readMessage(input, UnifyChallengeProto.SensorData.parser());
+            } else if (field == UnifyChallengeProto.SensorDataCollection.SENSORS_FIELD_NUMBER) {
+                sensorInfos.add(readMessage(input, UnifyChallengeProto.SensorInfo.parser()));
+            } else if (!input.skipField(tag)) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Reads a length delimited message like @see {@link CodedInputStream#readMessage(Parser, ExtensionRegistryLite)},
+     * which takes the end of the stream for the end of the message. A message cut off between two of its fields
+     * would be returned without them.
+     *
+     * @param input
+     * @param parser
+     * @return
+     * @throws IOException if the stream ends before the message does
+     */
+    static <T extends MessageLite> T readMessage(CodedInputStream input, Parser<T> parser) throws IOException {
+        int length = input.readRawVarint32();
+        int oldLimit = input.pushLimit(length);
+        T message = parser.parsePartialFrom(input, ExtensionRegistryLite.getEmptyRegistry());
+        input.checkLastTagWas(0);
+        if (input.getBytesUntilLimit() != 0)
+            throw new InvalidProtocolBufferException(String.format("Message of %d bytes is truncated", length));
+        input.popLimit(oldLimit);
+        return message;
+    }
+
+    /**
+     * @return sensor metadata read so far. Writers may put it at the end of the file,
+     * so it is only complete once @see {@link #readNext()} returned null.
+     */
+    public List<UnifyChallengeProto.SensorInfo> getSensorInfos() {
+        return sensorInfos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        stream.close();
+    }
+}
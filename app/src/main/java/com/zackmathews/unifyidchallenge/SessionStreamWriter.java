@@ -0,0 +1,107 @@
+package com.zackmathews.unifyidchallenge;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Appends samples to a session file as they are captured instead of building the whole
+ * @see {@link UnifyChallengeProto.SensorDataCollection} in memory at the end of a call.
+ * <p>
+ * Every sample is written as a length delimited SensorData record under the collection's sensorData field,
+ * which is exactly how protobuf encodes a repeated message field. The output can be read back with
+ * @see {@link SessionStreamReader} or parsed whole with SensorDataCollection.parseFrom.
+ * Records are encoded straight into the output buffer, no SensorData objects are built.
+ * Records are keyed by sensorId, sensor names are only stored in the SensorInfo entries.
+ * Not thread safe, write from a single thread.
+ */
+public class SessionStreamWriter implements SessionWriter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream stream;
+    private final CodedOutputStream output;
+    private long sampleCount;
+
+    public SessionStreamWriter(OutputStream stream) {
+        this.stream = stream;
+        output = CodedOutputStream.newInstance(stream, BUFFER_SIZE);
+    }
+
+    /**
+     * Opens a writer that creates or truncates the given file.
+     *
+     * @param file
+     * @return
+     * @throws FileNotFoundException
+     */
+    public static SessionStreamWriter open(File file) throws FileNotFoundException {
+        return new SessionStreamWriter(new FileOutputStream(file));
+    }
+
+    @Override
+    public void writeSample(SensorDataPacket packet) throws IOException {
+        writeSample(packet.sensorId, packet.timestamp, packet.values, packet.valueCount);
+    }
+
+    /**
+     * Appends a single sample as a SensorData record.
+     */
+    @Override
+    public void writeSample(int sensorId, long timestamp, float[] values, int valueCount) throws IOException {
+        int size = valueCount * CodedOutputStream.computeFloatSize(UnifyChallengeProto.SensorData.SENSORVALUES_FIELD_NUMBER, 0f)
+                + CodedOutputStream.computeUInt64Size(UnifyChallengeProto.SensorData.TIMESTAMP_FIELD_NUMBER, timestamp)
+                + CodedOutputStream.computeInt32Size(UnifyChallengeProto.SensorData.SENSORID_FIELD_NUMBER, sensorId);
+        output.writeTag(UnifyChallengeProto.SensorDataCollection.SENSORDATA_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(size);
+        for (int i = 0; i < valueCount; i++) {
+            output.writeFloat(UnifyChallengeProto.SensorData.SENSORVALUES_FIELD_NUMBER, values[i]);
+        }
+        output.writeUInt64(UnifyChallengeProto.SensorData.TIMESTAMP_FIELD_NUMBER, timestamp);
+        output.writeInt32(UnifyChallengeProto.SensorData.SENSORID_FIELD_NUMBER, sensorId);
+        sampleCount++;
+    }
+
+    @Override
+    public void writeSensorInfo(UnifyChallengeProto.SensorInfo info) throws IOException {
+        output.writeMessage(UnifyChallengeProto.SensorDataCollection.SENSORS_FIELD_NUMBER, info);
+    }
+
+    @Override
+    public long getSampleCount() {
+        return sampleCount;
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return output.getTotalBytesWritten();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        output.flush();
+        stream.flush();
+    }
+
+    @Override
+    public void sync() throws IOException {
+        flush();
+        if (stream instanceof FileOutputStream) {
+            ((FileOutputStream) stream).getFD().sync();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            output.flush();
+        } finally {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,653 @@
+package com.zackmathews.unifyidchallenge;
+
+import android.util.Log;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Uploads persisted sessions to the data science team's endpoint in batches.
+ * <p>
+ * Sessions waiting in the session directory are packed into size bounded batches, each a SessionBatch message
+ * written to the upload directory. A batch is sent in fixed size chunks, several at a time, so a dropped connection
+ * only costs the chunks that were in flight. Failed requests are retried with exponential backoff.
+ * <p>
+ * Progress is kept in an UploadManifest on disk: the sessions in each batch and the chunks the server has acknowledged.
+ * The manifest is replaced atomically after every acknowledged chunk, so after a restart @see {@link #uploadPending()}
+ * resumes batches where they stopped instead of sending them again.
+ * <p>
+ * Requests, relative to the endpoint:
+ * PUT batches/{batchId}/chunks/{index} with a Content-Range header for every chunk, then
+ * POST batches/{batchId}/complete once all of them are acknowledged. Both must be idempotent, a request may be repeated
+ * if the process dies before its response is recorded. Sessions are deleted once their batch is complete.
+ * Given a @see {@link SessionCatalog}, the upload state of every session is recorded there as well.
+ */
+public class SessionUploader {
+    public static final String BATCH_SUFFIX = ".batch";
+    public static final long DEFAULT_MAX_BATCH_BYTES = 8 * 1024 * 1024;
+    public static final int DEFAULT_CHUNK_BYTES = 256 * 1024;
+    public static final int DEFAULT_MAX_PARALLEL_UPLOADS = 3;
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
+    public static final long DEFAULT_INITIAL_RETRY_DELAY_MS = 1000;
+    private static final String SESSION_PREFIX = "ID_SENSOR_";
+    private static final String MANIFEST_NAME = "manifest";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int TIMEOUT_MS = 30000;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    // A session and the framing around it are one length delimited field of the batch, its length must fit an int
+    private static final long MAX_SESSION_BYTES = Integer.MAX_VALUE - 1024;
+
+    /**
+     * Notified on an upload thread when a batch is done.
+     */
+    public interface Listener {
+        /**
+         * @param batchId
+         * @param sessions names of the sessions in the batch, already deleted from the session directory
+         */
+        void onBatchUploaded(String batchId, List<String> sessions);
+
+        /**
+         * The batch stays in the manifest and is resumed by the next @see {@link #uploadPending()}.
+         *
+         * @param batchId
+         */
+        void onBatchFailed(String batchId);
+    }
+
+    /**
+     * A batch whose chunks are being uploaded. Guarded by the uploader.
+     */
+    private static class BatchUpload {
+        final UnifyChallengeProto.UploadBatch batch;
+        final File file;
+        // Chunks neither acknowledged nor given up on
+        int pendingChunks;
+        boolean isFailed;
+
+        BatchUpload(UnifyChallengeProto.UploadBatch batch, File file) {
+            this.batch = batch;
+            this.file = file;
+        }
+    }
+
+    private final String endpoint;
+    private final File sessionDirectory;
+    private final File uploadDirectory;
+    private final long maxBatchBytes;
+    private final int chunkBytes;
+    private final int maxAttempts;
+    private final long initialRetryDelayMs;
+    private final Listener listener;
+    private final SessionCatalog catalog;
+    private final ScheduledExecutorService executor;
+    // Guarded by this, loaded by the first upload pass
+    private UnifyChallengeProto.UploadManifest.Builder manifest;
+    private final Map<String, BatchUpload> activeUploads = new HashMap<>();
+    // Held by an upload pass while it packs batches, so passes don't batch the same sessions twice.
+    // Uploads only need this to update the manifest and aren't held up by packing
+    private final Object packLock = new Object();
+
+    private SessionUploader(Builder builder) {
+        endpoint = builder.endpoint;
+        sessionDirectory = builder.sessionDirectory;
+        uploadDirectory = builder.uploadDirectory;
+        maxBatchBytes = builder.maxBatchBytes;
+        chunkBytes = builder.chunkBytes;
+        maxAttempts = builder.maxAttempts;
+        initialRetryDelayMs = builder.initialRetryDelayMs;
+        listener = builder.listener;
+        catalog = builder.catalog;
+        executor = Executors.newScheduledThreadPool(builder.maxParallelUploads, new ThreadFactory() {
+            private int count;
+
+            @Override
+            public Thread newThread(@NonNull Runnable runnable) {
+                return new Thread(runnable, String.format("SessionUpload-%d", ++count));
+            }
+        });
+    }
+
+    /**
+     * Resumes unfinished batches and batches up sessions that haven't been uploaded yet, in the background.
+     * Batches that are already being uploaded are left alone, so this can be called whenever a session is persisted.
+     */
+    public void uploadPending() {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    scheduleUploads();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        });
+    }
+
+    /**
+     * Stops uploading, chunks in flight are resumed by the next uploader.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void scheduleUploads() throws IOException {
+        synchronized (packLock) {
+            scheduleUploadsLocked();
+        }
+    }
+
+    private void scheduleUploadsLocked() throws IOException {
+        if (!uploadDirectory.isDirectory() && !uploadDirectory.mkdirs())
+            throw new IOException(String.format("Couldn't create %s", uploadDirectory.getAbsolutePath()));
+        Set<String> batchedSessions = new HashSet<>();
+        Set<String> batchFiles = new HashSet<>();
+        synchronized (this) {
+            if (manifest == null) {
+                manifest = readManifest();
+            }
+            for (int i = 0; i < manifest.getBatchesCount(); i++) {
+                UnifyChallengeProto.UploadBatch batch = manifest.getBatches(i);
+                batchedSessions.addAll(batch.getSessionsList());
+                batchFiles.add(batch.getBatchId() + BATCH_SUFFIX);
+            }
+            for (UnifyChallengeProto.UploadBatch batch : new ArrayList<>(manifest.getBatchesList())) {
+                if (!activeUploads.containsKey(batch.getBatchId())) {
+                    startUpload(batch);
+                }
+            }
+        }
+        // Batches packed right before the process died, their sessions are batched again below.
+        // Only this pass adds batches, batches removed since the manifest was read delete their own files
+        File[] orphans = uploadDirectory.listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(File dir, String name) {
+                return name.endsWith(BATCH_SUFFIX) || name.endsWith(TEMP_SUFFIX);
+            }
+        });
+        if (orphans != null) {
+            for (File orphan : orphans) {
+                if (!batchFiles.contains(orphan.getName()) && !orphan.delete()) {
+                    Log.w(getClass().getSimpleName(), String.format("Couldn't delete %s", orphan.getName()));
+                }
+            }
+        }
+
+        File[] sessions = sessionDirectory.listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(File dir, String name) {
+                // Partial, pending and other work files have a suffix
+                return name.startsWith(SESSION_PREFIX) && name.indexOf('.') == -1;
+            }
+        });
+        if (sessions == null) return;
+        // Names end in the capture time, so batches keep sessions in capture order
+        Arrays.sort(sessions);
+        List<File> batchSessions = new ArrayList<>();
+        long batchSize = 0;
+        for (File session : sessions) {
+            if (batchedSessions.contains(session.getName())) continue;
+            if (session.length() > MAX_SESSION_BYTES) {
+                Log.w(getClass().getSimpleName(), String.format("Skipping %s, %d bytes is too large to batch",
+                        session.getName(), session.length()));
+                continue;
+            }
+            if (!batchSessions.isEmpty() && batchSize + session.length() > maxBatchBytes) {
+                startUpload(packBatch(batchSessions));
+                batchSessions.clear();
+                batchSize = 0;
+            }
+            batchSessions.add(session);
+            batchSize += session.length();
+        }
+        if (!batchSessions.isEmpty()) {
+            startUpload(packBatch(batchSessions));
+        }
+    }
+
+    /**
+     * Packs sessions into a new batch file and records the batch in the manifest.
+     * Only the manifest update holds the uploader's lock, chunks of other batches are recorded while this copies.
+     */
+    private UnifyChallengeProto.UploadBatch packBatch(List<File> sessions) throws IOException {
+        String batchId = UUID.randomUUID().toString();
+        File file = new File(uploadDirectory, batchId + BATCH_SUFFIX);
+        UnifyChallengeProto.UploadBatch.Builder batch = UnifyChallengeProto.UploadBatch.newBuilder()
+                .setBatchId(batchId)
+                .setChunkSize(chunkBytes);
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        try (FileOutputStream stream = new FileOutputStream(file)) {
+            CodedOutputStream output = CodedOutputStream.newInstance(stream, COPY_BUFFER_SIZE);
+            // Written field by field so sessions are streamed through instead of loaded whole
+            for (File session : sessions) {
+                String name = session.getName();
+                if (session.length() > MAX_SESSION_BYTES)
+                    throw new IOException(String.format("%s is too large to batch", name));
+                int length = (int) session.length();
+                output.writeTag(UnifyChallengeProto.SessionBatch.SESSIONS_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                output.writeUInt32NoTag(CodedOutputStream.computeStringSize(UnifyChallengeProto.BatchedSession.NAME_FIELD_NUMBER, name)
+                        + CodedOutputStream.computeTagSize(UnifyChallengeProto.BatchedSession.SESSION_FIELD_NUMBER)
+                        + CodedOutputStream.computeUInt32SizeNoTag(length) + length);
+                output.writeString(UnifyChallengeProto.BatchedSession.NAME_FIELD_NUMBER, name);
+                output.writeTag(UnifyChallengeProto.BatchedSession.SESSION_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                output.writeUInt32NoTag(length);
+                try (InputStream input = new FileInputStream(session)) {
+                    int remaining = length;
+                    while (remaining > 0) {
+                        int read = input.read(buffer, 0, Math.min(buffer.length, remaining));
+                        if (read == -1)
+                            throw new IOException(String.format("%s changed while it was batched", name));
+                        output.writeRawBytes(buffer, 0, read);
+                        remaining -= read;
+                    }
+                }
+                batch.addSessions(name);
+            }
+            output.flush();
+            stream.getFD().sync();
+        } catch (IOException e) {
+            if (!file.delete()) {
+                Log.w(getClass().getSimpleName(), String.format("Couldn't delete %s", file.getName()));
+            }
+            throw e;
+        }
+        batch.setSize(file.length());
+        synchronized (this) {
+            manifest.addBatches(batch);
+            writeManifest();
+        }
+        Log.d(getClass().getSimpleName(), String.format("Packed %d sessions into batch %s of %d bytes", sessions.size(), batchId, file.length()));
+        updateCatalog(batch.getSessionsList(), UnifyChallengeProto.UploadState.BATCHED, batchId);
+        return batch.build();
+    }
+
+    private synchronized void startUpload(UnifyChallengeProto.UploadBatch batch) {
+        final BatchUpload upload = new BatchUpload(batch, new File(uploadDirectory, batch.getBatchId() + BATCH_SUFFIX));
+        int chunkCount = chunkCount(batch);
+        boolean[] isUploaded = new boolean[chunkCount];
+        for (int index : batch.getUploadedChunksList()) {
+            if (index >= 0 && index < chunkCount) {
+                isUploaded[index] = true;
+            }
+        }
+        for (boolean chunkUploaded : isUploaded) {
+            if (!chunkUploaded) upload.pendingChunks++;
+        }
+        if (upload.pendingChunks > 0 && !upload.file.exists()) {
+            // Nothing left to resume from, the sessions are batched again
+            Log.w(getClass().getSimpleName(), String.format("Batch file of %s is missing", batch.getBatchId()));
+            removeBatch(batch.getBatchId());
+            updateCatalog(batch.getSessionsList(), UnifyChallengeProto.UploadState.NOT_UPLOADED, null);
+            return;
+        }
+        activeUploads.put(batch.getBatchId(), upload);
+        Log.d(getClass().getSimpleName(), String.format("Uploading %d of %d chunks of batch %s",
+                upload.pendingChunks, chunkCount, batch.getBatchId()));
+        if (upload.pendingChunks == 0) {
+            scheduleCompletion(upload);
+            return;
+        }
+        for (int i = 0; i < chunkCount; i++) {
+            if (isUploaded[i]) continue;
+            final int index = i;
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    uploadChunk(upload, index, 1);
+                }
+            });
+        }
+    }
+
+    private void uploadChunk(final BatchUpload upload, final int index, final int attempt) {
+        synchronized (this) {
+            if (upload.isFailed) {
+                onChunkFinished(upload);
+                return;
+            }
+        }
+        UnifyChallengeProto.UploadBatch batch = upload.batch;
+        long start = (long) index * batch.getChunkSize();
+        int length = (int) Math.min(batch.getChunkSize(), batch.getSize() - start);
+        try {
+            byte[] chunk = new byte[length];
+            try (RandomAccessFile file = new RandomAccessFile(upload.file, "r")) {
+                file.seek(start);
+                file.readFully(chunk);
+            }
+            send("PUT", String.format("/batches/%s/chunks/%d", batch.getBatchId(), index), chunk,
+                    String.format("bytes %d-%d/%d", start, start + length - 1, batch.getSize()));
+        } catch (IOException e) {
+            e.printStackTrace();
+            if (attempt == maxAttempts) {
+                Log.w(getClass().getSimpleName(), String.format("Giving up on chunk %d of batch %s after %d attempts",
+                        index, batch.getBatchId(), attempt));
+                synchronized (this) {
+                    upload.isFailed = true;
+                    onChunkFinished(upload);
+                }
+                return;
+            }
+            retry(new Runnable() {
+                @Override
+                public void run() {
+                    uploadChunk(upload, index, attempt + 1);
+                }
+            }, attempt);
+            return;
+        }
+        onChunkUploaded(upload, index);
+    }
+
+    /**
+     * Records a sent chunk in the manifest. Only a failed send is retried, a manifest that can't be written
+     * keeps the chunk in memory and at worst it is sent again after a restart.
+     */
+    private synchronized void onChunkUploaded(BatchUpload upload, int index) {
+        for (int i = 0; i < manifest.getBatchesCount(); i++) {
+            UnifyChallengeProto.UploadBatch batch = manifest.getBatches(i);
+            if (batch.getBatchId().equals(upload.batch.getBatchId())) {
+                if (!batch.getUploadedChunksList().contains(index)) {
+                    manifest.setBatches(i, batch.toBuilder().addUploadedChunks(index));
+                }
+                break;
+            }
+        }
+        try {
+            writeManifest();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        onChunkFinished(upload);
+    }
+
+    private synchronized void onChunkFinished(BatchUpload upload) {
+        if (--upload.pendingChunks > 0) return;
+        if (upload.isFailed) {
+            activeUploads.remove(upload.batch.getBatchId());
+            if (listener != null) {
+                listener.onBatchFailed(upload.batch.getBatchId());
+            }
+        } else {
+            scheduleCompletion(upload);
+        }
+    }
+
+    private void scheduleCompletion(final BatchUpload upload) {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                complete(upload, 1);
+            }
+        });
+    }
+
+    private void complete(final BatchUpload upload, final int attempt) {
+        String batchId = upload.batch.getBatchId();
+        try {
+            send("POST", String.format("/batches/%s/complete", batchId), new byte[0], null);
+        } catch (IOException e) {
+            e.printStackTrace();
+            if (attempt == maxAttempts) {
+                Log.w(getClass().getSimpleName(), String.format("Giving up on completing batch %s after %d attempts", batchId, attempt));
+                synchronized (this) {
+                    activeUploads.remove(batchId);
+                }
+                if (listener != null) {
+                    listener.onBatchFailed(batchId);
+                }
+                return;
+            }
+            retry(new Runnable() {
+                @Override
+                public void run() {
+                    complete(upload, attempt + 1);
+                }
+            }, attempt);
+            return;
+        }
+        for (String name : upload.batch.getSessionsList()) {
+            File session = new File(sessionDirectory, name);
+            if (session.exists() && !session.delete()) {
+                Log.w(getClass().getSimpleName(), String.format("Couldn't delete %s", name));
+            }
+        }
+        updateCatalog(upload.batch.getSessionsList(), UnifyChallengeProto.UploadState.UPLOADED, batchId);
+        synchronized (this) {
+            removeBatch(batchId);
+            activeUploads.remove(batchId);
+        }
+        Log.d(getClass().getSimpleName(), String.format("Uploaded batch %s of %d sessions", batchId, upload.batch.getSessionsCount()));
+        if (listener != null) {
+            listener.onBatchUploaded(batchId, upload.batch.getSessionsList());
+        }
+    }
+
+    private void updateCatalog(List<String> sessions, UnifyChallengeProto.UploadState state, String batchId) {
+        if (catalog == null) return;
+        try {
+            catalog.setUploadState(sessions, state, batchId);
+        } catch (IOException e) {
+            // Upload progress itself is tracked by the manifest
+            e.printStackTrace();
+        }
+    }
+
+    private void retry(Runnable task, int attempt) {
+        executor.schedule(task, initialRetryDelayMs << (attempt - 1), TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void removeBatch(String batchId) {
+        for (int i = 0; i < manifest.getBatchesCount(); i++) {
+            if (manifest.getBatches(i).getBatchId().equals(batchId)) {
+                manifest.removeBatches(i);
+                break;
+            }
+        }
+        try {
+            writeManifest();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        File file = new File(uploadDirectory, batchId + BATCH_SUFFIX);
+        if (file.exists() && !file.delete()) {
+            Log.w(getClass().getSimpleName(), String.format("Couldn't delete %s", file.getName()));
+        }
+    }
+
+    private void send(String method, String path, byte[] body, String contentRange) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(endpoint + path).openConnection();
+        try {
+            connection.setRequestMethod(method);
+            connection.setConnectTimeout(TIMEOUT_MS);
+            connection.setReadTimeout(TIMEOUT_MS);
+            connection.setRequestProperty("Content-Type", "application/octet-stream");
+            if (contentRange != null) {
+                connection.setRequestProperty("Content-Range", contentRange);
+            }
+            connection.setDoOutput(true);
+            connection.setFixedLengthStreamingMode(body.length);
+            try (OutputStream output = connection.getOutputStream()) {
+                output.write(body);
+            }
+            int code = connection.getResponseCode();
+            if (code < 200 || code >= 300)
+                throw new IOException(String.format("%s %s failed with %d", method, path, code));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static int chunkCount(UnifyChallengeProto.UploadBatch batch) {
+        return (int) ((batch.getSize() + batch.getChunkSize() - 1) / batch.getChunkSize());
+    }
+
+    private UnifyChallengeProto.UploadManifest.Builder readManifest() throws IOException {
+        File file = new File(uploadDirectory, MANIFEST_NAME);
+        if (!file.exists()) return UnifyChallengeProto.UploadManifest.newBuilder();
+        try (InputStream stream = new FileInputStream(file)) {
+            return UnifyChallengeProto.UploadManifest.parseFrom(stream).toBuilder();
+        }
+    }
+
+    /**
+     * Replaces the manifest with a synced copy, so it is either the old or the new one after a crash.
+     */
+    private synchronized void writeManifest() throws IOException {
+        File file = new File(uploadDirectory, MANIFEST_NAME);
+        File tempFile = new File(uploadDirectory, MANIFEST_NAME + TEMP_SUFFIX);
+        try (FileOutputStream stream = new FileOutputStream(tempFile)) {
+            manifest.build().writeTo(stream);
+            stream.getFD().sync();
+        }
+        if (!tempFile.renameTo(file))
+            throw new IOException(String.format("Couldn't rename %s to %s", tempFile.getName(), file.getName()));
+    }
+
+    public static class Builder {
+        private String endpoint;
+        private File sessionDirectory;
+        private File uploadDirectory;
+        private long maxBatchBytes = DEFAULT_MAX_BATCH_BYTES;
+        private int chunkBytes = DEFAULT_CHUNK_BYTES;
+        private int maxParallelUploads = DEFAULT_MAX_PARALLEL_UPLOADS;
+        private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+        private long initialRetryDelayMs = DEFAULT_INITIAL_RETRY_DELAY_MS;
+        private Listener listener;
+        private SessionCatalog catalog;
+
+        /**
+         * @param endpoint base URL requests are made relative to
+         * @return this builder
+         */
+        public Builder setEndpoint(@NonNull String endpoint) {
+            try {
+                new URL(endpoint);
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException(String.format("Invalid endpoint %s", endpoint), e);
+            }
+            this.endpoint = endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint;
+            return this;
+        }
+
+        /**
+         * @param sessionDirectory where persisted sessions are picked up from
+         * @param uploadDirectory  where batches and the manifest are kept, owned by the uploader
+         * @return this builder
+         */
+        public Builder setDirectories(@NonNull File sessionDirectory, @NonNull File uploadDirectory) {
+            this.sessionDirectory = sessionDirectory;
+            this.uploadDirectory = uploadDirectory;
+            return this;
+        }
+
+        /**
+         * Sessions are packed into batches of at most this many bytes, a larger session gets a batch of its own.
+         * Defaults to @see {@link #DEFAULT_MAX_BATCH_BYTES}.
+         *
+         * @param maxBatchBytes
+         * @return this builder
+         */
+        public Builder setMaxBatchBytes(long maxBatchBytes) {
+            if (maxBatchBytes <= 0)
+                throw new IllegalArgumentException("Max batch size must be positive");
+            this.maxBatchBytes = maxBatchBytes;
+            return this;
+        }
+
+        /**
+         * Batches are sent in requests of this many bytes, the most that is sent again when a request fails.
+         * Defaults to @see {@link #DEFAULT_CHUNK_BYTES}, takes effect for batches packed from now on.
+         *
+         * @param chunkBytes
+         * @return this builder
+         */
+        public Builder setChunkBytes(int chunkBytes) {
+            if (chunkBytes <= 0)
+                throw new IllegalArgumentException("Chunk size must be positive");
+            this.chunkBytes = chunkBytes;
+            return this;
+        }
+
+        /**
+         * Defaults to @see {@link #DEFAULT_MAX_PARALLEL_UPLOADS}.
+         *
+         * @param maxParallelUploads number of requests in flight at once
+         * @return this builder
+         */
+        public Builder setMaxParallelUploads(int maxParallelUploads) {
+            if (maxParallelUploads <= 0)
+                throw new IllegalArgumentException("Parallel uploads must be positive");
+            this.maxParallelUploads = maxParallelUploads;
+            return this;
+        }
+
+        /**
+         * Failed requests are retried after the initial delay, doubling with every attempt.
+         * Defaults to @see {@link #DEFAULT_MAX_ATTEMPTS} attempts and @see {@link #DEFAULT_INITIAL_RETRY_DELAY_MS}.
+         *
+         * @param maxAttempts         attempts per request before the batch is given up until the next upload pass
+         * @param initialRetryDelayMs
+         * @return this builder
+         */
+        public Builder setRetryPolicy(int maxAttempts, long initialRetryDelayMs) {
+            if (maxAttempts <= 0 || initialRetryDelayMs < 0)
+                throw new IllegalArgumentException("Invalid retry policy");
+            this.maxAttempts = maxAttempts;
+            this.initialRetryDelayMs = initialRetryDelayMs;
+            return this;
+        }
+
+        public Builder setListener(Listener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Records upload state changes in the given catalog.
+         *
+         * @param catalog
+         * @return this builder
+         */
+        public Builder setCatalog(SessionCatalog catalog) {
+            this.catalog = catalog;
+            return this;
+        }
+
+        public SessionUploader build() {
+            if (endpoint == null)
+                throw new IllegalStateException("No endpoint set");
+            if (sessionDirectory == null)
+                throw new IllegalStateException("No directories set");
+            return new SessionUploader(this);
+        }
+    }
+}
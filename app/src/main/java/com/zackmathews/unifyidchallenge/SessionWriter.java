@@ -0,0 +1,67 @@
+package com.zackmathews.unifyidchallenge;
+
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Incrementally writes a capture session to a stream.
+ * @see SessionStreamWriter writes the original SensorDataCollection layout,
+ * @see ColumnarSessionWriter writes the packed SensorSession (v2) layout.
+ * Both can be read back with @see {@link SessionReader}.
+ */
+public interface SessionWriter extends Closeable {
+    /**
+     * Appends the sample held by the packet. The packet can be recycled as soon as this returns.
+     *
+     * @param packet
+     * @throws IOException
+     */
+    void writeSample(SensorDataPacket packet) throws IOException;
+
+    /**
+     * Appends a single sample.
+     *
+     * @param sensorId   sensor type of the sample
+     * @param timestamp  sample time, see @see {@link EventTime}
+     * @param values     sample values
+     * @param valueCount number of valid entries in values
+     * @throws IOException
+     */
+    void writeSample(int sensorId, long timestamp, float[] values, int valueCount) throws IOException;
+
+    /**
+     * Records sensor metadata, may be called at any point before closing.
+     * Samples only carry the sensor id, this is where names and hardware details belong.
+     *
+     * @param info
+     * @throws IOException
+     */
+    void writeSensorInfo(UnifyChallengeProto.SensorInfo info) throws IOException;
+
+    /**
+     * @return number of samples written so far.
+     */
+    long getSampleCount();
+
+    /**
+     * @return bytes written so far, including anything still buffered.
+     */
+    long getBytesWritten();
+
+    /**
+     * Pushes buffered data to the underlying stream.
+     *
+     * @throws IOException
+     */
+    void flush() throws IOException;
+
+    /**
+     * Flushes and forces everything written so far to storage, so it survives the process being killed.
+     * Data only reaches storage this way when the writer was opened on a file.
+     *
+     * @throws IOException
+     */
+    void sync() throws IOException;
+}
@@ -14,61 +14,222 @@ public final class UnifyChallengeProto {
     registerAllExtensions(
         (com.google.protobuf.ExtensionRegistryLite) registry);
   }
+  /**
+   * Protobuf enum {@code unifyidchallenge.UploadState}
+   */
+  public enum UploadState
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>NOT_UPLOADED = 0;</code>
+     */
+    NOT_UPLOADED(0),
+    /**
+     * <pre>
+     * Packed into an upload batch that hasn't completed yet
+     * </pre>
+     *
+     * <code>BATCHED = 1;</code>
+     */
+    BATCHED(1),
+    /**
+     * <pre>
+     * Uploaded and deleted from the device
+     * </pre>
+     *
+     * <code>UPLOADED = 2;</code>
+     */
+    UPLOADED(2),
+    ;
+
+    /**
+     * <code>NOT_UPLOADED = 0;</code>
+     */
+    public static final int NOT_UPLOADED_VALUE = 0;
+    /**
+     * <pre>
+     * Packed into an upload batch that hasn't completed yet
+     * </pre>
+     *
+     * <code>BATCHED = 1;</code>
+     */
+    public static final int BATCHED_VALUE = 1;
+    /**
+     * <pre>
+     * Uploaded and deleted from the device
+     * </pre>
+     *
+     * <code>UPLOADED = 2;</code>
+     */
+    public static final int UPLOADED_VALUE = 2;
+
+
+    public final int getNumber() {
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static UploadState valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static UploadState forNumber(int value) {
+      switch (value) {
+        case 0: return NOT_UPLOADED;
+        case 1: return BATCHED;
+        case 2: return UPLOADED;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<UploadState>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        UploadState> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<UploadState>() {
+            public UploadState findValueByNumber(int number) {
+              return UploadState.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final UploadState[] VALUES = values();
+
+    public static UploadState valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private UploadState(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:unifyidchallenge.UploadState)
+  }
+
   public interface SensorDataOrBuilder extends
       // @@protoc_insertion_point(interface_extends:unifyidchallenge.SensorData)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required string sensorType = 1;</code>
+     * <code>optional string sensorType = 1;</code>
+     * @return Whether the sensorType field is set.
      */
     boolean hasSensorType();
     /**
-     * <code>required string sensorType = 1;</code>
+     * <code>optional string sensorType = 1;</code>
+     * @return The sensorType.
      */
     java.lang.String getSensorType();
     /**
-     * <code>required string sensorType = 1;</code>
+     * <code>optional string sensorType = 1;</code>
+     * @return The bytes for sensorType.
      */
     com.google.protobuf.ByteString
         getSensorTypeBytes();
 
     /**
      * <code>repeated float sensorValues = 2;</code>
+     * @return A list containing the sensorValues.
      */
     java.util.List<java.lang.Float> getSensorValuesList();
     /**
      * <code>repeated float sensorValues = 2;</code>
+     * @return The count of sensorValues.
      */
     int getSensorValuesCount();
     /**
      * <code>repeated float sensorValues = 2;</code>
+     * @param index The index of the element to return.
+     * @return The sensorValues at the given index.
      */
     float getSensorValues(int index);
 
     /**
      * <code>required uint64 timestamp = 4;</code>
+     * @return Whether the timestamp field is set.
      */
     boolean hasTimestamp();
     /**
      * <code>required uint64 timestamp = 4;</code>
+     * @return The timestamp.
      */
     long getTimestamp();
+
+    /**
+     * <pre>
+     * Sensor type, see android.hardware.Sensor.getType()
+     * </pre>
+     *
+     * <code>optional int32 sensorId = 5;</code>
+     * @return Whether the sensorId field is set.
+     */
+    boolean hasSensorId();
+    /**
+     * <pre>
+     * Sensor type, see android.hardware.Sensor.getType()
+     * </pre>
+     *
+     * <code>optional int32 sensorId = 5;</code>
+     * @return The sensorId.
+     */
+    int getSensorId();
   }
   /**
+   * <pre>
+   * Sessions written before sensor ids name the sensor in every record, newer sessions
+   * only set sensorId and describe each sensor once in SensorInfo.
+   * </pre>
+   *
    * Protobuf type {@code unifyidchallenge.SensorData}
    */
   public  static final class SensorData extends
       com.google.protobuf.GeneratedMessageV3 implements
       // @@protoc_insertion_point(message_implements:unifyidchallenge.SensorData)
       SensorDataOrBuilder {
+  private static final long serialVersionUID = 0L;
     // Use SensorData.newBuilder() to construct.
     private SensorData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
     private SensorData() {
       sensorType_ = "";
-      sensorValues_ = java.util.Collections.emptyList();
-      timestamp_ = 0L;
+      sensorValues_ = emptyFloatList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SensorData();
     }
 
     @java.lang.Override
@@ -81,6 +242,9 @@ public final class UnifyChallengeProto {
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
       int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
@@ -92,13 +256,6 @@ public final class UnifyChallengeProto {
             case 0:
               done = true;
               break;
-            default: {
-              if (!parseUnknownField(input, unknownFields,
-                                     extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
             case 10: {
               com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000001;
@@ -106,22 +263,22 @@ public final class UnifyChallengeProto {
               break;
             }
             case 21: {
-              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-                sensorValues_ = new java.util.ArrayList<java.lang.Float>();
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                sensorValues_ = newFloatList();
                 mutable_bitField0_ |= 0x00000002;
               }
-              sensorValues_.add(input.readFloat());
+              sensorValues_.addFloat(input.readFloat());
               break;
             }
             case 18: {
               int length = input.readRawVarint32();
               int limit = input.pushLimit(length);
-              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
-                sensorValues_ = new java.util.ArrayList<java.lang.Float>();
+              if (!((mutable_bitField0_ & 0x00000002) != 0) && input.getBytesUntilLimit() > 0) {
+                sensorValues_ = newFloatList();
                 mutable_bitField0_ |= 0x00000002;
               }
               while (input.getBytesUntilLimit() > 0) {
-                sensorValues_.add(input.readFloat());
+                sensorValues_.addFloat(input.readFloat());
               }
               input.popLimit(limit);
               break;
@@ -131,6 +288,18 @@ public final class UnifyChallengeProto {
               timestamp_ = input.readUInt64();
               break;
             }
+            case 40: {
+              bitField0_ |= 0x00000004;
+              sensorId_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -139,8 +308,8 @@ public final class UnifyChallengeProto {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-          sensorValues_ = java.util.Collections.unmodifiableList(sensorValues_);
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          sensorValues_.makeImmutable(); // C
         }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
@@ -151,6 +320,7 @@ public final class UnifyChallengeProto {
       return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorData_descriptor;
     }
 
+    @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
       return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorData_fieldAccessorTable
@@ -162,13 +332,15 @@ public final class UnifyChallengeProto {
     public static final int SENSORTYPE_FIELD_NUMBER = 1;
     private volatile java.lang.Object sensorType_;
     /**
-     * <code>required string sensorType = 1;</code>
+     * <code>optional string sensorType = 1;</code>
+     * @return Whether the sensorType field is set.
      */
     public boolean hasSensorType() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
-     * <code>required string sensorType = 1;</code>
+     * <code>optional string sensorType = 1;</code>
+     * @return The sensorType.
      */
     public java.lang.String getSensorType() {
       java.lang.Object ref = sensorType_;
@@ -185,7 +357,8 @@ public final class UnifyChallengeProto {
       }
     }
     /**
-     * <code>required string sensorType = 1;</code>
+     * <code>optional string sensorType = 1;</code>
+     * @return The bytes for sensorType.
      */
     public com.google.protobuf.ByteString
         getSensorTypeBytes() {
@@ -202,9 +375,10 @@ public final class UnifyChallengeProto {
     }
 
     public static final int SENSORVALUES_FIELD_NUMBER = 2;
-    private java.util.List<java.lang.Float> sensorValues_;
+    private com.google.protobuf.Internal.FloatList sensorValues_;
     /**
      * <code>repeated float sensorValues = 2;</code>
+     * @return A list containing the sensorValues.
      */
     public java.util.List<java.lang.Float>
         getSensorValuesList() {
@@ -212,42 +386,69 @@ public final class UnifyChallengeProto {
     }
     /**
      * <code>repeated float sensorValues = 2;</code>
+     * @return The count of sensorValues.
      */
     public int getSensorValuesCount() {
       return sensorValues_.size();
     }
     /**
      * <code>repeated float sensorValues = 2;</code>
+     * @param index The index of the element to return.
+     * @return The sensorValues at the given index.
      */
     public float getSensorValues(int index) {
-      return sensorValues_.get(index);
+      return sensorValues_.getFloat(index);
     }
 
     public static final int TIMESTAMP_FIELD_NUMBER = 4;
     private long timestamp_;
     /**
      * <code>required uint64 timestamp = 4;</code>
+     * @return Whether the timestamp field is set.
      */
     public boolean hasTimestamp() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
      * <code>required uint64 timestamp = 4;</code>
+     * @return The timestamp.
      */
     public long getTimestamp() {
       return timestamp_;
     }
 
+    public static final int SENSORID_FIELD_NUMBER = 5;
+    private int sensorId_;
+    /**
+     * <pre>
+     * Sensor type, see android.hardware.Sensor.getType()
+     * </pre>
+     *
+     * <code>optional int32 sensorId = 5;</code>
+     * @return Whether the sensorId field is set.
+     */
+    public boolean hasSensorId() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <pre>
+     * Sensor type, see android.hardware.Sensor.getType()
+     * </pre>
+     *
+     * <code>optional int32 sensorId = 5;</code>
+     * @return The sensorId.
+     */
+    public int getSensorId() {
+      return sensorId_;
+    }
+
     private byte memoizedIsInitialized = -1;
+    @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasSensorType()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       if (!hasTimestamp()) {
         memoizedIsInitialized = 0;
         return false;
@@ -256,26 +457,31 @@ public final class UnifyChallengeProto {
       return true;
     }
 
+    @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, sensorType_);
       }
       for (int i = 0; i < sensorValues_.size(); i++) {
-        output.writeFloat(2, sensorValues_.get(i));
+        output.writeFloat(2, sensorValues_.getFloat(i));
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         output.writeUInt64(4, timestamp_);
       }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt32(5, sensorId_);
+      }
       unknownFields.writeTo(output);
     }
 
+    @java.lang.Override
     public int getSerializedSize() {
       int size = memoizedSize;
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, sensorType_);
       }
       {
@@ -284,16 +490,19 @@ public final class UnifyChallengeProto {
         size += dataSize;
         size += 1 * getSensorValuesList().size();
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.CodedOutputStream
           .computeUInt64Size(4, timestamp_);
       }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, sensorId_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
     }
 
-    private static final long serialVersionUID = 0L;
     @java.lang.Override
     public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
@@ -304,21 +513,25 @@ public final class UnifyChallengeProto {
       }
       com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData other = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData) obj;
 
-      boolean result = true;
-      result = result && (hasSensorType() == other.hasSensorType());
+      if (hasSensorType() != other.hasSensorType()) return false;
       if (hasSensorType()) {
-        result = result && getSensorType()
-            .equals(other.getSensorType());
+        if (!getSensorType()
+            .equals(other.getSensorType())) return false;
       }
-      result = result && getSensorValuesList()
-          .equals(other.getSensorValuesList());
-      result = result && (hasTimestamp() == other.hasTimestamp());
+      if (!getSensorValuesList()
+          .equals(other.getSensorValuesList())) return false;
+      if (hasTimestamp() != other.hasTimestamp()) return false;
       if (hasTimestamp()) {
-        result = result && (getTimestamp()
-            == other.getTimestamp());
+        if (getTimestamp()
+            != other.getTimestamp()) return false;
+      }
+      if (hasSensorId() != other.hasSensorId()) return false;
+      if (hasSensorId()) {
+        if (getSensorId()
+            != other.getSensorId()) return false;
       }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
     }
 
     @java.lang.Override
@@ -327,7 +540,7 @@ public final class UnifyChallengeProto {
         return memoizedHashCode;
       }
       int hash = 41;
-      hash = (19 * hash) + getDescriptorForType().hashCode();
+      hash = (19 * hash) + getDescriptor().hashCode();
       if (hasSensorType()) {
         hash = (37 * hash) + SENSORTYPE_FIELD_NUMBER;
         hash = (53 * hash) + getSensorType().hashCode();
@@ -341,11 +554,26 @@ public final class UnifyChallengeProto {
         hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
             getTimestamp());
       }
+      if (hasSensorId()) {
+        hash = (37 * hash) + SENSORID_FIELD_NUMBER;
+        hash = (53 * hash) + getSensorId();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
     public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -405,6 +633,7 @@ public final class UnifyChallengeProto {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
+    @java.lang.Override
     public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
@@ -412,6 +641,7 @@ public final class UnifyChallengeProto {
     public static Builder newBuilder(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
+    @java.lang.Override
     public Builder toBuilder() {
       return this == DEFAULT_INSTANCE
           ? new Builder() : new Builder().mergeFrom(this);
@@ -424,6 +654,11 @@ public final class UnifyChallengeProto {
       return builder;
     }
     /**
+     * <pre>
+     * Sessions written before sensor ids name the sensor in every record, newer sessions
+     * only set sensorId and describe each sensor once in SensorInfo.
+     * </pre>
+     *
      * Protobuf type {@code unifyidchallenge.SensorData}
      */
     public static final class Builder extends
@@ -435,6 +670,7 @@ public final class UnifyChallengeProto {
         return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorData_descriptor;
       }
 
+      @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
         return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorData_fieldAccessorTable
@@ -457,26 +693,32 @@ public final class UnifyChallengeProto {
                 .alwaysUseFieldBuilders) {
         }
       }
+      @java.lang.Override
       public Builder clear() {
         super.clear();
         sensorType_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
-        sensorValues_ = java.util.Collections.emptyList();
+        sensorValues_ = emptyFloatList();
         bitField0_ = (bitField0_ & ~0x00000002);
         timestamp_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000004);
+        sensorId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
+      @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
         return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorData_descriptor;
       }
 
+      @java.lang.Override
       public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData getDefaultInstanceForType() {
         return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.getDefaultInstance();
       }
 
+      @java.lang.Override
       public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData build() {
         com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData result = buildPartial();
         if (!result.isInitialized()) {
@@ -485,54 +727,66 @@ public final class UnifyChallengeProto {
         return result;
       }
 
+      @java.lang.Override
       public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData buildPartial() {
         com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData result = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+        if (((from_bitField0_ & 0x00000001) != 0)) {
           to_bitField0_ |= 0x00000001;
         }
         result.sensorType_ = sensorType_;
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          sensorValues_ = java.util.Collections.unmodifiableList(sensorValues_);
+        if (((bitField0_ & 0x00000002) != 0)) {
+          sensorValues_.makeImmutable();
           bitField0_ = (bitField0_ & ~0x00000002);
         }
         result.sensorValues_ = sensorValues_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.timestamp_ = timestamp_;
           to_bitField0_ |= 0x00000002;
         }
-        result.timestamp_ = timestamp_;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.sensorId_ = sensorId_;
+          to_bitField0_ |= 0x00000004;
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
+      @java.lang.Override
       public Builder clone() {
-        return (Builder) super.clone();
+        return super.clone();
       }
+      @java.lang.Override
       public Builder setField(
           com.google.protobuf.Descriptors.FieldDescriptor field,
-          Object value) {
-        return (Builder) super.setField(field, value);
+          java.lang.Object value) {
+        return super.setField(field, value);
       }
+      @java.lang.Override
       public Builder clearField(
           com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
+        return super.clearField(field);
       }
+      @java.lang.Override
       public Builder clearOneof(
           com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
+        return super.clearOneof(oneof);
       }
+      @java.lang.Override
       public Builder setRepeatedField(
           com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
       }
+      @java.lang.Override
       public Builder addRepeatedField(
           com.google.protobuf.Descriptors.FieldDescriptor field,
-          Object value) {
-        return (Builder) super.addRepeatedField(field, value);
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
       }
+      @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData) {
           return mergeFrom((com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData)other);
@@ -562,21 +816,23 @@ public final class UnifyChallengeProto {
         if (other.hasTimestamp()) {
           setTimestamp(other.getTimestamp());
         }
+        if (other.hasSensorId()) {
+          setSensorId(other.getSensorId());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
       }
 
+      @java.lang.Override
       public final boolean isInitialized() {
-        if (!hasSensorType()) {
-          return false;
-        }
         if (!hasTimestamp()) {
           return false;
         }
         return true;
       }
 
+      @java.lang.Override
       public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
@@ -598,13 +854,15 @@ public final class UnifyChallengeProto {
 
       private java.lang.Object sensorType_ = "";
       /**
-       * <code>required string sensorType = 1;</code>
+       * <code>optional string sensorType = 1;</code>
+       * @return Whether the sensorType field is set.
        */
       public boolean hasSensorType() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
-       * <code>required string sensorType = 1;</code>
+       * <code>optional string sensorType = 1;</code>
+       * @return The sensorType.
        */
       public java.lang.String getSensorType() {
         java.lang.Object ref = sensorType_;
@@ -621,7 +879,8 @@ public final class UnifyChallengeProto {
         }
       }
       /**
-       * <code>required string sensorType = 1;</code>
+       * <code>optional string sensorType = 1;</code>
+       * @return The bytes for sensorType.
        */
       public com.google.protobuf.ByteString
           getSensorTypeBytes() {
@@ -637,7 +896,9 @@ public final class UnifyChallengeProto {
         }
       }
       /**
-       * <code>required string sensorType = 1;</code>
+       * <code>optional string sensorType = 1;</code>
+       * @param value The sensorType to set.
+       * @return This builder for chaining.
        */
       public Builder setSensorType(
           java.lang.String value) {
@@ -650,7 +911,8 @@ public final class UnifyChallengeProto {
         return this;
       }
       /**
-       * <code>required string sensorType = 1;</code>
+       * <code>optional string sensorType = 1;</code>
+       * @return This builder for chaining.
        */
       public Builder clearSensorType() {
         bitField0_ = (bitField0_ & ~0x00000001);
@@ -659,7 +921,9 @@ public final class UnifyChallengeProto {
         return this;
       }
       /**
-       * <code>required string sensorType = 1;</code>
+       * <code>optional string sensorType = 1;</code>
+       * @param value The bytes for sensorType to set.
+       * @return This builder for chaining.
        */
       public Builder setSensorTypeBytes(
           com.google.protobuf.ByteString value) {
@@ -672,53 +936,65 @@ public final class UnifyChallengeProto {
         return this;
       }
 
-      private java.util.List<java.lang.Float> sensorValues_ = java.util.Collections.emptyList();
+      private com.google.protobuf.Internal.FloatList sensorValues_ = emptyFloatList();
       private void ensureSensorValuesIsMutable() {
-        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
-          sensorValues_ = new java.util.ArrayList<java.lang.Float>(sensorValues_);
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          sensorValues_ = mutableCopy(sensorValues_);
           bitField0_ |= 0x00000002;
          }
       }
       /**
        * <code>repeated float sensorValues = 2;</code>
+       * @return A list containing the sensorValues.
        */
       public java.util.List<java.lang.Float>
           getSensorValuesList() {
-        return java.util.Collections.unmodifiableList(sensorValues_);
+        return ((bitField0_ & 0x00000002) != 0) ?
+                 java.util.Collections.unmodifiableList(sensorValues_) : sensorValues_;
       }
       /**
        * <code>repeated float sensorValues = 2;</code>
+       * @return The count of sensorValues.
        */
       public int getSensorValuesCount() {
         return sensorValues_.size();
       }
       /**
        * <code>repeated float sensorValues = 2;</code>
+       * @param index The index of the element to return.
+       * @return The sensorValues at the given index.
        */
       public float getSensorValues(int index) {
-        return sensorValues_.get(index);
+        return sensorValues_.getFloat(index);
       }
       /**
        * <code>repeated float sensorValues = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The sensorValues to set.
+       * @return This builder for chaining.
        */
       public Builder setSensorValues(
           int index, float value) {
         ensureSensorValuesIsMutable();
-        sensorValues_.set(index, value);
+        sensorValues_.setFloat(index, value);
         onChanged();
         return this;
       }
       /**
        * <code>repeated float sensorValues = 2;</code>
+       * @param value The sensorValues to add.
+       * @return This builder for chaining.
        */
       public Builder addSensorValues(float value) {
         ensureSensorValuesIsMutable();
-        sensorValues_.add(value);
+        sensorValues_.addFloat(value);
         onChanged();
         return this;
       }
       /**
        * <code>repeated float sensorValues = 2;</code>
+       * @param values The sensorValues to add.
+       * @return This builder for chaining.
        */
       public Builder addAllSensorValues(
           java.lang.Iterable<? extends java.lang.Float> values) {
@@ -730,9 +1006,10 @@ public final class UnifyChallengeProto {
       }
       /**
        * <code>repeated float sensorValues = 2;</code>
+       * @return This builder for chaining.
        */
       public Builder clearSensorValues() {
-        sensorValues_ = java.util.Collections.emptyList();
+        sensorValues_ = emptyFloatList();
         bitField0_ = (bitField0_ & ~0x00000002);
         onChanged();
         return this;
@@ -741,18 +1018,22 @@ public final class UnifyChallengeProto {
       private long timestamp_ ;
       /**
        * <code>required uint64 timestamp = 4;</code>
+       * @return Whether the timestamp field is set.
        */
       public boolean hasTimestamp() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+        return ((bitField0_ & 0x00000004) != 0);
       }
       /**
        * <code>required uint64 timestamp = 4;</code>
+       * @return The timestamp.
        */
       public long getTimestamp() {
         return timestamp_;
       }
       /**
        * <code>required uint64 timestamp = 4;</code>
+       * @param value The timestamp to set.
+       * @return This builder for chaining.
        */
       public Builder setTimestamp(long value) {
         bitField0_ |= 0x00000004;
@@ -762,6 +1043,7 @@ public final class UnifyChallengeProto {
       }
       /**
        * <code>required uint64 timestamp = 4;</code>
+       * @return This builder for chaining.
        */
       public Builder clearTimestamp() {
         bitField0_ = (bitField0_ & ~0x00000004);
@@ -769,11 +1051,66 @@ public final class UnifyChallengeProto {
         onChanged();
         return this;
       }
+
+      private int sensorId_ ;
+      /**
+       * <pre>
+       * Sensor type, see android.hardware.Sensor.getType()
+       * </pre>
+       *
+       * <code>optional int32 sensorId = 5;</code>
+       * @return Whether the sensorId field is set.
+       */
+      public boolean hasSensorId() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <pre>
+       * Sensor type, see android.hardware.Sensor.getType()
+       * </pre>
+       *
+       * <code>optional int32 sensorId = 5;</code>
+       * @return The sensorId.
+       */
+      public int getSensorId() {
+        return sensorId_;
+      }
+      /**
+       * <pre>
+       * Sensor type, see android.hardware.Sensor.getType()
+       * </pre>
+       *
+       * <code>optional int32 sensorId = 5;</code>
+       * @param value The sensorId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSensorId(int value) {
+        bitField0_ |= 0x00000008;
+        sensorId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Sensor type, see android.hardware.Sensor.getType()
+       * </pre>
+       *
+       * <code>optional int32 sensorId = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSensorId() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        sensorId_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFields(unknownFields);
       }
 
+      @java.lang.Override
       public final Builder mergeUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.mergeUnknownFields(unknownFields);
@@ -795,11 +1132,12 @@ public final class UnifyChallengeProto {
 
     @java.lang.Deprecated public static final com.google.protobuf.Parser<SensorData>
         PARSER = new com.google.protobuf.AbstractParser<SensorData>() {
+      @java.lang.Override
       public SensorData parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new SensorData(input, extensionRegistry);
+        return new SensorData(input, extensionRegistry);
       }
     };
 
@@ -812,53 +1150,132 @@ public final class UnifyChallengeProto {
       return PARSER;
     }
 
+    @java.lang.Override
     public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface SensorDataCollectionOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:unifyidchallenge.SensorDataCollection)
+  public interface SensorInfoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:unifyidchallenge.SensorInfo)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+     * <code>required int32 sensorId = 1;</code>
+     * @return Whether the sensorId field is set.
      */
-    java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData> 
-        getSensorDataList();
+    boolean hasSensorId();
     /**
-     * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+     * <code>required int32 sensorId = 1;</code>
+     * @return The sensorId.
      */
-    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData getSensorData(int index);
+    int getSensorId();
+
     /**
-     * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+     * <code>optional string name = 2;</code>
+     * @return Whether the name field is set.
      */
-    int getSensorDataCount();
+    boolean hasName();
     /**
-     * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+     * <code>optional string name = 2;</code>
+     * @return The name.
      */
-    java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataOrBuilder> 
-        getSensorDataOrBuilderList();
+    java.lang.String getName();
     /**
-     * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+     * <code>optional string name = 2;</code>
+     * @return The bytes for name.
      */
-    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataOrBuilder getSensorDataOrBuilder(
-        int index);
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>optional int32 samplingPeriodUs = 3;</code>
+     * @return Whether the samplingPeriodUs field is set.
+     */
+    boolean hasSamplingPeriodUs();
+    /**
+     * <code>optional int32 samplingPeriodUs = 3;</code>
+     * @return The samplingPeriodUs.
+     */
+    int getSamplingPeriodUs();
+
+    /**
+     * <code>optional int32 maxReportLatencyUs = 4;</code>
+     * @return Whether the maxReportLatencyUs field is set.
+     */
+    boolean hasMaxReportLatencyUs();
+    /**
+     * <code>optional int32 maxReportLatencyUs = 4;</code>
+     * @return The maxReportLatencyUs.
+     */
+    int getMaxReportLatencyUs();
+
+    /**
+     * <code>optional string vendor = 5;</code>
+     * @return Whether the vendor field is set.
+     */
+    boolean hasVendor();
+    /**
+     * <code>optional string vendor = 5;</code>
+     * @return The vendor.
+     */
+    java.lang.String getVendor();
+    /**
+     * <code>optional string vendor = 5;</code>
+     * @return The bytes for vendor.
+     */
+    com.google.protobuf.ByteString
+        getVendorBytes();
+
+    /**
+     * <code>optional float resolution = 6;</code>
+     * @return Whether the resolution field is set.
+     */
+    boolean hasResolution();
+    /**
+     * <code>optional float resolution = 6;</code>
+     * @return The resolution.
+     */
+    float getResolution();
+
+    /**
+     * <code>optional float maximumRange = 7;</code>
+     * @return Whether the maximumRange field is set.
+     */
+    boolean hasMaximumRange();
+    /**
+     * <code>optional float maximumRange = 7;</code>
+     * @return The maximumRange.
+     */
+    float getMaximumRange();
   }
   /**
-   * Protobuf type {@code unifyidchallenge.SensorDataCollection}
+   * <pre>
+   * Recorded once per session for every sensor that was captured.
+   * </pre>
+   *
+   * Protobuf type {@code unifyidchallenge.SensorInfo}
    */
-  public  static final class SensorDataCollection extends
+  public  static final class SensorInfo extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:unifyidchallenge.SensorDataCollection)
-      SensorDataCollectionOrBuilder {
-    // Use SensorDataCollection.newBuilder() to construct.
-    private SensorDataCollection(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:unifyidchallenge.SensorInfo)
+      SensorInfoOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SensorInfo.newBuilder() to construct.
+    private SensorInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private SensorDataCollection() {
-      sensorData_ = java.util.Collections.emptyList();
+    private SensorInfo() {
+      name_ = "";
+      vendor_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SensorInfo();
     }
 
     @java.lang.Override
@@ -866,11 +1283,14 @@ public final class UnifyChallengeProto {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private SensorDataCollection(
+    private SensorInfo(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
       int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
@@ -882,20 +1302,48 @@ public final class UnifyChallengeProto {
             case 0:
               done = true;
               break;
-            default: {
-              if (!parseUnknownField(input, unknownFields,
-                                     extensionRegistry, tag)) {
-                done = true;
-              }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              sensorId_ = input.readInt32();
               break;
             }
-            case 26: {
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                sensorData_ = new java.util.ArrayList<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData>();
-                mutable_bitField0_ |= 0x00000001;
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              name_ = bs;
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              samplingPeriodUs_ = input.readInt32();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              maxReportLatencyUs_ = input.readInt32();
+              break;
+            }
+            case 42: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000010;
+              vendor_ = bs;
+              break;
+            }
+            case 53: {
+              bitField0_ |= 0x00000020;
+              resolution_ = input.readFloat();
+              break;
+            }
+            case 61: {
+              bitField0_ |= 0x00000040;
+              maximumRange_ = input.readFloat();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
               }
-              sensorData_.add(
-                  input.readMessage(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.PARSER, extensionRegistry));
               break;
             }
           }
@@ -906,114 +1354,327 @@ public final class UnifyChallengeProto {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          sensorData_ = java.util.Collections.unmodifiableList(sensorData_);
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorDataCollection_descriptor;
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorInfo_descriptor;
     }
 
+    @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorDataCollection_fieldAccessorTable
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorInfo_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection.Builder.class);
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder.class);
     }
 
-    public static final int SENSORDATA_FIELD_NUMBER = 3;
-    private java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData> sensorData_;
+    private int bitField0_;
+    public static final int SENSORID_FIELD_NUMBER = 1;
+    private int sensorId_;
     /**
-     * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+     * <code>required int32 sensorId = 1;</code>
+     * @return Whether the sensorId field is set.
      */
-    public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData> getSensorDataList() {
-      return sensorData_;
+    public boolean hasSensorId() {
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
-     * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+     * <code>required int32 sensorId = 1;</code>
+     * @return The sensorId.
      */
-    public java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataOrBuilder> 
-        getSensorDataOrBuilderList() {
-      return sensorData_;
+    public int getSensorId() {
+      return sensorId_;
     }
+
+    public static final int NAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object name_;
     /**
-     * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+     * <code>optional string name = 2;</code>
+     * @return Whether the name field is set.
      */
-    public int getSensorDataCount() {
-      return sensorData_.size();
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
-     * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+     * <code>optional string name = 2;</code>
+     * @return The name.
      */
-    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData getSensorData(int index) {
-      return sensorData_.get(index);
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
+      }
     }
     /**
-     * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+     * <code>optional string name = 2;</code>
+     * @return The bytes for name.
      */
-    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataOrBuilder getSensorDataOrBuilder(
-        int index) {
-      return sensorData_.get(index);
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
+    public static final int SAMPLINGPERIODUS_FIELD_NUMBER = 3;
+    private int samplingPeriodUs_;
+    /**
+     * <code>optional int32 samplingPeriodUs = 3;</code>
+     * @return Whether the samplingPeriodUs field is set.
+     */
+    public boolean hasSamplingPeriodUs() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional int32 samplingPeriodUs = 3;</code>
+     * @return The samplingPeriodUs.
+     */
+    public int getSamplingPeriodUs() {
+      return samplingPeriodUs_;
+    }
 
-      for (int i = 0; i < getSensorDataCount(); i++) {
-        if (!getSensorData(i).isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
+    public static final int MAXREPORTLATENCYUS_FIELD_NUMBER = 4;
+    private int maxReportLatencyUs_;
+    /**
+     * <code>optional int32 maxReportLatencyUs = 4;</code>
+     * @return Whether the maxReportLatencyUs field is set.
+     */
+    public boolean hasMaxReportLatencyUs() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional int32 maxReportLatencyUs = 4;</code>
+     * @return The maxReportLatencyUs.
+     */
+    public int getMaxReportLatencyUs() {
+      return maxReportLatencyUs_;
+    }
+
+    public static final int VENDOR_FIELD_NUMBER = 5;
+    private volatile java.lang.Object vendor_;
+    /**
+     * <code>optional string vendor = 5;</code>
+     * @return Whether the vendor field is set.
+     */
+    public boolean hasVendor() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional string vendor = 5;</code>
+     * @return The vendor.
+     */
+    public java.lang.String getVendor() {
+      java.lang.Object ref = vendor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          vendor_ = s;
         }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string vendor = 5;</code>
+     * @return The bytes for vendor.
+     */
+    public com.google.protobuf.ByteString
+        getVendorBytes() {
+      java.lang.Object ref = vendor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        vendor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int RESOLUTION_FIELD_NUMBER = 6;
+    private float resolution_;
+    /**
+     * <code>optional float resolution = 6;</code>
+     * @return Whether the resolution field is set.
+     */
+    public boolean hasResolution() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional float resolution = 6;</code>
+     * @return The resolution.
+     */
+    public float getResolution() {
+      return resolution_;
+    }
+
+    public static final int MAXIMUMRANGE_FIELD_NUMBER = 7;
+    private float maximumRange_;
+    /**
+     * <code>optional float maximumRange = 7;</code>
+     * @return Whether the maximumRange field is set.
+     */
+    public boolean hasMaximumRange() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>optional float maximumRange = 7;</code>
+     * @return The maximumRange.
+     */
+    public float getMaximumRange() {
+      return maximumRange_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasSensorId()) {
+        memoizedIsInitialized = 0;
+        return false;
       }
       memoizedIsInitialized = 1;
       return true;
     }
 
+    @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      for (int i = 0; i < sensorData_.size(); i++) {
-        output.writeMessage(3, sensorData_.get(i));
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt32(1, sensorId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, name_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt32(3, samplingPeriodUs_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt32(4, maxReportLatencyUs_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, vendor_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeFloat(6, resolution_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        output.writeFloat(7, maximumRange_);
       }
       unknownFields.writeTo(output);
     }
 
+    @java.lang.Override
     public int getSerializedSize() {
       int size = memoizedSize;
       if (size != -1) return size;
 
       size = 0;
-      for (int i = 0; i < sensorData_.size(); i++) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, sensorData_.get(i));
+          .computeInt32Size(1, sensorId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, name_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, samplingPeriodUs_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, maxReportLatencyUs_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, vendor_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFloatSize(6, resolution_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFloatSize(7, maximumRange_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
     }
 
-    private static final long serialVersionUID = 0L;
     @java.lang.Override
     public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection)) {
+      if (!(obj instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo)) {
         return super.equals(obj);
       }
-      com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection other = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection) obj;
+      com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo other = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo) obj;
 
-      boolean result = true;
-      result = result && getSensorDataList()
-          .equals(other.getSensorDataList());
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
+      if (hasSensorId() != other.hasSensorId()) return false;
+      if (hasSensorId()) {
+        if (getSensorId()
+            != other.getSensorId()) return false;
+      }
+      if (hasName() != other.hasName()) return false;
+      if (hasName()) {
+        if (!getName()
+            .equals(other.getName())) return false;
+      }
+      if (hasSamplingPeriodUs() != other.hasSamplingPeriodUs()) return false;
+      if (hasSamplingPeriodUs()) {
+        if (getSamplingPeriodUs()
+            != other.getSamplingPeriodUs()) return false;
+      }
+      if (hasMaxReportLatencyUs() != other.hasMaxReportLatencyUs()) return false;
+      if (hasMaxReportLatencyUs()) {
+        if (getMaxReportLatencyUs()
+            != other.getMaxReportLatencyUs()) return false;
+      }
+      if (hasVendor() != other.hasVendor()) return false;
+      if (hasVendor()) {
+        if (!getVendor()
+            .equals(other.getVendor())) return false;
+      }
+      if (hasResolution() != other.hasResolution()) return false;
+      if (hasResolution()) {
+        if (java.lang.Float.floatToIntBits(getResolution())
+            != java.lang.Float.floatToIntBits(
+                other.getResolution())) return false;
+      }
+      if (hasMaximumRange() != other.hasMaximumRange()) return false;
+      if (hasMaximumRange()) {
+        if (java.lang.Float.floatToIntBits(getMaximumRange())
+            != java.lang.Float.floatToIntBits(
+                other.getMaximumRange())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
     }
 
     @java.lang.Override
@@ -1022,68 +1683,105 @@ public final class UnifyChallengeProto {
         return memoizedHashCode;
       }
       int hash = 41;
-      hash = (19 * hash) + getDescriptorForType().hashCode();
-      if (getSensorDataCount() > 0) {
-        hash = (37 * hash) + SENSORDATA_FIELD_NUMBER;
-        hash = (53 * hash) + getSensorDataList().hashCode();
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasSensorId()) {
+        hash = (37 * hash) + SENSORID_FIELD_NUMBER;
+        hash = (53 * hash) + getSensorId();
+      }
+      if (hasName()) {
+        hash = (37 * hash) + NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getName().hashCode();
+      }
+      if (hasSamplingPeriodUs()) {
+        hash = (37 * hash) + SAMPLINGPERIODUS_FIELD_NUMBER;
+        hash = (53 * hash) + getSamplingPeriodUs();
+      }
+      if (hasMaxReportLatencyUs()) {
+        hash = (37 * hash) + MAXREPORTLATENCYUS_FIELD_NUMBER;
+        hash = (53 * hash) + getMaxReportLatencyUs();
+      }
+      if (hasVendor()) {
+        hash = (37 * hash) + VENDOR_FIELD_NUMBER;
+        hash = (53 * hash) + getVendor().hashCode();
+      }
+      if (hasResolution()) {
+        hash = (37 * hash) + RESOLUTION_FIELD_NUMBER;
+        hash = (53 * hash) + java.lang.Float.floatToIntBits(
+            getResolution());
+      }
+      if (hasMaximumRange()) {
+        hash = (37 * hash) + MAXIMUMRANGE_FIELD_NUMBER;
+        hash = (53 * hash) + java.lang.Float.floatToIntBits(
+            getMaximumRange());
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseFrom(
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseFrom(
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseFrom(byte[] data)
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseFrom(
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseFrom(java.io.InputStream input)
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseFrom(
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseDelimitedFrom(java.io.InputStream input)
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseDelimitedFrom(
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseFrom(
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseFrom(
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1091,13 +1789,15 @@ public final class UnifyChallengeProto {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
+    @java.lang.Override
     public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection prototype) {
+    public static Builder newBuilder(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
+    @java.lang.Override
     public Builder toBuilder() {
       return this == DEFAULT_INSTANCE
           ? new Builder() : new Builder().mergeFrom(this);
@@ -1110,25 +1810,30 @@ public final class UnifyChallengeProto {
       return builder;
     }
     /**
-     * Protobuf type {@code unifyidchallenge.SensorDataCollection}
+     * <pre>
+     * Recorded once per session for every sensor that was captured.
+     * </pre>
+     *
+     * Protobuf type {@code unifyidchallenge.SensorInfo}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:unifyidchallenge.SensorDataCollection)
-        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollectionOrBuilder {
+        // @@protoc_insertion_point(builder_implements:unifyidchallenge.SensorInfo)
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfoOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorDataCollection_descriptor;
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorInfo_descriptor;
       }
 
+      @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorDataCollection_fieldAccessorTable
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorInfo_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection.Builder.class);
+                com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder.class);
       }
 
-      // Construct using com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection.newBuilder()
+      // Construct using com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -1141,139 +1846,178 @@ public final class UnifyChallengeProto {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
-          getSensorDataFieldBuilder();
         }
       }
+      @java.lang.Override
       public Builder clear() {
         super.clear();
-        if (sensorDataBuilder_ == null) {
-          sensorData_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-        } else {
-          sensorDataBuilder_.clear();
-        }
+        sensorId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        samplingPeriodUs_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        maxReportLatencyUs_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        vendor_ = "";
+        bitField0_ = (bitField0_ & ~0x00000010);
+        resolution_ = 0F;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        maximumRange_ = 0F;
+        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
 
+      @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorDataCollection_descriptor;
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorInfo_descriptor;
       }
 
-      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection getDefaultInstanceForType() {
-        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection.getDefaultInstance();
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo getDefaultInstanceForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.getDefaultInstance();
       }
 
-      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection build() {
-        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection result = buildPartial();
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo build() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection buildPartial() {
-        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection result = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection(this);
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo buildPartial() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo result = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo(this);
         int from_bitField0_ = bitField0_;
-        if (sensorDataBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001)) {
-            sensorData_ = java.util.Collections.unmodifiableList(sensorData_);
-            bitField0_ = (bitField0_ & ~0x00000001);
-          }
-          result.sensorData_ = sensorData_;
-        } else {
-          result.sensorData_ = sensorDataBuilder_.build();
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.sensorId_ = sensorId_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.name_ = name_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.samplingPeriodUs_ = samplingPeriodUs_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.maxReportLatencyUs_ = maxReportLatencyUs_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.vendor_ = vendor_;
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.resolution_ = resolution_;
+          to_bitField0_ |= 0x00000020;
         }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.maximumRange_ = maximumRange_;
+          to_bitField0_ |= 0x00000040;
+        }
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
+      @java.lang.Override
       public Builder clone() {
-        return (Builder) super.clone();
+        return super.clone();
       }
+      @java.lang.Override
       public Builder setField(
           com.google.protobuf.Descriptors.FieldDescriptor field,
-          Object value) {
-        return (Builder) super.setField(field, value);
+          java.lang.Object value) {
+        return super.setField(field, value);
       }
+      @java.lang.Override
       public Builder clearField(
           com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
+        return super.clearField(field);
       }
+      @java.lang.Override
       public Builder clearOneof(
           com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
+        return super.clearOneof(oneof);
       }
+      @java.lang.Override
       public Builder setRepeatedField(
           com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
       }
+      @java.lang.Override
       public Builder addRepeatedField(
           com.google.protobuf.Descriptors.FieldDescriptor field,
-          Object value) {
-        return (Builder) super.addRepeatedField(field, value);
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
       }
+      @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection) {
-          return mergeFrom((com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection)other);
+        if (other instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo) {
+          return mergeFrom((com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection other) {
-        if (other == com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection.getDefaultInstance()) return this;
-        if (sensorDataBuilder_ == null) {
-          if (!other.sensorData_.isEmpty()) {
-            if (sensorData_.isEmpty()) {
-              sensorData_ = other.sensorData_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-            } else {
-              ensureSensorDataIsMutable();
-              sensorData_.addAll(other.sensorData_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.sensorData_.isEmpty()) {
-            if (sensorDataBuilder_.isEmpty()) {
-              sensorDataBuilder_.dispose();
-              sensorDataBuilder_ = null;
-              sensorData_ = other.sensorData_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-              sensorDataBuilder_ = 
-                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getSensorDataFieldBuilder() : null;
-            } else {
-              sensorDataBuilder_.addAllMessages(other.sensorData_);
-            }
-          }
+      public Builder mergeFrom(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo other) {
+        if (other == com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.getDefaultInstance()) return this;
+        if (other.hasSensorId()) {
+          setSensorId(other.getSensorId());
+        }
+        if (other.hasName()) {
+          bitField0_ |= 0x00000002;
+          name_ = other.name_;
+          onChanged();
+        }
+        if (other.hasSamplingPeriodUs()) {
+          setSamplingPeriodUs(other.getSamplingPeriodUs());
+        }
+        if (other.hasMaxReportLatencyUs()) {
+          setMaxReportLatencyUs(other.getMaxReportLatencyUs());
+        }
+        if (other.hasVendor()) {
+          bitField0_ |= 0x00000010;
+          vendor_ = other.vendor_;
+          onChanged();
+        }
+        if (other.hasResolution()) {
+          setResolution(other.getResolution());
+        }
+        if (other.hasMaximumRange()) {
+          setMaximumRange(other.getMaximumRange());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
       }
 
+      @java.lang.Override
       public final boolean isInitialized() {
-        for (int i = 0; i < getSensorDataCount(); i++) {
-          if (!getSensorData(i).isInitialized()) {
-            return false;
-          }
+        if (!hasSensorId()) {
+          return false;
         }
         return true;
       }
 
+      @java.lang.Override
       public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parsedMessage = null;
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection) e.getUnfinishedMessage();
+          parsedMessage = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -1284,289 +2028,18033 @@ public final class UnifyChallengeProto {
       }
       private int bitField0_;
 
-      private java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData> sensorData_ =
-        java.util.Collections.emptyList();
-      private void ensureSensorDataIsMutable() {
-        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          sensorData_ = new java.util.ArrayList<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData>(sensorData_);
-          bitField0_ |= 0x00000001;
-         }
+      private int sensorId_ ;
+      /**
+       * <code>required int32 sensorId = 1;</code>
+       * @return Whether the sensorId field is set.
+       */
+      public boolean hasSensorId() {
+        return ((bitField0_ & 0x00000001) != 0);
       }
-
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataOrBuilder> sensorDataBuilder_;
-
       /**
-       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       * <code>required int32 sensorId = 1;</code>
+       * @return The sensorId.
        */
-      public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData> getSensorDataList() {
-        if (sensorDataBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(sensorData_);
-        } else {
-          return sensorDataBuilder_.getMessageList();
-        }
+      public int getSensorId() {
+        return sensorId_;
       }
       /**
-       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       * <code>required int32 sensorId = 1;</code>
+       * @param value The sensorId to set.
+       * @return This builder for chaining.
        */
-      public int getSensorDataCount() {
-        if (sensorDataBuilder_ == null) {
-          return sensorData_.size();
-        } else {
-          return sensorDataBuilder_.getCount();
-        }
+      public Builder setSensorId(int value) {
+        bitField0_ |= 0x00000001;
+        sensorId_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       * <code>required int32 sensorId = 1;</code>
+       * @return This builder for chaining.
        */
-      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData getSensorData(int index) {
-        if (sensorDataBuilder_ == null) {
-          return sensorData_.get(index);
-        } else {
-          return sensorDataBuilder_.getMessage(index);
-        }
+      public Builder clearSensorId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sensorId_ = 0;
+        onChanged();
+        return this;
       }
+
+      private java.lang.Object name_ = "";
       /**
-       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       * <code>optional string name = 2;</code>
+       * @return Whether the name field is set.
        */
-      public Builder setSensorData(
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string name = 2;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 2;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 2;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 2;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int samplingPeriodUs_ ;
+      /**
+       * <code>optional int32 samplingPeriodUs = 3;</code>
+       * @return Whether the samplingPeriodUs field is set.
+       */
+      public boolean hasSamplingPeriodUs() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int32 samplingPeriodUs = 3;</code>
+       * @return The samplingPeriodUs.
+       */
+      public int getSamplingPeriodUs() {
+        return samplingPeriodUs_;
+      }
+      /**
+       * <code>optional int32 samplingPeriodUs = 3;</code>
+       * @param value The samplingPeriodUs to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSamplingPeriodUs(int value) {
+        bitField0_ |= 0x00000004;
+        samplingPeriodUs_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 samplingPeriodUs = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSamplingPeriodUs() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        samplingPeriodUs_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int maxReportLatencyUs_ ;
+      /**
+       * <code>optional int32 maxReportLatencyUs = 4;</code>
+       * @return Whether the maxReportLatencyUs field is set.
+       */
+      public boolean hasMaxReportLatencyUs() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional int32 maxReportLatencyUs = 4;</code>
+       * @return The maxReportLatencyUs.
+       */
+      public int getMaxReportLatencyUs() {
+        return maxReportLatencyUs_;
+      }
+      /**
+       * <code>optional int32 maxReportLatencyUs = 4;</code>
+       * @param value The maxReportLatencyUs to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaxReportLatencyUs(int value) {
+        bitField0_ |= 0x00000008;
+        maxReportLatencyUs_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 maxReportLatencyUs = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxReportLatencyUs() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        maxReportLatencyUs_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object vendor_ = "";
+      /**
+       * <code>optional string vendor = 5;</code>
+       * @return Whether the vendor field is set.
+       */
+      public boolean hasVendor() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional string vendor = 5;</code>
+       * @return The vendor.
+       */
+      public java.lang.String getVendor() {
+        java.lang.Object ref = vendor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            vendor_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string vendor = 5;</code>
+       * @return The bytes for vendor.
+       */
+      public com.google.protobuf.ByteString
+          getVendorBytes() {
+        java.lang.Object ref = vendor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          vendor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string vendor = 5;</code>
+       * @param value The vendor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVendor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        vendor_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string vendor = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVendor() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        vendor_ = getDefaultInstance().getVendor();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string vendor = 5;</code>
+       * @param value The bytes for vendor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVendorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        vendor_ = value;
+        onChanged();
+        return this;
+      }
+
+      private float resolution_ ;
+      /**
+       * <code>optional float resolution = 6;</code>
+       * @return Whether the resolution field is set.
+       */
+      public boolean hasResolution() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional float resolution = 6;</code>
+       * @return The resolution.
+       */
+      public float getResolution() {
+        return resolution_;
+      }
+      /**
+       * <code>optional float resolution = 6;</code>
+       * @param value The resolution to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResolution(float value) {
+        bitField0_ |= 0x00000020;
+        resolution_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional float resolution = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResolution() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        resolution_ = 0F;
+        onChanged();
+        return this;
+      }
+
+      private float maximumRange_ ;
+      /**
+       * <code>optional float maximumRange = 7;</code>
+       * @return Whether the maximumRange field is set.
+       */
+      public boolean hasMaximumRange() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>optional float maximumRange = 7;</code>
+       * @return The maximumRange.
+       */
+      public float getMaximumRange() {
+        return maximumRange_;
+      }
+      /**
+       * <code>optional float maximumRange = 7;</code>
+       * @param value The maximumRange to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaximumRange(float value) {
+        bitField0_ |= 0x00000040;
+        maximumRange_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional float maximumRange = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaximumRange() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        maximumRange_ = 0F;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:unifyidchallenge.SensorInfo)
+    }
+
+    // @@protoc_insertion_point(class_scope:unifyidchallenge.SensorInfo)
+    private static final com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo();
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<SensorInfo>
+        PARSER = new com.google.protobuf.AbstractParser<SensorInfo>() {
+      @java.lang.Override
+      public SensorInfo parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SensorInfo(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<SensorInfo> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SensorInfo> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SensorDataCollectionOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:unifyidchallenge.SensorDataCollection)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+     */
+    java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData> 
+        getSensorDataList();
+    /**
+     * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData getSensorData(int index);
+    /**
+     * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+     */
+    int getSensorDataCount();
+    /**
+     * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+     */
+    java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataOrBuilder> 
+        getSensorDataOrBuilderList();
+    /**
+     * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataOrBuilder getSensorDataOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+     */
+    java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo> 
+        getSensorsList();
+    /**
+     * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo getSensors(int index);
+    /**
+     * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+     */
+    int getSensorsCount();
+    /**
+     * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+     */
+    java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfoOrBuilder> 
+        getSensorsOrBuilderList();
+    /**
+     * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfoOrBuilder getSensorsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code unifyidchallenge.SensorDataCollection}
+   */
+  public  static final class SensorDataCollection extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:unifyidchallenge.SensorDataCollection)
+      SensorDataCollectionOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SensorDataCollection.newBuilder() to construct.
+    private SensorDataCollection(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SensorDataCollection() {
+      sensorData_ = java.util.Collections.emptyList();
+      sensors_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SensorDataCollection();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SensorDataCollection(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                sensorData_ = new java.util.ArrayList<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              sensorData_.add(
+                  input.readMessage(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.PARSER, extensionRegistry));
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                sensors_ = new java.util.ArrayList<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              sensors_.add(
+                  input.readMessage(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.PARSER, extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          sensorData_ = java.util.Collections.unmodifiableList(sensorData_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          sensors_ = java.util.Collections.unmodifiableList(sensors_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorDataCollection_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorDataCollection_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection.Builder.class);
+    }
+
+    public static final int SENSORDATA_FIELD_NUMBER = 3;
+    private java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData> sensorData_;
+    /**
+     * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+     */
+    public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData> getSensorDataList() {
+      return sensorData_;
+    }
+    /**
+     * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+     */
+    public java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataOrBuilder> 
+        getSensorDataOrBuilderList() {
+      return sensorData_;
+    }
+    /**
+     * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+     */
+    public int getSensorDataCount() {
+      return sensorData_.size();
+    }
+    /**
+     * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData getSensorData(int index) {
+      return sensorData_.get(index);
+    }
+    /**
+     * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataOrBuilder getSensorDataOrBuilder(
+        int index) {
+      return sensorData_.get(index);
+    }
+
+    public static final int SENSORS_FIELD_NUMBER = 4;
+    private java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo> sensors_;
+    /**
+     * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+     */
+    public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo> getSensorsList() {
+      return sensors_;
+    }
+    /**
+     * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+     */
+    public java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfoOrBuilder> 
+        getSensorsOrBuilderList() {
+      return sensors_;
+    }
+    /**
+     * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+     */
+    public int getSensorsCount() {
+      return sensors_.size();
+    }
+    /**
+     * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo getSensors(int index) {
+      return sensors_.get(index);
+    }
+    /**
+     * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfoOrBuilder getSensorsOrBuilder(
+        int index) {
+      return sensors_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      for (int i = 0; i < getSensorDataCount(); i++) {
+        if (!getSensorData(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getSensorsCount(); i++) {
+        if (!getSensors(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < sensorData_.size(); i++) {
+        output.writeMessage(3, sensorData_.get(i));
+      }
+      for (int i = 0; i < sensors_.size(); i++) {
+        output.writeMessage(4, sensors_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < sensorData_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, sensorData_.get(i));
+      }
+      for (int i = 0; i < sensors_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, sensors_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection)) {
+        return super.equals(obj);
+      }
+      com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection other = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection) obj;
+
+      if (!getSensorDataList()
+          .equals(other.getSensorDataList())) return false;
+      if (!getSensorsList()
+          .equals(other.getSensorsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getSensorDataCount() > 0) {
+        hash = (37 * hash) + SENSORDATA_FIELD_NUMBER;
+        hash = (53 * hash) + getSensorDataList().hashCode();
+      }
+      if (getSensorsCount() > 0) {
+        hash = (37 * hash) + SENSORS_FIELD_NUMBER;
+        hash = (53 * hash) + getSensorsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code unifyidchallenge.SensorDataCollection}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:unifyidchallenge.SensorDataCollection)
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollectionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorDataCollection_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorDataCollection_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection.Builder.class);
+      }
+
+      // Construct using com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getSensorDataFieldBuilder();
+          getSensorsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (sensorDataBuilder_ == null) {
+          sensorData_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          sensorDataBuilder_.clear();
+        }
+        if (sensorsBuilder_ == null) {
+          sensors_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          sensorsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorDataCollection_descriptor;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection getDefaultInstanceForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection build() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection buildPartial() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection result = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection(this);
+        int from_bitField0_ = bitField0_;
+        if (sensorDataBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            sensorData_ = java.util.Collections.unmodifiableList(sensorData_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.sensorData_ = sensorData_;
+        } else {
+          result.sensorData_ = sensorDataBuilder_.build();
+        }
+        if (sensorsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            sensors_ = java.util.Collections.unmodifiableList(sensors_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.sensors_ = sensors_;
+        } else {
+          result.sensors_ = sensorsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection) {
+          return mergeFrom((com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection other) {
+        if (other == com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection.getDefaultInstance()) return this;
+        if (sensorDataBuilder_ == null) {
+          if (!other.sensorData_.isEmpty()) {
+            if (sensorData_.isEmpty()) {
+              sensorData_ = other.sensorData_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureSensorDataIsMutable();
+              sensorData_.addAll(other.sensorData_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.sensorData_.isEmpty()) {
+            if (sensorDataBuilder_.isEmpty()) {
+              sensorDataBuilder_.dispose();
+              sensorDataBuilder_ = null;
+              sensorData_ = other.sensorData_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              sensorDataBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getSensorDataFieldBuilder() : null;
+            } else {
+              sensorDataBuilder_.addAllMessages(other.sensorData_);
+            }
+          }
+        }
+        if (sensorsBuilder_ == null) {
+          if (!other.sensors_.isEmpty()) {
+            if (sensors_.isEmpty()) {
+              sensors_ = other.sensors_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureSensorsIsMutable();
+              sensors_.addAll(other.sensors_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.sensors_.isEmpty()) {
+            if (sensorsBuilder_.isEmpty()) {
+              sensorsBuilder_.dispose();
+              sensorsBuilder_ = null;
+              sensors_ = other.sensors_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              sensorsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getSensorsFieldBuilder() : null;
+            } else {
+              sensorsBuilder_.addAllMessages(other.sensors_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        for (int i = 0; i < getSensorDataCount(); i++) {
+          if (!getSensorData(i).isInitialized()) {
+            return false;
+          }
+        }
+        for (int i = 0; i < getSensorsCount(); i++) {
+          if (!getSensors(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData> sensorData_ =
+        java.util.Collections.emptyList();
+      private void ensureSensorDataIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          sensorData_ = new java.util.ArrayList<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData>(sensorData_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataOrBuilder> sensorDataBuilder_;
+
+      /**
+       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       */
+      public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData> getSensorDataList() {
+        if (sensorDataBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(sensorData_);
+        } else {
+          return sensorDataBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       */
+      public int getSensorDataCount() {
+        if (sensorDataBuilder_ == null) {
+          return sensorData_.size();
+        } else {
+          return sensorDataBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData getSensorData(int index) {
+        if (sensorDataBuilder_ == null) {
+          return sensorData_.get(index);
+        } else {
+          return sensorDataBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       */
+      public Builder setSensorData(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData value) {
+        if (sensorDataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSensorDataIsMutable();
+          sensorData_.set(index, value);
+          onChanged();
+        } else {
+          sensorDataBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       */
+      public Builder setSensorData(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.Builder builderForValue) {
+        if (sensorDataBuilder_ == null) {
+          ensureSensorDataIsMutable();
+          sensorData_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          sensorDataBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       */
+      public Builder addSensorData(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData value) {
+        if (sensorDataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSensorDataIsMutable();
+          sensorData_.add(value);
+          onChanged();
+        } else {
+          sensorDataBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       */
+      public Builder addSensorData(
           int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData value) {
         if (sensorDataBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureSensorDataIsMutable();
-          sensorData_.set(index, value);
+          ensureSensorDataIsMutable();
+          sensorData_.add(index, value);
+          onChanged();
+        } else {
+          sensorDataBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       */
+      public Builder addSensorData(
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.Builder builderForValue) {
+        if (sensorDataBuilder_ == null) {
+          ensureSensorDataIsMutable();
+          sensorData_.add(builderForValue.build());
+          onChanged();
+        } else {
+          sensorDataBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       */
+      public Builder addSensorData(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.Builder builderForValue) {
+        if (sensorDataBuilder_ == null) {
+          ensureSensorDataIsMutable();
+          sensorData_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          sensorDataBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       */
+      public Builder addAllSensorData(
+          java.lang.Iterable<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData> values) {
+        if (sensorDataBuilder_ == null) {
+          ensureSensorDataIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, sensorData_);
+          onChanged();
+        } else {
+          sensorDataBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       */
+      public Builder clearSensorData() {
+        if (sensorDataBuilder_ == null) {
+          sensorData_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          sensorDataBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       */
+      public Builder removeSensorData(int index) {
+        if (sensorDataBuilder_ == null) {
+          ensureSensorDataIsMutable();
+          sensorData_.remove(index);
+          onChanged();
+        } else {
+          sensorDataBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.Builder getSensorDataBuilder(
+          int index) {
+        return getSensorDataFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataOrBuilder getSensorDataOrBuilder(
+          int index) {
+        if (sensorDataBuilder_ == null) {
+          return sensorData_.get(index);  } else {
+          return sensorDataBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       */
+      public java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataOrBuilder> 
+           getSensorDataOrBuilderList() {
+        if (sensorDataBuilder_ != null) {
+          return sensorDataBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(sensorData_);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.Builder addSensorDataBuilder() {
+        return getSensorDataFieldBuilder().addBuilder(
+            com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.Builder addSensorDataBuilder(
+          int index) {
+        return getSensorDataFieldBuilder().addBuilder(
+            index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       */
+      public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.Builder> 
+           getSensorDataBuilderList() {
+        return getSensorDataFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataOrBuilder> 
+          getSensorDataFieldBuilder() {
+        if (sensorDataBuilder_ == null) {
+          sensorDataBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataOrBuilder>(
+                  sensorData_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          sensorData_ = null;
+        }
+        return sensorDataBuilder_;
+      }
+
+      private java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo> sensors_ =
+        java.util.Collections.emptyList();
+      private void ensureSensorsIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          sensors_ = new java.util.ArrayList<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo>(sensors_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfoOrBuilder> sensorsBuilder_;
+
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+       */
+      public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo> getSensorsList() {
+        if (sensorsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(sensors_);
+        } else {
+          return sensorsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+       */
+      public int getSensorsCount() {
+        if (sensorsBuilder_ == null) {
+          return sensors_.size();
+        } else {
+          return sensorsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo getSensors(int index) {
+        if (sensorsBuilder_ == null) {
+          return sensors_.get(index);
+        } else {
+          return sensorsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+       */
+      public Builder setSensors(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo value) {
+        if (sensorsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSensorsIsMutable();
+          sensors_.set(index, value);
+          onChanged();
+        } else {
+          sensorsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+       */
+      public Builder setSensors(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder builderForValue) {
+        if (sensorsBuilder_ == null) {
+          ensureSensorsIsMutable();
+          sensors_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          sensorsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+       */
+      public Builder addSensors(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo value) {
+        if (sensorsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSensorsIsMutable();
+          sensors_.add(value);
+          onChanged();
+        } else {
+          sensorsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+       */
+      public Builder addSensors(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo value) {
+        if (sensorsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSensorsIsMutable();
+          sensors_.add(index, value);
+          onChanged();
+        } else {
+          sensorsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+       */
+      public Builder addSensors(
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder builderForValue) {
+        if (sensorsBuilder_ == null) {
+          ensureSensorsIsMutable();
+          sensors_.add(builderForValue.build());
+          onChanged();
+        } else {
+          sensorsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+       */
+      public Builder addSensors(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder builderForValue) {
+        if (sensorsBuilder_ == null) {
+          ensureSensorsIsMutable();
+          sensors_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          sensorsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+       */
+      public Builder addAllSensors(
+          java.lang.Iterable<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo> values) {
+        if (sensorsBuilder_ == null) {
+          ensureSensorsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, sensors_);
+          onChanged();
+        } else {
+          sensorsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+       */
+      public Builder clearSensors() {
+        if (sensorsBuilder_ == null) {
+          sensors_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          sensorsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+       */
+      public Builder removeSensors(int index) {
+        if (sensorsBuilder_ == null) {
+          ensureSensorsIsMutable();
+          sensors_.remove(index);
+          onChanged();
+        } else {
+          sensorsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder getSensorsBuilder(
+          int index) {
+        return getSensorsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfoOrBuilder getSensorsOrBuilder(
+          int index) {
+        if (sensorsBuilder_ == null) {
+          return sensors_.get(index);  } else {
+          return sensorsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+       */
+      public java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfoOrBuilder> 
+           getSensorsOrBuilderList() {
+        if (sensorsBuilder_ != null) {
+          return sensorsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(sensors_);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder addSensorsBuilder() {
+        return getSensorsFieldBuilder().addBuilder(
+            com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder addSensorsBuilder(
+          int index) {
+        return getSensorsFieldBuilder().addBuilder(
+            index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 4;</code>
+       */
+      public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder> 
+           getSensorsBuilderList() {
+        return getSensorsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfoOrBuilder> 
+          getSensorsFieldBuilder() {
+        if (sensorsBuilder_ == null) {
+          sensorsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfoOrBuilder>(
+                  sensors_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          sensors_ = null;
+        }
+        return sensorsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:unifyidchallenge.SensorDataCollection)
+    }
+
+    // @@protoc_insertion_point(class_scope:unifyidchallenge.SensorDataCollection)
+    private static final com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection();
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<SensorDataCollection>
+        PARSER = new com.google.protobuf.AbstractParser<SensorDataCollection>() {
+      @java.lang.Override
+      public SensorDataCollection parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SensorDataCollection(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<SensorDataCollection> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SensorDataCollection> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SensorColumnOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:unifyidchallenge.SensorColumn)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int32 sensorId = 1;</code>
+     * @return Whether the sensorId field is set.
+     */
+    boolean hasSensorId();
+    /**
+     * <code>required int32 sensorId = 1;</code>
+     * @return The sensorId.
+     */
+    int getSensorId();
+
+    /**
+     * <pre>
+     * Values per sample, values holds stride * sample count entries
+     * </pre>
+     *
+     * <code>required int32 stride = 2;</code>
+     * @return Whether the stride field is set.
+     */
+    boolean hasStride();
+    /**
+     * <pre>
+     * Values per sample, values holds stride * sample count entries
+     * </pre>
+     *
+     * <code>required int32 stride = 2;</code>
+     * @return The stride.
+     */
+    int getStride();
+
+    /**
+     * <pre>
+     * Sample timestamps are baseTimestamp plus the running sum of timestampDeltas
+     * </pre>
+     *
+     * <code>required sint64 baseTimestamp = 3;</code>
+     * @return Whether the baseTimestamp field is set.
+     */
+    boolean hasBaseTimestamp();
+    /**
+     * <pre>
+     * Sample timestamps are baseTimestamp plus the running sum of timestampDeltas
+     * </pre>
+     *
+     * <code>required sint64 baseTimestamp = 3;</code>
+     * @return The baseTimestamp.
+     */
+    long getBaseTimestamp();
+
+    /**
+     * <code>repeated sint64 timestampDeltas = 4 [packed = true];</code>
+     * @return A list containing the timestampDeltas.
+     */
+    java.util.List<java.lang.Long> getTimestampDeltasList();
+    /**
+     * <code>repeated sint64 timestampDeltas = 4 [packed = true];</code>
+     * @return The count of timestampDeltas.
+     */
+    int getTimestampDeltasCount();
+    /**
+     * <code>repeated sint64 timestampDeltas = 4 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The timestampDeltas at the given index.
+     */
+    long getTimestampDeltas(int index);
+
+    /**
+     * <code>repeated float values = 5 [packed = true];</code>
+     * @return A list containing the values.
+     */
+    java.util.List<java.lang.Float> getValuesList();
+    /**
+     * <code>repeated float values = 5 [packed = true];</code>
+     * @return The count of values.
+     */
+    int getValuesCount();
+    /**
+     * <code>repeated float values = 5 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The values at the given index.
+     */
+    float getValues(int index);
+  }
+  /**
+   * <pre>
+   * Version 2 session layout. Sensors are described once in a dictionary and samples are stored
+   * as packed per-sensor column chunks. Files start with the version field so readers can tell
+   * them apart from SensorDataCollection files.
+   * </pre>
+   *
+   * Protobuf type {@code unifyidchallenge.SensorColumn}
+   */
+  public  static final class SensorColumn extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:unifyidchallenge.SensorColumn)
+      SensorColumnOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SensorColumn.newBuilder() to construct.
+    private SensorColumn(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SensorColumn() {
+      timestampDeltas_ = emptyLongList();
+      values_ = emptyFloatList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SensorColumn();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SensorColumn(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              sensorId_ = input.readInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              stride_ = input.readInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              baseTimestamp_ = input.readSInt64();
+              break;
+            }
+            case 32: {
+              if (!((mutable_bitField0_ & 0x00000008) != 0)) {
+                timestampDeltas_ = newLongList();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              timestampDeltas_.addLong(input.readSInt64());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000008) != 0) && input.getBytesUntilLimit() > 0) {
+                timestampDeltas_ = newLongList();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                timestampDeltas_.addLong(input.readSInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 45: {
+              if (!((mutable_bitField0_ & 0x00000010) != 0)) {
+                values_ = newFloatList();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              values_.addFloat(input.readFloat());
+              break;
+            }
+            case 42: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000010) != 0) && input.getBytesUntilLimit() > 0) {
+                values_ = newFloatList();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                values_.addFloat(input.readFloat());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000008) != 0)) {
+          timestampDeltas_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000010) != 0)) {
+          values_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorColumn_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorColumn_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int SENSORID_FIELD_NUMBER = 1;
+    private int sensorId_;
+    /**
+     * <code>required int32 sensorId = 1;</code>
+     * @return Whether the sensorId field is set.
+     */
+    public boolean hasSensorId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required int32 sensorId = 1;</code>
+     * @return The sensorId.
+     */
+    public int getSensorId() {
+      return sensorId_;
+    }
+
+    public static final int STRIDE_FIELD_NUMBER = 2;
+    private int stride_;
+    /**
+     * <pre>
+     * Values per sample, values holds stride * sample count entries
+     * </pre>
+     *
+     * <code>required int32 stride = 2;</code>
+     * @return Whether the stride field is set.
+     */
+    public boolean hasStride() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * Values per sample, values holds stride * sample count entries
+     * </pre>
+     *
+     * <code>required int32 stride = 2;</code>
+     * @return The stride.
+     */
+    public int getStride() {
+      return stride_;
+    }
+
+    public static final int BASETIMESTAMP_FIELD_NUMBER = 3;
+    private long baseTimestamp_;
+    /**
+     * <pre>
+     * Sample timestamps are baseTimestamp plus the running sum of timestampDeltas
+     * </pre>
+     *
+     * <code>required sint64 baseTimestamp = 3;</code>
+     * @return Whether the baseTimestamp field is set.
+     */
+    public boolean hasBaseTimestamp() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <pre>
+     * Sample timestamps are baseTimestamp plus the running sum of timestampDeltas
+     * </pre>
+     *
+     * <code>required sint64 baseTimestamp = 3;</code>
+     * @return The baseTimestamp.
+     */
+    public long getBaseTimestamp() {
+      return baseTimestamp_;
+    }
+
+    public static final int TIMESTAMPDELTAS_FIELD_NUMBER = 4;
+    private com.google.protobuf.Internal.LongList timestampDeltas_;
+    /**
+     * <code>repeated sint64 timestampDeltas = 4 [packed = true];</code>
+     * @return A list containing the timestampDeltas.
+     */
+    public java.util.List<java.lang.Long>
+        getTimestampDeltasList() {
+      return timestampDeltas_;
+    }
+    /**
+     * <code>repeated sint64 timestampDeltas = 4 [packed = true];</code>
+     * @return The count of timestampDeltas.
+     */
+    public int getTimestampDeltasCount() {
+      return timestampDeltas_.size();
+    }
+    /**
+     * <code>repeated sint64 timestampDeltas = 4 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The timestampDeltas at the given index.
+     */
+    public long getTimestampDeltas(int index) {
+      return timestampDeltas_.getLong(index);
+    }
+    private int timestampDeltasMemoizedSerializedSize = -1;
+
+    public static final int VALUES_FIELD_NUMBER = 5;
+    private com.google.protobuf.Internal.FloatList values_;
+    /**
+     * <code>repeated float values = 5 [packed = true];</code>
+     * @return A list containing the values.
+     */
+    public java.util.List<java.lang.Float>
+        getValuesList() {
+      return values_;
+    }
+    /**
+     * <code>repeated float values = 5 [packed = true];</code>
+     * @return The count of values.
+     */
+    public int getValuesCount() {
+      return values_.size();
+    }
+    /**
+     * <code>repeated float values = 5 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The values at the given index.
+     */
+    public float getValues(int index) {
+      return values_.getFloat(index);
+    }
+    private int valuesMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasSensorId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasStride()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasBaseTimestamp()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt32(1, sensorId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(2, stride_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeSInt64(3, baseTimestamp_);
+      }
+      if (getTimestampDeltasList().size() > 0) {
+        output.writeUInt32NoTag(34);
+        output.writeUInt32NoTag(timestampDeltasMemoizedSerializedSize);
+      }
+      for (int i = 0; i < timestampDeltas_.size(); i++) {
+        output.writeSInt64NoTag(timestampDeltas_.getLong(i));
+      }
+      if (getValuesList().size() > 0) {
+        output.writeUInt32NoTag(42);
+        output.writeUInt32NoTag(valuesMemoizedSerializedSize);
+      }
+      for (int i = 0; i < values_.size(); i++) {
+        output.writeFloatNoTag(values_.getFloat(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, sensorId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, stride_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeSInt64Size(3, baseTimestamp_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < timestampDeltas_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt64SizeNoTag(timestampDeltas_.getLong(i));
+        }
+        size += dataSize;
+        if (!getTimestampDeltasList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        timestampDeltasMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 4 * getValuesList().size();
+        size += dataSize;
+        if (!getValuesList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        valuesMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn)) {
+        return super.equals(obj);
+      }
+      com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn other = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn) obj;
+
+      if (hasSensorId() != other.hasSensorId()) return false;
+      if (hasSensorId()) {
+        if (getSensorId()
+            != other.getSensorId()) return false;
+      }
+      if (hasStride() != other.hasStride()) return false;
+      if (hasStride()) {
+        if (getStride()
+            != other.getStride()) return false;
+      }
+      if (hasBaseTimestamp() != other.hasBaseTimestamp()) return false;
+      if (hasBaseTimestamp()) {
+        if (getBaseTimestamp()
+            != other.getBaseTimestamp()) return false;
+      }
+      if (!getTimestampDeltasList()
+          .equals(other.getTimestampDeltasList())) return false;
+      if (!getValuesList()
+          .equals(other.getValuesList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasSensorId()) {
+        hash = (37 * hash) + SENSORID_FIELD_NUMBER;
+        hash = (53 * hash) + getSensorId();
+      }
+      if (hasStride()) {
+        hash = (37 * hash) + STRIDE_FIELD_NUMBER;
+        hash = (53 * hash) + getStride();
+      }
+      if (hasBaseTimestamp()) {
+        hash = (37 * hash) + BASETIMESTAMP_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getBaseTimestamp());
+      }
+      if (getTimestampDeltasCount() > 0) {
+        hash = (37 * hash) + TIMESTAMPDELTAS_FIELD_NUMBER;
+        hash = (53 * hash) + getTimestampDeltasList().hashCode();
+      }
+      if (getValuesCount() > 0) {
+        hash = (37 * hash) + VALUES_FIELD_NUMBER;
+        hash = (53 * hash) + getValuesList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Version 2 session layout. Sensors are described once in a dictionary and samples are stored
+     * as packed per-sensor column chunks. Files start with the version field so readers can tell
+     * them apart from SensorDataCollection files.
+     * </pre>
+     *
+     * Protobuf type {@code unifyidchallenge.SensorColumn}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:unifyidchallenge.SensorColumn)
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumnOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorColumn_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorColumn_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn.Builder.class);
+      }
+
+      // Construct using com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        sensorId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        stride_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        baseTimestamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        timestampDeltas_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        values_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorColumn_descriptor;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn getDefaultInstanceForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn build() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn buildPartial() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn result = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.sensorId_ = sensorId_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.stride_ = stride_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.baseTimestamp_ = baseTimestamp_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((bitField0_ & 0x00000008) != 0)) {
+          timestampDeltas_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.timestampDeltas_ = timestampDeltas_;
+        if (((bitField0_ & 0x00000010) != 0)) {
+          values_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.values_ = values_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn) {
+          return mergeFrom((com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn other) {
+        if (other == com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn.getDefaultInstance()) return this;
+        if (other.hasSensorId()) {
+          setSensorId(other.getSensorId());
+        }
+        if (other.hasStride()) {
+          setStride(other.getStride());
+        }
+        if (other.hasBaseTimestamp()) {
+          setBaseTimestamp(other.getBaseTimestamp());
+        }
+        if (!other.timestampDeltas_.isEmpty()) {
+          if (timestampDeltas_.isEmpty()) {
+            timestampDeltas_ = other.timestampDeltas_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureTimestampDeltasIsMutable();
+            timestampDeltas_.addAll(other.timestampDeltas_);
+          }
+          onChanged();
+        }
+        if (!other.values_.isEmpty()) {
+          if (values_.isEmpty()) {
+            values_ = other.values_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureValuesIsMutable();
+            values_.addAll(other.values_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasSensorId()) {
+          return false;
+        }
+        if (!hasStride()) {
+          return false;
+        }
+        if (!hasBaseTimestamp()) {
+          return false;
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int sensorId_ ;
+      /**
+       * <code>required int32 sensorId = 1;</code>
+       * @return Whether the sensorId field is set.
+       */
+      public boolean hasSensorId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required int32 sensorId = 1;</code>
+       * @return The sensorId.
+       */
+      public int getSensorId() {
+        return sensorId_;
+      }
+      /**
+       * <code>required int32 sensorId = 1;</code>
+       * @param value The sensorId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSensorId(int value) {
+        bitField0_ |= 0x00000001;
+        sensorId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 sensorId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSensorId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sensorId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int stride_ ;
+      /**
+       * <pre>
+       * Values per sample, values holds stride * sample count entries
+       * </pre>
+       *
+       * <code>required int32 stride = 2;</code>
+       * @return Whether the stride field is set.
+       */
+      public boolean hasStride() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <pre>
+       * Values per sample, values holds stride * sample count entries
+       * </pre>
+       *
+       * <code>required int32 stride = 2;</code>
+       * @return The stride.
+       */
+      public int getStride() {
+        return stride_;
+      }
+      /**
+       * <pre>
+       * Values per sample, values holds stride * sample count entries
+       * </pre>
+       *
+       * <code>required int32 stride = 2;</code>
+       * @param value The stride to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStride(int value) {
+        bitField0_ |= 0x00000002;
+        stride_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Values per sample, values holds stride * sample count entries
+       * </pre>
+       *
+       * <code>required int32 stride = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStride() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        stride_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long baseTimestamp_ ;
+      /**
+       * <pre>
+       * Sample timestamps are baseTimestamp plus the running sum of timestampDeltas
+       * </pre>
+       *
+       * <code>required sint64 baseTimestamp = 3;</code>
+       * @return Whether the baseTimestamp field is set.
+       */
+      public boolean hasBaseTimestamp() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <pre>
+       * Sample timestamps are baseTimestamp plus the running sum of timestampDeltas
+       * </pre>
+       *
+       * <code>required sint64 baseTimestamp = 3;</code>
+       * @return The baseTimestamp.
+       */
+      public long getBaseTimestamp() {
+        return baseTimestamp_;
+      }
+      /**
+       * <pre>
+       * Sample timestamps are baseTimestamp plus the running sum of timestampDeltas
+       * </pre>
+       *
+       * <code>required sint64 baseTimestamp = 3;</code>
+       * @param value The baseTimestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBaseTimestamp(long value) {
+        bitField0_ |= 0x00000004;
+        baseTimestamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Sample timestamps are baseTimestamp plus the running sum of timestampDeltas
+       * </pre>
+       *
+       * <code>required sint64 baseTimestamp = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBaseTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        baseTimestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.LongList timestampDeltas_ = emptyLongList();
+      private void ensureTimestampDeltasIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          timestampDeltas_ = mutableCopy(timestampDeltas_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <code>repeated sint64 timestampDeltas = 4 [packed = true];</code>
+       * @return A list containing the timestampDeltas.
+       */
+      public java.util.List<java.lang.Long>
+          getTimestampDeltasList() {
+        return ((bitField0_ & 0x00000008) != 0) ?
+                 java.util.Collections.unmodifiableList(timestampDeltas_) : timestampDeltas_;
+      }
+      /**
+       * <code>repeated sint64 timestampDeltas = 4 [packed = true];</code>
+       * @return The count of timestampDeltas.
+       */
+      public int getTimestampDeltasCount() {
+        return timestampDeltas_.size();
+      }
+      /**
+       * <code>repeated sint64 timestampDeltas = 4 [packed = true];</code>
+       * @param index The index of the element to return.
+       * @return The timestampDeltas at the given index.
+       */
+      public long getTimestampDeltas(int index) {
+        return timestampDeltas_.getLong(index);
+      }
+      /**
+       * <code>repeated sint64 timestampDeltas = 4 [packed = true];</code>
+       * @param index The index to set the value at.
+       * @param value The timestampDeltas to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimestampDeltas(
+          int index, long value) {
+        ensureTimestampDeltasIsMutable();
+        timestampDeltas_.setLong(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint64 timestampDeltas = 4 [packed = true];</code>
+       * @param value The timestampDeltas to add.
+       * @return This builder for chaining.
+       */
+      public Builder addTimestampDeltas(long value) {
+        ensureTimestampDeltasIsMutable();
+        timestampDeltas_.addLong(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint64 timestampDeltas = 4 [packed = true];</code>
+       * @param values The timestampDeltas to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllTimestampDeltas(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureTimestampDeltasIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, timestampDeltas_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint64 timestampDeltas = 4 [packed = true];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimestampDeltas() {
+        timestampDeltas_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.FloatList values_ = emptyFloatList();
+      private void ensureValuesIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          values_ = mutableCopy(values_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+      /**
+       * <code>repeated float values = 5 [packed = true];</code>
+       * @return A list containing the values.
+       */
+      public java.util.List<java.lang.Float>
+          getValuesList() {
+        return ((bitField0_ & 0x00000010) != 0) ?
+                 java.util.Collections.unmodifiableList(values_) : values_;
+      }
+      /**
+       * <code>repeated float values = 5 [packed = true];</code>
+       * @return The count of values.
+       */
+      public int getValuesCount() {
+        return values_.size();
+      }
+      /**
+       * <code>repeated float values = 5 [packed = true];</code>
+       * @param index The index of the element to return.
+       * @return The values at the given index.
+       */
+      public float getValues(int index) {
+        return values_.getFloat(index);
+      }
+      /**
+       * <code>repeated float values = 5 [packed = true];</code>
+       * @param index The index to set the value at.
+       * @param value The values to set.
+       * @return This builder for chaining.
+       */
+      public Builder setValues(
+          int index, float value) {
+        ensureValuesIsMutable();
+        values_.setFloat(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated float values = 5 [packed = true];</code>
+       * @param value The values to add.
+       * @return This builder for chaining.
+       */
+      public Builder addValues(float value) {
+        ensureValuesIsMutable();
+        values_.addFloat(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated float values = 5 [packed = true];</code>
+       * @param values The values to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllValues(
+          java.lang.Iterable<? extends java.lang.Float> values) {
+        ensureValuesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, values_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated float values = 5 [packed = true];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearValues() {
+        values_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:unifyidchallenge.SensorColumn)
+    }
+
+    // @@protoc_insertion_point(class_scope:unifyidchallenge.SensorColumn)
+    private static final com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn();
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<SensorColumn>
+        PARSER = new com.google.protobuf.AbstractParser<SensorColumn>() {
+      @java.lang.Override
+      public SensorColumn parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SensorColumn(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<SensorColumn> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SensorColumn> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CompressedColumnOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:unifyidchallenge.CompressedColumn)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int32 sensorId = 1;</code>
+     * @return Whether the sensorId field is set.
+     */
+    boolean hasSensorId();
+    /**
+     * <code>required int32 sensorId = 1;</code>
+     * @return The sensorId.
+     */
+    int getSensorId();
+
+    /**
+     * <code>required int32 stride = 2;</code>
+     * @return Whether the stride field is set.
+     */
+    boolean hasStride();
+    /**
+     * <code>required int32 stride = 2;</code>
+     * @return The stride.
+     */
+    int getStride();
+
+    /**
+     * <code>required uint32 sampleCount = 3;</code>
+     * @return Whether the sampleCount field is set.
+     */
+    boolean hasSampleCount();
+    /**
+     * <code>required uint32 sampleCount = 3;</code>
+     * @return The sampleCount.
+     */
+    int getSampleCount();
+
+    /**
+     * <code>required sint64 baseTimestamp = 4;</code>
+     * @return Whether the baseTimestamp field is set.
+     */
+    boolean hasBaseTimestamp();
+    /**
+     * <code>required sint64 baseTimestamp = 4;</code>
+     * @return The baseTimestamp.
+     */
+    long getBaseTimestamp();
+
+    /**
+     * <code>required uint32 transform = 5;</code>
+     * @return Whether the transform field is set.
+     */
+    boolean hasTransform();
+    /**
+     * <code>required uint32 transform = 5;</code>
+     * @return The transform.
+     */
+    int getTransform();
+
+    /**
+     * <pre>
+     * Block codec, 0 stores the payload as is, 1 is deflate
+     * </pre>
+     *
+     * <code>required uint32 codec = 6;</code>
+     * @return Whether the codec field is set.
+     */
+    boolean hasCodec();
+    /**
+     * <pre>
+     * Block codec, 0 stores the payload as is, 1 is deflate
+     * </pre>
+     *
+     * <code>required uint32 codec = 6;</code>
+     * @return The codec.
+     */
+    int getCodec();
+
+    /**
+     * <pre>
+     * Size and CRC32 of the payload before compression
+     * </pre>
+     *
+     * <code>required uint32 payloadLength = 7;</code>
+     * @return Whether the payloadLength field is set.
+     */
+    boolean hasPayloadLength();
+    /**
+     * <pre>
+     * Size and CRC32 of the payload before compression
+     * </pre>
+     *
+     * <code>required uint32 payloadLength = 7;</code>
+     * @return The payloadLength.
+     */
+    int getPayloadLength();
+
+    /**
+     * <code>required fixed32 checksum = 8;</code>
+     * @return Whether the checksum field is set.
+     */
+    boolean hasChecksum();
+    /**
+     * <code>required fixed32 checksum = 8;</code>
+     * @return The checksum.
+     */
+    int getChecksum();
+
+    /**
+     * <code>required bytes payload = 9;</code>
+     * @return Whether the payload field is set.
+     */
+    boolean hasPayload();
+    /**
+     * <code>required bytes payload = 9;</code>
+     * @return The payload.
+     */
+    com.google.protobuf.ByteString getPayload();
+  }
+  /**
+   * <pre>
+   * A column chunk of a version 3 session. Timestamps and values are transformed, then compressed as one block.
+   * Before compression the payload holds a zigzag varint per sample, the timestamp delta (transform 0)
+   * or the change in delta (transform 1) from the previous sample, followed by the little endian values.
+   * With transform 1 each value is XORed with the previous value of the same axis and the values are
+   * split into byte planes, the first byte of every value, then the second and so on.
+   * </pre>
+   *
+   * Protobuf type {@code unifyidchallenge.CompressedColumn}
+   */
+  public  static final class CompressedColumn extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:unifyidchallenge.CompressedColumn)
+      CompressedColumnOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CompressedColumn.newBuilder() to construct.
+    private CompressedColumn(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CompressedColumn() {
+      payload_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CompressedColumn();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CompressedColumn(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              sensorId_ = input.readInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              stride_ = input.readInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              sampleCount_ = input.readUInt32();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              baseTimestamp_ = input.readSInt64();
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              transform_ = input.readUInt32();
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              codec_ = input.readUInt32();
+              break;
+            }
+            case 56: {
+              bitField0_ |= 0x00000040;
+              payloadLength_ = input.readUInt32();
+              break;
+            }
+            case 69: {
+              bitField0_ |= 0x00000080;
+              checksum_ = input.readFixed32();
+              break;
+            }
+            case 74: {
+              bitField0_ |= 0x00000100;
+              payload_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_CompressedColumn_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_CompressedColumn_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int SENSORID_FIELD_NUMBER = 1;
+    private int sensorId_;
+    /**
+     * <code>required int32 sensorId = 1;</code>
+     * @return Whether the sensorId field is set.
+     */
+    public boolean hasSensorId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required int32 sensorId = 1;</code>
+     * @return The sensorId.
+     */
+    public int getSensorId() {
+      return sensorId_;
+    }
+
+    public static final int STRIDE_FIELD_NUMBER = 2;
+    private int stride_;
+    /**
+     * <code>required int32 stride = 2;</code>
+     * @return Whether the stride field is set.
+     */
+    public boolean hasStride() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>required int32 stride = 2;</code>
+     * @return The stride.
+     */
+    public int getStride() {
+      return stride_;
+    }
+
+    public static final int SAMPLECOUNT_FIELD_NUMBER = 3;
+    private int sampleCount_;
+    /**
+     * <code>required uint32 sampleCount = 3;</code>
+     * @return Whether the sampleCount field is set.
+     */
+    public boolean hasSampleCount() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>required uint32 sampleCount = 3;</code>
+     * @return The sampleCount.
+     */
+    public int getSampleCount() {
+      return sampleCount_;
+    }
+
+    public static final int BASETIMESTAMP_FIELD_NUMBER = 4;
+    private long baseTimestamp_;
+    /**
+     * <code>required sint64 baseTimestamp = 4;</code>
+     * @return Whether the baseTimestamp field is set.
+     */
+    public boolean hasBaseTimestamp() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>required sint64 baseTimestamp = 4;</code>
+     * @return The baseTimestamp.
+     */
+    public long getBaseTimestamp() {
+      return baseTimestamp_;
+    }
+
+    public static final int TRANSFORM_FIELD_NUMBER = 5;
+    private int transform_;
+    /**
+     * <code>required uint32 transform = 5;</code>
+     * @return Whether the transform field is set.
+     */
+    public boolean hasTransform() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>required uint32 transform = 5;</code>
+     * @return The transform.
+     */
+    public int getTransform() {
+      return transform_;
+    }
+
+    public static final int CODEC_FIELD_NUMBER = 6;
+    private int codec_;
+    /**
+     * <pre>
+     * Block codec, 0 stores the payload as is, 1 is deflate
+     * </pre>
+     *
+     * <code>required uint32 codec = 6;</code>
+     * @return Whether the codec field is set.
+     */
+    public boolean hasCodec() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <pre>
+     * Block codec, 0 stores the payload as is, 1 is deflate
+     * </pre>
+     *
+     * <code>required uint32 codec = 6;</code>
+     * @return The codec.
+     */
+    public int getCodec() {
+      return codec_;
+    }
+
+    public static final int PAYLOADLENGTH_FIELD_NUMBER = 7;
+    private int payloadLength_;
+    /**
+     * <pre>
+     * Size and CRC32 of the payload before compression
+     * </pre>
+     *
+     * <code>required uint32 payloadLength = 7;</code>
+     * @return Whether the payloadLength field is set.
+     */
+    public boolean hasPayloadLength() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <pre>
+     * Size and CRC32 of the payload before compression
+     * </pre>
+     *
+     * <code>required uint32 payloadLength = 7;</code>
+     * @return The payloadLength.
+     */
+    public int getPayloadLength() {
+      return payloadLength_;
+    }
+
+    public static final int CHECKSUM_FIELD_NUMBER = 8;
+    private int checksum_;
+    /**
+     * <code>required fixed32 checksum = 8;</code>
+     * @return Whether the checksum field is set.
+     */
+    public boolean hasChecksum() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <code>required fixed32 checksum = 8;</code>
+     * @return The checksum.
+     */
+    public int getChecksum() {
+      return checksum_;
+    }
+
+    public static final int PAYLOAD_FIELD_NUMBER = 9;
+    private com.google.protobuf.ByteString payload_;
+    /**
+     * <code>required bytes payload = 9;</code>
+     * @return Whether the payload field is set.
+     */
+    public boolean hasPayload() {
+      return ((bitField0_ & 0x00000100) != 0);
+    }
+    /**
+     * <code>required bytes payload = 9;</code>
+     * @return The payload.
+     */
+    public com.google.protobuf.ByteString getPayload() {
+      return payload_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasSensorId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasStride()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasSampleCount()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasBaseTimestamp()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasTransform()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasCodec()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasPayloadLength()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasChecksum()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasPayload()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt32(1, sensorId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(2, stride_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeUInt32(3, sampleCount_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeSInt64(4, baseTimestamp_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeUInt32(5, transform_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeUInt32(6, codec_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        output.writeUInt32(7, payloadLength_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        output.writeFixed32(8, checksum_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        output.writeBytes(9, payload_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, sensorId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, stride_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, sampleCount_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeSInt64Size(4, baseTimestamp_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(5, transform_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(6, codec_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(7, payloadLength_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(8, checksum_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(9, payload_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn)) {
+        return super.equals(obj);
+      }
+      com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn other = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn) obj;
+
+      if (hasSensorId() != other.hasSensorId()) return false;
+      if (hasSensorId()) {
+        if (getSensorId()
+            != other.getSensorId()) return false;
+      }
+      if (hasStride() != other.hasStride()) return false;
+      if (hasStride()) {
+        if (getStride()
+            != other.getStride()) return false;
+      }
+      if (hasSampleCount() != other.hasSampleCount()) return false;
+      if (hasSampleCount()) {
+        if (getSampleCount()
+            != other.getSampleCount()) return false;
+      }
+      if (hasBaseTimestamp() != other.hasBaseTimestamp()) return false;
+      if (hasBaseTimestamp()) {
+        if (getBaseTimestamp()
+            != other.getBaseTimestamp()) return false;
+      }
+      if (hasTransform() != other.hasTransform()) return false;
+      if (hasTransform()) {
+        if (getTransform()
+            != other.getTransform()) return false;
+      }
+      if (hasCodec() != other.hasCodec()) return false;
+      if (hasCodec()) {
+        if (getCodec()
+            != other.getCodec()) return false;
+      }
+      if (hasPayloadLength() != other.hasPayloadLength()) return false;
+      if (hasPayloadLength()) {
+        if (getPayloadLength()
+            != other.getPayloadLength()) return false;
+      }
+      if (hasChecksum() != other.hasChecksum()) return false;
+      if (hasChecksum()) {
+        if (getChecksum()
+            != other.getChecksum()) return false;
+      }
+      if (hasPayload() != other.hasPayload()) return false;
+      if (hasPayload()) {
+        if (!getPayload()
+            .equals(other.getPayload())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasSensorId()) {
+        hash = (37 * hash) + SENSORID_FIELD_NUMBER;
+        hash = (53 * hash) + getSensorId();
+      }
+      if (hasStride()) {
+        hash = (37 * hash) + STRIDE_FIELD_NUMBER;
+        hash = (53 * hash) + getStride();
+      }
+      if (hasSampleCount()) {
+        hash = (37 * hash) + SAMPLECOUNT_FIELD_NUMBER;
+        hash = (53 * hash) + getSampleCount();
+      }
+      if (hasBaseTimestamp()) {
+        hash = (37 * hash) + BASETIMESTAMP_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getBaseTimestamp());
+      }
+      if (hasTransform()) {
+        hash = (37 * hash) + TRANSFORM_FIELD_NUMBER;
+        hash = (53 * hash) + getTransform();
+      }
+      if (hasCodec()) {
+        hash = (37 * hash) + CODEC_FIELD_NUMBER;
+        hash = (53 * hash) + getCodec();
+      }
+      if (hasPayloadLength()) {
+        hash = (37 * hash) + PAYLOADLENGTH_FIELD_NUMBER;
+        hash = (53 * hash) + getPayloadLength();
+      }
+      if (hasChecksum()) {
+        hash = (37 * hash) + CHECKSUM_FIELD_NUMBER;
+        hash = (53 * hash) + getChecksum();
+      }
+      if (hasPayload()) {
+        hash = (37 * hash) + PAYLOAD_FIELD_NUMBER;
+        hash = (53 * hash) + getPayload().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * A column chunk of a version 3 session. Timestamps and values are transformed, then compressed as one block.
+     * Before compression the payload holds a zigzag varint per sample, the timestamp delta (transform 0)
+     * or the change in delta (transform 1) from the previous sample, followed by the little endian values.
+     * With transform 1 each value is XORed with the previous value of the same axis and the values are
+     * split into byte planes, the first byte of every value, then the second and so on.
+     * </pre>
+     *
+     * Protobuf type {@code unifyidchallenge.CompressedColumn}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:unifyidchallenge.CompressedColumn)
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumnOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_CompressedColumn_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_CompressedColumn_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn.Builder.class);
+      }
+
+      // Construct using com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        sensorId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        stride_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        sampleCount_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        baseTimestamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        transform_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        codec_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        payloadLength_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        checksum_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        payload_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000100);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_CompressedColumn_descriptor;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn getDefaultInstanceForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn build() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn buildPartial() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn result = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.sensorId_ = sensorId_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.stride_ = stride_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.sampleCount_ = sampleCount_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.baseTimestamp_ = baseTimestamp_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.transform_ = transform_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.codec_ = codec_;
+          to_bitField0_ |= 0x00000020;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.payloadLength_ = payloadLength_;
+          to_bitField0_ |= 0x00000040;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.checksum_ = checksum_;
+          to_bitField0_ |= 0x00000080;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.payload_ = payload_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn) {
+          return mergeFrom((com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn other) {
+        if (other == com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn.getDefaultInstance()) return this;
+        if (other.hasSensorId()) {
+          setSensorId(other.getSensorId());
+        }
+        if (other.hasStride()) {
+          setStride(other.getStride());
+        }
+        if (other.hasSampleCount()) {
+          setSampleCount(other.getSampleCount());
+        }
+        if (other.hasBaseTimestamp()) {
+          setBaseTimestamp(other.getBaseTimestamp());
+        }
+        if (other.hasTransform()) {
+          setTransform(other.getTransform());
+        }
+        if (other.hasCodec()) {
+          setCodec(other.getCodec());
+        }
+        if (other.hasPayloadLength()) {
+          setPayloadLength(other.getPayloadLength());
+        }
+        if (other.hasChecksum()) {
+          setChecksum(other.getChecksum());
+        }
+        if (other.hasPayload()) {
+          setPayload(other.getPayload());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasSensorId()) {
+          return false;
+        }
+        if (!hasStride()) {
+          return false;
+        }
+        if (!hasSampleCount()) {
+          return false;
+        }
+        if (!hasBaseTimestamp()) {
+          return false;
+        }
+        if (!hasTransform()) {
+          return false;
+        }
+        if (!hasCodec()) {
+          return false;
+        }
+        if (!hasPayloadLength()) {
+          return false;
+        }
+        if (!hasChecksum()) {
+          return false;
+        }
+        if (!hasPayload()) {
+          return false;
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int sensorId_ ;
+      /**
+       * <code>required int32 sensorId = 1;</code>
+       * @return Whether the sensorId field is set.
+       */
+      public boolean hasSensorId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required int32 sensorId = 1;</code>
+       * @return The sensorId.
+       */
+      public int getSensorId() {
+        return sensorId_;
+      }
+      /**
+       * <code>required int32 sensorId = 1;</code>
+       * @param value The sensorId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSensorId(int value) {
+        bitField0_ |= 0x00000001;
+        sensorId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 sensorId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSensorId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sensorId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int stride_ ;
+      /**
+       * <code>required int32 stride = 2;</code>
+       * @return Whether the stride field is set.
+       */
+      public boolean hasStride() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>required int32 stride = 2;</code>
+       * @return The stride.
+       */
+      public int getStride() {
+        return stride_;
+      }
+      /**
+       * <code>required int32 stride = 2;</code>
+       * @param value The stride to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStride(int value) {
+        bitField0_ |= 0x00000002;
+        stride_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 stride = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStride() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        stride_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int sampleCount_ ;
+      /**
+       * <code>required uint32 sampleCount = 3;</code>
+       * @return Whether the sampleCount field is set.
+       */
+      public boolean hasSampleCount() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>required uint32 sampleCount = 3;</code>
+       * @return The sampleCount.
+       */
+      public int getSampleCount() {
+        return sampleCount_;
+      }
+      /**
+       * <code>required uint32 sampleCount = 3;</code>
+       * @param value The sampleCount to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSampleCount(int value) {
+        bitField0_ |= 0x00000004;
+        sampleCount_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 sampleCount = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSampleCount() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        sampleCount_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long baseTimestamp_ ;
+      /**
+       * <code>required sint64 baseTimestamp = 4;</code>
+       * @return Whether the baseTimestamp field is set.
+       */
+      public boolean hasBaseTimestamp() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>required sint64 baseTimestamp = 4;</code>
+       * @return The baseTimestamp.
+       */
+      public long getBaseTimestamp() {
+        return baseTimestamp_;
+      }
+      /**
+       * <code>required sint64 baseTimestamp = 4;</code>
+       * @param value The baseTimestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBaseTimestamp(long value) {
+        bitField0_ |= 0x00000008;
+        baseTimestamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required sint64 baseTimestamp = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBaseTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        baseTimestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int transform_ ;
+      /**
+       * <code>required uint32 transform = 5;</code>
+       * @return Whether the transform field is set.
+       */
+      public boolean hasTransform() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>required uint32 transform = 5;</code>
+       * @return The transform.
+       */
+      public int getTransform() {
+        return transform_;
+      }
+      /**
+       * <code>required uint32 transform = 5;</code>
+       * @param value The transform to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTransform(int value) {
+        bitField0_ |= 0x00000010;
+        transform_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 transform = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTransform() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        transform_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int codec_ ;
+      /**
+       * <pre>
+       * Block codec, 0 stores the payload as is, 1 is deflate
+       * </pre>
+       *
+       * <code>required uint32 codec = 6;</code>
+       * @return Whether the codec field is set.
+       */
+      public boolean hasCodec() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <pre>
+       * Block codec, 0 stores the payload as is, 1 is deflate
+       * </pre>
+       *
+       * <code>required uint32 codec = 6;</code>
+       * @return The codec.
+       */
+      public int getCodec() {
+        return codec_;
+      }
+      /**
+       * <pre>
+       * Block codec, 0 stores the payload as is, 1 is deflate
+       * </pre>
+       *
+       * <code>required uint32 codec = 6;</code>
+       * @param value The codec to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCodec(int value) {
+        bitField0_ |= 0x00000020;
+        codec_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Block codec, 0 stores the payload as is, 1 is deflate
+       * </pre>
+       *
+       * <code>required uint32 codec = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCodec() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        codec_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int payloadLength_ ;
+      /**
+       * <pre>
+       * Size and CRC32 of the payload before compression
+       * </pre>
+       *
+       * <code>required uint32 payloadLength = 7;</code>
+       * @return Whether the payloadLength field is set.
+       */
+      public boolean hasPayloadLength() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <pre>
+       * Size and CRC32 of the payload before compression
+       * </pre>
+       *
+       * <code>required uint32 payloadLength = 7;</code>
+       * @return The payloadLength.
+       */
+      public int getPayloadLength() {
+        return payloadLength_;
+      }
+      /**
+       * <pre>
+       * Size and CRC32 of the payload before compression
+       * </pre>
+       *
+       * <code>required uint32 payloadLength = 7;</code>
+       * @param value The payloadLength to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPayloadLength(int value) {
+        bitField0_ |= 0x00000040;
+        payloadLength_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Size and CRC32 of the payload before compression
+       * </pre>
+       *
+       * <code>required uint32 payloadLength = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPayloadLength() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        payloadLength_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int checksum_ ;
+      /**
+       * <code>required fixed32 checksum = 8;</code>
+       * @return Whether the checksum field is set.
+       */
+      public boolean hasChecksum() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>required fixed32 checksum = 8;</code>
+       * @return The checksum.
+       */
+      public int getChecksum() {
+        return checksum_;
+      }
+      /**
+       * <code>required fixed32 checksum = 8;</code>
+       * @param value The checksum to set.
+       * @return This builder for chaining.
+       */
+      public Builder setChecksum(int value) {
+        bitField0_ |= 0x00000080;
+        checksum_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed32 checksum = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearChecksum() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        checksum_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString payload_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>required bytes payload = 9;</code>
+       * @return Whether the payload field is set.
+       */
+      public boolean hasPayload() {
+        return ((bitField0_ & 0x00000100) != 0);
+      }
+      /**
+       * <code>required bytes payload = 9;</code>
+       * @return The payload.
+       */
+      public com.google.protobuf.ByteString getPayload() {
+        return payload_;
+      }
+      /**
+       * <code>required bytes payload = 9;</code>
+       * @param value The payload to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPayload(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        payload_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bytes payload = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPayload() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        payload_ = getDefaultInstance().getPayload();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:unifyidchallenge.CompressedColumn)
+    }
+
+    // @@protoc_insertion_point(class_scope:unifyidchallenge.CompressedColumn)
+    private static final com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn();
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<CompressedColumn>
+        PARSER = new com.google.protobuf.AbstractParser<CompressedColumn>() {
+      @java.lang.Override
+      public CompressedColumn parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CompressedColumn(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<CompressedColumn> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CompressedColumn> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ClockAnchorOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:unifyidchallenge.ClockAnchor)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int64 wallClockMillis = 1;</code>
+     * @return Whether the wallClockMillis field is set.
+     */
+    boolean hasWallClockMillis();
+    /**
+     * <code>required int64 wallClockMillis = 1;</code>
+     * @return The wallClockMillis.
+     */
+    long getWallClockMillis();
+
+    /**
+     * <code>required int64 elapsedRealtimeNanos = 2;</code>
+     * @return Whether the elapsedRealtimeNanos field is set.
+     */
+    boolean hasElapsedRealtimeNanos();
+    /**
+     * <code>required int64 elapsedRealtimeNanos = 2;</code>
+     * @return The elapsedRealtimeNanos.
+     */
+    long getElapsedRealtimeNanos();
+  }
+  /**
+   * <pre>
+   * Both clocks read together when a session starts. Sessions with an anchor are stamped with the sensor event time,
+   * nanoseconds of SystemClock.elapsedRealtimeNanos(), older sessions with wall clock milliseconds.
+   * </pre>
+   *
+   * Protobuf type {@code unifyidchallenge.ClockAnchor}
+   */
+  public  static final class ClockAnchor extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:unifyidchallenge.ClockAnchor)
+      ClockAnchorOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ClockAnchor.newBuilder() to construct.
+    private ClockAnchor(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ClockAnchor() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ClockAnchor();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ClockAnchor(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              wallClockMillis_ = input.readInt64();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              elapsedRealtimeNanos_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_ClockAnchor_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_ClockAnchor_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int WALLCLOCKMILLIS_FIELD_NUMBER = 1;
+    private long wallClockMillis_;
+    /**
+     * <code>required int64 wallClockMillis = 1;</code>
+     * @return Whether the wallClockMillis field is set.
+     */
+    public boolean hasWallClockMillis() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required int64 wallClockMillis = 1;</code>
+     * @return The wallClockMillis.
+     */
+    public long getWallClockMillis() {
+      return wallClockMillis_;
+    }
+
+    public static final int ELAPSEDREALTIMENANOS_FIELD_NUMBER = 2;
+    private long elapsedRealtimeNanos_;
+    /**
+     * <code>required int64 elapsedRealtimeNanos = 2;</code>
+     * @return Whether the elapsedRealtimeNanos field is set.
+     */
+    public boolean hasElapsedRealtimeNanos() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>required int64 elapsedRealtimeNanos = 2;</code>
+     * @return The elapsedRealtimeNanos.
+     */
+    public long getElapsedRealtimeNanos() {
+      return elapsedRealtimeNanos_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasWallClockMillis()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasElapsedRealtimeNanos()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt64(1, wallClockMillis_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt64(2, elapsedRealtimeNanos_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, wallClockMillis_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, elapsedRealtimeNanos_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor)) {
+        return super.equals(obj);
+      }
+      com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor other = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor) obj;
+
+      if (hasWallClockMillis() != other.hasWallClockMillis()) return false;
+      if (hasWallClockMillis()) {
+        if (getWallClockMillis()
+            != other.getWallClockMillis()) return false;
+      }
+      if (hasElapsedRealtimeNanos() != other.hasElapsedRealtimeNanos()) return false;
+      if (hasElapsedRealtimeNanos()) {
+        if (getElapsedRealtimeNanos()
+            != other.getElapsedRealtimeNanos()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasWallClockMillis()) {
+        hash = (37 * hash) + WALLCLOCKMILLIS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getWallClockMillis());
+      }
+      if (hasElapsedRealtimeNanos()) {
+        hash = (37 * hash) + ELAPSEDREALTIMENANOS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getElapsedRealtimeNanos());
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Both clocks read together when a session starts. Sessions with an anchor are stamped with the sensor event time,
+     * nanoseconds of SystemClock.elapsedRealtimeNanos(), older sessions with wall clock milliseconds.
+     * </pre>
+     *
+     * Protobuf type {@code unifyidchallenge.ClockAnchor}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:unifyidchallenge.ClockAnchor)
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchorOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_ClockAnchor_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_ClockAnchor_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor.Builder.class);
+      }
+
+      // Construct using com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        wallClockMillis_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        elapsedRealtimeNanos_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_ClockAnchor_descriptor;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor getDefaultInstanceForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor build() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor buildPartial() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor result = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.wallClockMillis_ = wallClockMillis_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.elapsedRealtimeNanos_ = elapsedRealtimeNanos_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor) {
+          return mergeFrom((com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor other) {
+        if (other == com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor.getDefaultInstance()) return this;
+        if (other.hasWallClockMillis()) {
+          setWallClockMillis(other.getWallClockMillis());
+        }
+        if (other.hasElapsedRealtimeNanos()) {
+          setElapsedRealtimeNanos(other.getElapsedRealtimeNanos());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasWallClockMillis()) {
+          return false;
+        }
+        if (!hasElapsedRealtimeNanos()) {
+          return false;
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long wallClockMillis_ ;
+      /**
+       * <code>required int64 wallClockMillis = 1;</code>
+       * @return Whether the wallClockMillis field is set.
+       */
+      public boolean hasWallClockMillis() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required int64 wallClockMillis = 1;</code>
+       * @return The wallClockMillis.
+       */
+      public long getWallClockMillis() {
+        return wallClockMillis_;
+      }
+      /**
+       * <code>required int64 wallClockMillis = 1;</code>
+       * @param value The wallClockMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setWallClockMillis(long value) {
+        bitField0_ |= 0x00000001;
+        wallClockMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 wallClockMillis = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearWallClockMillis() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        wallClockMillis_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long elapsedRealtimeNanos_ ;
+      /**
+       * <code>required int64 elapsedRealtimeNanos = 2;</code>
+       * @return Whether the elapsedRealtimeNanos field is set.
+       */
+      public boolean hasElapsedRealtimeNanos() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>required int64 elapsedRealtimeNanos = 2;</code>
+       * @return The elapsedRealtimeNanos.
+       */
+      public long getElapsedRealtimeNanos() {
+        return elapsedRealtimeNanos_;
+      }
+      /**
+       * <code>required int64 elapsedRealtimeNanos = 2;</code>
+       * @param value The elapsedRealtimeNanos to set.
+       * @return This builder for chaining.
+       */
+      public Builder setElapsedRealtimeNanos(long value) {
+        bitField0_ |= 0x00000002;
+        elapsedRealtimeNanos_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 elapsedRealtimeNanos = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearElapsedRealtimeNanos() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        elapsedRealtimeNanos_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:unifyidchallenge.ClockAnchor)
+    }
+
+    // @@protoc_insertion_point(class_scope:unifyidchallenge.ClockAnchor)
+    private static final com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor();
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<ClockAnchor>
+        PARSER = new com.google.protobuf.AbstractParser<ClockAnchor>() {
+      @java.lang.Override
+      public ClockAnchor parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ClockAnchor(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ClockAnchor> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ClockAnchor> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface FeatureConfigOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:unifyidchallenge.FeatureConfig)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Windows start on multiples of windowNanos of the session's timestamps
+     * </pre>
+     *
+     * <code>required int64 windowNanos = 1;</code>
+     * @return Whether the windowNanos field is set.
+     */
+    boolean hasWindowNanos();
+    /**
+     * <pre>
+     * Windows start on multiples of windowNanos of the session's timestamps
+     * </pre>
+     *
+     * <code>required int64 windowNanos = 1;</code>
+     * @return The windowNanos.
+     */
+    long getWindowNanos();
+
+    /**
+     * <pre>
+     * Frequencies in Hz that spectralEnergy is measured at
+     * </pre>
+     *
+     * <code>repeated float spectralFrequencies = 2 [packed = true];</code>
+     * @return A list containing the spectralFrequencies.
+     */
+    java.util.List<java.lang.Float> getSpectralFrequenciesList();
+    /**
+     * <pre>
+     * Frequencies in Hz that spectralEnergy is measured at
+     * </pre>
+     *
+     * <code>repeated float spectralFrequencies = 2 [packed = true];</code>
+     * @return The count of spectralFrequencies.
+     */
+    int getSpectralFrequenciesCount();
+    /**
+     * <pre>
+     * Frequencies in Hz that spectralEnergy is measured at
+     * </pre>
+     *
+     * <code>repeated float spectralFrequencies = 2 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The spectralFrequencies at the given index.
+     */
+    float getSpectralFrequencies(int index);
+  }
+  /**
+   * <pre>
+   * How the feature windows of a session were extracted, see FeatureExtractor.
+   * </pre>
+   *
+   * Protobuf type {@code unifyidchallenge.FeatureConfig}
+   */
+  public  static final class FeatureConfig extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:unifyidchallenge.FeatureConfig)
+      FeatureConfigOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use FeatureConfig.newBuilder() to construct.
+    private FeatureConfig(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private FeatureConfig() {
+      spectralFrequencies_ = emptyFloatList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new FeatureConfig();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private FeatureConfig(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              windowNanos_ = input.readInt64();
+              break;
+            }
+            case 21: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                spectralFrequencies_ = newFloatList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              spectralFrequencies_.addFloat(input.readFloat());
+              break;
+            }
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) != 0) && input.getBytesUntilLimit() > 0) {
+                spectralFrequencies_ = newFloatList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                spectralFrequencies_.addFloat(input.readFloat());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          spectralFrequencies_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_FeatureConfig_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_FeatureConfig_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int WINDOWNANOS_FIELD_NUMBER = 1;
+    private long windowNanos_;
+    /**
+     * <pre>
+     * Windows start on multiples of windowNanos of the session's timestamps
+     * </pre>
+     *
+     * <code>required int64 windowNanos = 1;</code>
+     * @return Whether the windowNanos field is set.
+     */
+    public boolean hasWindowNanos() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * Windows start on multiples of windowNanos of the session's timestamps
+     * </pre>
+     *
+     * <code>required int64 windowNanos = 1;</code>
+     * @return The windowNanos.
+     */
+    public long getWindowNanos() {
+      return windowNanos_;
+    }
+
+    public static final int SPECTRALFREQUENCIES_FIELD_NUMBER = 2;
+    private com.google.protobuf.Internal.FloatList spectralFrequencies_;
+    /**
+     * <pre>
+     * Frequencies in Hz that spectralEnergy is measured at
+     * </pre>
+     *
+     * <code>repeated float spectralFrequencies = 2 [packed = true];</code>
+     * @return A list containing the spectralFrequencies.
+     */
+    public java.util.List<java.lang.Float>
+        getSpectralFrequenciesList() {
+      return spectralFrequencies_;
+    }
+    /**
+     * <pre>
+     * Frequencies in Hz that spectralEnergy is measured at
+     * </pre>
+     *
+     * <code>repeated float spectralFrequencies = 2 [packed = true];</code>
+     * @return The count of spectralFrequencies.
+     */
+    public int getSpectralFrequenciesCount() {
+      return spectralFrequencies_.size();
+    }
+    /**
+     * <pre>
+     * Frequencies in Hz that spectralEnergy is measured at
+     * </pre>
+     *
+     * <code>repeated float spectralFrequencies = 2 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The spectralFrequencies at the given index.
+     */
+    public float getSpectralFrequencies(int index) {
+      return spectralFrequencies_.getFloat(index);
+    }
+    private int spectralFrequenciesMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasWindowNanos()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt64(1, windowNanos_);
+      }
+      if (getSpectralFrequenciesList().size() > 0) {
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(spectralFrequenciesMemoizedSerializedSize);
+      }
+      for (int i = 0; i < spectralFrequencies_.size(); i++) {
+        output.writeFloatNoTag(spectralFrequencies_.getFloat(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, windowNanos_);
+      }
+      {
+        int dataSize = 0;
+        dataSize = 4 * getSpectralFrequenciesList().size();
+        size += dataSize;
+        if (!getSpectralFrequenciesList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        spectralFrequenciesMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig)) {
+        return super.equals(obj);
+      }
+      com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig other = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig) obj;
+
+      if (hasWindowNanos() != other.hasWindowNanos()) return false;
+      if (hasWindowNanos()) {
+        if (getWindowNanos()
+            != other.getWindowNanos()) return false;
+      }
+      if (!getSpectralFrequenciesList()
+          .equals(other.getSpectralFrequenciesList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasWindowNanos()) {
+        hash = (37 * hash) + WINDOWNANOS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getWindowNanos());
+      }
+      if (getSpectralFrequenciesCount() > 0) {
+        hash = (37 * hash) + SPECTRALFREQUENCIES_FIELD_NUMBER;
+        hash = (53 * hash) + getSpectralFrequenciesList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * How the feature windows of a session were extracted, see FeatureExtractor.
+     * </pre>
+     *
+     * Protobuf type {@code unifyidchallenge.FeatureConfig}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:unifyidchallenge.FeatureConfig)
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfigOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_FeatureConfig_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_FeatureConfig_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig.Builder.class);
+      }
+
+      // Construct using com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        windowNanos_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        spectralFrequencies_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_FeatureConfig_descriptor;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig getDefaultInstanceForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig build() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig buildPartial() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig result = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.windowNanos_ = windowNanos_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          spectralFrequencies_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.spectralFrequencies_ = spectralFrequencies_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig) {
+          return mergeFrom((com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig other) {
+        if (other == com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig.getDefaultInstance()) return this;
+        if (other.hasWindowNanos()) {
+          setWindowNanos(other.getWindowNanos());
+        }
+        if (!other.spectralFrequencies_.isEmpty()) {
+          if (spectralFrequencies_.isEmpty()) {
+            spectralFrequencies_ = other.spectralFrequencies_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureSpectralFrequenciesIsMutable();
+            spectralFrequencies_.addAll(other.spectralFrequencies_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasWindowNanos()) {
+          return false;
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long windowNanos_ ;
+      /**
+       * <pre>
+       * Windows start on multiples of windowNanos of the session's timestamps
+       * </pre>
+       *
+       * <code>required int64 windowNanos = 1;</code>
+       * @return Whether the windowNanos field is set.
+       */
+      public boolean hasWindowNanos() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <pre>
+       * Windows start on multiples of windowNanos of the session's timestamps
+       * </pre>
+       *
+       * <code>required int64 windowNanos = 1;</code>
+       * @return The windowNanos.
+       */
+      public long getWindowNanos() {
+        return windowNanos_;
+      }
+      /**
+       * <pre>
+       * Windows start on multiples of windowNanos of the session's timestamps
+       * </pre>
+       *
+       * <code>required int64 windowNanos = 1;</code>
+       * @param value The windowNanos to set.
+       * @return This builder for chaining.
+       */
+      public Builder setWindowNanos(long value) {
+        bitField0_ |= 0x00000001;
+        windowNanos_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Windows start on multiples of windowNanos of the session's timestamps
+       * </pre>
+       *
+       * <code>required int64 windowNanos = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearWindowNanos() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        windowNanos_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.FloatList spectralFrequencies_ = emptyFloatList();
+      private void ensureSpectralFrequenciesIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          spectralFrequencies_ = mutableCopy(spectralFrequencies_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <pre>
+       * Frequencies in Hz that spectralEnergy is measured at
+       * </pre>
+       *
+       * <code>repeated float spectralFrequencies = 2 [packed = true];</code>
+       * @return A list containing the spectralFrequencies.
+       */
+      public java.util.List<java.lang.Float>
+          getSpectralFrequenciesList() {
+        return ((bitField0_ & 0x00000002) != 0) ?
+                 java.util.Collections.unmodifiableList(spectralFrequencies_) : spectralFrequencies_;
+      }
+      /**
+       * <pre>
+       * Frequencies in Hz that spectralEnergy is measured at
+       * </pre>
+       *
+       * <code>repeated float spectralFrequencies = 2 [packed = true];</code>
+       * @return The count of spectralFrequencies.
+       */
+      public int getSpectralFrequenciesCount() {
+        return spectralFrequencies_.size();
+      }
+      /**
+       * <pre>
+       * Frequencies in Hz that spectralEnergy is measured at
+       * </pre>
+       *
+       * <code>repeated float spectralFrequencies = 2 [packed = true];</code>
+       * @param index The index of the element to return.
+       * @return The spectralFrequencies at the given index.
+       */
+      public float getSpectralFrequencies(int index) {
+        return spectralFrequencies_.getFloat(index);
+      }
+      /**
+       * <pre>
+       * Frequencies in Hz that spectralEnergy is measured at
+       * </pre>
+       *
+       * <code>repeated float spectralFrequencies = 2 [packed = true];</code>
+       * @param index The index to set the value at.
+       * @param value The spectralFrequencies to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSpectralFrequencies(
+          int index, float value) {
+        ensureSpectralFrequenciesIsMutable();
+        spectralFrequencies_.setFloat(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Frequencies in Hz that spectralEnergy is measured at
+       * </pre>
+       *
+       * <code>repeated float spectralFrequencies = 2 [packed = true];</code>
+       * @param value The spectralFrequencies to add.
+       * @return This builder for chaining.
+       */
+      public Builder addSpectralFrequencies(float value) {
+        ensureSpectralFrequenciesIsMutable();
+        spectralFrequencies_.addFloat(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Frequencies in Hz that spectralEnergy is measured at
+       * </pre>
+       *
+       * <code>repeated float spectralFrequencies = 2 [packed = true];</code>
+       * @param values The spectralFrequencies to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllSpectralFrequencies(
+          java.lang.Iterable<? extends java.lang.Float> values) {
+        ensureSpectralFrequenciesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, spectralFrequencies_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Frequencies in Hz that spectralEnergy is measured at
+       * </pre>
+       *
+       * <code>repeated float spectralFrequencies = 2 [packed = true];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSpectralFrequencies() {
+        spectralFrequencies_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:unifyidchallenge.FeatureConfig)
+    }
+
+    // @@protoc_insertion_point(class_scope:unifyidchallenge.FeatureConfig)
+    private static final com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig();
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<FeatureConfig>
+        PARSER = new com.google.protobuf.AbstractParser<FeatureConfig>() {
+      @java.lang.Override
+      public FeatureConfig parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new FeatureConfig(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<FeatureConfig> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<FeatureConfig> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface FeatureWindowOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:unifyidchallenge.FeatureWindow)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int32 sensorId = 1;</code>
+     * @return Whether the sensorId field is set.
+     */
+    boolean hasSensorId();
+    /**
+     * <code>required int32 sensorId = 1;</code>
+     * @return The sensorId.
+     */
+    int getSensorId();
+
+    /**
+     * <pre>
+     * Timestamps of the first and last sample in the window
+     * </pre>
+     *
+     * <code>required sint64 startTimestamp = 2;</code>
+     * @return Whether the startTimestamp field is set.
+     */
+    boolean hasStartTimestamp();
+    /**
+     * <pre>
+     * Timestamps of the first and last sample in the window
+     * </pre>
+     *
+     * <code>required sint64 startTimestamp = 2;</code>
+     * @return The startTimestamp.
+     */
+    long getStartTimestamp();
+
+    /**
+     * <code>required sint64 endTimestamp = 3;</code>
+     * @return Whether the endTimestamp field is set.
+     */
+    boolean hasEndTimestamp();
+    /**
+     * <code>required sint64 endTimestamp = 3;</code>
+     * @return The endTimestamp.
+     */
+    long getEndTimestamp();
+
+    /**
+     * <code>required uint32 sampleCount = 4;</code>
+     * @return Whether the sampleCount field is set.
+     */
+    boolean hasSampleCount();
+    /**
+     * <code>required uint32 sampleCount = 4;</code>
+     * @return The sampleCount.
+     */
+    int getSampleCount();
+
+    /**
+     * <code>repeated float mean = 5 [packed = true];</code>
+     * @return A list containing the mean.
+     */
+    java.util.List<java.lang.Float> getMeanList();
+    /**
+     * <code>repeated float mean = 5 [packed = true];</code>
+     * @return The count of mean.
+     */
+    int getMeanCount();
+    /**
+     * <code>repeated float mean = 5 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The mean at the given index.
+     */
+    float getMean(int index);
+
+    /**
+     * <code>repeated float variance = 6 [packed = true];</code>
+     * @return A list containing the variance.
+     */
+    java.util.List<java.lang.Float> getVarianceList();
+    /**
+     * <code>repeated float variance = 6 [packed = true];</code>
+     * @return The count of variance.
+     */
+    int getVarianceCount();
+    /**
+     * <code>repeated float variance = 6 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The variance at the given index.
+     */
+    float getVariance(int index);
+
+    /**
+     * <code>repeated float min = 7 [packed = true];</code>
+     * @return A list containing the min.
+     */
+    java.util.List<java.lang.Float> getMinList();
+    /**
+     * <code>repeated float min = 7 [packed = true];</code>
+     * @return The count of min.
+     */
+    int getMinCount();
+    /**
+     * <code>repeated float min = 7 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The min at the given index.
+     */
+    float getMin(int index);
+
+    /**
+     * <code>repeated float max = 8 [packed = true];</code>
+     * @return A list containing the max.
+     */
+    java.util.List<java.lang.Float> getMaxList();
+    /**
+     * <code>repeated float max = 8 [packed = true];</code>
+     * @return The count of max.
+     */
+    int getMaxCount();
+    /**
+     * <code>repeated float max = 8 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The max at the given index.
+     */
+    float getMax(int index);
+
+    /**
+     * <pre>
+     * Mean absolute rate of change between consecutive samples, per second
+     * </pre>
+     *
+     * <code>repeated float jerk = 9 [packed = true];</code>
+     * @return A list containing the jerk.
+     */
+    java.util.List<java.lang.Float> getJerkList();
+    /**
+     * <pre>
+     * Mean absolute rate of change between consecutive samples, per second
+     * </pre>
+     *
+     * <code>repeated float jerk = 9 [packed = true];</code>
+     * @return The count of jerk.
+     */
+    int getJerkCount();
+    /**
+     * <pre>
+     * Mean absolute rate of change between consecutive samples, per second
+     * </pre>
+     *
+     * <code>repeated float jerk = 9 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The jerk at the given index.
+     */
+    float getJerk(int index);
+
+    /**
+     * <pre>
+     * Times the axis crossed its mean
+     * </pre>
+     *
+     * <code>repeated uint32 zeroCrossings = 10 [packed = true];</code>
+     * @return A list containing the zeroCrossings.
+     */
+    java.util.List<java.lang.Integer> getZeroCrossingsList();
+    /**
+     * <pre>
+     * Times the axis crossed its mean
+     * </pre>
+     *
+     * <code>repeated uint32 zeroCrossings = 10 [packed = true];</code>
+     * @return The count of zeroCrossings.
+     */
+    int getZeroCrossingsCount();
+    /**
+     * <pre>
+     * Times the axis crossed its mean
+     * </pre>
+     *
+     * <code>repeated uint32 zeroCrossings = 10 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The zeroCrossings at the given index.
+     */
+    int getZeroCrossings(int index);
+
+    /**
+     * <pre>
+     * Power of the axis at each of FeatureConfig.spectralFrequencies, axis major
+     * </pre>
+     *
+     * <code>repeated float spectralEnergy = 11 [packed = true];</code>
+     * @return A list containing the spectralEnergy.
+     */
+    java.util.List<java.lang.Float> getSpectralEnergyList();
+    /**
+     * <pre>
+     * Power of the axis at each of FeatureConfig.spectralFrequencies, axis major
+     * </pre>
+     *
+     * <code>repeated float spectralEnergy = 11 [packed = true];</code>
+     * @return The count of spectralEnergy.
+     */
+    int getSpectralEnergyCount();
+    /**
+     * <pre>
+     * Power of the axis at each of FeatureConfig.spectralFrequencies, axis major
+     * </pre>
+     *
+     * <code>repeated float spectralEnergy = 11 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The spectralEnergy at the given index.
+     */
+    float getSpectralEnergy(int index);
+  }
+  /**
+   * <pre>
+   * Features of one sensor over one window. Per axis fields hold a value for each axis.
+   * </pre>
+   *
+   * Protobuf type {@code unifyidchallenge.FeatureWindow}
+   */
+  public  static final class FeatureWindow extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:unifyidchallenge.FeatureWindow)
+      FeatureWindowOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use FeatureWindow.newBuilder() to construct.
+    private FeatureWindow(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private FeatureWindow() {
+      mean_ = emptyFloatList();
+      variance_ = emptyFloatList();
+      min_ = emptyFloatList();
+      max_ = emptyFloatList();
+      jerk_ = emptyFloatList();
+      zeroCrossings_ = emptyIntList();
+      spectralEnergy_ = emptyFloatList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new FeatureWindow();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private FeatureWindow(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              sensorId_ = input.readInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              startTimestamp_ = input.readSInt64();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              endTimestamp_ = input.readSInt64();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              sampleCount_ = input.readUInt32();
+              break;
+            }
+            case 45: {
+              if (!((mutable_bitField0_ & 0x00000010) != 0)) {
+                mean_ = newFloatList();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              mean_.addFloat(input.readFloat());
+              break;
+            }
+            case 42: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000010) != 0) && input.getBytesUntilLimit() > 0) {
+                mean_ = newFloatList();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                mean_.addFloat(input.readFloat());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 53: {
+              if (!((mutable_bitField0_ & 0x00000020) != 0)) {
+                variance_ = newFloatList();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              variance_.addFloat(input.readFloat());
+              break;
+            }
+            case 50: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000020) != 0) && input.getBytesUntilLimit() > 0) {
+                variance_ = newFloatList();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                variance_.addFloat(input.readFloat());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 61: {
+              if (!((mutable_bitField0_ & 0x00000040) != 0)) {
+                min_ = newFloatList();
+                mutable_bitField0_ |= 0x00000040;
+              }
+              min_.addFloat(input.readFloat());
+              break;
+            }
+            case 58: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000040) != 0) && input.getBytesUntilLimit() > 0) {
+                min_ = newFloatList();
+                mutable_bitField0_ |= 0x00000040;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                min_.addFloat(input.readFloat());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 69: {
+              if (!((mutable_bitField0_ & 0x00000080) != 0)) {
+                max_ = newFloatList();
+                mutable_bitField0_ |= 0x00000080;
+              }
+              max_.addFloat(input.readFloat());
+              break;
+            }
+            case 66: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000080) != 0) && input.getBytesUntilLimit() > 0) {
+                max_ = newFloatList();
+                mutable_bitField0_ |= 0x00000080;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                max_.addFloat(input.readFloat());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 77: {
+              if (!((mutable_bitField0_ & 0x00000100) != 0)) {
+                jerk_ = newFloatList();
+                mutable_bitField0_ |= 0x00000100;
+              }
+              jerk_.addFloat(input.readFloat());
+              break;
+            }
+            case 74: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000100) != 0) && input.getBytesUntilLimit() > 0) {
+                jerk_ = newFloatList();
+                mutable_bitField0_ |= 0x00000100;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                jerk_.addFloat(input.readFloat());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 80: {
+              if (!((mutable_bitField0_ & 0x00000200) != 0)) {
+                zeroCrossings_ = newIntList();
+                mutable_bitField0_ |= 0x00000200;
+              }
+              zeroCrossings_.addInt(input.readUInt32());
+              break;
+            }
+            case 82: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000200) != 0) && input.getBytesUntilLimit() > 0) {
+                zeroCrossings_ = newIntList();
+                mutable_bitField0_ |= 0x00000200;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                zeroCrossings_.addInt(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 93: {
+              if (!((mutable_bitField0_ & 0x00000400) != 0)) {
+                spectralEnergy_ = newFloatList();
+                mutable_bitField0_ |= 0x00000400;
+              }
+              spectralEnergy_.addFloat(input.readFloat());
+              break;
+            }
+            case 90: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000400) != 0) && input.getBytesUntilLimit() > 0) {
+                spectralEnergy_ = newFloatList();
+                mutable_bitField0_ |= 0x00000400;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                spectralEnergy_.addFloat(input.readFloat());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000010) != 0)) {
+          mean_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000020) != 0)) {
+          variance_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000040) != 0)) {
+          min_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000080) != 0)) {
+          max_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000100) != 0)) {
+          jerk_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000200) != 0)) {
+          zeroCrossings_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000400) != 0)) {
+          spectralEnergy_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_FeatureWindow_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_FeatureWindow_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int SENSORID_FIELD_NUMBER = 1;
+    private int sensorId_;
+    /**
+     * <code>required int32 sensorId = 1;</code>
+     * @return Whether the sensorId field is set.
+     */
+    public boolean hasSensorId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required int32 sensorId = 1;</code>
+     * @return The sensorId.
+     */
+    public int getSensorId() {
+      return sensorId_;
+    }
+
+    public static final int STARTTIMESTAMP_FIELD_NUMBER = 2;
+    private long startTimestamp_;
+    /**
+     * <pre>
+     * Timestamps of the first and last sample in the window
+     * </pre>
+     *
+     * <code>required sint64 startTimestamp = 2;</code>
+     * @return Whether the startTimestamp field is set.
+     */
+    public boolean hasStartTimestamp() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * Timestamps of the first and last sample in the window
+     * </pre>
+     *
+     * <code>required sint64 startTimestamp = 2;</code>
+     * @return The startTimestamp.
+     */
+    public long getStartTimestamp() {
+      return startTimestamp_;
+    }
+
+    public static final int ENDTIMESTAMP_FIELD_NUMBER = 3;
+    private long endTimestamp_;
+    /**
+     * <code>required sint64 endTimestamp = 3;</code>
+     * @return Whether the endTimestamp field is set.
+     */
+    public boolean hasEndTimestamp() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>required sint64 endTimestamp = 3;</code>
+     * @return The endTimestamp.
+     */
+    public long getEndTimestamp() {
+      return endTimestamp_;
+    }
+
+    public static final int SAMPLECOUNT_FIELD_NUMBER = 4;
+    private int sampleCount_;
+    /**
+     * <code>required uint32 sampleCount = 4;</code>
+     * @return Whether the sampleCount field is set.
+     */
+    public boolean hasSampleCount() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>required uint32 sampleCount = 4;</code>
+     * @return The sampleCount.
+     */
+    public int getSampleCount() {
+      return sampleCount_;
+    }
+
+    public static final int MEAN_FIELD_NUMBER = 5;
+    private com.google.protobuf.Internal.FloatList mean_;
+    /**
+     * <code>repeated float mean = 5 [packed = true];</code>
+     * @return A list containing the mean.
+     */
+    public java.util.List<java.lang.Float>
+        getMeanList() {
+      return mean_;
+    }
+    /**
+     * <code>repeated float mean = 5 [packed = true];</code>
+     * @return The count of mean.
+     */
+    public int getMeanCount() {
+      return mean_.size();
+    }
+    /**
+     * <code>repeated float mean = 5 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The mean at the given index.
+     */
+    public float getMean(int index) {
+      return mean_.getFloat(index);
+    }
+    private int meanMemoizedSerializedSize = -1;
+
+    public static final int VARIANCE_FIELD_NUMBER = 6;
+    private com.google.protobuf.Internal.FloatList variance_;
+    /**
+     * <code>repeated float variance = 6 [packed = true];</code>
+     * @return A list containing the variance.
+     */
+    public java.util.List<java.lang.Float>
+        getVarianceList() {
+      return variance_;
+    }
+    /**
+     * <code>repeated float variance = 6 [packed = true];</code>
+     * @return The count of variance.
+     */
+    public int getVarianceCount() {
+      return variance_.size();
+    }
+    /**
+     * <code>repeated float variance = 6 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The variance at the given index.
+     */
+    public float getVariance(int index) {
+      return variance_.getFloat(index);
+    }
+    private int varianceMemoizedSerializedSize = -1;
+
+    public static final int MIN_FIELD_NUMBER = 7;
+    private com.google.protobuf.Internal.FloatList min_;
+    /**
+     * <code>repeated float min = 7 [packed = true];</code>
+     * @return A list containing the min.
+     */
+    public java.util.List<java.lang.Float>
+        getMinList() {
+      return min_;
+    }
+    /**
+     * <code>repeated float min = 7 [packed = true];</code>
+     * @return The count of min.
+     */
+    public int getMinCount() {
+      return min_.size();
+    }
+    /**
+     * <code>repeated float min = 7 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The min at the given index.
+     */
+    public float getMin(int index) {
+      return min_.getFloat(index);
+    }
+    private int minMemoizedSerializedSize = -1;
+
+    public static final int MAX_FIELD_NUMBER = 8;
+    private com.google.protobuf.Internal.FloatList max_;
+    /**
+     * <code>repeated float max = 8 [packed = true];</code>
+     * @return A list containing the max.
+     */
+    public java.util.List<java.lang.Float>
+        getMaxList() {
+      return max_;
+    }
+    /**
+     * <code>repeated float max = 8 [packed = true];</code>
+     * @return The count of max.
+     */
+    public int getMaxCount() {
+      return max_.size();
+    }
+    /**
+     * <code>repeated float max = 8 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The max at the given index.
+     */
+    public float getMax(int index) {
+      return max_.getFloat(index);
+    }
+    private int maxMemoizedSerializedSize = -1;
+
+    public static final int JERK_FIELD_NUMBER = 9;
+    private com.google.protobuf.Internal.FloatList jerk_;
+    /**
+     * <pre>
+     * Mean absolute rate of change between consecutive samples, per second
+     * </pre>
+     *
+     * <code>repeated float jerk = 9 [packed = true];</code>
+     * @return A list containing the jerk.
+     */
+    public java.util.List<java.lang.Float>
+        getJerkList() {
+      return jerk_;
+    }
+    /**
+     * <pre>
+     * Mean absolute rate of change between consecutive samples, per second
+     * </pre>
+     *
+     * <code>repeated float jerk = 9 [packed = true];</code>
+     * @return The count of jerk.
+     */
+    public int getJerkCount() {
+      return jerk_.size();
+    }
+    /**
+     * <pre>
+     * Mean absolute rate of change between consecutive samples, per second
+     * </pre>
+     *
+     * <code>repeated float jerk = 9 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The jerk at the given index.
+     */
+    public float getJerk(int index) {
+      return jerk_.getFloat(index);
+    }
+    private int jerkMemoizedSerializedSize = -1;
+
+    public static final int ZEROCROSSINGS_FIELD_NUMBER = 10;
+    private com.google.protobuf.Internal.IntList zeroCrossings_;
+    /**
+     * <pre>
+     * Times the axis crossed its mean
+     * </pre>
+     *
+     * <code>repeated uint32 zeroCrossings = 10 [packed = true];</code>
+     * @return A list containing the zeroCrossings.
+     */
+    public java.util.List<java.lang.Integer>
+        getZeroCrossingsList() {
+      return zeroCrossings_;
+    }
+    /**
+     * <pre>
+     * Times the axis crossed its mean
+     * </pre>
+     *
+     * <code>repeated uint32 zeroCrossings = 10 [packed = true];</code>
+     * @return The count of zeroCrossings.
+     */
+    public int getZeroCrossingsCount() {
+      return zeroCrossings_.size();
+    }
+    /**
+     * <pre>
+     * Times the axis crossed its mean
+     * </pre>
+     *
+     * <code>repeated uint32 zeroCrossings = 10 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The zeroCrossings at the given index.
+     */
+    public int getZeroCrossings(int index) {
+      return zeroCrossings_.getInt(index);
+    }
+    private int zeroCrossingsMemoizedSerializedSize = -1;
+
+    public static final int SPECTRALENERGY_FIELD_NUMBER = 11;
+    private com.google.protobuf.Internal.FloatList spectralEnergy_;
+    /**
+     * <pre>
+     * Power of the axis at each of FeatureConfig.spectralFrequencies, axis major
+     * </pre>
+     *
+     * <code>repeated float spectralEnergy = 11 [packed = true];</code>
+     * @return A list containing the spectralEnergy.
+     */
+    public java.util.List<java.lang.Float>
+        getSpectralEnergyList() {
+      return spectralEnergy_;
+    }
+    /**
+     * <pre>
+     * Power of the axis at each of FeatureConfig.spectralFrequencies, axis major
+     * </pre>
+     *
+     * <code>repeated float spectralEnergy = 11 [packed = true];</code>
+     * @return The count of spectralEnergy.
+     */
+    public int getSpectralEnergyCount() {
+      return spectralEnergy_.size();
+    }
+    /**
+     * <pre>
+     * Power of the axis at each of FeatureConfig.spectralFrequencies, axis major
+     * </pre>
+     *
+     * <code>repeated float spectralEnergy = 11 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The spectralEnergy at the given index.
+     */
+    public float getSpectralEnergy(int index) {
+      return spectralEnergy_.getFloat(index);
+    }
+    private int spectralEnergyMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasSensorId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasStartTimestamp()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasEndTimestamp()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasSampleCount()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt32(1, sensorId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeSInt64(2, startTimestamp_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeSInt64(3, endTimestamp_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeUInt32(4, sampleCount_);
+      }
+      if (getMeanList().size() > 0) {
+        output.writeUInt32NoTag(42);
+        output.writeUInt32NoTag(meanMemoizedSerializedSize);
+      }
+      for (int i = 0; i < mean_.size(); i++) {
+        output.writeFloatNoTag(mean_.getFloat(i));
+      }
+      if (getVarianceList().size() > 0) {
+        output.writeUInt32NoTag(50);
+        output.writeUInt32NoTag(varianceMemoizedSerializedSize);
+      }
+      for (int i = 0; i < variance_.size(); i++) {
+        output.writeFloatNoTag(variance_.getFloat(i));
+      }
+      if (getMinList().size() > 0) {
+        output.writeUInt32NoTag(58);
+        output.writeUInt32NoTag(minMemoizedSerializedSize);
+      }
+      for (int i = 0; i < min_.size(); i++) {
+        output.writeFloatNoTag(min_.getFloat(i));
+      }
+      if (getMaxList().size() > 0) {
+        output.writeUInt32NoTag(66);
+        output.writeUInt32NoTag(maxMemoizedSerializedSize);
+      }
+      for (int i = 0; i < max_.size(); i++) {
+        output.writeFloatNoTag(max_.getFloat(i));
+      }
+      if (getJerkList().size() > 0) {
+        output.writeUInt32NoTag(74);
+        output.writeUInt32NoTag(jerkMemoizedSerializedSize);
+      }
+      for (int i = 0; i < jerk_.size(); i++) {
+        output.writeFloatNoTag(jerk_.getFloat(i));
+      }
+      if (getZeroCrossingsList().size() > 0) {
+        output.writeUInt32NoTag(82);
+        output.writeUInt32NoTag(zeroCrossingsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < zeroCrossings_.size(); i++) {
+        output.writeUInt32NoTag(zeroCrossings_.getInt(i));
+      }
+      if (getSpectralEnergyList().size() > 0) {
+        output.writeUInt32NoTag(90);
+        output.writeUInt32NoTag(spectralEnergyMemoizedSerializedSize);
+      }
+      for (int i = 0; i < spectralEnergy_.size(); i++) {
+        output.writeFloatNoTag(spectralEnergy_.getFloat(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, sensorId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeSInt64Size(2, startTimestamp_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeSInt64Size(3, endTimestamp_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(4, sampleCount_);
+      }
+      {
+        int dataSize = 0;
+        dataSize = 4 * getMeanList().size();
+        size += dataSize;
+        if (!getMeanList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        meanMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 4 * getVarianceList().size();
+        size += dataSize;
+        if (!getVarianceList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        varianceMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 4 * getMinList().size();
+        size += dataSize;
+        if (!getMinList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        minMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 4 * getMaxList().size();
+        size += dataSize;
+        if (!getMaxList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        maxMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 4 * getJerkList().size();
+        size += dataSize;
+        if (!getJerkList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        jerkMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < zeroCrossings_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(zeroCrossings_.getInt(i));
+        }
+        size += dataSize;
+        if (!getZeroCrossingsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        zeroCrossingsMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 4 * getSpectralEnergyList().size();
+        size += dataSize;
+        if (!getSpectralEnergyList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        spectralEnergyMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow)) {
+        return super.equals(obj);
+      }
+      com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow other = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow) obj;
+
+      if (hasSensorId() != other.hasSensorId()) return false;
+      if (hasSensorId()) {
+        if (getSensorId()
+            != other.getSensorId()) return false;
+      }
+      if (hasStartTimestamp() != other.hasStartTimestamp()) return false;
+      if (hasStartTimestamp()) {
+        if (getStartTimestamp()
+            != other.getStartTimestamp()) return false;
+      }
+      if (hasEndTimestamp() != other.hasEndTimestamp()) return false;
+      if (hasEndTimestamp()) {
+        if (getEndTimestamp()
+            != other.getEndTimestamp()) return false;
+      }
+      if (hasSampleCount() != other.hasSampleCount()) return false;
+      if (hasSampleCount()) {
+        if (getSampleCount()
+            != other.getSampleCount()) return false;
+      }
+      if (!getMeanList()
+          .equals(other.getMeanList())) return false;
+      if (!getVarianceList()
+          .equals(other.getVarianceList())) return false;
+      if (!getMinList()
+          .equals(other.getMinList())) return false;
+      if (!getMaxList()
+          .equals(other.getMaxList())) return false;
+      if (!getJerkList()
+          .equals(other.getJerkList())) return false;
+      if (!getZeroCrossingsList()
+          .equals(other.getZeroCrossingsList())) return false;
+      if (!getSpectralEnergyList()
+          .equals(other.getSpectralEnergyList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasSensorId()) {
+        hash = (37 * hash) + SENSORID_FIELD_NUMBER;
+        hash = (53 * hash) + getSensorId();
+      }
+      if (hasStartTimestamp()) {
+        hash = (37 * hash) + STARTTIMESTAMP_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getStartTimestamp());
+      }
+      if (hasEndTimestamp()) {
+        hash = (37 * hash) + ENDTIMESTAMP_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getEndTimestamp());
+      }
+      if (hasSampleCount()) {
+        hash = (37 * hash) + SAMPLECOUNT_FIELD_NUMBER;
+        hash = (53 * hash) + getSampleCount();
+      }
+      if (getMeanCount() > 0) {
+        hash = (37 * hash) + MEAN_FIELD_NUMBER;
+        hash = (53 * hash) + getMeanList().hashCode();
+      }
+      if (getVarianceCount() > 0) {
+        hash = (37 * hash) + VARIANCE_FIELD_NUMBER;
+        hash = (53 * hash) + getVarianceList().hashCode();
+      }
+      if (getMinCount() > 0) {
+        hash = (37 * hash) + MIN_FIELD_NUMBER;
+        hash = (53 * hash) + getMinList().hashCode();
+      }
+      if (getMaxCount() > 0) {
+        hash = (37 * hash) + MAX_FIELD_NUMBER;
+        hash = (53 * hash) + getMaxList().hashCode();
+      }
+      if (getJerkCount() > 0) {
+        hash = (37 * hash) + JERK_FIELD_NUMBER;
+        hash = (53 * hash) + getJerkList().hashCode();
+      }
+      if (getZeroCrossingsCount() > 0) {
+        hash = (37 * hash) + ZEROCROSSINGS_FIELD_NUMBER;
+        hash = (53 * hash) + getZeroCrossingsList().hashCode();
+      }
+      if (getSpectralEnergyCount() > 0) {
+        hash = (37 * hash) + SPECTRALENERGY_FIELD_NUMBER;
+        hash = (53 * hash) + getSpectralEnergyList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Features of one sensor over one window. Per axis fields hold a value for each axis.
+     * </pre>
+     *
+     * Protobuf type {@code unifyidchallenge.FeatureWindow}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:unifyidchallenge.FeatureWindow)
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindowOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_FeatureWindow_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_FeatureWindow_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow.Builder.class);
+      }
+
+      // Construct using com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        sensorId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        startTimestamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        endTimestamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        sampleCount_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        mean_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        variance_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        min_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        max_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000080);
+        jerk_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000100);
+        zeroCrossings_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000200);
+        spectralEnergy_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000400);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_FeatureWindow_descriptor;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow getDefaultInstanceForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow build() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow buildPartial() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow result = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.sensorId_ = sensorId_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.startTimestamp_ = startTimestamp_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.endTimestamp_ = endTimestamp_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.sampleCount_ = sampleCount_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((bitField0_ & 0x00000010) != 0)) {
+          mean_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.mean_ = mean_;
+        if (((bitField0_ & 0x00000020) != 0)) {
+          variance_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        }
+        result.variance_ = variance_;
+        if (((bitField0_ & 0x00000040) != 0)) {
+          min_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000040);
+        }
+        result.min_ = min_;
+        if (((bitField0_ & 0x00000080) != 0)) {
+          max_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000080);
+        }
+        result.max_ = max_;
+        if (((bitField0_ & 0x00000100) != 0)) {
+          jerk_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000100);
+        }
+        result.jerk_ = jerk_;
+        if (((bitField0_ & 0x00000200) != 0)) {
+          zeroCrossings_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000200);
+        }
+        result.zeroCrossings_ = zeroCrossings_;
+        if (((bitField0_ & 0x00000400) != 0)) {
+          spectralEnergy_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000400);
+        }
+        result.spectralEnergy_ = spectralEnergy_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow) {
+          return mergeFrom((com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow other) {
+        if (other == com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow.getDefaultInstance()) return this;
+        if (other.hasSensorId()) {
+          setSensorId(other.getSensorId());
+        }
+        if (other.hasStartTimestamp()) {
+          setStartTimestamp(other.getStartTimestamp());
+        }
+        if (other.hasEndTimestamp()) {
+          setEndTimestamp(other.getEndTimestamp());
+        }
+        if (other.hasSampleCount()) {
+          setSampleCount(other.getSampleCount());
+        }
+        if (!other.mean_.isEmpty()) {
+          if (mean_.isEmpty()) {
+            mean_ = other.mean_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureMeanIsMutable();
+            mean_.addAll(other.mean_);
+          }
+          onChanged();
+        }
+        if (!other.variance_.isEmpty()) {
+          if (variance_.isEmpty()) {
+            variance_ = other.variance_;
+            bitField0_ = (bitField0_ & ~0x00000020);
+          } else {
+            ensureVarianceIsMutable();
+            variance_.addAll(other.variance_);
+          }
+          onChanged();
+        }
+        if (!other.min_.isEmpty()) {
+          if (min_.isEmpty()) {
+            min_ = other.min_;
+            bitField0_ = (bitField0_ & ~0x00000040);
+          } else {
+            ensureMinIsMutable();
+            min_.addAll(other.min_);
+          }
+          onChanged();
+        }
+        if (!other.max_.isEmpty()) {
+          if (max_.isEmpty()) {
+            max_ = other.max_;
+            bitField0_ = (bitField0_ & ~0x00000080);
+          } else {
+            ensureMaxIsMutable();
+            max_.addAll(other.max_);
+          }
+          onChanged();
+        }
+        if (!other.jerk_.isEmpty()) {
+          if (jerk_.isEmpty()) {
+            jerk_ = other.jerk_;
+            bitField0_ = (bitField0_ & ~0x00000100);
+          } else {
+            ensureJerkIsMutable();
+            jerk_.addAll(other.jerk_);
+          }
+          onChanged();
+        }
+        if (!other.zeroCrossings_.isEmpty()) {
+          if (zeroCrossings_.isEmpty()) {
+            zeroCrossings_ = other.zeroCrossings_;
+            bitField0_ = (bitField0_ & ~0x00000200);
+          } else {
+            ensureZeroCrossingsIsMutable();
+            zeroCrossings_.addAll(other.zeroCrossings_);
+          }
+          onChanged();
+        }
+        if (!other.spectralEnergy_.isEmpty()) {
+          if (spectralEnergy_.isEmpty()) {
+            spectralEnergy_ = other.spectralEnergy_;
+            bitField0_ = (bitField0_ & ~0x00000400);
+          } else {
+            ensureSpectralEnergyIsMutable();
+            spectralEnergy_.addAll(other.spectralEnergy_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasSensorId()) {
+          return false;
+        }
+        if (!hasStartTimestamp()) {
+          return false;
+        }
+        if (!hasEndTimestamp()) {
+          return false;
+        }
+        if (!hasSampleCount()) {
+          return false;
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int sensorId_ ;
+      /**
+       * <code>required int32 sensorId = 1;</code>
+       * @return Whether the sensorId field is set.
+       */
+      public boolean hasSensorId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required int32 sensorId = 1;</code>
+       * @return The sensorId.
+       */
+      public int getSensorId() {
+        return sensorId_;
+      }
+      /**
+       * <code>required int32 sensorId = 1;</code>
+       * @param value The sensorId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSensorId(int value) {
+        bitField0_ |= 0x00000001;
+        sensorId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 sensorId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSensorId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sensorId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long startTimestamp_ ;
+      /**
+       * <pre>
+       * Timestamps of the first and last sample in the window
+       * </pre>
+       *
+       * <code>required sint64 startTimestamp = 2;</code>
+       * @return Whether the startTimestamp field is set.
+       */
+      public boolean hasStartTimestamp() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <pre>
+       * Timestamps of the first and last sample in the window
+       * </pre>
+       *
+       * <code>required sint64 startTimestamp = 2;</code>
+       * @return The startTimestamp.
+       */
+      public long getStartTimestamp() {
+        return startTimestamp_;
+      }
+      /**
+       * <pre>
+       * Timestamps of the first and last sample in the window
+       * </pre>
+       *
+       * <code>required sint64 startTimestamp = 2;</code>
+       * @param value The startTimestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStartTimestamp(long value) {
+        bitField0_ |= 0x00000002;
+        startTimestamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Timestamps of the first and last sample in the window
+       * </pre>
+       *
+       * <code>required sint64 startTimestamp = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStartTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        startTimestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long endTimestamp_ ;
+      /**
+       * <code>required sint64 endTimestamp = 3;</code>
+       * @return Whether the endTimestamp field is set.
+       */
+      public boolean hasEndTimestamp() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>required sint64 endTimestamp = 3;</code>
+       * @return The endTimestamp.
+       */
+      public long getEndTimestamp() {
+        return endTimestamp_;
+      }
+      /**
+       * <code>required sint64 endTimestamp = 3;</code>
+       * @param value The endTimestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEndTimestamp(long value) {
+        bitField0_ |= 0x00000004;
+        endTimestamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required sint64 endTimestamp = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEndTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        endTimestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int sampleCount_ ;
+      /**
+       * <code>required uint32 sampleCount = 4;</code>
+       * @return Whether the sampleCount field is set.
+       */
+      public boolean hasSampleCount() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>required uint32 sampleCount = 4;</code>
+       * @return The sampleCount.
+       */
+      public int getSampleCount() {
+        return sampleCount_;
+      }
+      /**
+       * <code>required uint32 sampleCount = 4;</code>
+       * @param value The sampleCount to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSampleCount(int value) {
+        bitField0_ |= 0x00000008;
+        sampleCount_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 sampleCount = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSampleCount() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        sampleCount_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.FloatList mean_ = emptyFloatList();
+      private void ensureMeanIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          mean_ = mutableCopy(mean_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+      /**
+       * <code>repeated float mean = 5 [packed = true];</code>
+       * @return A list containing the mean.
+       */
+      public java.util.List<java.lang.Float>
+          getMeanList() {
+        return ((bitField0_ & 0x00000010) != 0) ?
+                 java.util.Collections.unmodifiableList(mean_) : mean_;
+      }
+      /**
+       * <code>repeated float mean = 5 [packed = true];</code>
+       * @return The count of mean.
+       */
+      public int getMeanCount() {
+        return mean_.size();
+      }
+      /**
+       * <code>repeated float mean = 5 [packed = true];</code>
+       * @param index The index of the element to return.
+       * @return The mean at the given index.
+       */
+      public float getMean(int index) {
+        return mean_.getFloat(index);
+      }
+      /**
+       * <code>repeated float mean = 5 [packed = true];</code>
+       * @param index The index to set the value at.
+       * @param value The mean to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMean(
+          int index, float value) {
+        ensureMeanIsMutable();
+        mean_.setFloat(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated float mean = 5 [packed = true];</code>
+       * @param value The mean to add.
+       * @return This builder for chaining.
+       */
+      public Builder addMean(float value) {
+        ensureMeanIsMutable();
+        mean_.addFloat(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated float mean = 5 [packed = true];</code>
+       * @param values The mean to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllMean(
+          java.lang.Iterable<? extends java.lang.Float> values) {
+        ensureMeanIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, mean_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated float mean = 5 [packed = true];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMean() {
+        mean_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.FloatList variance_ = emptyFloatList();
+      private void ensureVarianceIsMutable() {
+        if (!((bitField0_ & 0x00000020) != 0)) {
+          variance_ = mutableCopy(variance_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+      /**
+       * <code>repeated float variance = 6 [packed = true];</code>
+       * @return A list containing the variance.
+       */
+      public java.util.List<java.lang.Float>
+          getVarianceList() {
+        return ((bitField0_ & 0x00000020) != 0) ?
+                 java.util.Collections.unmodifiableList(variance_) : variance_;
+      }
+      /**
+       * <code>repeated float variance = 6 [packed = true];</code>
+       * @return The count of variance.
+       */
+      public int getVarianceCount() {
+        return variance_.size();
+      }
+      /**
+       * <code>repeated float variance = 6 [packed = true];</code>
+       * @param index The index of the element to return.
+       * @return The variance at the given index.
+       */
+      public float getVariance(int index) {
+        return variance_.getFloat(index);
+      }
+      /**
+       * <code>repeated float variance = 6 [packed = true];</code>
+       * @param index The index to set the value at.
+       * @param value The variance to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVariance(
+          int index, float value) {
+        ensureVarianceIsMutable();
+        variance_.setFloat(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated float variance = 6 [packed = true];</code>
+       * @param value The variance to add.
+       * @return This builder for chaining.
+       */
+      public Builder addVariance(float value) {
+        ensureVarianceIsMutable();
+        variance_.addFloat(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated float variance = 6 [packed = true];</code>
+       * @param values The variance to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllVariance(
+          java.lang.Iterable<? extends java.lang.Float> values) {
+        ensureVarianceIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, variance_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated float variance = 6 [packed = true];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVariance() {
+        variance_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.FloatList min_ = emptyFloatList();
+      private void ensureMinIsMutable() {
+        if (!((bitField0_ & 0x00000040) != 0)) {
+          min_ = mutableCopy(min_);
+          bitField0_ |= 0x00000040;
+         }
+      }
+      /**
+       * <code>repeated float min = 7 [packed = true];</code>
+       * @return A list containing the min.
+       */
+      public java.util.List<java.lang.Float>
+          getMinList() {
+        return ((bitField0_ & 0x00000040) != 0) ?
+                 java.util.Collections.unmodifiableList(min_) : min_;
+      }
+      /**
+       * <code>repeated float min = 7 [packed = true];</code>
+       * @return The count of min.
+       */
+      public int getMinCount() {
+        return min_.size();
+      }
+      /**
+       * <code>repeated float min = 7 [packed = true];</code>
+       * @param index The index of the element to return.
+       * @return The min at the given index.
+       */
+      public float getMin(int index) {
+        return min_.getFloat(index);
+      }
+      /**
+       * <code>repeated float min = 7 [packed = true];</code>
+       * @param index The index to set the value at.
+       * @param value The min to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMin(
+          int index, float value) {
+        ensureMinIsMutable();
+        min_.setFloat(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated float min = 7 [packed = true];</code>
+       * @param value The min to add.
+       * @return This builder for chaining.
+       */
+      public Builder addMin(float value) {
+        ensureMinIsMutable();
+        min_.addFloat(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated float min = 7 [packed = true];</code>
+       * @param values The min to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllMin(
+          java.lang.Iterable<? extends java.lang.Float> values) {
+        ensureMinIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, min_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated float min = 7 [packed = true];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMin() {
+        min_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.FloatList max_ = emptyFloatList();
+      private void ensureMaxIsMutable() {
+        if (!((bitField0_ & 0x00000080) != 0)) {
+          max_ = mutableCopy(max_);
+          bitField0_ |= 0x00000080;
+         }
+      }
+      /**
+       * <code>repeated float max = 8 [packed = true];</code>
+       * @return A list containing the max.
+       */
+      public java.util.List<java.lang.Float>
+          getMaxList() {
+        return ((bitField0_ & 0x00000080) != 0) ?
+                 java.util.Collections.unmodifiableList(max_) : max_;
+      }
+      /**
+       * <code>repeated float max = 8 [packed = true];</code>
+       * @return The count of max.
+       */
+      public int getMaxCount() {
+        return max_.size();
+      }
+      /**
+       * <code>repeated float max = 8 [packed = true];</code>
+       * @param index The index of the element to return.
+       * @return The max at the given index.
+       */
+      public float getMax(int index) {
+        return max_.getFloat(index);
+      }
+      /**
+       * <code>repeated float max = 8 [packed = true];</code>
+       * @param index The index to set the value at.
+       * @param value The max to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMax(
+          int index, float value) {
+        ensureMaxIsMutable();
+        max_.setFloat(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated float max = 8 [packed = true];</code>
+       * @param value The max to add.
+       * @return This builder for chaining.
+       */
+      public Builder addMax(float value) {
+        ensureMaxIsMutable();
+        max_.addFloat(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated float max = 8 [packed = true];</code>
+       * @param values The max to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllMax(
+          java.lang.Iterable<? extends java.lang.Float> values) {
+        ensureMaxIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, max_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated float max = 8 [packed = true];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMax() {
+        max_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000080);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.FloatList jerk_ = emptyFloatList();
+      private void ensureJerkIsMutable() {
+        if (!((bitField0_ & 0x00000100) != 0)) {
+          jerk_ = mutableCopy(jerk_);
+          bitField0_ |= 0x00000100;
+         }
+      }
+      /**
+       * <pre>
+       * Mean absolute rate of change between consecutive samples, per second
+       * </pre>
+       *
+       * <code>repeated float jerk = 9 [packed = true];</code>
+       * @return A list containing the jerk.
+       */
+      public java.util.List<java.lang.Float>
+          getJerkList() {
+        return ((bitField0_ & 0x00000100) != 0) ?
+                 java.util.Collections.unmodifiableList(jerk_) : jerk_;
+      }
+      /**
+       * <pre>
+       * Mean absolute rate of change between consecutive samples, per second
+       * </pre>
+       *
+       * <code>repeated float jerk = 9 [packed = true];</code>
+       * @return The count of jerk.
+       */
+      public int getJerkCount() {
+        return jerk_.size();
+      }
+      /**
+       * <pre>
+       * Mean absolute rate of change between consecutive samples, per second
+       * </pre>
+       *
+       * <code>repeated float jerk = 9 [packed = true];</code>
+       * @param index The index of the element to return.
+       * @return The jerk at the given index.
+       */
+      public float getJerk(int index) {
+        return jerk_.getFloat(index);
+      }
+      /**
+       * <pre>
+       * Mean absolute rate of change between consecutive samples, per second
+       * </pre>
+       *
+       * <code>repeated float jerk = 9 [packed = true];</code>
+       * @param index The index to set the value at.
+       * @param value The jerk to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJerk(
+          int index, float value) {
+        ensureJerkIsMutable();
+        jerk_.setFloat(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Mean absolute rate of change between consecutive samples, per second
+       * </pre>
+       *
+       * <code>repeated float jerk = 9 [packed = true];</code>
+       * @param value The jerk to add.
+       * @return This builder for chaining.
+       */
+      public Builder addJerk(float value) {
+        ensureJerkIsMutable();
+        jerk_.addFloat(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Mean absolute rate of change between consecutive samples, per second
+       * </pre>
+       *
+       * <code>repeated float jerk = 9 [packed = true];</code>
+       * @param values The jerk to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllJerk(
+          java.lang.Iterable<? extends java.lang.Float> values) {
+        ensureJerkIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, jerk_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Mean absolute rate of change between consecutive samples, per second
+       * </pre>
+       *
+       * <code>repeated float jerk = 9 [packed = true];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearJerk() {
+        jerk_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000100);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList zeroCrossings_ = emptyIntList();
+      private void ensureZeroCrossingsIsMutable() {
+        if (!((bitField0_ & 0x00000200) != 0)) {
+          zeroCrossings_ = mutableCopy(zeroCrossings_);
+          bitField0_ |= 0x00000200;
+         }
+      }
+      /**
+       * <pre>
+       * Times the axis crossed its mean
+       * </pre>
+       *
+       * <code>repeated uint32 zeroCrossings = 10 [packed = true];</code>
+       * @return A list containing the zeroCrossings.
+       */
+      public java.util.List<java.lang.Integer>
+          getZeroCrossingsList() {
+        return ((bitField0_ & 0x00000200) != 0) ?
+                 java.util.Collections.unmodifiableList(zeroCrossings_) : zeroCrossings_;
+      }
+      /**
+       * <pre>
+       * Times the axis crossed its mean
+       * </pre>
+       *
+       * <code>repeated uint32 zeroCrossings = 10 [packed = true];</code>
+       * @return The count of zeroCrossings.
+       */
+      public int getZeroCrossingsCount() {
+        return zeroCrossings_.size();
+      }
+      /**
+       * <pre>
+       * Times the axis crossed its mean
+       * </pre>
+       *
+       * <code>repeated uint32 zeroCrossings = 10 [packed = true];</code>
+       * @param index The index of the element to return.
+       * @return The zeroCrossings at the given index.
+       */
+      public int getZeroCrossings(int index) {
+        return zeroCrossings_.getInt(index);
+      }
+      /**
+       * <pre>
+       * Times the axis crossed its mean
+       * </pre>
+       *
+       * <code>repeated uint32 zeroCrossings = 10 [packed = true];</code>
+       * @param index The index to set the value at.
+       * @param value The zeroCrossings to set.
+       * @return This builder for chaining.
+       */
+      public Builder setZeroCrossings(
+          int index, int value) {
+        ensureZeroCrossingsIsMutable();
+        zeroCrossings_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Times the axis crossed its mean
+       * </pre>
+       *
+       * <code>repeated uint32 zeroCrossings = 10 [packed = true];</code>
+       * @param value The zeroCrossings to add.
+       * @return This builder for chaining.
+       */
+      public Builder addZeroCrossings(int value) {
+        ensureZeroCrossingsIsMutable();
+        zeroCrossings_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Times the axis crossed its mean
+       * </pre>
+       *
+       * <code>repeated uint32 zeroCrossings = 10 [packed = true];</code>
+       * @param values The zeroCrossings to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllZeroCrossings(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureZeroCrossingsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, zeroCrossings_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Times the axis crossed its mean
+       * </pre>
+       *
+       * <code>repeated uint32 zeroCrossings = 10 [packed = true];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearZeroCrossings() {
+        zeroCrossings_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000200);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.FloatList spectralEnergy_ = emptyFloatList();
+      private void ensureSpectralEnergyIsMutable() {
+        if (!((bitField0_ & 0x00000400) != 0)) {
+          spectralEnergy_ = mutableCopy(spectralEnergy_);
+          bitField0_ |= 0x00000400;
+         }
+      }
+      /**
+       * <pre>
+       * Power of the axis at each of FeatureConfig.spectralFrequencies, axis major
+       * </pre>
+       *
+       * <code>repeated float spectralEnergy = 11 [packed = true];</code>
+       * @return A list containing the spectralEnergy.
+       */
+      public java.util.List<java.lang.Float>
+          getSpectralEnergyList() {
+        return ((bitField0_ & 0x00000400) != 0) ?
+                 java.util.Collections.unmodifiableList(spectralEnergy_) : spectralEnergy_;
+      }
+      /**
+       * <pre>
+       * Power of the axis at each of FeatureConfig.spectralFrequencies, axis major
+       * </pre>
+       *
+       * <code>repeated float spectralEnergy = 11 [packed = true];</code>
+       * @return The count of spectralEnergy.
+       */
+      public int getSpectralEnergyCount() {
+        return spectralEnergy_.size();
+      }
+      /**
+       * <pre>
+       * Power of the axis at each of FeatureConfig.spectralFrequencies, axis major
+       * </pre>
+       *
+       * <code>repeated float spectralEnergy = 11 [packed = true];</code>
+       * @param index The index of the element to return.
+       * @return The spectralEnergy at the given index.
+       */
+      public float getSpectralEnergy(int index) {
+        return spectralEnergy_.getFloat(index);
+      }
+      /**
+       * <pre>
+       * Power of the axis at each of FeatureConfig.spectralFrequencies, axis major
+       * </pre>
+       *
+       * <code>repeated float spectralEnergy = 11 [packed = true];</code>
+       * @param index The index to set the value at.
+       * @param value The spectralEnergy to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSpectralEnergy(
+          int index, float value) {
+        ensureSpectralEnergyIsMutable();
+        spectralEnergy_.setFloat(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Power of the axis at each of FeatureConfig.spectralFrequencies, axis major
+       * </pre>
+       *
+       * <code>repeated float spectralEnergy = 11 [packed = true];</code>
+       * @param value The spectralEnergy to add.
+       * @return This builder for chaining.
+       */
+      public Builder addSpectralEnergy(float value) {
+        ensureSpectralEnergyIsMutable();
+        spectralEnergy_.addFloat(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Power of the axis at each of FeatureConfig.spectralFrequencies, axis major
+       * </pre>
+       *
+       * <code>repeated float spectralEnergy = 11 [packed = true];</code>
+       * @param values The spectralEnergy to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllSpectralEnergy(
+          java.lang.Iterable<? extends java.lang.Float> values) {
+        ensureSpectralEnergyIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, spectralEnergy_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Power of the axis at each of FeatureConfig.spectralFrequencies, axis major
+       * </pre>
+       *
+       * <code>repeated float spectralEnergy = 11 [packed = true];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSpectralEnergy() {
+        spectralEnergy_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000400);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:unifyidchallenge.FeatureWindow)
+    }
+
+    // @@protoc_insertion_point(class_scope:unifyidchallenge.FeatureWindow)
+    private static final com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow();
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<FeatureWindow>
+        PARSER = new com.google.protobuf.AbstractParser<FeatureWindow>() {
+      @java.lang.Override
+      public FeatureWindow parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new FeatureWindow(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<FeatureWindow> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<FeatureWindow> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SensorSessionOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:unifyidchallenge.SensorSession)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required uint32 version = 1;</code>
+     * @return Whether the version field is set.
+     */
+    boolean hasVersion();
+    /**
+     * <code>required uint32 version = 1;</code>
+     * @return The version.
+     */
+    int getVersion();
+
+    /**
+     * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+     */
+    java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo> 
+        getSensorsList();
+    /**
+     * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo getSensors(int index);
+    /**
+     * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+     */
+    int getSensorsCount();
+    /**
+     * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+     */
+    java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfoOrBuilder> 
+        getSensorsOrBuilderList();
+    /**
+     * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfoOrBuilder getSensorsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+     */
+    java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn> 
+        getColumnsList();
+    /**
+     * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn getColumns(int index);
+    /**
+     * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+     */
+    int getColumnsCount();
+    /**
+     * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+     */
+    java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumnOrBuilder> 
+        getColumnsOrBuilderList();
+    /**
+     * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumnOrBuilder getColumnsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+     */
+    java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn> 
+        getCompressedColumnsList();
+    /**
+     * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn getCompressedColumns(int index);
+    /**
+     * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+     */
+    int getCompressedColumnsCount();
+    /**
+     * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+     */
+    java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumnOrBuilder> 
+        getCompressedColumnsOrBuilderList();
+    /**
+     * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumnOrBuilder getCompressedColumnsOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * Written before the first column
+     * </pre>
+     *
+     * <code>optional .unifyidchallenge.ClockAnchor clockAnchor = 5;</code>
+     * @return Whether the clockAnchor field is set.
+     */
+    boolean hasClockAnchor();
+    /**
+     * <pre>
+     * Written before the first column
+     * </pre>
+     *
+     * <code>optional .unifyidchallenge.ClockAnchor clockAnchor = 5;</code>
+     * @return The clockAnchor.
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor getClockAnchor();
+    /**
+     * <pre>
+     * Written before the first column
+     * </pre>
+     *
+     * <code>optional .unifyidchallenge.ClockAnchor clockAnchor = 5;</code>
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchorOrBuilder getClockAnchorOrBuilder();
+
+    /**
+     * <pre>
+     * Set when samples were resampled onto a common timeline, every sensor then has a sample every framePeriodNanos.
+     * Written before the first column
+     * </pre>
+     *
+     * <code>optional int64 framePeriodNanos = 6;</code>
+     * @return Whether the framePeriodNanos field is set.
+     */
+    boolean hasFramePeriodNanos();
+    /**
+     * <pre>
+     * Set when samples were resampled onto a common timeline, every sensor then has a sample every framePeriodNanos.
+     * Written before the first column
+     * </pre>
+     *
+     * <code>optional int64 framePeriodNanos = 6;</code>
+     * @return The framePeriodNanos.
+     */
+    long getFramePeriodNanos();
+
+    /**
+     * <pre>
+     * Set when features were extracted, sessions may hold feature windows alongside their columns or instead of them.
+     * Written before the first column
+     * </pre>
+     *
+     * <code>optional .unifyidchallenge.FeatureConfig featureConfig = 7;</code>
+     * @return Whether the featureConfig field is set.
+     */
+    boolean hasFeatureConfig();
+    /**
+     * <pre>
+     * Set when features were extracted, sessions may hold feature windows alongside their columns or instead of them.
+     * Written before the first column
+     * </pre>
+     *
+     * <code>optional .unifyidchallenge.FeatureConfig featureConfig = 7;</code>
+     * @return The featureConfig.
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig getFeatureConfig();
+    /**
+     * <pre>
+     * Set when features were extracted, sessions may hold feature windows alongside their columns or instead of them.
+     * Written before the first column
+     * </pre>
+     *
+     * <code>optional .unifyidchallenge.FeatureConfig featureConfig = 7;</code>
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfigOrBuilder getFeatureConfigOrBuilder();
+
+    /**
+     * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+     */
+    java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow> 
+        getFeatureWindowsList();
+    /**
+     * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow getFeatureWindows(int index);
+    /**
+     * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+     */
+    int getFeatureWindowsCount();
+    /**
+     * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+     */
+    java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindowOrBuilder> 
+        getFeatureWindowsOrBuilderList();
+    /**
+     * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindowOrBuilder getFeatureWindowsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code unifyidchallenge.SensorSession}
+   */
+  public  static final class SensorSession extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:unifyidchallenge.SensorSession)
+      SensorSessionOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SensorSession.newBuilder() to construct.
+    private SensorSession(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SensorSession() {
+      sensors_ = java.util.Collections.emptyList();
+      columns_ = java.util.Collections.emptyList();
+      compressedColumns_ = java.util.Collections.emptyList();
+      featureWindows_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SensorSession();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SensorSession(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              version_ = input.readUInt32();
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                sensors_ = new java.util.ArrayList<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              sensors_.add(
+                  input.readMessage(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.PARSER, extensionRegistry));
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) != 0)) {
+                columns_ = new java.util.ArrayList<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              columns_.add(
+                  input.readMessage(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn.PARSER, extensionRegistry));
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) != 0)) {
+                compressedColumns_ = new java.util.ArrayList<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              compressedColumns_.add(
+                  input.readMessage(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn.PARSER, extensionRegistry));
+              break;
+            }
+            case 42: {
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) != 0)) {
+                subBuilder = clockAnchor_.toBuilder();
+              }
+              clockAnchor_ = input.readMessage(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(clockAnchor_);
+                clockAnchor_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000004;
+              framePeriodNanos_ = input.readInt64();
+              break;
+            }
+            case 58: {
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000008) != 0)) {
+                subBuilder = featureConfig_.toBuilder();
+              }
+              featureConfig_ = input.readMessage(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(featureConfig_);
+                featureConfig_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000008;
+              break;
+            }
+            case 66: {
+              if (!((mutable_bitField0_ & 0x00000080) != 0)) {
+                featureWindows_ = new java.util.ArrayList<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow>();
+                mutable_bitField0_ |= 0x00000080;
+              }
+              featureWindows_.add(
+                  input.readMessage(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow.PARSER, extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          sensors_ = java.util.Collections.unmodifiableList(sensors_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) != 0)) {
+          columns_ = java.util.Collections.unmodifiableList(columns_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) != 0)) {
+          compressedColumns_ = java.util.Collections.unmodifiableList(compressedColumns_);
+        }
+        if (((mutable_bitField0_ & 0x00000080) != 0)) {
+          featureWindows_ = java.util.Collections.unmodifiableList(featureWindows_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorSession_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorSession_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int VERSION_FIELD_NUMBER = 1;
+    private int version_;
+    /**
+     * <code>required uint32 version = 1;</code>
+     * @return Whether the version field is set.
+     */
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required uint32 version = 1;</code>
+     * @return The version.
+     */
+    public int getVersion() {
+      return version_;
+    }
+
+    public static final int SENSORS_FIELD_NUMBER = 2;
+    private java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo> sensors_;
+    /**
+     * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+     */
+    public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo> getSensorsList() {
+      return sensors_;
+    }
+    /**
+     * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+     */
+    public java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfoOrBuilder> 
+        getSensorsOrBuilderList() {
+      return sensors_;
+    }
+    /**
+     * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+     */
+    public int getSensorsCount() {
+      return sensors_.size();
+    }
+    /**
+     * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo getSensors(int index) {
+      return sensors_.get(index);
+    }
+    /**
+     * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfoOrBuilder getSensorsOrBuilder(
+        int index) {
+      return sensors_.get(index);
+    }
+
+    public static final int COLUMNS_FIELD_NUMBER = 3;
+    private java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn> columns_;
+    /**
+     * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+     */
+    public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn> getColumnsList() {
+      return columns_;
+    }
+    /**
+     * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+     */
+    public java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumnOrBuilder> 
+        getColumnsOrBuilderList() {
+      return columns_;
+    }
+    /**
+     * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+     */
+    public int getColumnsCount() {
+      return columns_.size();
+    }
+    /**
+     * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn getColumns(int index) {
+      return columns_.get(index);
+    }
+    /**
+     * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumnOrBuilder getColumnsOrBuilder(
+        int index) {
+      return columns_.get(index);
+    }
+
+    public static final int COMPRESSEDCOLUMNS_FIELD_NUMBER = 4;
+    private java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn> compressedColumns_;
+    /**
+     * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+     */
+    public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn> getCompressedColumnsList() {
+      return compressedColumns_;
+    }
+    /**
+     * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+     */
+    public java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumnOrBuilder> 
+        getCompressedColumnsOrBuilderList() {
+      return compressedColumns_;
+    }
+    /**
+     * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+     */
+    public int getCompressedColumnsCount() {
+      return compressedColumns_.size();
+    }
+    /**
+     * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn getCompressedColumns(int index) {
+      return compressedColumns_.get(index);
+    }
+    /**
+     * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumnOrBuilder getCompressedColumnsOrBuilder(
+        int index) {
+      return compressedColumns_.get(index);
+    }
+
+    public static final int CLOCKANCHOR_FIELD_NUMBER = 5;
+    private com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor clockAnchor_;
+    /**
+     * <pre>
+     * Written before the first column
+     * </pre>
+     *
+     * <code>optional .unifyidchallenge.ClockAnchor clockAnchor = 5;</code>
+     * @return Whether the clockAnchor field is set.
+     */
+    public boolean hasClockAnchor() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * Written before the first column
+     * </pre>
+     *
+     * <code>optional .unifyidchallenge.ClockAnchor clockAnchor = 5;</code>
+     * @return The clockAnchor.
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor getClockAnchor() {
+      return clockAnchor_ == null ? com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor.getDefaultInstance() : clockAnchor_;
+    }
+    /**
+     * <pre>
+     * Written before the first column
+     * </pre>
+     *
+     * <code>optional .unifyidchallenge.ClockAnchor clockAnchor = 5;</code>
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchorOrBuilder getClockAnchorOrBuilder() {
+      return clockAnchor_ == null ? com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor.getDefaultInstance() : clockAnchor_;
+    }
+
+    public static final int FRAMEPERIODNANOS_FIELD_NUMBER = 6;
+    private long framePeriodNanos_;
+    /**
+     * <pre>
+     * Set when samples were resampled onto a common timeline, every sensor then has a sample every framePeriodNanos.
+     * Written before the first column
+     * </pre>
+     *
+     * <code>optional int64 framePeriodNanos = 6;</code>
+     * @return Whether the framePeriodNanos field is set.
+     */
+    public boolean hasFramePeriodNanos() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <pre>
+     * Set when samples were resampled onto a common timeline, every sensor then has a sample every framePeriodNanos.
+     * Written before the first column
+     * </pre>
+     *
+     * <code>optional int64 framePeriodNanos = 6;</code>
+     * @return The framePeriodNanos.
+     */
+    public long getFramePeriodNanos() {
+      return framePeriodNanos_;
+    }
+
+    public static final int FEATURECONFIG_FIELD_NUMBER = 7;
+    private com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig featureConfig_;
+    /**
+     * <pre>
+     * Set when features were extracted, sessions may hold feature windows alongside their columns or instead of them.
+     * Written before the first column
+     * </pre>
+     *
+     * <code>optional .unifyidchallenge.FeatureConfig featureConfig = 7;</code>
+     * @return Whether the featureConfig field is set.
+     */
+    public boolean hasFeatureConfig() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <pre>
+     * Set when features were extracted, sessions may hold feature windows alongside their columns or instead of them.
+     * Written before the first column
+     * </pre>
+     *
+     * <code>optional .unifyidchallenge.FeatureConfig featureConfig = 7;</code>
+     * @return The featureConfig.
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig getFeatureConfig() {
+      return featureConfig_ == null ? com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig.getDefaultInstance() : featureConfig_;
+    }
+    /**
+     * <pre>
+     * Set when features were extracted, sessions may hold feature windows alongside their columns or instead of them.
+     * Written before the first column
+     * </pre>
+     *
+     * <code>optional .unifyidchallenge.FeatureConfig featureConfig = 7;</code>
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfigOrBuilder getFeatureConfigOrBuilder() {
+      return featureConfig_ == null ? com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig.getDefaultInstance() : featureConfig_;
+    }
+
+    public static final int FEATUREWINDOWS_FIELD_NUMBER = 8;
+    private java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow> featureWindows_;
+    /**
+     * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+     */
+    public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow> getFeatureWindowsList() {
+      return featureWindows_;
+    }
+    /**
+     * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+     */
+    public java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindowOrBuilder> 
+        getFeatureWindowsOrBuilderList() {
+      return featureWindows_;
+    }
+    /**
+     * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+     */
+    public int getFeatureWindowsCount() {
+      return featureWindows_.size();
+    }
+    /**
+     * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow getFeatureWindows(int index) {
+      return featureWindows_.get(index);
+    }
+    /**
+     * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindowOrBuilder getFeatureWindowsOrBuilder(
+        int index) {
+      return featureWindows_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasVersion()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      for (int i = 0; i < getSensorsCount(); i++) {
+        if (!getSensors(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getColumnsCount(); i++) {
+        if (!getColumns(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getCompressedColumnsCount(); i++) {
+        if (!getCompressedColumns(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasClockAnchor()) {
+        if (!getClockAnchor().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasFeatureConfig()) {
+        if (!getFeatureConfig().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getFeatureWindowsCount(); i++) {
+        if (!getFeatureWindows(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt32(1, version_);
+      }
+      for (int i = 0; i < sensors_.size(); i++) {
+        output.writeMessage(2, sensors_.get(i));
+      }
+      for (int i = 0; i < columns_.size(); i++) {
+        output.writeMessage(3, columns_.get(i));
+      }
+      for (int i = 0; i < compressedColumns_.size(); i++) {
+        output.writeMessage(4, compressedColumns_.get(i));
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeMessage(5, getClockAnchor());
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt64(6, framePeriodNanos_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeMessage(7, getFeatureConfig());
+      }
+      for (int i = 0; i < featureWindows_.size(); i++) {
+        output.writeMessage(8, featureWindows_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, version_);
+      }
+      for (int i = 0; i < sensors_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, sensors_.get(i));
+      }
+      for (int i = 0; i < columns_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, columns_.get(i));
+      }
+      for (int i = 0; i < compressedColumns_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, compressedColumns_.get(i));
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, getClockAnchor());
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, framePeriodNanos_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, getFeatureConfig());
+      }
+      for (int i = 0; i < featureWindows_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, featureWindows_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession)) {
+        return super.equals(obj);
+      }
+      com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession other = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession) obj;
+
+      if (hasVersion() != other.hasVersion()) return false;
+      if (hasVersion()) {
+        if (getVersion()
+            != other.getVersion()) return false;
+      }
+      if (!getSensorsList()
+          .equals(other.getSensorsList())) return false;
+      if (!getColumnsList()
+          .equals(other.getColumnsList())) return false;
+      if (!getCompressedColumnsList()
+          .equals(other.getCompressedColumnsList())) return false;
+      if (hasClockAnchor() != other.hasClockAnchor()) return false;
+      if (hasClockAnchor()) {
+        if (!getClockAnchor()
+            .equals(other.getClockAnchor())) return false;
+      }
+      if (hasFramePeriodNanos() != other.hasFramePeriodNanos()) return false;
+      if (hasFramePeriodNanos()) {
+        if (getFramePeriodNanos()
+            != other.getFramePeriodNanos()) return false;
+      }
+      if (hasFeatureConfig() != other.hasFeatureConfig()) return false;
+      if (hasFeatureConfig()) {
+        if (!getFeatureConfig()
+            .equals(other.getFeatureConfig())) return false;
+      }
+      if (!getFeatureWindowsList()
+          .equals(other.getFeatureWindowsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasVersion()) {
+        hash = (37 * hash) + VERSION_FIELD_NUMBER;
+        hash = (53 * hash) + getVersion();
+      }
+      if (getSensorsCount() > 0) {
+        hash = (37 * hash) + SENSORS_FIELD_NUMBER;
+        hash = (53 * hash) + getSensorsList().hashCode();
+      }
+      if (getColumnsCount() > 0) {
+        hash = (37 * hash) + COLUMNS_FIELD_NUMBER;
+        hash = (53 * hash) + getColumnsList().hashCode();
+      }
+      if (getCompressedColumnsCount() > 0) {
+        hash = (37 * hash) + COMPRESSEDCOLUMNS_FIELD_NUMBER;
+        hash = (53 * hash) + getCompressedColumnsList().hashCode();
+      }
+      if (hasClockAnchor()) {
+        hash = (37 * hash) + CLOCKANCHOR_FIELD_NUMBER;
+        hash = (53 * hash) + getClockAnchor().hashCode();
+      }
+      if (hasFramePeriodNanos()) {
+        hash = (37 * hash) + FRAMEPERIODNANOS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getFramePeriodNanos());
+      }
+      if (hasFeatureConfig()) {
+        hash = (37 * hash) + FEATURECONFIG_FIELD_NUMBER;
+        hash = (53 * hash) + getFeatureConfig().hashCode();
+      }
+      if (getFeatureWindowsCount() > 0) {
+        hash = (37 * hash) + FEATUREWINDOWS_FIELD_NUMBER;
+        hash = (53 * hash) + getFeatureWindowsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code unifyidchallenge.SensorSession}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:unifyidchallenge.SensorSession)
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSessionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorSession_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorSession_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession.Builder.class);
+      }
+
+      // Construct using com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getSensorsFieldBuilder();
+          getColumnsFieldBuilder();
+          getCompressedColumnsFieldBuilder();
+          getClockAnchorFieldBuilder();
+          getFeatureConfigFieldBuilder();
+          getFeatureWindowsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        version_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (sensorsBuilder_ == null) {
+          sensors_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          sensorsBuilder_.clear();
+        }
+        if (columnsBuilder_ == null) {
+          columns_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          columnsBuilder_.clear();
+        }
+        if (compressedColumnsBuilder_ == null) {
+          compressedColumns_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          compressedColumnsBuilder_.clear();
+        }
+        if (clockAnchorBuilder_ == null) {
+          clockAnchor_ = null;
+        } else {
+          clockAnchorBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        framePeriodNanos_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        if (featureConfigBuilder_ == null) {
+          featureConfig_ = null;
+        } else {
+          featureConfigBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        if (featureWindowsBuilder_ == null) {
+          featureWindows_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000080);
+        } else {
+          featureWindowsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorSession_descriptor;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession getDefaultInstanceForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession build() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession buildPartial() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession result = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.version_ = version_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (sensorsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            sensors_ = java.util.Collections.unmodifiableList(sensors_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.sensors_ = sensors_;
+        } else {
+          result.sensors_ = sensorsBuilder_.build();
+        }
+        if (columnsBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            columns_ = java.util.Collections.unmodifiableList(columns_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.columns_ = columns_;
+        } else {
+          result.columns_ = columnsBuilder_.build();
+        }
+        if (compressedColumnsBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            compressedColumns_ = java.util.Collections.unmodifiableList(compressedColumns_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.compressedColumns_ = compressedColumns_;
+        } else {
+          result.compressedColumns_ = compressedColumnsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          if (clockAnchorBuilder_ == null) {
+            result.clockAnchor_ = clockAnchor_;
+          } else {
+            result.clockAnchor_ = clockAnchorBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.framePeriodNanos_ = framePeriodNanos_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          if (featureConfigBuilder_ == null) {
+            result.featureConfig_ = featureConfig_;
+          } else {
+            result.featureConfig_ = featureConfigBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000008;
+        }
+        if (featureWindowsBuilder_ == null) {
+          if (((bitField0_ & 0x00000080) != 0)) {
+            featureWindows_ = java.util.Collections.unmodifiableList(featureWindows_);
+            bitField0_ = (bitField0_ & ~0x00000080);
+          }
+          result.featureWindows_ = featureWindows_;
+        } else {
+          result.featureWindows_ = featureWindowsBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession) {
+          return mergeFrom((com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession other) {
+        if (other == com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession.getDefaultInstance()) return this;
+        if (other.hasVersion()) {
+          setVersion(other.getVersion());
+        }
+        if (sensorsBuilder_ == null) {
+          if (!other.sensors_.isEmpty()) {
+            if (sensors_.isEmpty()) {
+              sensors_ = other.sensors_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureSensorsIsMutable();
+              sensors_.addAll(other.sensors_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.sensors_.isEmpty()) {
+            if (sensorsBuilder_.isEmpty()) {
+              sensorsBuilder_.dispose();
+              sensorsBuilder_ = null;
+              sensors_ = other.sensors_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              sensorsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getSensorsFieldBuilder() : null;
+            } else {
+              sensorsBuilder_.addAllMessages(other.sensors_);
+            }
+          }
+        }
+        if (columnsBuilder_ == null) {
+          if (!other.columns_.isEmpty()) {
+            if (columns_.isEmpty()) {
+              columns_ = other.columns_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureColumnsIsMutable();
+              columns_.addAll(other.columns_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.columns_.isEmpty()) {
+            if (columnsBuilder_.isEmpty()) {
+              columnsBuilder_.dispose();
+              columnsBuilder_ = null;
+              columns_ = other.columns_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              columnsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getColumnsFieldBuilder() : null;
+            } else {
+              columnsBuilder_.addAllMessages(other.columns_);
+            }
+          }
+        }
+        if (compressedColumnsBuilder_ == null) {
+          if (!other.compressedColumns_.isEmpty()) {
+            if (compressedColumns_.isEmpty()) {
+              compressedColumns_ = other.compressedColumns_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureCompressedColumnsIsMutable();
+              compressedColumns_.addAll(other.compressedColumns_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.compressedColumns_.isEmpty()) {
+            if (compressedColumnsBuilder_.isEmpty()) {
+              compressedColumnsBuilder_.dispose();
+              compressedColumnsBuilder_ = null;
+              compressedColumns_ = other.compressedColumns_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              compressedColumnsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getCompressedColumnsFieldBuilder() : null;
+            } else {
+              compressedColumnsBuilder_.addAllMessages(other.compressedColumns_);
+            }
+          }
+        }
+        if (other.hasClockAnchor()) {
+          mergeClockAnchor(other.getClockAnchor());
+        }
+        if (other.hasFramePeriodNanos()) {
+          setFramePeriodNanos(other.getFramePeriodNanos());
+        }
+        if (other.hasFeatureConfig()) {
+          mergeFeatureConfig(other.getFeatureConfig());
+        }
+        if (featureWindowsBuilder_ == null) {
+          if (!other.featureWindows_.isEmpty()) {
+            if (featureWindows_.isEmpty()) {
+              featureWindows_ = other.featureWindows_;
+              bitField0_ = (bitField0_ & ~0x00000080);
+            } else {
+              ensureFeatureWindowsIsMutable();
+              featureWindows_.addAll(other.featureWindows_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.featureWindows_.isEmpty()) {
+            if (featureWindowsBuilder_.isEmpty()) {
+              featureWindowsBuilder_.dispose();
+              featureWindowsBuilder_ = null;
+              featureWindows_ = other.featureWindows_;
+              bitField0_ = (bitField0_ & ~0x00000080);
+              featureWindowsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getFeatureWindowsFieldBuilder() : null;
+            } else {
+              featureWindowsBuilder_.addAllMessages(other.featureWindows_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasVersion()) {
+          return false;
+        }
+        for (int i = 0; i < getSensorsCount(); i++) {
+          if (!getSensors(i).isInitialized()) {
+            return false;
+          }
+        }
+        for (int i = 0; i < getColumnsCount(); i++) {
+          if (!getColumns(i).isInitialized()) {
+            return false;
+          }
+        }
+        for (int i = 0; i < getCompressedColumnsCount(); i++) {
+          if (!getCompressedColumns(i).isInitialized()) {
+            return false;
+          }
+        }
+        if (hasClockAnchor()) {
+          if (!getClockAnchor().isInitialized()) {
+            return false;
+          }
+        }
+        if (hasFeatureConfig()) {
+          if (!getFeatureConfig().isInitialized()) {
+            return false;
+          }
+        }
+        for (int i = 0; i < getFeatureWindowsCount(); i++) {
+          if (!getFeatureWindows(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int version_ ;
+      /**
+       * <code>required uint32 version = 1;</code>
+       * @return Whether the version field is set.
+       */
+      public boolean hasVersion() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required uint32 version = 1;</code>
+       * @return The version.
+       */
+      public int getVersion() {
+        return version_;
+      }
+      /**
+       * <code>required uint32 version = 1;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(int value) {
+        bitField0_ |= 0x00000001;
+        version_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 version = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        version_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo> sensors_ =
+        java.util.Collections.emptyList();
+      private void ensureSensorsIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          sensors_ = new java.util.ArrayList<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo>(sensors_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfoOrBuilder> sensorsBuilder_;
+
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+       */
+      public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo> getSensorsList() {
+        if (sensorsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(sensors_);
+        } else {
+          return sensorsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+       */
+      public int getSensorsCount() {
+        if (sensorsBuilder_ == null) {
+          return sensors_.size();
+        } else {
+          return sensorsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo getSensors(int index) {
+        if (sensorsBuilder_ == null) {
+          return sensors_.get(index);
+        } else {
+          return sensorsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+       */
+      public Builder setSensors(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo value) {
+        if (sensorsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSensorsIsMutable();
+          sensors_.set(index, value);
+          onChanged();
+        } else {
+          sensorsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+       */
+      public Builder setSensors(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder builderForValue) {
+        if (sensorsBuilder_ == null) {
+          ensureSensorsIsMutable();
+          sensors_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          sensorsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+       */
+      public Builder addSensors(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo value) {
+        if (sensorsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSensorsIsMutable();
+          sensors_.add(value);
+          onChanged();
+        } else {
+          sensorsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+       */
+      public Builder addSensors(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo value) {
+        if (sensorsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSensorsIsMutable();
+          sensors_.add(index, value);
+          onChanged();
+        } else {
+          sensorsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+       */
+      public Builder addSensors(
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder builderForValue) {
+        if (sensorsBuilder_ == null) {
+          ensureSensorsIsMutable();
+          sensors_.add(builderForValue.build());
+          onChanged();
+        } else {
+          sensorsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+       */
+      public Builder addSensors(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder builderForValue) {
+        if (sensorsBuilder_ == null) {
+          ensureSensorsIsMutable();
+          sensors_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          sensorsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+       */
+      public Builder addAllSensors(
+          java.lang.Iterable<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo> values) {
+        if (sensorsBuilder_ == null) {
+          ensureSensorsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, sensors_);
+          onChanged();
+        } else {
+          sensorsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+       */
+      public Builder clearSensors() {
+        if (sensorsBuilder_ == null) {
+          sensors_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          sensorsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+       */
+      public Builder removeSensors(int index) {
+        if (sensorsBuilder_ == null) {
+          ensureSensorsIsMutable();
+          sensors_.remove(index);
+          onChanged();
+        } else {
+          sensorsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder getSensorsBuilder(
+          int index) {
+        return getSensorsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfoOrBuilder getSensorsOrBuilder(
+          int index) {
+        if (sensorsBuilder_ == null) {
+          return sensors_.get(index);  } else {
+          return sensorsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+       */
+      public java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfoOrBuilder> 
+           getSensorsOrBuilderList() {
+        if (sensorsBuilder_ != null) {
+          return sensorsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(sensors_);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder addSensorsBuilder() {
+        return getSensorsFieldBuilder().addBuilder(
+            com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder addSensorsBuilder(
+          int index) {
+        return getSensorsFieldBuilder().addBuilder(
+            index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorInfo sensors = 2;</code>
+       */
+      public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder> 
+           getSensorsBuilderList() {
+        return getSensorsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfoOrBuilder> 
+          getSensorsFieldBuilder() {
+        if (sensorsBuilder_ == null) {
+          sensorsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfo.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorInfoOrBuilder>(
+                  sensors_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          sensors_ = null;
+        }
+        return sensorsBuilder_;
+      }
+
+      private java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn> columns_ =
+        java.util.Collections.emptyList();
+      private void ensureColumnsIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          columns_ = new java.util.ArrayList<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn>(columns_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumnOrBuilder> columnsBuilder_;
+
+      /**
+       * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+       */
+      public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn> getColumnsList() {
+        if (columnsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(columns_);
+        } else {
+          return columnsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+       */
+      public int getColumnsCount() {
+        if (columnsBuilder_ == null) {
+          return columns_.size();
+        } else {
+          return columnsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn getColumns(int index) {
+        if (columnsBuilder_ == null) {
+          return columns_.get(index);
+        } else {
+          return columnsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+       */
+      public Builder setColumns(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.set(index, value);
+          onChanged();
+        } else {
+          columnsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+       */
+      public Builder setColumns(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+       */
+      public Builder addColumns(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.add(value);
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+       */
+      public Builder addColumns(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.add(index, value);
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+       */
+      public Builder addColumns(
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.add(builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+       */
+      public Builder addColumns(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+       */
+      public Builder addAllColumns(
+          java.lang.Iterable<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn> values) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, columns_);
+          onChanged();
+        } else {
+          columnsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+       */
+      public Builder clearColumns() {
+        if (columnsBuilder_ == null) {
+          columns_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          columnsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+       */
+      public Builder removeColumns(int index) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.remove(index);
+          onChanged();
+        } else {
+          columnsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn.Builder getColumnsBuilder(
+          int index) {
+        return getColumnsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumnOrBuilder getColumnsOrBuilder(
+          int index) {
+        if (columnsBuilder_ == null) {
+          return columns_.get(index);  } else {
+          return columnsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+       */
+      public java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumnOrBuilder> 
+           getColumnsOrBuilderList() {
+        if (columnsBuilder_ != null) {
+          return columnsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(columns_);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn.Builder addColumnsBuilder() {
+        return getColumnsFieldBuilder().addBuilder(
+            com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn.Builder addColumnsBuilder(
+          int index) {
+        return getColumnsFieldBuilder().addBuilder(
+            index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorColumn columns = 3;</code>
+       */
+      public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn.Builder> 
+           getColumnsBuilderList() {
+        return getColumnsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumnOrBuilder> 
+          getColumnsFieldBuilder() {
+        if (columnsBuilder_ == null) {
+          columnsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumn.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorColumnOrBuilder>(
+                  columns_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          columns_ = null;
+        }
+        return columnsBuilder_;
+      }
+
+      private java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn> compressedColumns_ =
+        java.util.Collections.emptyList();
+      private void ensureCompressedColumnsIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          compressedColumns_ = new java.util.ArrayList<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn>(compressedColumns_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumnOrBuilder> compressedColumnsBuilder_;
+
+      /**
+       * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+       */
+      public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn> getCompressedColumnsList() {
+        if (compressedColumnsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(compressedColumns_);
+        } else {
+          return compressedColumnsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+       */
+      public int getCompressedColumnsCount() {
+        if (compressedColumnsBuilder_ == null) {
+          return compressedColumns_.size();
+        } else {
+          return compressedColumnsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn getCompressedColumns(int index) {
+        if (compressedColumnsBuilder_ == null) {
+          return compressedColumns_.get(index);
+        } else {
+          return compressedColumnsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+       */
+      public Builder setCompressedColumns(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn value) {
+        if (compressedColumnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCompressedColumnsIsMutable();
+          compressedColumns_.set(index, value);
+          onChanged();
+        } else {
+          compressedColumnsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+       */
+      public Builder setCompressedColumns(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn.Builder builderForValue) {
+        if (compressedColumnsBuilder_ == null) {
+          ensureCompressedColumnsIsMutable();
+          compressedColumns_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          compressedColumnsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+       */
+      public Builder addCompressedColumns(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn value) {
+        if (compressedColumnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCompressedColumnsIsMutable();
+          compressedColumns_.add(value);
+          onChanged();
+        } else {
+          compressedColumnsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+       */
+      public Builder addCompressedColumns(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn value) {
+        if (compressedColumnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCompressedColumnsIsMutable();
+          compressedColumns_.add(index, value);
+          onChanged();
+        } else {
+          compressedColumnsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+       */
+      public Builder addCompressedColumns(
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn.Builder builderForValue) {
+        if (compressedColumnsBuilder_ == null) {
+          ensureCompressedColumnsIsMutable();
+          compressedColumns_.add(builderForValue.build());
+          onChanged();
+        } else {
+          compressedColumnsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+       */
+      public Builder addCompressedColumns(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn.Builder builderForValue) {
+        if (compressedColumnsBuilder_ == null) {
+          ensureCompressedColumnsIsMutable();
+          compressedColumns_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          compressedColumnsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+       */
+      public Builder addAllCompressedColumns(
+          java.lang.Iterable<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn> values) {
+        if (compressedColumnsBuilder_ == null) {
+          ensureCompressedColumnsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, compressedColumns_);
+          onChanged();
+        } else {
+          compressedColumnsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+       */
+      public Builder clearCompressedColumns() {
+        if (compressedColumnsBuilder_ == null) {
+          compressedColumns_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          compressedColumnsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+       */
+      public Builder removeCompressedColumns(int index) {
+        if (compressedColumnsBuilder_ == null) {
+          ensureCompressedColumnsIsMutable();
+          compressedColumns_.remove(index);
+          onChanged();
+        } else {
+          compressedColumnsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn.Builder getCompressedColumnsBuilder(
+          int index) {
+        return getCompressedColumnsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumnOrBuilder getCompressedColumnsOrBuilder(
+          int index) {
+        if (compressedColumnsBuilder_ == null) {
+          return compressedColumns_.get(index);  } else {
+          return compressedColumnsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+       */
+      public java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumnOrBuilder> 
+           getCompressedColumnsOrBuilderList() {
+        if (compressedColumnsBuilder_ != null) {
+          return compressedColumnsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(compressedColumns_);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn.Builder addCompressedColumnsBuilder() {
+        return getCompressedColumnsFieldBuilder().addBuilder(
+            com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn.Builder addCompressedColumnsBuilder(
+          int index) {
+        return getCompressedColumnsFieldBuilder().addBuilder(
+            index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .unifyidchallenge.CompressedColumn compressedColumns = 4;</code>
+       */
+      public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn.Builder> 
+           getCompressedColumnsBuilderList() {
+        return getCompressedColumnsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumnOrBuilder> 
+          getCompressedColumnsFieldBuilder() {
+        if (compressedColumnsBuilder_ == null) {
+          compressedColumnsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumn.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CompressedColumnOrBuilder>(
+                  compressedColumns_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          compressedColumns_ = null;
+        }
+        return compressedColumnsBuilder_;
+      }
+
+      private com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor clockAnchor_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchorOrBuilder> clockAnchorBuilder_;
+      /**
+       * <pre>
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional .unifyidchallenge.ClockAnchor clockAnchor = 5;</code>
+       * @return Whether the clockAnchor field is set.
+       */
+      public boolean hasClockAnchor() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <pre>
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional .unifyidchallenge.ClockAnchor clockAnchor = 5;</code>
+       * @return The clockAnchor.
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor getClockAnchor() {
+        if (clockAnchorBuilder_ == null) {
+          return clockAnchor_ == null ? com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor.getDefaultInstance() : clockAnchor_;
+        } else {
+          return clockAnchorBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional .unifyidchallenge.ClockAnchor clockAnchor = 5;</code>
+       */
+      public Builder setClockAnchor(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor value) {
+        if (clockAnchorBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          clockAnchor_ = value;
+          onChanged();
+        } else {
+          clockAnchorBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <pre>
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional .unifyidchallenge.ClockAnchor clockAnchor = 5;</code>
+       */
+      public Builder setClockAnchor(
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor.Builder builderForValue) {
+        if (clockAnchorBuilder_ == null) {
+          clockAnchor_ = builderForValue.build();
+          onChanged();
+        } else {
+          clockAnchorBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <pre>
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional .unifyidchallenge.ClockAnchor clockAnchor = 5;</code>
+       */
+      public Builder mergeClockAnchor(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor value) {
+        if (clockAnchorBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) != 0) &&
+              clockAnchor_ != null &&
+              clockAnchor_ != com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor.getDefaultInstance()) {
+            clockAnchor_ =
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor.newBuilder(clockAnchor_).mergeFrom(value).buildPartial();
+          } else {
+            clockAnchor_ = value;
+          }
+          onChanged();
+        } else {
+          clockAnchorBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <pre>
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional .unifyidchallenge.ClockAnchor clockAnchor = 5;</code>
+       */
+      public Builder clearClockAnchor() {
+        if (clockAnchorBuilder_ == null) {
+          clockAnchor_ = null;
+          onChanged();
+        } else {
+          clockAnchorBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+      /**
+       * <pre>
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional .unifyidchallenge.ClockAnchor clockAnchor = 5;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor.Builder getClockAnchorBuilder() {
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return getClockAnchorFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional .unifyidchallenge.ClockAnchor clockAnchor = 5;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchorOrBuilder getClockAnchorOrBuilder() {
+        if (clockAnchorBuilder_ != null) {
+          return clockAnchorBuilder_.getMessageOrBuilder();
+        } else {
+          return clockAnchor_ == null ?
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor.getDefaultInstance() : clockAnchor_;
+        }
+      }
+      /**
+       * <pre>
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional .unifyidchallenge.ClockAnchor clockAnchor = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchorOrBuilder> 
+          getClockAnchorFieldBuilder() {
+        if (clockAnchorBuilder_ == null) {
+          clockAnchorBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchor.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.ClockAnchorOrBuilder>(
+                  getClockAnchor(),
+                  getParentForChildren(),
+                  isClean());
+          clockAnchor_ = null;
+        }
+        return clockAnchorBuilder_;
+      }
+
+      private long framePeriodNanos_ ;
+      /**
+       * <pre>
+       * Set when samples were resampled onto a common timeline, every sensor then has a sample every framePeriodNanos.
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional int64 framePeriodNanos = 6;</code>
+       * @return Whether the framePeriodNanos field is set.
+       */
+      public boolean hasFramePeriodNanos() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <pre>
+       * Set when samples were resampled onto a common timeline, every sensor then has a sample every framePeriodNanos.
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional int64 framePeriodNanos = 6;</code>
+       * @return The framePeriodNanos.
+       */
+      public long getFramePeriodNanos() {
+        return framePeriodNanos_;
+      }
+      /**
+       * <pre>
+       * Set when samples were resampled onto a common timeline, every sensor then has a sample every framePeriodNanos.
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional int64 framePeriodNanos = 6;</code>
+       * @param value The framePeriodNanos to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFramePeriodNanos(long value) {
+        bitField0_ |= 0x00000020;
+        framePeriodNanos_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Set when samples were resampled onto a common timeline, every sensor then has a sample every framePeriodNanos.
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional int64 framePeriodNanos = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFramePeriodNanos() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        framePeriodNanos_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig featureConfig_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfigOrBuilder> featureConfigBuilder_;
+      /**
+       * <pre>
+       * Set when features were extracted, sessions may hold feature windows alongside their columns or instead of them.
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional .unifyidchallenge.FeatureConfig featureConfig = 7;</code>
+       * @return Whether the featureConfig field is set.
+       */
+      public boolean hasFeatureConfig() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <pre>
+       * Set when features were extracted, sessions may hold feature windows alongside their columns or instead of them.
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional .unifyidchallenge.FeatureConfig featureConfig = 7;</code>
+       * @return The featureConfig.
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig getFeatureConfig() {
+        if (featureConfigBuilder_ == null) {
+          return featureConfig_ == null ? com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig.getDefaultInstance() : featureConfig_;
+        } else {
+          return featureConfigBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * Set when features were extracted, sessions may hold feature windows alongside their columns or instead of them.
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional .unifyidchallenge.FeatureConfig featureConfig = 7;</code>
+       */
+      public Builder setFeatureConfig(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig value) {
+        if (featureConfigBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          featureConfig_ = value;
+          onChanged();
+        } else {
+          featureConfigBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <pre>
+       * Set when features were extracted, sessions may hold feature windows alongside their columns or instead of them.
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional .unifyidchallenge.FeatureConfig featureConfig = 7;</code>
+       */
+      public Builder setFeatureConfig(
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig.Builder builderForValue) {
+        if (featureConfigBuilder_ == null) {
+          featureConfig_ = builderForValue.build();
+          onChanged();
+        } else {
+          featureConfigBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <pre>
+       * Set when features were extracted, sessions may hold feature windows alongside their columns or instead of them.
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional .unifyidchallenge.FeatureConfig featureConfig = 7;</code>
+       */
+      public Builder mergeFeatureConfig(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig value) {
+        if (featureConfigBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) != 0) &&
+              featureConfig_ != null &&
+              featureConfig_ != com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig.getDefaultInstance()) {
+            featureConfig_ =
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig.newBuilder(featureConfig_).mergeFrom(value).buildPartial();
+          } else {
+            featureConfig_ = value;
+          }
+          onChanged();
+        } else {
+          featureConfigBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <pre>
+       * Set when features were extracted, sessions may hold feature windows alongside their columns or instead of them.
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional .unifyidchallenge.FeatureConfig featureConfig = 7;</code>
+       */
+      public Builder clearFeatureConfig() {
+        if (featureConfigBuilder_ == null) {
+          featureConfig_ = null;
+          onChanged();
+        } else {
+          featureConfigBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+      /**
+       * <pre>
+       * Set when features were extracted, sessions may hold feature windows alongside their columns or instead of them.
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional .unifyidchallenge.FeatureConfig featureConfig = 7;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig.Builder getFeatureConfigBuilder() {
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return getFeatureConfigFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Set when features were extracted, sessions may hold feature windows alongside their columns or instead of them.
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional .unifyidchallenge.FeatureConfig featureConfig = 7;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfigOrBuilder getFeatureConfigOrBuilder() {
+        if (featureConfigBuilder_ != null) {
+          return featureConfigBuilder_.getMessageOrBuilder();
+        } else {
+          return featureConfig_ == null ?
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig.getDefaultInstance() : featureConfig_;
+        }
+      }
+      /**
+       * <pre>
+       * Set when features were extracted, sessions may hold feature windows alongside their columns or instead of them.
+       * Written before the first column
+       * </pre>
+       *
+       * <code>optional .unifyidchallenge.FeatureConfig featureConfig = 7;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfigOrBuilder> 
+          getFeatureConfigFieldBuilder() {
+        if (featureConfigBuilder_ == null) {
+          featureConfigBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfig.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureConfigOrBuilder>(
+                  getFeatureConfig(),
+                  getParentForChildren(),
+                  isClean());
+          featureConfig_ = null;
+        }
+        return featureConfigBuilder_;
+      }
+
+      private java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow> featureWindows_ =
+        java.util.Collections.emptyList();
+      private void ensureFeatureWindowsIsMutable() {
+        if (!((bitField0_ & 0x00000080) != 0)) {
+          featureWindows_ = new java.util.ArrayList<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow>(featureWindows_);
+          bitField0_ |= 0x00000080;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindowOrBuilder> featureWindowsBuilder_;
+
+      /**
+       * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+       */
+      public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow> getFeatureWindowsList() {
+        if (featureWindowsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(featureWindows_);
+        } else {
+          return featureWindowsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+       */
+      public int getFeatureWindowsCount() {
+        if (featureWindowsBuilder_ == null) {
+          return featureWindows_.size();
+        } else {
+          return featureWindowsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow getFeatureWindows(int index) {
+        if (featureWindowsBuilder_ == null) {
+          return featureWindows_.get(index);
+        } else {
+          return featureWindowsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+       */
+      public Builder setFeatureWindows(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow value) {
+        if (featureWindowsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFeatureWindowsIsMutable();
+          featureWindows_.set(index, value);
+          onChanged();
+        } else {
+          featureWindowsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+       */
+      public Builder setFeatureWindows(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow.Builder builderForValue) {
+        if (featureWindowsBuilder_ == null) {
+          ensureFeatureWindowsIsMutable();
+          featureWindows_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          featureWindowsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+       */
+      public Builder addFeatureWindows(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow value) {
+        if (featureWindowsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFeatureWindowsIsMutable();
+          featureWindows_.add(value);
+          onChanged();
+        } else {
+          featureWindowsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+       */
+      public Builder addFeatureWindows(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow value) {
+        if (featureWindowsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFeatureWindowsIsMutable();
+          featureWindows_.add(index, value);
+          onChanged();
+        } else {
+          featureWindowsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+       */
+      public Builder addFeatureWindows(
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow.Builder builderForValue) {
+        if (featureWindowsBuilder_ == null) {
+          ensureFeatureWindowsIsMutable();
+          featureWindows_.add(builderForValue.build());
+          onChanged();
+        } else {
+          featureWindowsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+       */
+      public Builder addFeatureWindows(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow.Builder builderForValue) {
+        if (featureWindowsBuilder_ == null) {
+          ensureFeatureWindowsIsMutable();
+          featureWindows_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          featureWindowsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+       */
+      public Builder addAllFeatureWindows(
+          java.lang.Iterable<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow> values) {
+        if (featureWindowsBuilder_ == null) {
+          ensureFeatureWindowsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, featureWindows_);
+          onChanged();
+        } else {
+          featureWindowsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+       */
+      public Builder clearFeatureWindows() {
+        if (featureWindowsBuilder_ == null) {
+          featureWindows_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000080);
+          onChanged();
+        } else {
+          featureWindowsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+       */
+      public Builder removeFeatureWindows(int index) {
+        if (featureWindowsBuilder_ == null) {
+          ensureFeatureWindowsIsMutable();
+          featureWindows_.remove(index);
+          onChanged();
+        } else {
+          featureWindowsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow.Builder getFeatureWindowsBuilder(
+          int index) {
+        return getFeatureWindowsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindowOrBuilder getFeatureWindowsOrBuilder(
+          int index) {
+        if (featureWindowsBuilder_ == null) {
+          return featureWindows_.get(index);  } else {
+          return featureWindowsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+       */
+      public java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindowOrBuilder> 
+           getFeatureWindowsOrBuilderList() {
+        if (featureWindowsBuilder_ != null) {
+          return featureWindowsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(featureWindows_);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow.Builder addFeatureWindowsBuilder() {
+        return getFeatureWindowsFieldBuilder().addBuilder(
+            com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow.Builder addFeatureWindowsBuilder(
+          int index) {
+        return getFeatureWindowsFieldBuilder().addBuilder(
+            index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .unifyidchallenge.FeatureWindow featureWindows = 8;</code>
+       */
+      public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow.Builder> 
+           getFeatureWindowsBuilderList() {
+        return getFeatureWindowsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindowOrBuilder> 
+          getFeatureWindowsFieldBuilder() {
+        if (featureWindowsBuilder_ == null) {
+          featureWindowsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindow.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.FeatureWindowOrBuilder>(
+                  featureWindows_,
+                  ((bitField0_ & 0x00000080) != 0),
+                  getParentForChildren(),
+                  isClean());
+          featureWindows_ = null;
+        }
+        return featureWindowsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:unifyidchallenge.SensorSession)
+    }
+
+    // @@protoc_insertion_point(class_scope:unifyidchallenge.SensorSession)
+    private static final com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession();
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<SensorSession>
+        PARSER = new com.google.protobuf.AbstractParser<SensorSession>() {
+      @java.lang.Override
+      public SensorSession parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SensorSession(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<SensorSession> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SensorSession> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSession getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchedSessionOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:unifyidchallenge.BatchedSession)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string name = 1;</code>
+     * @return Whether the name field is set.
+     */
+    boolean hasName();
+    /**
+     * <code>required string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>required string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>required bytes session = 2;</code>
+     * @return Whether the session field is set.
+     */
+    boolean hasSession();
+    /**
+     * <code>required bytes session = 2;</code>
+     * @return The session.
+     */
+    com.google.protobuf.ByteString getSession();
+  }
+  /**
+   * <pre>
+   * Body of an uploaded batch, session files as they were stored on the device.
+   * </pre>
+   *
+   * Protobuf type {@code unifyidchallenge.BatchedSession}
+   */
+  public  static final class BatchedSession extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:unifyidchallenge.BatchedSession)
+      BatchedSessionOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchedSession.newBuilder() to construct.
+    private BatchedSession(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchedSession() {
+      name_ = "";
+      session_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchedSession();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BatchedSession(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              name_ = bs;
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              session_ = input.readBytes();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_BatchedSession_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_BatchedSession_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object name_;
+    /**
+     * <code>required string name = 1;</code>
+     * @return Whether the name field is set.
+     */
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required string name = 1;</code>
+     * @return The name.
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string name = 1;</code>
+     * @return The bytes for name.
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SESSION_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString session_;
+    /**
+     * <code>required bytes session = 2;</code>
+     * @return Whether the session field is set.
+     */
+    public boolean hasSession() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>required bytes session = 2;</code>
+     * @return The session.
+     */
+    public com.google.protobuf.ByteString getSession() {
+      return session_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasSession()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeBytes(2, session_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, session_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession)) {
+        return super.equals(obj);
+      }
+      com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession other = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession) obj;
+
+      if (hasName() != other.hasName()) return false;
+      if (hasName()) {
+        if (!getName()
+            .equals(other.getName())) return false;
+      }
+      if (hasSession() != other.hasSession()) return false;
+      if (hasSession()) {
+        if (!getSession()
+            .equals(other.getSession())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasName()) {
+        hash = (37 * hash) + NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getName().hashCode();
+      }
+      if (hasSession()) {
+        hash = (37 * hash) + SESSION_FIELD_NUMBER;
+        hash = (53 * hash) + getSession().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Body of an uploaded batch, session files as they were stored on the device.
+     * </pre>
+     *
+     * Protobuf type {@code unifyidchallenge.BatchedSession}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:unifyidchallenge.BatchedSession)
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSessionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_BatchedSession_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_BatchedSession_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession.Builder.class);
+      }
+
+      // Construct using com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        session_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_BatchedSession_descriptor;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession getDefaultInstanceForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession build() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession buildPartial() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession result = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.name_ = name_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.session_ = session_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession) {
+          return mergeFrom((com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession other) {
+        if (other == com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession.getDefaultInstance()) return this;
+        if (other.hasName()) {
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          onChanged();
+        }
+        if (other.hasSession()) {
+          setSession(other.getSession());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasName()) {
+          return false;
+        }
+        if (!hasSession()) {
+          return false;
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>required string name = 1;</code>
+       * @return Whether the name field is set.
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString session_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>required bytes session = 2;</code>
+       * @return Whether the session field is set.
+       */
+      public boolean hasSession() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>required bytes session = 2;</code>
+       * @return The session.
+       */
+      public com.google.protobuf.ByteString getSession() {
+        return session_;
+      }
+      /**
+       * <code>required bytes session = 2;</code>
+       * @param value The session to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSession(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        session_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bytes session = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSession() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        session_ = getDefaultInstance().getSession();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:unifyidchallenge.BatchedSession)
+    }
+
+    // @@protoc_insertion_point(class_scope:unifyidchallenge.BatchedSession)
+    private static final com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession();
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<BatchedSession>
+        PARSER = new com.google.protobuf.AbstractParser<BatchedSession>() {
+      @java.lang.Override
+      public BatchedSession parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BatchedSession(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchedSession> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchedSession> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SessionBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:unifyidchallenge.SessionBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+     */
+    java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession> 
+        getSessionsList();
+    /**
+     * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession getSessions(int index);
+    /**
+     * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+     */
+    int getSessionsCount();
+    /**
+     * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+     */
+    java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSessionOrBuilder> 
+        getSessionsOrBuilderList();
+    /**
+     * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSessionOrBuilder getSessionsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code unifyidchallenge.SessionBatch}
+   */
+  public  static final class SessionBatch extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:unifyidchallenge.SessionBatch)
+      SessionBatchOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SessionBatch.newBuilder() to construct.
+    private SessionBatch(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SessionBatch() {
+      sessions_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SessionBatch();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SessionBatch(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                sessions_ = new java.util.ArrayList<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              sessions_.add(
+                  input.readMessage(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession.PARSER, extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          sessions_ = java.util.Collections.unmodifiableList(sessions_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SessionBatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SessionBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch.Builder.class);
+    }
+
+    public static final int SESSIONS_FIELD_NUMBER = 1;
+    private java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession> sessions_;
+    /**
+     * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+     */
+    public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession> getSessionsList() {
+      return sessions_;
+    }
+    /**
+     * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+     */
+    public java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSessionOrBuilder> 
+        getSessionsOrBuilderList() {
+      return sessions_;
+    }
+    /**
+     * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+     */
+    public int getSessionsCount() {
+      return sessions_.size();
+    }
+    /**
+     * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession getSessions(int index) {
+      return sessions_.get(index);
+    }
+    /**
+     * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSessionOrBuilder getSessionsOrBuilder(
+        int index) {
+      return sessions_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      for (int i = 0; i < getSessionsCount(); i++) {
+        if (!getSessions(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < sessions_.size(); i++) {
+        output.writeMessage(1, sessions_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < sessions_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, sessions_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch)) {
+        return super.equals(obj);
+      }
+      com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch other = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch) obj;
+
+      if (!getSessionsList()
+          .equals(other.getSessionsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getSessionsCount() > 0) {
+        hash = (37 * hash) + SESSIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getSessionsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code unifyidchallenge.SessionBatch}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:unifyidchallenge.SessionBatch)
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SessionBatch_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SessionBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch.Builder.class);
+      }
+
+      // Construct using com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getSessionsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (sessionsBuilder_ == null) {
+          sessions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          sessionsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SessionBatch_descriptor;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch getDefaultInstanceForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch build() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch buildPartial() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch result = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch(this);
+        int from_bitField0_ = bitField0_;
+        if (sessionsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            sessions_ = java.util.Collections.unmodifiableList(sessions_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.sessions_ = sessions_;
+        } else {
+          result.sessions_ = sessionsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch) {
+          return mergeFrom((com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch other) {
+        if (other == com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch.getDefaultInstance()) return this;
+        if (sessionsBuilder_ == null) {
+          if (!other.sessions_.isEmpty()) {
+            if (sessions_.isEmpty()) {
+              sessions_ = other.sessions_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureSessionsIsMutable();
+              sessions_.addAll(other.sessions_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.sessions_.isEmpty()) {
+            if (sessionsBuilder_.isEmpty()) {
+              sessionsBuilder_.dispose();
+              sessionsBuilder_ = null;
+              sessions_ = other.sessions_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              sessionsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getSessionsFieldBuilder() : null;
+            } else {
+              sessionsBuilder_.addAllMessages(other.sessions_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        for (int i = 0; i < getSessionsCount(); i++) {
+          if (!getSessions(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession> sessions_ =
+        java.util.Collections.emptyList();
+      private void ensureSessionsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          sessions_ = new java.util.ArrayList<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession>(sessions_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSessionOrBuilder> sessionsBuilder_;
+
+      /**
+       * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+       */
+      public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession> getSessionsList() {
+        if (sessionsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(sessions_);
+        } else {
+          return sessionsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+       */
+      public int getSessionsCount() {
+        if (sessionsBuilder_ == null) {
+          return sessions_.size();
+        } else {
+          return sessionsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession getSessions(int index) {
+        if (sessionsBuilder_ == null) {
+          return sessions_.get(index);
+        } else {
+          return sessionsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+       */
+      public Builder setSessions(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession value) {
+        if (sessionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSessionsIsMutable();
+          sessions_.set(index, value);
+          onChanged();
+        } else {
+          sessionsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+       */
+      public Builder setSessions(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession.Builder builderForValue) {
+        if (sessionsBuilder_ == null) {
+          ensureSessionsIsMutable();
+          sessions_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          sessionsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+       */
+      public Builder addSessions(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession value) {
+        if (sessionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSessionsIsMutable();
+          sessions_.add(value);
+          onChanged();
+        } else {
+          sessionsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+       */
+      public Builder addSessions(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession value) {
+        if (sessionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSessionsIsMutable();
+          sessions_.add(index, value);
+          onChanged();
+        } else {
+          sessionsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+       */
+      public Builder addSessions(
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession.Builder builderForValue) {
+        if (sessionsBuilder_ == null) {
+          ensureSessionsIsMutable();
+          sessions_.add(builderForValue.build());
+          onChanged();
+        } else {
+          sessionsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+       */
+      public Builder addSessions(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession.Builder builderForValue) {
+        if (sessionsBuilder_ == null) {
+          ensureSessionsIsMutable();
+          sessions_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          sessionsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+       */
+      public Builder addAllSessions(
+          java.lang.Iterable<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession> values) {
+        if (sessionsBuilder_ == null) {
+          ensureSessionsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, sessions_);
+          onChanged();
+        } else {
+          sessionsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+       */
+      public Builder clearSessions() {
+        if (sessionsBuilder_ == null) {
+          sessions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          sessionsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+       */
+      public Builder removeSessions(int index) {
+        if (sessionsBuilder_ == null) {
+          ensureSessionsIsMutable();
+          sessions_.remove(index);
+          onChanged();
+        } else {
+          sessionsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession.Builder getSessionsBuilder(
+          int index) {
+        return getSessionsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSessionOrBuilder getSessionsOrBuilder(
+          int index) {
+        if (sessionsBuilder_ == null) {
+          return sessions_.get(index);  } else {
+          return sessionsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+       */
+      public java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSessionOrBuilder> 
+           getSessionsOrBuilderList() {
+        if (sessionsBuilder_ != null) {
+          return sessionsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(sessions_);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession.Builder addSessionsBuilder() {
+        return getSessionsFieldBuilder().addBuilder(
+            com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession.Builder addSessionsBuilder(
+          int index) {
+        return getSessionsFieldBuilder().addBuilder(
+            index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .unifyidchallenge.BatchedSession sessions = 1;</code>
+       */
+      public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession.Builder> 
+           getSessionsBuilderList() {
+        return getSessionsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSessionOrBuilder> 
+          getSessionsFieldBuilder() {
+        if (sessionsBuilder_ == null) {
+          sessionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSession.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.BatchedSessionOrBuilder>(
+                  sessions_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          sessions_ = null;
+        }
+        return sessionsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:unifyidchallenge.SessionBatch)
+    }
+
+    // @@protoc_insertion_point(class_scope:unifyidchallenge.SessionBatch)
+    private static final com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch();
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<SessionBatch>
+        PARSER = new com.google.protobuf.AbstractParser<SessionBatch>() {
+      @java.lang.Override
+      public SessionBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SessionBatch(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<SessionBatch> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SessionBatch> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SessionBatch getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface UploadBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:unifyidchallenge.UploadBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string batchId = 1;</code>
+     * @return Whether the batchId field is set.
+     */
+    boolean hasBatchId();
+    /**
+     * <code>required string batchId = 1;</code>
+     * @return The batchId.
+     */
+    java.lang.String getBatchId();
+    /**
+     * <code>required string batchId = 1;</code>
+     * @return The bytes for batchId.
+     */
+    com.google.protobuf.ByteString
+        getBatchIdBytes();
+
+    /**
+     * <code>repeated string sessions = 2;</code>
+     * @return A list containing the sessions.
+     */
+    java.util.List<java.lang.String>
+        getSessionsList();
+    /**
+     * <code>repeated string sessions = 2;</code>
+     * @return The count of sessions.
+     */
+    int getSessionsCount();
+    /**
+     * <code>repeated string sessions = 2;</code>
+     * @param index The index of the element to return.
+     * @return The sessions at the given index.
+     */
+    java.lang.String getSessions(int index);
+    /**
+     * <code>repeated string sessions = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the sessions at the given index.
+     */
+    com.google.protobuf.ByteString
+        getSessionsBytes(int index);
+
+    /**
+     * <pre>
+     * Size of the packed SessionBatch
+     * </pre>
+     *
+     * <code>required int64 size = 3;</code>
+     * @return Whether the size field is set.
+     */
+    boolean hasSize();
+    /**
+     * <pre>
+     * Size of the packed SessionBatch
+     * </pre>
+     *
+     * <code>required int64 size = 3;</code>
+     * @return The size.
+     */
+    long getSize();
+
+    /**
+     * <code>required int32 chunkSize = 4;</code>
+     * @return Whether the chunkSize field is set.
+     */
+    boolean hasChunkSize();
+    /**
+     * <code>required int32 chunkSize = 4;</code>
+     * @return The chunkSize.
+     */
+    int getChunkSize();
+
+    /**
+     * <pre>
+     * Chunks the server has acknowledged
+     * </pre>
+     *
+     * <code>repeated int32 uploadedChunks = 5 [packed = true];</code>
+     * @return A list containing the uploadedChunks.
+     */
+    java.util.List<java.lang.Integer> getUploadedChunksList();
+    /**
+     * <pre>
+     * Chunks the server has acknowledged
+     * </pre>
+     *
+     * <code>repeated int32 uploadedChunks = 5 [packed = true];</code>
+     * @return The count of uploadedChunks.
+     */
+    int getUploadedChunksCount();
+    /**
+     * <pre>
+     * Chunks the server has acknowledged
+     * </pre>
+     *
+     * <code>repeated int32 uploadedChunks = 5 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The uploadedChunks at the given index.
+     */
+    int getUploadedChunks(int index);
+  }
+  /**
+   * <pre>
+   * Upload progress kept on the device so interrupted batches resume instead of starting over.
+   * </pre>
+   *
+   * Protobuf type {@code unifyidchallenge.UploadBatch}
+   */
+  public  static final class UploadBatch extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:unifyidchallenge.UploadBatch)
+      UploadBatchOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use UploadBatch.newBuilder() to construct.
+    private UploadBatch(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private UploadBatch() {
+      batchId_ = "";
+      sessions_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      uploadedChunks_ = emptyIntList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new UploadBatch();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private UploadBatch(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              batchId_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                sessions_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              sessions_.add(bs);
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000002;
+              size_ = input.readInt64();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000004;
+              chunkSize_ = input.readInt32();
+              break;
+            }
+            case 40: {
+              if (!((mutable_bitField0_ & 0x00000010) != 0)) {
+                uploadedChunks_ = newIntList();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              uploadedChunks_.addInt(input.readInt32());
+              break;
+            }
+            case 42: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000010) != 0) && input.getBytesUntilLimit() > 0) {
+                uploadedChunks_ = newIntList();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                uploadedChunks_.addInt(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          sessions_ = sessions_.getUnmodifiableView();
+        }
+        if (((mutable_bitField0_ & 0x00000010) != 0)) {
+          uploadedChunks_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_UploadBatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_UploadBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int BATCHID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object batchId_;
+    /**
+     * <code>required string batchId = 1;</code>
+     * @return Whether the batchId field is set.
+     */
+    public boolean hasBatchId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required string batchId = 1;</code>
+     * @return The batchId.
+     */
+    public java.lang.String getBatchId() {
+      java.lang.Object ref = batchId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          batchId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string batchId = 1;</code>
+     * @return The bytes for batchId.
+     */
+    public com.google.protobuf.ByteString
+        getBatchIdBytes() {
+      java.lang.Object ref = batchId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        batchId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SESSIONS_FIELD_NUMBER = 2;
+    private com.google.protobuf.LazyStringList sessions_;
+    /**
+     * <code>repeated string sessions = 2;</code>
+     * @return A list containing the sessions.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getSessionsList() {
+      return sessions_;
+    }
+    /**
+     * <code>repeated string sessions = 2;</code>
+     * @return The count of sessions.
+     */
+    public int getSessionsCount() {
+      return sessions_.size();
+    }
+    /**
+     * <code>repeated string sessions = 2;</code>
+     * @param index The index of the element to return.
+     * @return The sessions at the given index.
+     */
+    public java.lang.String getSessions(int index) {
+      return sessions_.get(index);
+    }
+    /**
+     * <code>repeated string sessions = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the sessions at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getSessionsBytes(int index) {
+      return sessions_.getByteString(index);
+    }
+
+    public static final int SIZE_FIELD_NUMBER = 3;
+    private long size_;
+    /**
+     * <pre>
+     * Size of the packed SessionBatch
+     * </pre>
+     *
+     * <code>required int64 size = 3;</code>
+     * @return Whether the size field is set.
+     */
+    public boolean hasSize() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * Size of the packed SessionBatch
+     * </pre>
+     *
+     * <code>required int64 size = 3;</code>
+     * @return The size.
+     */
+    public long getSize() {
+      return size_;
+    }
+
+    public static final int CHUNKSIZE_FIELD_NUMBER = 4;
+    private int chunkSize_;
+    /**
+     * <code>required int32 chunkSize = 4;</code>
+     * @return Whether the chunkSize field is set.
+     */
+    public boolean hasChunkSize() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>required int32 chunkSize = 4;</code>
+     * @return The chunkSize.
+     */
+    public int getChunkSize() {
+      return chunkSize_;
+    }
+
+    public static final int UPLOADEDCHUNKS_FIELD_NUMBER = 5;
+    private com.google.protobuf.Internal.IntList uploadedChunks_;
+    /**
+     * <pre>
+     * Chunks the server has acknowledged
+     * </pre>
+     *
+     * <code>repeated int32 uploadedChunks = 5 [packed = true];</code>
+     * @return A list containing the uploadedChunks.
+     */
+    public java.util.List<java.lang.Integer>
+        getUploadedChunksList() {
+      return uploadedChunks_;
+    }
+    /**
+     * <pre>
+     * Chunks the server has acknowledged
+     * </pre>
+     *
+     * <code>repeated int32 uploadedChunks = 5 [packed = true];</code>
+     * @return The count of uploadedChunks.
+     */
+    public int getUploadedChunksCount() {
+      return uploadedChunks_.size();
+    }
+    /**
+     * <pre>
+     * Chunks the server has acknowledged
+     * </pre>
+     *
+     * <code>repeated int32 uploadedChunks = 5 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The uploadedChunks at the given index.
+     */
+    public int getUploadedChunks(int index) {
+      return uploadedChunks_.getInt(index);
+    }
+    private int uploadedChunksMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasBatchId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasSize()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasChunkSize()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, batchId_);
+      }
+      for (int i = 0; i < sessions_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, sessions_.getRaw(i));
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt64(3, size_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt32(4, chunkSize_);
+      }
+      if (getUploadedChunksList().size() > 0) {
+        output.writeUInt32NoTag(42);
+        output.writeUInt32NoTag(uploadedChunksMemoizedSerializedSize);
+      }
+      for (int i = 0; i < uploadedChunks_.size(); i++) {
+        output.writeInt32NoTag(uploadedChunks_.getInt(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, batchId_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < sessions_.size(); i++) {
+          dataSize += computeStringSizeNoTag(sessions_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getSessionsList().size();
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, size_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, chunkSize_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < uploadedChunks_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(uploadedChunks_.getInt(i));
+        }
+        size += dataSize;
+        if (!getUploadedChunksList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        uploadedChunksMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch)) {
+        return super.equals(obj);
+      }
+      com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch other = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch) obj;
+
+      if (hasBatchId() != other.hasBatchId()) return false;
+      if (hasBatchId()) {
+        if (!getBatchId()
+            .equals(other.getBatchId())) return false;
+      }
+      if (!getSessionsList()
+          .equals(other.getSessionsList())) return false;
+      if (hasSize() != other.hasSize()) return false;
+      if (hasSize()) {
+        if (getSize()
+            != other.getSize()) return false;
+      }
+      if (hasChunkSize() != other.hasChunkSize()) return false;
+      if (hasChunkSize()) {
+        if (getChunkSize()
+            != other.getChunkSize()) return false;
+      }
+      if (!getUploadedChunksList()
+          .equals(other.getUploadedChunksList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasBatchId()) {
+        hash = (37 * hash) + BATCHID_FIELD_NUMBER;
+        hash = (53 * hash) + getBatchId().hashCode();
+      }
+      if (getSessionsCount() > 0) {
+        hash = (37 * hash) + SESSIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getSessionsList().hashCode();
+      }
+      if (hasSize()) {
+        hash = (37 * hash) + SIZE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSize());
+      }
+      if (hasChunkSize()) {
+        hash = (37 * hash) + CHUNKSIZE_FIELD_NUMBER;
+        hash = (53 * hash) + getChunkSize();
+      }
+      if (getUploadedChunksCount() > 0) {
+        hash = (37 * hash) + UPLOADEDCHUNKS_FIELD_NUMBER;
+        hash = (53 * hash) + getUploadedChunksList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Upload progress kept on the device so interrupted batches resume instead of starting over.
+     * </pre>
+     *
+     * Protobuf type {@code unifyidchallenge.UploadBatch}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:unifyidchallenge.UploadBatch)
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_UploadBatch_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_UploadBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch.Builder.class);
+      }
+
+      // Construct using com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        batchId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sessions_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        size_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        chunkSize_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        uploadedChunks_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_UploadBatch_descriptor;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch getDefaultInstanceForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch build() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch buildPartial() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch result = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.batchId_ = batchId_;
+        if (((bitField0_ & 0x00000002) != 0)) {
+          sessions_ = sessions_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.sessions_ = sessions_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.size_ = size_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.chunkSize_ = chunkSize_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((bitField0_ & 0x00000010) != 0)) {
+          uploadedChunks_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.uploadedChunks_ = uploadedChunks_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch) {
+          return mergeFrom((com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch other) {
+        if (other == com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch.getDefaultInstance()) return this;
+        if (other.hasBatchId()) {
+          bitField0_ |= 0x00000001;
+          batchId_ = other.batchId_;
+          onChanged();
+        }
+        if (!other.sessions_.isEmpty()) {
+          if (sessions_.isEmpty()) {
+            sessions_ = other.sessions_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureSessionsIsMutable();
+            sessions_.addAll(other.sessions_);
+          }
+          onChanged();
+        }
+        if (other.hasSize()) {
+          setSize(other.getSize());
+        }
+        if (other.hasChunkSize()) {
+          setChunkSize(other.getChunkSize());
+        }
+        if (!other.uploadedChunks_.isEmpty()) {
+          if (uploadedChunks_.isEmpty()) {
+            uploadedChunks_ = other.uploadedChunks_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureUploadedChunksIsMutable();
+            uploadedChunks_.addAll(other.uploadedChunks_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasBatchId()) {
+          return false;
+        }
+        if (!hasSize()) {
+          return false;
+        }
+        if (!hasChunkSize()) {
+          return false;
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object batchId_ = "";
+      /**
+       * <code>required string batchId = 1;</code>
+       * @return Whether the batchId field is set.
+       */
+      public boolean hasBatchId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required string batchId = 1;</code>
+       * @return The batchId.
+       */
+      public java.lang.String getBatchId() {
+        java.lang.Object ref = batchId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            batchId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string batchId = 1;</code>
+       * @return The bytes for batchId.
+       */
+      public com.google.protobuf.ByteString
+          getBatchIdBytes() {
+        java.lang.Object ref = batchId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          batchId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string batchId = 1;</code>
+       * @param value The batchId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBatchId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        batchId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string batchId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBatchId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        batchId_ = getDefaultInstance().getBatchId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string batchId = 1;</code>
+       * @param value The bytes for batchId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBatchIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        batchId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringList sessions_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureSessionsIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          sessions_ = new com.google.protobuf.LazyStringArrayList(sessions_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated string sessions = 2;</code>
+       * @return A list containing the sessions.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getSessionsList() {
+        return sessions_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string sessions = 2;</code>
+       * @return The count of sessions.
+       */
+      public int getSessionsCount() {
+        return sessions_.size();
+      }
+      /**
+       * <code>repeated string sessions = 2;</code>
+       * @param index The index of the element to return.
+       * @return The sessions at the given index.
+       */
+      public java.lang.String getSessions(int index) {
+        return sessions_.get(index);
+      }
+      /**
+       * <code>repeated string sessions = 2;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the sessions at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getSessionsBytes(int index) {
+        return sessions_.getByteString(index);
+      }
+      /**
+       * <code>repeated string sessions = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The sessions to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSessions(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSessionsIsMutable();
+        sessions_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string sessions = 2;</code>
+       * @param value The sessions to add.
+       * @return This builder for chaining.
+       */
+      public Builder addSessions(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSessionsIsMutable();
+        sessions_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string sessions = 2;</code>
+       * @param values The sessions to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllSessions(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureSessionsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, sessions_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string sessions = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSessions() {
+        sessions_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string sessions = 2;</code>
+       * @param value The bytes of the sessions to add.
+       * @return This builder for chaining.
+       */
+      public Builder addSessionsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSessionsIsMutable();
+        sessions_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private long size_ ;
+      /**
+       * <pre>
+       * Size of the packed SessionBatch
+       * </pre>
+       *
+       * <code>required int64 size = 3;</code>
+       * @return Whether the size field is set.
+       */
+      public boolean hasSize() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <pre>
+       * Size of the packed SessionBatch
+       * </pre>
+       *
+       * <code>required int64 size = 3;</code>
+       * @return The size.
+       */
+      public long getSize() {
+        return size_;
+      }
+      /**
+       * <pre>
+       * Size of the packed SessionBatch
+       * </pre>
+       *
+       * <code>required int64 size = 3;</code>
+       * @param value The size to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSize(long value) {
+        bitField0_ |= 0x00000004;
+        size_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Size of the packed SessionBatch
+       * </pre>
+       *
+       * <code>required int64 size = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSize() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        size_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int chunkSize_ ;
+      /**
+       * <code>required int32 chunkSize = 4;</code>
+       * @return Whether the chunkSize field is set.
+       */
+      public boolean hasChunkSize() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>required int32 chunkSize = 4;</code>
+       * @return The chunkSize.
+       */
+      public int getChunkSize() {
+        return chunkSize_;
+      }
+      /**
+       * <code>required int32 chunkSize = 4;</code>
+       * @param value The chunkSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setChunkSize(int value) {
+        bitField0_ |= 0x00000008;
+        chunkSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 chunkSize = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearChunkSize() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        chunkSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList uploadedChunks_ = emptyIntList();
+      private void ensureUploadedChunksIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          uploadedChunks_ = mutableCopy(uploadedChunks_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+      /**
+       * <pre>
+       * Chunks the server has acknowledged
+       * </pre>
+       *
+       * <code>repeated int32 uploadedChunks = 5 [packed = true];</code>
+       * @return A list containing the uploadedChunks.
+       */
+      public java.util.List<java.lang.Integer>
+          getUploadedChunksList() {
+        return ((bitField0_ & 0x00000010) != 0) ?
+                 java.util.Collections.unmodifiableList(uploadedChunks_) : uploadedChunks_;
+      }
+      /**
+       * <pre>
+       * Chunks the server has acknowledged
+       * </pre>
+       *
+       * <code>repeated int32 uploadedChunks = 5 [packed = true];</code>
+       * @return The count of uploadedChunks.
+       */
+      public int getUploadedChunksCount() {
+        return uploadedChunks_.size();
+      }
+      /**
+       * <pre>
+       * Chunks the server has acknowledged
+       * </pre>
+       *
+       * <code>repeated int32 uploadedChunks = 5 [packed = true];</code>
+       * @param index The index of the element to return.
+       * @return The uploadedChunks at the given index.
+       */
+      public int getUploadedChunks(int index) {
+        return uploadedChunks_.getInt(index);
+      }
+      /**
+       * <pre>
+       * Chunks the server has acknowledged
+       * </pre>
+       *
+       * <code>repeated int32 uploadedChunks = 5 [packed = true];</code>
+       * @param index The index to set the value at.
+       * @param value The uploadedChunks to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUploadedChunks(
+          int index, int value) {
+        ensureUploadedChunksIsMutable();
+        uploadedChunks_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Chunks the server has acknowledged
+       * </pre>
+       *
+       * <code>repeated int32 uploadedChunks = 5 [packed = true];</code>
+       * @param value The uploadedChunks to add.
+       * @return This builder for chaining.
+       */
+      public Builder addUploadedChunks(int value) {
+        ensureUploadedChunksIsMutable();
+        uploadedChunks_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Chunks the server has acknowledged
+       * </pre>
+       *
+       * <code>repeated int32 uploadedChunks = 5 [packed = true];</code>
+       * @param values The uploadedChunks to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllUploadedChunks(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureUploadedChunksIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, uploadedChunks_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Chunks the server has acknowledged
+       * </pre>
+       *
+       * <code>repeated int32 uploadedChunks = 5 [packed = true];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUploadedChunks() {
+        uploadedChunks_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:unifyidchallenge.UploadBatch)
+    }
+
+    // @@protoc_insertion_point(class_scope:unifyidchallenge.UploadBatch)
+    private static final com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch();
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<UploadBatch>
+        PARSER = new com.google.protobuf.AbstractParser<UploadBatch>() {
+      @java.lang.Override
+      public UploadBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new UploadBatch(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<UploadBatch> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<UploadBatch> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface UploadManifestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:unifyidchallenge.UploadManifest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+     */
+    java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch> 
+        getBatchesList();
+    /**
+     * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch getBatches(int index);
+    /**
+     * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+     */
+    int getBatchesCount();
+    /**
+     * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+     */
+    java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatchOrBuilder> 
+        getBatchesOrBuilderList();
+    /**
+     * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatchOrBuilder getBatchesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code unifyidchallenge.UploadManifest}
+   */
+  public  static final class UploadManifest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:unifyidchallenge.UploadManifest)
+      UploadManifestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use UploadManifest.newBuilder() to construct.
+    private UploadManifest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private UploadManifest() {
+      batches_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new UploadManifest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private UploadManifest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                batches_ = new java.util.ArrayList<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              batches_.add(
+                  input.readMessage(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch.PARSER, extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          batches_ = java.util.Collections.unmodifiableList(batches_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_UploadManifest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_UploadManifest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest.Builder.class);
+    }
+
+    public static final int BATCHES_FIELD_NUMBER = 1;
+    private java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch> batches_;
+    /**
+     * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+     */
+    public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch> getBatchesList() {
+      return batches_;
+    }
+    /**
+     * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+     */
+    public java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatchOrBuilder> 
+        getBatchesOrBuilderList() {
+      return batches_;
+    }
+    /**
+     * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+     */
+    public int getBatchesCount() {
+      return batches_.size();
+    }
+    /**
+     * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch getBatches(int index) {
+      return batches_.get(index);
+    }
+    /**
+     * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatchOrBuilder getBatchesOrBuilder(
+        int index) {
+      return batches_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      for (int i = 0; i < getBatchesCount(); i++) {
+        if (!getBatches(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < batches_.size(); i++) {
+        output.writeMessage(1, batches_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < batches_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, batches_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest)) {
+        return super.equals(obj);
+      }
+      com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest other = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest) obj;
+
+      if (!getBatchesList()
+          .equals(other.getBatchesList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getBatchesCount() > 0) {
+        hash = (37 * hash) + BATCHES_FIELD_NUMBER;
+        hash = (53 * hash) + getBatchesList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code unifyidchallenge.UploadManifest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:unifyidchallenge.UploadManifest)
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_UploadManifest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_UploadManifest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest.Builder.class);
+      }
+
+      // Construct using com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getBatchesFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (batchesBuilder_ == null) {
+          batches_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          batchesBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_UploadManifest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest getDefaultInstanceForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest build() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest buildPartial() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest result = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest(this);
+        int from_bitField0_ = bitField0_;
+        if (batchesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            batches_ = java.util.Collections.unmodifiableList(batches_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.batches_ = batches_;
+        } else {
+          result.batches_ = batchesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest) {
+          return mergeFrom((com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest other) {
+        if (other == com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest.getDefaultInstance()) return this;
+        if (batchesBuilder_ == null) {
+          if (!other.batches_.isEmpty()) {
+            if (batches_.isEmpty()) {
+              batches_ = other.batches_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureBatchesIsMutable();
+              batches_.addAll(other.batches_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.batches_.isEmpty()) {
+            if (batchesBuilder_.isEmpty()) {
+              batchesBuilder_.dispose();
+              batchesBuilder_ = null;
+              batches_ = other.batches_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              batchesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getBatchesFieldBuilder() : null;
+            } else {
+              batchesBuilder_.addAllMessages(other.batches_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        for (int i = 0; i < getBatchesCount(); i++) {
+          if (!getBatches(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch> batches_ =
+        java.util.Collections.emptyList();
+      private void ensureBatchesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          batches_ = new java.util.ArrayList<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch>(batches_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatchOrBuilder> batchesBuilder_;
+
+      /**
+       * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+       */
+      public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch> getBatchesList() {
+        if (batchesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(batches_);
+        } else {
+          return batchesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+       */
+      public int getBatchesCount() {
+        if (batchesBuilder_ == null) {
+          return batches_.size();
+        } else {
+          return batchesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch getBatches(int index) {
+        if (batchesBuilder_ == null) {
+          return batches_.get(index);
+        } else {
+          return batchesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+       */
+      public Builder setBatches(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch value) {
+        if (batchesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBatchesIsMutable();
+          batches_.set(index, value);
+          onChanged();
+        } else {
+          batchesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+       */
+      public Builder setBatches(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch.Builder builderForValue) {
+        if (batchesBuilder_ == null) {
+          ensureBatchesIsMutable();
+          batches_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          batchesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+       */
+      public Builder addBatches(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch value) {
+        if (batchesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBatchesIsMutable();
+          batches_.add(value);
+          onChanged();
+        } else {
+          batchesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+       */
+      public Builder addBatches(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch value) {
+        if (batchesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBatchesIsMutable();
+          batches_.add(index, value);
+          onChanged();
+        } else {
+          batchesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+       */
+      public Builder addBatches(
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch.Builder builderForValue) {
+        if (batchesBuilder_ == null) {
+          ensureBatchesIsMutable();
+          batches_.add(builderForValue.build());
+          onChanged();
+        } else {
+          batchesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+       */
+      public Builder addBatches(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch.Builder builderForValue) {
+        if (batchesBuilder_ == null) {
+          ensureBatchesIsMutable();
+          batches_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          batchesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+       */
+      public Builder addAllBatches(
+          java.lang.Iterable<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch> values) {
+        if (batchesBuilder_ == null) {
+          ensureBatchesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, batches_);
+          onChanged();
+        } else {
+          batchesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+       */
+      public Builder clearBatches() {
+        if (batchesBuilder_ == null) {
+          batches_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          batchesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+       */
+      public Builder removeBatches(int index) {
+        if (batchesBuilder_ == null) {
+          ensureBatchesIsMutable();
+          batches_.remove(index);
+          onChanged();
+        } else {
+          batchesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch.Builder getBatchesBuilder(
+          int index) {
+        return getBatchesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatchOrBuilder getBatchesOrBuilder(
+          int index) {
+        if (batchesBuilder_ == null) {
+          return batches_.get(index);  } else {
+          return batchesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+       */
+      public java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatchOrBuilder> 
+           getBatchesOrBuilderList() {
+        if (batchesBuilder_ != null) {
+          return batchesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(batches_);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch.Builder addBatchesBuilder() {
+        return getBatchesFieldBuilder().addBuilder(
+            com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch.Builder addBatchesBuilder(
+          int index) {
+        return getBatchesFieldBuilder().addBuilder(
+            index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .unifyidchallenge.UploadBatch batches = 1;</code>
+       */
+      public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch.Builder> 
+           getBatchesBuilderList() {
+        return getBatchesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatchOrBuilder> 
+          getBatchesFieldBuilder() {
+        if (batchesBuilder_ == null) {
+          batchesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatch.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadBatchOrBuilder>(
+                  batches_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          batches_ = null;
+        }
+        return batchesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:unifyidchallenge.UploadManifest)
+    }
+
+    // @@protoc_insertion_point(class_scope:unifyidchallenge.UploadManifest)
+    private static final com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest();
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<UploadManifest>
+        PARSER = new com.google.protobuf.AbstractParser<UploadManifest>() {
+      @java.lang.Override
+      public UploadManifest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new UploadManifest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<UploadManifest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<UploadManifest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadManifest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface EncryptionHeaderOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:unifyidchallenge.EncryptionHeader)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required uint32 version = 1;</code>
+     * @return Whether the version field is set.
+     */
+    boolean hasVersion();
+    /**
+     * <code>required uint32 version = 1;</code>
+     * @return The version.
+     */
+    int getVersion();
+
+    /**
+     * <pre>
+     * Per session AES key, wrapped with RSA-OAEP (SHA-256, MGF1 with SHA-1) for the recipient's public key
+     * </pre>
+     *
+     * <code>required bytes wrappedKey = 2;</code>
+     * @return Whether the wrappedKey field is set.
+     */
+    boolean hasWrappedKey();
+    /**
+     * <pre>
+     * Per session AES key, wrapped with RSA-OAEP (SHA-256, MGF1 with SHA-1) for the recipient's public key
+     * </pre>
+     *
+     * <code>required bytes wrappedKey = 2;</code>
+     * @return The wrappedKey.
+     */
+    com.google.protobuf.ByteString getWrappedKey();
+
+    /**
+     * <code>required uint32 chunkSize = 3;</code>
+     * @return Whether the chunkSize field is set.
+     */
+    boolean hasChunkSize();
+    /**
+     * <code>required uint32 chunkSize = 3;</code>
+     * @return The chunkSize.
+     */
+    int getChunkSize();
+  }
+  /**
+   * <pre>
+   * Starts encrypted sessions, after a 4 byte magic and a length prefix. The chunks that follow are
+   * AES-GCM sealed chunkSize byte pieces of the session, see EncryptedOutputStream.
+   * </pre>
+   *
+   * Protobuf type {@code unifyidchallenge.EncryptionHeader}
+   */
+  public  static final class EncryptionHeader extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:unifyidchallenge.EncryptionHeader)
+      EncryptionHeaderOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use EncryptionHeader.newBuilder() to construct.
+    private EncryptionHeader(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private EncryptionHeader() {
+      wrappedKey_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new EncryptionHeader();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private EncryptionHeader(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              version_ = input.readUInt32();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              wrappedKey_ = input.readBytes();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              chunkSize_ = input.readUInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_EncryptionHeader_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_EncryptionHeader_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int VERSION_FIELD_NUMBER = 1;
+    private int version_;
+    /**
+     * <code>required uint32 version = 1;</code>
+     * @return Whether the version field is set.
+     */
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required uint32 version = 1;</code>
+     * @return The version.
+     */
+    public int getVersion() {
+      return version_;
+    }
+
+    public static final int WRAPPEDKEY_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString wrappedKey_;
+    /**
+     * <pre>
+     * Per session AES key, wrapped with RSA-OAEP (SHA-256, MGF1 with SHA-1) for the recipient's public key
+     * </pre>
+     *
+     * <code>required bytes wrappedKey = 2;</code>
+     * @return Whether the wrappedKey field is set.
+     */
+    public boolean hasWrappedKey() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * Per session AES key, wrapped with RSA-OAEP (SHA-256, MGF1 with SHA-1) for the recipient's public key
+     * </pre>
+     *
+     * <code>required bytes wrappedKey = 2;</code>
+     * @return The wrappedKey.
+     */
+    public com.google.protobuf.ByteString getWrappedKey() {
+      return wrappedKey_;
+    }
+
+    public static final int CHUNKSIZE_FIELD_NUMBER = 3;
+    private int chunkSize_;
+    /**
+     * <code>required uint32 chunkSize = 3;</code>
+     * @return Whether the chunkSize field is set.
+     */
+    public boolean hasChunkSize() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>required uint32 chunkSize = 3;</code>
+     * @return The chunkSize.
+     */
+    public int getChunkSize() {
+      return chunkSize_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasVersion()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasWrappedKey()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasChunkSize()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt32(1, version_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeBytes(2, wrappedKey_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeUInt32(3, chunkSize_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, version_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, wrappedKey_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, chunkSize_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader)) {
+        return super.equals(obj);
+      }
+      com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader other = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader) obj;
+
+      if (hasVersion() != other.hasVersion()) return false;
+      if (hasVersion()) {
+        if (getVersion()
+            != other.getVersion()) return false;
+      }
+      if (hasWrappedKey() != other.hasWrappedKey()) return false;
+      if (hasWrappedKey()) {
+        if (!getWrappedKey()
+            .equals(other.getWrappedKey())) return false;
+      }
+      if (hasChunkSize() != other.hasChunkSize()) return false;
+      if (hasChunkSize()) {
+        if (getChunkSize()
+            != other.getChunkSize()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasVersion()) {
+        hash = (37 * hash) + VERSION_FIELD_NUMBER;
+        hash = (53 * hash) + getVersion();
+      }
+      if (hasWrappedKey()) {
+        hash = (37 * hash) + WRAPPEDKEY_FIELD_NUMBER;
+        hash = (53 * hash) + getWrappedKey().hashCode();
+      }
+      if (hasChunkSize()) {
+        hash = (37 * hash) + CHUNKSIZE_FIELD_NUMBER;
+        hash = (53 * hash) + getChunkSize();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Starts encrypted sessions, after a 4 byte magic and a length prefix. The chunks that follow are
+     * AES-GCM sealed chunkSize byte pieces of the session, see EncryptedOutputStream.
+     * </pre>
+     *
+     * Protobuf type {@code unifyidchallenge.EncryptionHeader}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:unifyidchallenge.EncryptionHeader)
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeaderOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_EncryptionHeader_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_EncryptionHeader_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader.Builder.class);
+      }
+
+      // Construct using com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        version_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        wrappedKey_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        chunkSize_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_EncryptionHeader_descriptor;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader getDefaultInstanceForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader build() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader buildPartial() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader result = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.version_ = version_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.wrappedKey_ = wrappedKey_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.chunkSize_ = chunkSize_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader) {
+          return mergeFrom((com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader other) {
+        if (other == com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader.getDefaultInstance()) return this;
+        if (other.hasVersion()) {
+          setVersion(other.getVersion());
+        }
+        if (other.hasWrappedKey()) {
+          setWrappedKey(other.getWrappedKey());
+        }
+        if (other.hasChunkSize()) {
+          setChunkSize(other.getChunkSize());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasVersion()) {
+          return false;
+        }
+        if (!hasWrappedKey()) {
+          return false;
+        }
+        if (!hasChunkSize()) {
+          return false;
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int version_ ;
+      /**
+       * <code>required uint32 version = 1;</code>
+       * @return Whether the version field is set.
+       */
+      public boolean hasVersion() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required uint32 version = 1;</code>
+       * @return The version.
+       */
+      public int getVersion() {
+        return version_;
+      }
+      /**
+       * <code>required uint32 version = 1;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(int value) {
+        bitField0_ |= 0x00000001;
+        version_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 version = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        version_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString wrappedKey_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <pre>
+       * Per session AES key, wrapped with RSA-OAEP (SHA-256, MGF1 with SHA-1) for the recipient's public key
+       * </pre>
+       *
+       * <code>required bytes wrappedKey = 2;</code>
+       * @return Whether the wrappedKey field is set.
+       */
+      public boolean hasWrappedKey() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <pre>
+       * Per session AES key, wrapped with RSA-OAEP (SHA-256, MGF1 with SHA-1) for the recipient's public key
+       * </pre>
+       *
+       * <code>required bytes wrappedKey = 2;</code>
+       * @return The wrappedKey.
+       */
+      public com.google.protobuf.ByteString getWrappedKey() {
+        return wrappedKey_;
+      }
+      /**
+       * <pre>
+       * Per session AES key, wrapped with RSA-OAEP (SHA-256, MGF1 with SHA-1) for the recipient's public key
+       * </pre>
+       *
+       * <code>required bytes wrappedKey = 2;</code>
+       * @param value The wrappedKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setWrappedKey(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        wrappedKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Per session AES key, wrapped with RSA-OAEP (SHA-256, MGF1 with SHA-1) for the recipient's public key
+       * </pre>
+       *
+       * <code>required bytes wrappedKey = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearWrappedKey() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        wrappedKey_ = getDefaultInstance().getWrappedKey();
+        onChanged();
+        return this;
+      }
+
+      private int chunkSize_ ;
+      /**
+       * <code>required uint32 chunkSize = 3;</code>
+       * @return Whether the chunkSize field is set.
+       */
+      public boolean hasChunkSize() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>required uint32 chunkSize = 3;</code>
+       * @return The chunkSize.
+       */
+      public int getChunkSize() {
+        return chunkSize_;
+      }
+      /**
+       * <code>required uint32 chunkSize = 3;</code>
+       * @param value The chunkSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setChunkSize(int value) {
+        bitField0_ |= 0x00000004;
+        chunkSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 chunkSize = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearChunkSize() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        chunkSize_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:unifyidchallenge.EncryptionHeader)
+    }
+
+    // @@protoc_insertion_point(class_scope:unifyidchallenge.EncryptionHeader)
+    private static final com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader();
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<EncryptionHeader>
+        PARSER = new com.google.protobuf.AbstractParser<EncryptionHeader>() {
+      @java.lang.Override
+      public EncryptionHeader parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new EncryptionHeader(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<EncryptionHeader> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<EncryptionHeader> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.EncryptionHeader getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SensorSampleCountOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:unifyidchallenge.SensorSampleCount)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int32 sensorId = 1;</code>
+     * @return Whether the sensorId field is set.
+     */
+    boolean hasSensorId();
+    /**
+     * <code>required int32 sensorId = 1;</code>
+     * @return The sensorId.
+     */
+    int getSensorId();
+
+    /**
+     * <code>required int64 sampleCount = 2;</code>
+     * @return Whether the sampleCount field is set.
+     */
+    boolean hasSampleCount();
+    /**
+     * <code>required int64 sampleCount = 2;</code>
+     * @return The sampleCount.
+     */
+    long getSampleCount();
+  }
+  /**
+   * Protobuf type {@code unifyidchallenge.SensorSampleCount}
+   */
+  public  static final class SensorSampleCount extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:unifyidchallenge.SensorSampleCount)
+      SensorSampleCountOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SensorSampleCount.newBuilder() to construct.
+    private SensorSampleCount(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SensorSampleCount() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SensorSampleCount();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SensorSampleCount(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              sensorId_ = input.readInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              sampleCount_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorSampleCount_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorSampleCount_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int SENSORID_FIELD_NUMBER = 1;
+    private int sensorId_;
+    /**
+     * <code>required int32 sensorId = 1;</code>
+     * @return Whether the sensorId field is set.
+     */
+    public boolean hasSensorId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required int32 sensorId = 1;</code>
+     * @return The sensorId.
+     */
+    public int getSensorId() {
+      return sensorId_;
+    }
+
+    public static final int SAMPLECOUNT_FIELD_NUMBER = 2;
+    private long sampleCount_;
+    /**
+     * <code>required int64 sampleCount = 2;</code>
+     * @return Whether the sampleCount field is set.
+     */
+    public boolean hasSampleCount() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>required int64 sampleCount = 2;</code>
+     * @return The sampleCount.
+     */
+    public long getSampleCount() {
+      return sampleCount_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasSensorId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasSampleCount()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt32(1, sensorId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt64(2, sampleCount_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, sensorId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, sampleCount_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount)) {
+        return super.equals(obj);
+      }
+      com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount other = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount) obj;
+
+      if (hasSensorId() != other.hasSensorId()) return false;
+      if (hasSensorId()) {
+        if (getSensorId()
+            != other.getSensorId()) return false;
+      }
+      if (hasSampleCount() != other.hasSampleCount()) return false;
+      if (hasSampleCount()) {
+        if (getSampleCount()
+            != other.getSampleCount()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasSensorId()) {
+        hash = (37 * hash) + SENSORID_FIELD_NUMBER;
+        hash = (53 * hash) + getSensorId();
+      }
+      if (hasSampleCount()) {
+        hash = (37 * hash) + SAMPLECOUNT_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSampleCount());
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code unifyidchallenge.SensorSampleCount}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:unifyidchallenge.SensorSampleCount)
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCountOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorSampleCount_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorSampleCount_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount.Builder.class);
+      }
+
+      // Construct using com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        sensorId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sampleCount_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_SensorSampleCount_descriptor;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount getDefaultInstanceForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount build() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount buildPartial() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount result = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.sensorId_ = sensorId_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.sampleCount_ = sampleCount_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount) {
+          return mergeFrom((com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount other) {
+        if (other == com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount.getDefaultInstance()) return this;
+        if (other.hasSensorId()) {
+          setSensorId(other.getSensorId());
+        }
+        if (other.hasSampleCount()) {
+          setSampleCount(other.getSampleCount());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasSensorId()) {
+          return false;
+        }
+        if (!hasSampleCount()) {
+          return false;
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int sensorId_ ;
+      /**
+       * <code>required int32 sensorId = 1;</code>
+       * @return Whether the sensorId field is set.
+       */
+      public boolean hasSensorId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required int32 sensorId = 1;</code>
+       * @return The sensorId.
+       */
+      public int getSensorId() {
+        return sensorId_;
+      }
+      /**
+       * <code>required int32 sensorId = 1;</code>
+       * @param value The sensorId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSensorId(int value) {
+        bitField0_ |= 0x00000001;
+        sensorId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 sensorId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSensorId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sensorId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long sampleCount_ ;
+      /**
+       * <code>required int64 sampleCount = 2;</code>
+       * @return Whether the sampleCount field is set.
+       */
+      public boolean hasSampleCount() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>required int64 sampleCount = 2;</code>
+       * @return The sampleCount.
+       */
+      public long getSampleCount() {
+        return sampleCount_;
+      }
+      /**
+       * <code>required int64 sampleCount = 2;</code>
+       * @param value The sampleCount to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSampleCount(long value) {
+        bitField0_ |= 0x00000002;
+        sampleCount_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 sampleCount = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSampleCount() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        sampleCount_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:unifyidchallenge.SensorSampleCount)
+    }
+
+    // @@protoc_insertion_point(class_scope:unifyidchallenge.SensorSampleCount)
+    private static final com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount();
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<SensorSampleCount>
+        PARSER = new com.google.protobuf.AbstractParser<SensorSampleCount>() {
+      @java.lang.Override
+      public SensorSampleCount parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SensorSampleCount(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<SensorSampleCount> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SensorSampleCount> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CatalogEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:unifyidchallenge.CatalogEntry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string name = 1;</code>
+     * @return Whether the name field is set.
+     */
+    boolean hasName();
+    /**
+     * <code>required string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>required string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <pre>
+     * Wall clock milliseconds of the first and last sample
+     * </pre>
+     *
+     * <code>optional int64 startTimestamp = 2;</code>
+     * @return Whether the startTimestamp field is set.
+     */
+    boolean hasStartTimestamp();
+    /**
+     * <pre>
+     * Wall clock milliseconds of the first and last sample
+     * </pre>
+     *
+     * <code>optional int64 startTimestamp = 2;</code>
+     * @return The startTimestamp.
+     */
+    long getStartTimestamp();
+
+    /**
+     * <code>optional int64 endTimestamp = 3;</code>
+     * @return Whether the endTimestamp field is set.
+     */
+    boolean hasEndTimestamp();
+    /**
+     * <code>optional int64 endTimestamp = 3;</code>
+     * @return The endTimestamp.
+     */
+    long getEndTimestamp();
+
+    /**
+     * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+     */
+    java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount> 
+        getSensorSamplesList();
+    /**
+     * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount getSensorSamples(int index);
+    /**
+     * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+     */
+    int getSensorSamplesCount();
+    /**
+     * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+     */
+    java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCountOrBuilder> 
+        getSensorSamplesOrBuilderList();
+    /**
+     * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCountOrBuilder getSensorSamplesOrBuilder(
+        int index);
+
+    /**
+     * <code>optional int64 sizeBytes = 6;</code>
+     * @return Whether the sizeBytes field is set.
+     */
+    boolean hasSizeBytes();
+    /**
+     * <code>optional int64 sizeBytes = 6;</code>
+     * @return The sizeBytes.
+     */
+    long getSizeBytes();
+
+    /**
+     * <pre>
+     * Session layout and block codec, see SensorSession and CompressedColumn
+     * </pre>
+     *
+     * <code>optional uint32 version = 7;</code>
+     * @return Whether the version field is set.
+     */
+    boolean hasVersion();
+    /**
+     * <pre>
+     * Session layout and block codec, see SensorSession and CompressedColumn
+     * </pre>
+     *
+     * <code>optional uint32 version = 7;</code>
+     * @return The version.
+     */
+    int getVersion();
+
+    /**
+     * <code>optional uint32 codec = 8;</code>
+     * @return Whether the codec field is set.
+     */
+    boolean hasCodec();
+    /**
+     * <code>optional uint32 codec = 8;</code>
+     * @return The codec.
+     */
+    int getCodec();
+
+    /**
+     * <code>optional bool isEncrypted = 9;</code>
+     * @return Whether the isEncrypted field is set.
+     */
+    boolean hasIsEncrypted();
+    /**
+     * <code>optional bool isEncrypted = 9;</code>
+     * @return The isEncrypted.
+     */
+    boolean getIsEncrypted();
+
+    /**
+     * <code>optional .unifyidchallenge.UploadState uploadState = 10;</code>
+     * @return Whether the uploadState field is set.
+     */
+    boolean hasUploadState();
+    /**
+     * <code>optional .unifyidchallenge.UploadState uploadState = 10;</code>
+     * @return The uploadState.
+     */
+    com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadState getUploadState();
+
+    /**
+     * <code>optional string batchId = 11;</code>
+     * @return Whether the batchId field is set.
+     */
+    boolean hasBatchId();
+    /**
+     * <code>optional string batchId = 11;</code>
+     * @return The batchId.
+     */
+    java.lang.String getBatchId();
+    /**
+     * <code>optional string batchId = 11;</code>
+     * @return The bytes for batchId.
+     */
+    com.google.protobuf.ByteString
+        getBatchIdBytes();
+
+    /**
+     * <pre>
+     * Wall clock time the session was persisted
+     * </pre>
+     *
+     * <code>optional int64 persistedAt = 12;</code>
+     * @return Whether the persistedAt field is set.
+     */
+    boolean hasPersistedAt();
+    /**
+     * <pre>
+     * Wall clock time the session was persisted
+     * </pre>
+     *
+     * <code>optional int64 persistedAt = 12;</code>
+     * @return The persistedAt.
+     */
+    long getPersistedAt();
+
+    /**
+     * <code>optional bool isDeleted = 13;</code>
+     * @return Whether the isDeleted field is set.
+     */
+    boolean hasIsDeleted();
+    /**
+     * <code>optional bool isDeleted = 13;</code>
+     * @return The isDeleted.
+     */
+    boolean getIsDeleted();
+
+    /**
+     * <code>optional int64 featureWindowCount = 14;</code>
+     * @return Whether the featureWindowCount field is set.
+     */
+    boolean hasFeatureWindowCount();
+    /**
+     * <code>optional int64 featureWindowCount = 14;</code>
+     * @return The featureWindowCount.
+     */
+    long getFeatureWindowCount();
+  }
+  /**
+   * <pre>
+   * Record of the session catalog, an append-only file of length delimited entries.
+   * A later entry for the same name replaces the earlier one, isDeleted removes it.
+   * </pre>
+   *
+   * Protobuf type {@code unifyidchallenge.CatalogEntry}
+   */
+  public  static final class CatalogEntry extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:unifyidchallenge.CatalogEntry)
+      CatalogEntryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CatalogEntry.newBuilder() to construct.
+    private CatalogEntry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CatalogEntry() {
+      name_ = "";
+      sensorSamples_ = java.util.Collections.emptyList();
+      uploadState_ = 0;
+      batchId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CatalogEntry();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CatalogEntry(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              name_ = bs;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              startTimestamp_ = input.readInt64();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              endTimestamp_ = input.readInt64();
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) != 0)) {
+                sensorSamples_ = new java.util.ArrayList<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              sensorSamples_.add(
+                  input.readMessage(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount.PARSER, extensionRegistry));
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000008;
+              sizeBytes_ = input.readInt64();
+              break;
+            }
+            case 56: {
+              bitField0_ |= 0x00000010;
+              version_ = input.readUInt32();
+              break;
+            }
+            case 64: {
+              bitField0_ |= 0x00000020;
+              codec_ = input.readUInt32();
+              break;
+            }
+            case 72: {
+              bitField0_ |= 0x00000040;
+              isEncrypted_ = input.readBool();
+              break;
+            }
+            case 80: {
+              int rawValue = input.readEnum();
+                @SuppressWarnings("deprecation")
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadState value = com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadState.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(10, rawValue);
+              } else {
+                bitField0_ |= 0x00000080;
+                uploadState_ = rawValue;
+              }
+              break;
+            }
+            case 90: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000100;
+              batchId_ = bs;
+              break;
+            }
+            case 96: {
+              bitField0_ |= 0x00000200;
+              persistedAt_ = input.readInt64();
+              break;
+            }
+            case 104: {
+              bitField0_ |= 0x00000400;
+              isDeleted_ = input.readBool();
+              break;
+            }
+            case 112: {
+              bitField0_ |= 0x00000800;
+              featureWindowCount_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000008) != 0)) {
+          sensorSamples_ = java.util.Collections.unmodifiableList(sensorSamples_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_CatalogEntry_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_CatalogEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object name_;
+    /**
+     * <code>required string name = 1;</code>
+     * @return Whether the name field is set.
+     */
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required string name = 1;</code>
+     * @return The name.
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string name = 1;</code>
+     * @return The bytes for name.
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STARTTIMESTAMP_FIELD_NUMBER = 2;
+    private long startTimestamp_;
+    /**
+     * <pre>
+     * Wall clock milliseconds of the first and last sample
+     * </pre>
+     *
+     * <code>optional int64 startTimestamp = 2;</code>
+     * @return Whether the startTimestamp field is set.
+     */
+    public boolean hasStartTimestamp() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * Wall clock milliseconds of the first and last sample
+     * </pre>
+     *
+     * <code>optional int64 startTimestamp = 2;</code>
+     * @return The startTimestamp.
+     */
+    public long getStartTimestamp() {
+      return startTimestamp_;
+    }
+
+    public static final int ENDTIMESTAMP_FIELD_NUMBER = 3;
+    private long endTimestamp_;
+    /**
+     * <code>optional int64 endTimestamp = 3;</code>
+     * @return Whether the endTimestamp field is set.
+     */
+    public boolean hasEndTimestamp() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional int64 endTimestamp = 3;</code>
+     * @return The endTimestamp.
+     */
+    public long getEndTimestamp() {
+      return endTimestamp_;
+    }
+
+    public static final int SENSORSAMPLES_FIELD_NUMBER = 4;
+    private java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount> sensorSamples_;
+    /**
+     * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+     */
+    public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount> getSensorSamplesList() {
+      return sensorSamples_;
+    }
+    /**
+     * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+     */
+    public java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCountOrBuilder> 
+        getSensorSamplesOrBuilderList() {
+      return sensorSamples_;
+    }
+    /**
+     * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+     */
+    public int getSensorSamplesCount() {
+      return sensorSamples_.size();
+    }
+    /**
+     * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount getSensorSamples(int index) {
+      return sensorSamples_.get(index);
+    }
+    /**
+     * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCountOrBuilder getSensorSamplesOrBuilder(
+        int index) {
+      return sensorSamples_.get(index);
+    }
+
+    public static final int SIZEBYTES_FIELD_NUMBER = 6;
+    private long sizeBytes_;
+    /**
+     * <code>optional int64 sizeBytes = 6;</code>
+     * @return Whether the sizeBytes field is set.
+     */
+    public boolean hasSizeBytes() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional int64 sizeBytes = 6;</code>
+     * @return The sizeBytes.
+     */
+    public long getSizeBytes() {
+      return sizeBytes_;
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 7;
+    private int version_;
+    /**
+     * <pre>
+     * Session layout and block codec, see SensorSession and CompressedColumn
+     * </pre>
+     *
+     * <code>optional uint32 version = 7;</code>
+     * @return Whether the version field is set.
+     */
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <pre>
+     * Session layout and block codec, see SensorSession and CompressedColumn
+     * </pre>
+     *
+     * <code>optional uint32 version = 7;</code>
+     * @return The version.
+     */
+    public int getVersion() {
+      return version_;
+    }
+
+    public static final int CODEC_FIELD_NUMBER = 8;
+    private int codec_;
+    /**
+     * <code>optional uint32 codec = 8;</code>
+     * @return Whether the codec field is set.
+     */
+    public boolean hasCodec() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional uint32 codec = 8;</code>
+     * @return The codec.
+     */
+    public int getCodec() {
+      return codec_;
+    }
+
+    public static final int ISENCRYPTED_FIELD_NUMBER = 9;
+    private boolean isEncrypted_;
+    /**
+     * <code>optional bool isEncrypted = 9;</code>
+     * @return Whether the isEncrypted field is set.
+     */
+    public boolean hasIsEncrypted() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>optional bool isEncrypted = 9;</code>
+     * @return The isEncrypted.
+     */
+    public boolean getIsEncrypted() {
+      return isEncrypted_;
+    }
+
+    public static final int UPLOADSTATE_FIELD_NUMBER = 10;
+    private int uploadState_;
+    /**
+     * <code>optional .unifyidchallenge.UploadState uploadState = 10;</code>
+     * @return Whether the uploadState field is set.
+     */
+    public boolean hasUploadState() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <code>optional .unifyidchallenge.UploadState uploadState = 10;</code>
+     * @return The uploadState.
+     */
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadState getUploadState() {
+      @SuppressWarnings("deprecation")
+      com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadState result = com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadState.valueOf(uploadState_);
+      return result == null ? com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadState.NOT_UPLOADED : result;
+    }
+
+    public static final int BATCHID_FIELD_NUMBER = 11;
+    private volatile java.lang.Object batchId_;
+    /**
+     * <code>optional string batchId = 11;</code>
+     * @return Whether the batchId field is set.
+     */
+    public boolean hasBatchId() {
+      return ((bitField0_ & 0x00000100) != 0);
+    }
+    /**
+     * <code>optional string batchId = 11;</code>
+     * @return The batchId.
+     */
+    public java.lang.String getBatchId() {
+      java.lang.Object ref = batchId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          batchId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string batchId = 11;</code>
+     * @return The bytes for batchId.
+     */
+    public com.google.protobuf.ByteString
+        getBatchIdBytes() {
+      java.lang.Object ref = batchId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        batchId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PERSISTEDAT_FIELD_NUMBER = 12;
+    private long persistedAt_;
+    /**
+     * <pre>
+     * Wall clock time the session was persisted
+     * </pre>
+     *
+     * <code>optional int64 persistedAt = 12;</code>
+     * @return Whether the persistedAt field is set.
+     */
+    public boolean hasPersistedAt() {
+      return ((bitField0_ & 0x00000200) != 0);
+    }
+    /**
+     * <pre>
+     * Wall clock time the session was persisted
+     * </pre>
+     *
+     * <code>optional int64 persistedAt = 12;</code>
+     * @return The persistedAt.
+     */
+    public long getPersistedAt() {
+      return persistedAt_;
+    }
+
+    public static final int ISDELETED_FIELD_NUMBER = 13;
+    private boolean isDeleted_;
+    /**
+     * <code>optional bool isDeleted = 13;</code>
+     * @return Whether the isDeleted field is set.
+     */
+    public boolean hasIsDeleted() {
+      return ((bitField0_ & 0x00000400) != 0);
+    }
+    /**
+     * <code>optional bool isDeleted = 13;</code>
+     * @return The isDeleted.
+     */
+    public boolean getIsDeleted() {
+      return isDeleted_;
+    }
+
+    public static final int FEATUREWINDOWCOUNT_FIELD_NUMBER = 14;
+    private long featureWindowCount_;
+    /**
+     * <code>optional int64 featureWindowCount = 14;</code>
+     * @return Whether the featureWindowCount field is set.
+     */
+    public boolean hasFeatureWindowCount() {
+      return ((bitField0_ & 0x00000800) != 0);
+    }
+    /**
+     * <code>optional int64 featureWindowCount = 14;</code>
+     * @return The featureWindowCount.
+     */
+    public long getFeatureWindowCount() {
+      return featureWindowCount_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      for (int i = 0; i < getSensorSamplesCount(); i++) {
+        if (!getSensorSamples(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt64(2, startTimestamp_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt64(3, endTimestamp_);
+      }
+      for (int i = 0; i < sensorSamples_.size(); i++) {
+        output.writeMessage(4, sensorSamples_.get(i));
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt64(6, sizeBytes_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeUInt32(7, version_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeUInt32(8, codec_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        output.writeBool(9, isEncrypted_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        output.writeEnum(10, uploadState_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 11, batchId_);
+      }
+      if (((bitField0_ & 0x00000200) != 0)) {
+        output.writeInt64(12, persistedAt_);
+      }
+      if (((bitField0_ & 0x00000400) != 0)) {
+        output.writeBool(13, isDeleted_);
+      }
+      if (((bitField0_ & 0x00000800) != 0)) {
+        output.writeInt64(14, featureWindowCount_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, startTimestamp_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, endTimestamp_);
+      }
+      for (int i = 0; i < sensorSamples_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, sensorSamples_.get(i));
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, sizeBytes_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(7, version_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(8, codec_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(9, isEncrypted_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(10, uploadState_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(11, batchId_);
+      }
+      if (((bitField0_ & 0x00000200) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(12, persistedAt_);
+      }
+      if (((bitField0_ & 0x00000400) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(13, isDeleted_);
+      }
+      if (((bitField0_ & 0x00000800) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(14, featureWindowCount_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry)) {
+        return super.equals(obj);
+      }
+      com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry other = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry) obj;
+
+      if (hasName() != other.hasName()) return false;
+      if (hasName()) {
+        if (!getName()
+            .equals(other.getName())) return false;
+      }
+      if (hasStartTimestamp() != other.hasStartTimestamp()) return false;
+      if (hasStartTimestamp()) {
+        if (getStartTimestamp()
+            != other.getStartTimestamp()) return false;
+      }
+      if (hasEndTimestamp() != other.hasEndTimestamp()) return false;
+      if (hasEndTimestamp()) {
+        if (getEndTimestamp()
+            != other.getEndTimestamp()) return false;
+      }
+      if (!getSensorSamplesList()
+          .equals(other.getSensorSamplesList())) return false;
+      if (hasSizeBytes() != other.hasSizeBytes()) return false;
+      if (hasSizeBytes()) {
+        if (getSizeBytes()
+            != other.getSizeBytes()) return false;
+      }
+      if (hasVersion() != other.hasVersion()) return false;
+      if (hasVersion()) {
+        if (getVersion()
+            != other.getVersion()) return false;
+      }
+      if (hasCodec() != other.hasCodec()) return false;
+      if (hasCodec()) {
+        if (getCodec()
+            != other.getCodec()) return false;
+      }
+      if (hasIsEncrypted() != other.hasIsEncrypted()) return false;
+      if (hasIsEncrypted()) {
+        if (getIsEncrypted()
+            != other.getIsEncrypted()) return false;
+      }
+      if (hasUploadState() != other.hasUploadState()) return false;
+      if (hasUploadState()) {
+        if (uploadState_ != other.uploadState_) return false;
+      }
+      if (hasBatchId() != other.hasBatchId()) return false;
+      if (hasBatchId()) {
+        if (!getBatchId()
+            .equals(other.getBatchId())) return false;
+      }
+      if (hasPersistedAt() != other.hasPersistedAt()) return false;
+      if (hasPersistedAt()) {
+        if (getPersistedAt()
+            != other.getPersistedAt()) return false;
+      }
+      if (hasIsDeleted() != other.hasIsDeleted()) return false;
+      if (hasIsDeleted()) {
+        if (getIsDeleted()
+            != other.getIsDeleted()) return false;
+      }
+      if (hasFeatureWindowCount() != other.hasFeatureWindowCount()) return false;
+      if (hasFeatureWindowCount()) {
+        if (getFeatureWindowCount()
+            != other.getFeatureWindowCount()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasName()) {
+        hash = (37 * hash) + NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getName().hashCode();
+      }
+      if (hasStartTimestamp()) {
+        hash = (37 * hash) + STARTTIMESTAMP_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getStartTimestamp());
+      }
+      if (hasEndTimestamp()) {
+        hash = (37 * hash) + ENDTIMESTAMP_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getEndTimestamp());
+      }
+      if (getSensorSamplesCount() > 0) {
+        hash = (37 * hash) + SENSORSAMPLES_FIELD_NUMBER;
+        hash = (53 * hash) + getSensorSamplesList().hashCode();
+      }
+      if (hasSizeBytes()) {
+        hash = (37 * hash) + SIZEBYTES_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSizeBytes());
+      }
+      if (hasVersion()) {
+        hash = (37 * hash) + VERSION_FIELD_NUMBER;
+        hash = (53 * hash) + getVersion();
+      }
+      if (hasCodec()) {
+        hash = (37 * hash) + CODEC_FIELD_NUMBER;
+        hash = (53 * hash) + getCodec();
+      }
+      if (hasIsEncrypted()) {
+        hash = (37 * hash) + ISENCRYPTED_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getIsEncrypted());
+      }
+      if (hasUploadState()) {
+        hash = (37 * hash) + UPLOADSTATE_FIELD_NUMBER;
+        hash = (53 * hash) + uploadState_;
+      }
+      if (hasBatchId()) {
+        hash = (37 * hash) + BATCHID_FIELD_NUMBER;
+        hash = (53 * hash) + getBatchId().hashCode();
+      }
+      if (hasPersistedAt()) {
+        hash = (37 * hash) + PERSISTEDAT_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getPersistedAt());
+      }
+      if (hasIsDeleted()) {
+        hash = (37 * hash) + ISDELETED_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getIsDeleted());
+      }
+      if (hasFeatureWindowCount()) {
+        hash = (37 * hash) + FEATUREWINDOWCOUNT_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getFeatureWindowCount());
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Record of the session catalog, an append-only file of length delimited entries.
+     * A later entry for the same name replaces the earlier one, isDeleted removes it.
+     * </pre>
+     *
+     * Protobuf type {@code unifyidchallenge.CatalogEntry}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:unifyidchallenge.CatalogEntry)
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_CatalogEntry_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_CatalogEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry.class, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry.Builder.class);
+      }
+
+      // Construct using com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getSensorSamplesFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        startTimestamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        endTimestamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (sensorSamplesBuilder_ == null) {
+          sensorSamples_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          sensorSamplesBuilder_.clear();
+        }
+        sizeBytes_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        version_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        codec_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        isEncrypted_ = false;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        uploadState_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000100);
+        batchId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000200);
+        persistedAt_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000400);
+        isDeleted_ = false;
+        bitField0_ = (bitField0_ & ~0x00000800);
+        featureWindowCount_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00001000);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.internal_static_unifyidchallenge_CatalogEntry_descriptor;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry getDefaultInstanceForType() {
+        return com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry build() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry buildPartial() {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry result = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.name_ = name_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.startTimestamp_ = startTimestamp_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.endTimestamp_ = endTimestamp_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (sensorSamplesBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            sensorSamples_ = java.util.Collections.unmodifiableList(sensorSamples_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.sensorSamples_ = sensorSamples_;
+        } else {
+          result.sensorSamples_ = sensorSamplesBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.sizeBytes_ = sizeBytes_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.version_ = version_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.codec_ = codec_;
+          to_bitField0_ |= 0x00000020;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.isEncrypted_ = isEncrypted_;
+          to_bitField0_ |= 0x00000040;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.uploadState_ = uploadState_;
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.batchId_ = batchId_;
+        if (((from_bitField0_ & 0x00000400) != 0)) {
+          result.persistedAt_ = persistedAt_;
+          to_bitField0_ |= 0x00000200;
+        }
+        if (((from_bitField0_ & 0x00000800) != 0)) {
+          result.isDeleted_ = isDeleted_;
+          to_bitField0_ |= 0x00000400;
+        }
+        if (((from_bitField0_ & 0x00001000) != 0)) {
+          result.featureWindowCount_ = featureWindowCount_;
+          to_bitField0_ |= 0x00000800;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry) {
+          return mergeFrom((com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry other) {
+        if (other == com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry.getDefaultInstance()) return this;
+        if (other.hasName()) {
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          onChanged();
+        }
+        if (other.hasStartTimestamp()) {
+          setStartTimestamp(other.getStartTimestamp());
+        }
+        if (other.hasEndTimestamp()) {
+          setEndTimestamp(other.getEndTimestamp());
+        }
+        if (sensorSamplesBuilder_ == null) {
+          if (!other.sensorSamples_.isEmpty()) {
+            if (sensorSamples_.isEmpty()) {
+              sensorSamples_ = other.sensorSamples_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureSensorSamplesIsMutable();
+              sensorSamples_.addAll(other.sensorSamples_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.sensorSamples_.isEmpty()) {
+            if (sensorSamplesBuilder_.isEmpty()) {
+              sensorSamplesBuilder_.dispose();
+              sensorSamplesBuilder_ = null;
+              sensorSamples_ = other.sensorSamples_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              sensorSamplesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getSensorSamplesFieldBuilder() : null;
+            } else {
+              sensorSamplesBuilder_.addAllMessages(other.sensorSamples_);
+            }
+          }
+        }
+        if (other.hasSizeBytes()) {
+          setSizeBytes(other.getSizeBytes());
+        }
+        if (other.hasVersion()) {
+          setVersion(other.getVersion());
+        }
+        if (other.hasCodec()) {
+          setCodec(other.getCodec());
+        }
+        if (other.hasIsEncrypted()) {
+          setIsEncrypted(other.getIsEncrypted());
+        }
+        if (other.hasUploadState()) {
+          setUploadState(other.getUploadState());
+        }
+        if (other.hasBatchId()) {
+          bitField0_ |= 0x00000200;
+          batchId_ = other.batchId_;
+          onChanged();
+        }
+        if (other.hasPersistedAt()) {
+          setPersistedAt(other.getPersistedAt());
+        }
+        if (other.hasIsDeleted()) {
+          setIsDeleted(other.getIsDeleted());
+        }
+        if (other.hasFeatureWindowCount()) {
+          setFeatureWindowCount(other.getFeatureWindowCount());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasName()) {
+          return false;
+        }
+        for (int i = 0; i < getSensorSamplesCount(); i++) {
+          if (!getSensorSamples(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>required string name = 1;</code>
+       * @return Whether the name field is set.
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long startTimestamp_ ;
+      /**
+       * <pre>
+       * Wall clock milliseconds of the first and last sample
+       * </pre>
+       *
+       * <code>optional int64 startTimestamp = 2;</code>
+       * @return Whether the startTimestamp field is set.
+       */
+      public boolean hasStartTimestamp() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <pre>
+       * Wall clock milliseconds of the first and last sample
+       * </pre>
+       *
+       * <code>optional int64 startTimestamp = 2;</code>
+       * @return The startTimestamp.
+       */
+      public long getStartTimestamp() {
+        return startTimestamp_;
+      }
+      /**
+       * <pre>
+       * Wall clock milliseconds of the first and last sample
+       * </pre>
+       *
+       * <code>optional int64 startTimestamp = 2;</code>
+       * @param value The startTimestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStartTimestamp(long value) {
+        bitField0_ |= 0x00000002;
+        startTimestamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Wall clock milliseconds of the first and last sample
+       * </pre>
+       *
+       * <code>optional int64 startTimestamp = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStartTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        startTimestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long endTimestamp_ ;
+      /**
+       * <code>optional int64 endTimestamp = 3;</code>
+       * @return Whether the endTimestamp field is set.
+       */
+      public boolean hasEndTimestamp() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int64 endTimestamp = 3;</code>
+       * @return The endTimestamp.
+       */
+      public long getEndTimestamp() {
+        return endTimestamp_;
+      }
+      /**
+       * <code>optional int64 endTimestamp = 3;</code>
+       * @param value The endTimestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEndTimestamp(long value) {
+        bitField0_ |= 0x00000004;
+        endTimestamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 endTimestamp = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEndTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        endTimestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount> sensorSamples_ =
+        java.util.Collections.emptyList();
+      private void ensureSensorSamplesIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          sensorSamples_ = new java.util.ArrayList<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount>(sensorSamples_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCountOrBuilder> sensorSamplesBuilder_;
+
+      /**
+       * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+       */
+      public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount> getSensorSamplesList() {
+        if (sensorSamplesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(sensorSamples_);
+        } else {
+          return sensorSamplesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+       */
+      public int getSensorSamplesCount() {
+        if (sensorSamplesBuilder_ == null) {
+          return sensorSamples_.size();
+        } else {
+          return sensorSamplesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount getSensorSamples(int index) {
+        if (sensorSamplesBuilder_ == null) {
+          return sensorSamples_.get(index);
+        } else {
+          return sensorSamplesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+       */
+      public Builder setSensorSamples(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount value) {
+        if (sensorSamplesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSensorSamplesIsMutable();
+          sensorSamples_.set(index, value);
           onChanged();
         } else {
-          sensorDataBuilder_.setMessage(index, value);
+          sensorSamplesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+       */
+      public Builder setSensorSamples(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount.Builder builderForValue) {
+        if (sensorSamplesBuilder_ == null) {
+          ensureSensorSamplesIsMutable();
+          sensorSamples_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          sensorSamplesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+       */
+      public Builder addSensorSamples(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount value) {
+        if (sensorSamplesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSensorSamplesIsMutable();
+          sensorSamples_.add(value);
+          onChanged();
+        } else {
+          sensorSamplesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+       */
+      public Builder addSensorSamples(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount value) {
+        if (sensorSamplesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSensorSamplesIsMutable();
+          sensorSamples_.add(index, value);
+          onChanged();
+        } else {
+          sensorSamplesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+       */
+      public Builder addSensorSamples(
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount.Builder builderForValue) {
+        if (sensorSamplesBuilder_ == null) {
+          ensureSensorSamplesIsMutable();
+          sensorSamples_.add(builderForValue.build());
+          onChanged();
+        } else {
+          sensorSamplesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+       */
+      public Builder addSensorSamples(
+          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount.Builder builderForValue) {
+        if (sensorSamplesBuilder_ == null) {
+          ensureSensorSamplesIsMutable();
+          sensorSamples_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          sensorSamplesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+       */
+      public Builder addAllSensorSamples(
+          java.lang.Iterable<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount> values) {
+        if (sensorSamplesBuilder_ == null) {
+          ensureSensorSamplesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, sensorSamples_);
+          onChanged();
+        } else {
+          sensorSamplesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+       */
+      public Builder clearSensorSamples() {
+        if (sensorSamplesBuilder_ == null) {
+          sensorSamples_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          sensorSamplesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+       */
+      public Builder removeSensorSamples(int index) {
+        if (sensorSamplesBuilder_ == null) {
+          ensureSensorSamplesIsMutable();
+          sensorSamples_.remove(index);
+          onChanged();
+        } else {
+          sensorSamplesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount.Builder getSensorSamplesBuilder(
+          int index) {
+        return getSensorSamplesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCountOrBuilder getSensorSamplesOrBuilder(
+          int index) {
+        if (sensorSamplesBuilder_ == null) {
+          return sensorSamples_.get(index);  } else {
+          return sensorSamplesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+       */
+      public java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCountOrBuilder> 
+           getSensorSamplesOrBuilderList() {
+        if (sensorSamplesBuilder_ != null) {
+          return sensorSamplesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(sensorSamples_);
+        }
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount.Builder addSensorSamplesBuilder() {
+        return getSensorSamplesFieldBuilder().addBuilder(
+            com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+       */
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount.Builder addSensorSamplesBuilder(
+          int index) {
+        return getSensorSamplesFieldBuilder().addBuilder(
+            index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .unifyidchallenge.SensorSampleCount sensorSamples = 4;</code>
+       */
+      public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount.Builder> 
+           getSensorSamplesBuilderList() {
+        return getSensorSamplesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCountOrBuilder> 
+          getSensorSamplesFieldBuilder() {
+        if (sensorSamplesBuilder_ == null) {
+          sensorSamplesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCount.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorSampleCountOrBuilder>(
+                  sensorSamples_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          sensorSamples_ = null;
         }
+        return sensorSamplesBuilder_;
+      }
+
+      private long sizeBytes_ ;
+      /**
+       * <code>optional int64 sizeBytes = 6;</code>
+       * @return Whether the sizeBytes field is set.
+       */
+      public boolean hasSizeBytes() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional int64 sizeBytes = 6;</code>
+       * @return The sizeBytes.
+       */
+      public long getSizeBytes() {
+        return sizeBytes_;
+      }
+      /**
+       * <code>optional int64 sizeBytes = 6;</code>
+       * @param value The sizeBytes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSizeBytes(long value) {
+        bitField0_ |= 0x00000010;
+        sizeBytes_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 sizeBytes = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSizeBytes() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        sizeBytes_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int version_ ;
+      /**
+       * <pre>
+       * Session layout and block codec, see SensorSession and CompressedColumn
+       * </pre>
+       *
+       * <code>optional uint32 version = 7;</code>
+       * @return Whether the version field is set.
+       */
+      public boolean hasVersion() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <pre>
+       * Session layout and block codec, see SensorSession and CompressedColumn
+       * </pre>
+       *
+       * <code>optional uint32 version = 7;</code>
+       * @return The version.
+       */
+      public int getVersion() {
+        return version_;
+      }
+      /**
+       * <pre>
+       * Session layout and block codec, see SensorSession and CompressedColumn
+       * </pre>
+       *
+       * <code>optional uint32 version = 7;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(int value) {
+        bitField0_ |= 0x00000020;
+        version_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Session layout and block codec, see SensorSession and CompressedColumn
+       * </pre>
+       *
+       * <code>optional uint32 version = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        version_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int codec_ ;
+      /**
+       * <code>optional uint32 codec = 8;</code>
+       * @return Whether the codec field is set.
+       */
+      public boolean hasCodec() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>optional uint32 codec = 8;</code>
+       * @return The codec.
+       */
+      public int getCodec() {
+        return codec_;
+      }
+      /**
+       * <code>optional uint32 codec = 8;</code>
+       * @param value The codec to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCodec(int value) {
+        bitField0_ |= 0x00000040;
+        codec_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 codec = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCodec() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        codec_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean isEncrypted_ ;
+      /**
+       * <code>optional bool isEncrypted = 9;</code>
+       * @return Whether the isEncrypted field is set.
+       */
+      public boolean hasIsEncrypted() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>optional bool isEncrypted = 9;</code>
+       * @return The isEncrypted.
+       */
+      public boolean getIsEncrypted() {
+        return isEncrypted_;
+      }
+      /**
+       * <code>optional bool isEncrypted = 9;</code>
+       * @param value The isEncrypted to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIsEncrypted(boolean value) {
+        bitField0_ |= 0x00000080;
+        isEncrypted_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       * <code>optional bool isEncrypted = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIsEncrypted() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        isEncrypted_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int uploadState_ = 0;
+      /**
+       * <code>optional .unifyidchallenge.UploadState uploadState = 10;</code>
+       * @return Whether the uploadState field is set.
+       */
+      public boolean hasUploadState() {
+        return ((bitField0_ & 0x00000100) != 0);
+      }
+      /**
+       * <code>optional .unifyidchallenge.UploadState uploadState = 10;</code>
+       * @return The uploadState.
        */
-      public Builder setSensorData(
-          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.Builder builderForValue) {
-        if (sensorDataBuilder_ == null) {
-          ensureSensorDataIsMutable();
-          sensorData_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          sensorDataBuilder_.setMessage(index, builderForValue.build());
+      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadState getUploadState() {
+        @SuppressWarnings("deprecation")
+        com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadState result = com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadState.valueOf(uploadState_);
+        return result == null ? com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadState.NOT_UPLOADED : result;
+      }
+      /**
+       * <code>optional .unifyidchallenge.UploadState uploadState = 10;</code>
+       * @param value The uploadState to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUploadState(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.UploadState value) {
+        if (value == null) {
+          throw new NullPointerException();
         }
+        bitField0_ |= 0x00000100;
+        uploadState_ = value.getNumber();
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       * <code>optional .unifyidchallenge.UploadState uploadState = 10;</code>
+       * @return This builder for chaining.
        */
-      public Builder addSensorData(com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData value) {
-        if (sensorDataBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureSensorDataIsMutable();
-          sensorData_.add(value);
-          onChanged();
-        } else {
-          sensorDataBuilder_.addMessage(value);
-        }
+      public Builder clearUploadState() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        uploadState_ = 0;
+        onChanged();
         return this;
       }
+
+      private java.lang.Object batchId_ = "";
       /**
-       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       * <code>optional string batchId = 11;</code>
+       * @return Whether the batchId field is set.
        */
-      public Builder addSensorData(
-          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData value) {
-        if (sensorDataBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
+      public boolean hasBatchId() {
+        return ((bitField0_ & 0x00000200) != 0);
+      }
+      /**
+       * <code>optional string batchId = 11;</code>
+       * @return The batchId.
+       */
+      public java.lang.String getBatchId() {
+        java.lang.Object ref = batchId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            batchId_ = s;
           }
-          ensureSensorDataIsMutable();
-          sensorData_.add(index, value);
-          onChanged();
+          return s;
         } else {
-          sensorDataBuilder_.addMessage(index, value);
+          return (java.lang.String) ref;
         }
-        return this;
       }
       /**
-       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       * <code>optional string batchId = 11;</code>
+       * @return The bytes for batchId.
        */
-      public Builder addSensorData(
-          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.Builder builderForValue) {
-        if (sensorDataBuilder_ == null) {
-          ensureSensorDataIsMutable();
-          sensorData_.add(builderForValue.build());
-          onChanged();
+      public com.google.protobuf.ByteString
+          getBatchIdBytes() {
+        java.lang.Object ref = batchId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          batchId_ = b;
+          return b;
         } else {
-          sensorDataBuilder_.addMessage(builderForValue.build());
+          return (com.google.protobuf.ByteString) ref;
         }
+      }
+      /**
+       * <code>optional string batchId = 11;</code>
+       * @param value The batchId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBatchId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
+        batchId_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       * <code>optional string batchId = 11;</code>
+       * @return This builder for chaining.
        */
-      public Builder addSensorData(
-          int index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.Builder builderForValue) {
-        if (sensorDataBuilder_ == null) {
-          ensureSensorDataIsMutable();
-          sensorData_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          sensorDataBuilder_.addMessage(index, builderForValue.build());
-        }
+      public Builder clearBatchId() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        batchId_ = getDefaultInstance().getBatchId();
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       * <code>optional string batchId = 11;</code>
+       * @param value The bytes for batchId to set.
+       * @return This builder for chaining.
        */
-      public Builder addAllSensorData(
-          java.lang.Iterable<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData> values) {
-        if (sensorDataBuilder_ == null) {
-          ensureSensorDataIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, sensorData_);
-          onChanged();
-        } else {
-          sensorDataBuilder_.addAllMessages(values);
-        }
+      public Builder setBatchIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
+        batchId_ = value;
+        onChanged();
         return this;
       }
+
+      private long persistedAt_ ;
       /**
-       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       * <pre>
+       * Wall clock time the session was persisted
+       * </pre>
+       *
+       * <code>optional int64 persistedAt = 12;</code>
+       * @return Whether the persistedAt field is set.
        */
-      public Builder clearSensorData() {
-        if (sensorDataBuilder_ == null) {
-          sensorData_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-          onChanged();
-        } else {
-          sensorDataBuilder_.clear();
-        }
+      public boolean hasPersistedAt() {
+        return ((bitField0_ & 0x00000400) != 0);
+      }
+      /**
+       * <pre>
+       * Wall clock time the session was persisted
+       * </pre>
+       *
+       * <code>optional int64 persistedAt = 12;</code>
+       * @return The persistedAt.
+       */
+      public long getPersistedAt() {
+        return persistedAt_;
+      }
+      /**
+       * <pre>
+       * Wall clock time the session was persisted
+       * </pre>
+       *
+       * <code>optional int64 persistedAt = 12;</code>
+       * @param value The persistedAt to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPersistedAt(long value) {
+        bitField0_ |= 0x00000400;
+        persistedAt_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       * <pre>
+       * Wall clock time the session was persisted
+       * </pre>
+       *
+       * <code>optional int64 persistedAt = 12;</code>
+       * @return This builder for chaining.
        */
-      public Builder removeSensorData(int index) {
-        if (sensorDataBuilder_ == null) {
-          ensureSensorDataIsMutable();
-          sensorData_.remove(index);
-          onChanged();
-        } else {
-          sensorDataBuilder_.remove(index);
-        }
+      public Builder clearPersistedAt() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        persistedAt_ = 0L;
+        onChanged();
         return this;
       }
+
+      private boolean isDeleted_ ;
+      /**
+       * <code>optional bool isDeleted = 13;</code>
+       * @return Whether the isDeleted field is set.
+       */
+      public boolean hasIsDeleted() {
+        return ((bitField0_ & 0x00000800) != 0);
+      }
       /**
-       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       * <code>optional bool isDeleted = 13;</code>
+       * @return The isDeleted.
        */
-      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.Builder getSensorDataBuilder(
-          int index) {
-        return getSensorDataFieldBuilder().getBuilder(index);
+      public boolean getIsDeleted() {
+        return isDeleted_;
       }
       /**
-       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       * <code>optional bool isDeleted = 13;</code>
+       * @param value The isDeleted to set.
+       * @return This builder for chaining.
        */
-      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataOrBuilder getSensorDataOrBuilder(
-          int index) {
-        if (sensorDataBuilder_ == null) {
-          return sensorData_.get(index);  } else {
-          return sensorDataBuilder_.getMessageOrBuilder(index);
-        }
+      public Builder setIsDeleted(boolean value) {
+        bitField0_ |= 0x00000800;
+        isDeleted_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       * <code>optional bool isDeleted = 13;</code>
+       * @return This builder for chaining.
        */
-      public java.util.List<? extends com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataOrBuilder> 
-           getSensorDataOrBuilderList() {
-        if (sensorDataBuilder_ != null) {
-          return sensorDataBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(sensorData_);
-        }
+      public Builder clearIsDeleted() {
+        bitField0_ = (bitField0_ & ~0x00000800);
+        isDeleted_ = false;
+        onChanged();
+        return this;
       }
+
+      private long featureWindowCount_ ;
       /**
-       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       * <code>optional int64 featureWindowCount = 14;</code>
+       * @return Whether the featureWindowCount field is set.
        */
-      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.Builder addSensorDataBuilder() {
-        return getSensorDataFieldBuilder().addBuilder(
-            com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.getDefaultInstance());
+      public boolean hasFeatureWindowCount() {
+        return ((bitField0_ & 0x00001000) != 0);
       }
       /**
-       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       * <code>optional int64 featureWindowCount = 14;</code>
+       * @return The featureWindowCount.
        */
-      public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.Builder addSensorDataBuilder(
-          int index) {
-        return getSensorDataFieldBuilder().addBuilder(
-            index, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.getDefaultInstance());
+      public long getFeatureWindowCount() {
+        return featureWindowCount_;
       }
       /**
-       * <code>repeated .unifyidchallenge.SensorData sensorData = 3;</code>
+       * <code>optional int64 featureWindowCount = 14;</code>
+       * @param value The featureWindowCount to set.
+       * @return This builder for chaining.
        */
-      public java.util.List<com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.Builder> 
-           getSensorDataBuilderList() {
-        return getSensorDataFieldBuilder().getBuilderList();
+      public Builder setFeatureWindowCount(long value) {
+        bitField0_ |= 0x00001000;
+        featureWindowCount_ = value;
+        onChanged();
+        return this;
       }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataOrBuilder> 
-          getSensorDataFieldBuilder() {
-        if (sensorDataBuilder_ == null) {
-          sensorDataBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorData.Builder, com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataOrBuilder>(
-                  sensorData_,
-                  ((bitField0_ & 0x00000001) == 0x00000001),
-                  getParentForChildren(),
-                  isClean());
-          sensorData_ = null;
-        }
-        return sensorDataBuilder_;
+      /**
+       * <code>optional int64 featureWindowCount = 14;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFeatureWindowCount() {
+        bitField0_ = (bitField0_ & ~0x00001000);
+        featureWindowCount_ = 0L;
+        onChanged();
+        return this;
       }
+      @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFields(unknownFields);
       }
 
+      @java.lang.Override
       public final Builder mergeUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.mergeUnknownFields(unknownFields);
       }
 
 
-      // @@protoc_insertion_point(builder_scope:unifyidchallenge.SensorDataCollection)
+      // @@protoc_insertion_point(builder_scope:unifyidchallenge.CatalogEntry)
     }
 
-    // @@protoc_insertion_point(class_scope:unifyidchallenge.SensorDataCollection)
-    private static final com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:unifyidchallenge.CatalogEntry)
+    private static final com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection();
+      DEFAULT_INSTANCE = new com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry();
     }
 
-    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection getDefaultInstance() {
+    public static com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    @java.lang.Deprecated public static final com.google.protobuf.Parser<SensorDataCollection>
-        PARSER = new com.google.protobuf.AbstractParser<SensorDataCollection>() {
-      public SensorDataCollection parsePartialFrom(
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<CatalogEntry>
+        PARSER = new com.google.protobuf.AbstractParser<CatalogEntry>() {
+      @java.lang.Override
+      public CatalogEntry parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new SensorDataCollection(input, extensionRegistry);
+        return new CatalogEntry(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<SensorDataCollection> parser() {
+    public static com.google.protobuf.Parser<CatalogEntry> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<SensorDataCollection> getParserForType() {
+    public com.google.protobuf.Parser<CatalogEntry> getParserForType() {
       return PARSER;
     }
 
-    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.SensorDataCollection getDefaultInstanceForType() {
+    @java.lang.Override
+    public com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto.CatalogEntry getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -1577,11 +20065,81 @@ public final class UnifyChallengeProto {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_unifyidchallenge_SensorData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_unifyidchallenge_SensorInfo_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_unifyidchallenge_SensorInfo_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_unifyidchallenge_SensorDataCollection_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_unifyidchallenge_SensorDataCollection_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_unifyidchallenge_SensorColumn_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_unifyidchallenge_SensorColumn_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_unifyidchallenge_CompressedColumn_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_unifyidchallenge_CompressedColumn_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_unifyidchallenge_ClockAnchor_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_unifyidchallenge_ClockAnchor_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_unifyidchallenge_FeatureConfig_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_unifyidchallenge_FeatureConfig_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_unifyidchallenge_FeatureWindow_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_unifyidchallenge_FeatureWindow_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_unifyidchallenge_SensorSession_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_unifyidchallenge_SensorSession_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_unifyidchallenge_BatchedSession_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_unifyidchallenge_BatchedSession_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_unifyidchallenge_SessionBatch_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_unifyidchallenge_SessionBatch_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_unifyidchallenge_UploadBatch_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_unifyidchallenge_UploadBatch_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_unifyidchallenge_UploadManifest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_unifyidchallenge_UploadManifest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_unifyidchallenge_EncryptionHeader_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_unifyidchallenge_EncryptionHeader_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_unifyidchallenge_SensorSampleCount_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_unifyidchallenge_SensorSampleCount_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_unifyidchallenge_CatalogEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_unifyidchallenge_CatalogEntry_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -1593,37 +20151,167 @@ public final class UnifyChallengeProto {
     java.lang.String[] descriptorData = {
       "\nIprotolib/src/main/java/com/zackmathews" +
       "/protolib/UnifyChallengeProto.proto\022\020uni" +
-      "fyidchallenge\"I\n\nSensorData\022\022\n\nsensorTyp" +
-      "e\030\001 \002(\t\022\024\n\014sensorValues\030\002 \003(\002\022\021\n\ttimesta" +
-      "mp\030\004 \002(\004\"H\n\024SensorDataCollection\0220\n\nsens" +
-      "orData\030\003 \003(\0132\034.unifyidchallenge.SensorDa" +
-      "taB>\n\'com.zackmatthews.unifyidchallenge." +
-      "protoB\023UnifyChallengeProto"
+      "fyidchallenge\"[\n\nSensorData\022\022\n\nsensorTyp" +
+      "e\030\001 \001(\t\022\024\n\014sensorValues\030\002 \003(\002\022\021\n\ttimesta" +
+      "mp\030\004 \002(\004\022\020\n\010sensorId\030\005 \001(\005\"\234\001\n\nSensorInf" +
+      "o\022\020\n\010sensorId\030\001 \002(\005\022\014\n\004name\030\002 \001(\t\022\030\n\020sam" +
+      "plingPeriodUs\030\003 \001(\005\022\032\n\022maxReportLatencyU" +
+      "s\030\004 \001(\005\022\016\n\006vendor\030\005 \001(\t\022\022\n\nresolution\030\006 " +
+      "\001(\002\022\024\n\014maximumRange\030\007 \001(\002\"w\n\024SensorDataC" +
+      "ollection\0220\n\nsensorData\030\003 \003(\0132\034.unifyidc" +
+      "hallenge.SensorData\022-\n\007sensors\030\004 \003(\0132\034.u" +
+      "nifyidchallenge.SensorInfo\"x\n\014SensorColu" +
+      "mn\022\020\n\010sensorId\030\001 \002(\005\022\016\n\006stride\030\002 \002(\005\022\025\n\r" +
+      "baseTimestamp\030\003 \002(\022\022\033\n\017timestampDeltas\030\004" +
+      " \003(\022B\002\020\001\022\022\n\006values\030\005 \003(\002B\002\020\001\"\274\001\n\020Compres" +
+      "sedColumn\022\020\n\010sensorId\030\001 \002(\005\022\016\n\006stride\030\002 " +
+      "\002(\005\022\023\n\013sampleCount\030\003 \002(\r\022\025\n\rbaseTimestam" +
+      "p\030\004 \002(\022\022\021\n\ttransform\030\005 \002(\r\022\r\n\005codec\030\006 \002(" +
+      "\r\022\025\n\rpayloadLength\030\007 \002(\r\022\020\n\010checksum\030\010 \002" +
+      "(\007\022\017\n\007payload\030\t \002(\014\"D\n\013ClockAnchor\022\027\n\017wa" +
+      "llClockMillis\030\001 \002(\003\022\034\n\024elapsedRealtimeNa" +
+      "nos\030\002 \002(\003\"E\n\rFeatureConfig\022\023\n\013windowNano" +
+      "s\030\001 \002(\003\022\037\n\023spectralFrequencies\030\002 \003(\002B\002\020\001" +
+      "\"\367\001\n\rFeatureWindow\022\020\n\010sensorId\030\001 \002(\005\022\026\n\016" +
+      "startTimestamp\030\002 \002(\022\022\024\n\014endTimestamp\030\003 \002" +
+      "(\022\022\023\n\013sampleCount\030\004 \002(\r\022\020\n\004mean\030\005 \003(\002B\002\020" +
+      "\001\022\024\n\010variance\030\006 \003(\002B\002\020\001\022\017\n\003min\030\007 \003(\002B\002\020\001" +
+      "\022\017\n\003max\030\010 \003(\002B\002\020\001\022\020\n\004jerk\030\t \003(\002B\002\020\001\022\031\n\rz" +
+      "eroCrossings\030\n \003(\rB\002\020\001\022\032\n\016spectralEnergy" +
+      "\030\013 \003(\002B\002\020\001\"\376\002\n\rSensorSession\022\017\n\007version\030" +
+      "\001 \002(\r\022-\n\007sensors\030\002 \003(\0132\034.unifyidchalleng" +
+      "e.SensorInfo\022/\n\007columns\030\003 \003(\0132\036.unifyidc" +
+      "hallenge.SensorColumn\022=\n\021compressedColum" +
+      "ns\030\004 \003(\0132\".unifyidchallenge.CompressedCo" +
+      "lumn\0222\n\013clockAnchor\030\005 \001(\0132\035.unifyidchall" +
+      "enge.ClockAnchor\022\030\n\020framePeriodNanos\030\006 \001" +
+      "(\003\0226\n\rfeatureConfig\030\007 \001(\0132\037.unifyidchall" +
+      "enge.FeatureConfig\0227\n\016featureWindows\030\010 \003" +
+      "(\0132\037.unifyidchallenge.FeatureWindow\"/\n\016B" +
+      "atchedSession\022\014\n\004name\030\001 \002(\t\022\017\n\007session\030\002" +
+      " \002(\014\"B\n\014SessionBatch\0222\n\010sessions\030\001 \003(\0132 " +
+      ".unifyidchallenge.BatchedSession\"m\n\013Uplo" +
+      "adBatch\022\017\n\007batchId\030\001 \002(\t\022\020\n\010sessions\030\002 \003" +
+      "(\t\022\014\n\004size\030\003 \002(\003\022\021\n\tchunkSize\030\004 \002(\005\022\032\n\016u" +
+      "ploadedChunks\030\005 \003(\005B\002\020\001\"@\n\016UploadManifes" +
+      "t\022.\n\007batches\030\001 \003(\0132\035.unifyidchallenge.Up" +
+      "loadBatch\"J\n\020EncryptionHeader\022\017\n\007version" +
+      "\030\001 \002(\r\022\022\n\nwrappedKey\030\002 \002(\014\022\021\n\tchunkSize\030" +
+      "\003 \002(\r\":\n\021SensorSampleCount\022\020\n\010sensorId\030\001" +
+      " \002(\005\022\023\n\013sampleCount\030\002 \002(\003\"\335\002\n\014CatalogEnt" +
+      "ry\022\014\n\004name\030\001 \002(\t\022\026\n\016startTimestamp\030\002 \001(\003" +
+      "\022\024\n\014endTimestamp\030\003 \001(\003\022:\n\rsensorSamples\030" +
+      "\004 \003(\0132#.unifyidchallenge.SensorSampleCou" +
+      "nt\022\021\n\tsizeBytes\030\006 \001(\003\022\017\n\007version\030\007 \001(\r\022\r" +
+      "\n\005codec\030\010 \001(\r\022\023\n\013isEncrypted\030\t \001(\010\0222\n\013up" +
+      "loadState\030\n \001(\0162\035.unifyidchallenge.Uploa" +
+      "dState\022\017\n\007batchId\030\013 \001(\t\022\023\n\013persistedAt\030\014" +
+      " \001(\003\022\021\n\tisDeleted\030\r \001(\010\022\032\n\022featureWindow" +
+      "Count\030\016 \001(\003J\004\010\005\020\006*:\n\013UploadState\022\020\n\014NOT_" +
+      "UPLOADED\020\000\022\013\n\007BATCHED\020\001\022\014\n\010UPLOADED\020\002B>\n" +
+      "\'com.zackmatthews.unifyidchallenge.proto" +
+      "B\023UnifyChallengeProto"
     };
-    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
-        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
-          public com.google.protobuf.ExtensionRegistry assignDescriptors(
-              com.google.protobuf.Descriptors.FileDescriptor root) {
-            descriptor = root;
-            return null;
-          }
-        };
-    com.google.protobuf.Descriptors.FileDescriptor
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
         new com.google.protobuf.Descriptors.FileDescriptor[] {
-        }, assigner);
+        });
     internal_static_unifyidchallenge_SensorData_descriptor =
       getDescriptor().getMessageTypes().get(0);
     internal_static_unifyidchallenge_SensorData_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_unifyidchallenge_SensorData_descriptor,
-        new java.lang.String[] { "SensorType", "SensorValues", "Timestamp", });
-    internal_static_unifyidchallenge_SensorDataCollection_descriptor =
+        new java.lang.String[] { "SensorType", "SensorValues", "Timestamp", "SensorId", });
+    internal_static_unifyidchallenge_SensorInfo_descriptor =
       getDescriptor().getMessageTypes().get(1);
+    internal_static_unifyidchallenge_SensorInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_unifyidchallenge_SensorInfo_descriptor,
+        new java.lang.String[] { "SensorId", "Name", "SamplingPeriodUs", "MaxReportLatencyUs", "Vendor", "Resolution", "MaximumRange", });
+    internal_static_unifyidchallenge_SensorDataCollection_descriptor =
+      getDescriptor().getMessageTypes().get(2);
     internal_static_unifyidchallenge_SensorDataCollection_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_unifyidchallenge_SensorDataCollection_descriptor,
-        new java.lang.String[] { "SensorData", });
+        new java.lang.String[] { "SensorData", "Sensors", });
+    internal_static_unifyidchallenge_SensorColumn_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_unifyidchallenge_SensorColumn_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_unifyidchallenge_SensorColumn_descriptor,
+        new java.lang.String[] { "SensorId", "Stride", "BaseTimestamp", "TimestampDeltas", "Values", });
+    internal_static_unifyidchallenge_CompressedColumn_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_unifyidchallenge_CompressedColumn_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_unifyidchallenge_CompressedColumn_descriptor,
+        new java.lang.String[] { "SensorId", "Stride", "SampleCount", "BaseTimestamp", "Transform", "Codec", "PayloadLength", "Checksum", "Payload", });
+    internal_static_unifyidchallenge_ClockAnchor_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_unifyidchallenge_ClockAnchor_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_unifyidchallenge_ClockAnchor_descriptor,
+        new java.lang.String[] { "WallClockMillis", "ElapsedRealtimeNanos", });
+    internal_static_unifyidchallenge_FeatureConfig_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_unifyidchallenge_FeatureConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_unifyidchallenge_FeatureConfig_descriptor,
+        new java.lang.String[] { "WindowNanos", "SpectralFrequencies", });
+    internal_static_unifyidchallenge_FeatureWindow_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_unifyidchallenge_FeatureWindow_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_unifyidchallenge_FeatureWindow_descriptor,
+        new java.lang.String[] { "SensorId", "StartTimestamp", "EndTimestamp", "SampleCount", "Mean", "Variance", "Min", "Max", "Jerk", "ZeroCrossings", "SpectralEnergy", });
+    internal_static_unifyidchallenge_SensorSession_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_unifyidchallenge_SensorSession_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_unifyidchallenge_SensorSession_descriptor,
+        new java.lang.String[] { "Version", "Sensors", "Columns", "CompressedColumns", "ClockAnchor", "FramePeriodNanos", "FeatureConfig", "FeatureWindows", });
+    internal_static_unifyidchallenge_BatchedSession_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_unifyidchallenge_BatchedSession_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_unifyidchallenge_BatchedSession_descriptor,
+        new java.lang.String[] { "Name", "Session", });
+    internal_static_unifyidchallenge_SessionBatch_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_unifyidchallenge_SessionBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_unifyidchallenge_SessionBatch_descriptor,
+        new java.lang.String[] { "Sessions", });
+    internal_static_unifyidchallenge_UploadBatch_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_unifyidchallenge_UploadBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_unifyidchallenge_UploadBatch_descriptor,
+        new java.lang.String[] { "BatchId", "Sessions", "Size", "ChunkSize", "UploadedChunks", });
+    internal_static_unifyidchallenge_UploadManifest_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_unifyidchallenge_UploadManifest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_unifyidchallenge_UploadManifest_descriptor,
+        new java.lang.String[] { "Batches", });
+    internal_static_unifyidchallenge_EncryptionHeader_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_unifyidchallenge_EncryptionHeader_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_unifyidchallenge_EncryptionHeader_descriptor,
+        new java.lang.String[] { "Version", "WrappedKey", "ChunkSize", });
+    internal_static_unifyidchallenge_SensorSampleCount_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_unifyidchallenge_SensorSampleCount_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_unifyidchallenge_SensorSampleCount_descriptor,
+        new java.lang.String[] { "SensorId", "SampleCount", });
+    internal_static_unifyidchallenge_CatalogEntry_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_unifyidchallenge_CatalogEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_unifyidchallenge_CatalogEntry_descriptor,
+        new java.lang.String[] { "Name", "StartTimestamp", "EndTimestamp", "SensorSamples", "SizeBytes", "Version", "Codec", "IsEncrypted", "UploadState", "BatchId", "PersistedAt", "IsDeleted", "FeatureWindowCount", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -0,0 +1,142 @@
+package com.zackmathews.unifyidchallenge;
+
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Round trips column chunks through @see {@link ColumnCompression} with every transform and built in codec.
+ */
+public class ColumnCompressionTest {
+    private static final int[] TRANSFORMS = {ColumnCompression.TRANSFORM_NONE, ColumnCompression.TRANSFORM_DELTA_XOR};
+    private static final SessionCodec[] CODECS = {SessionCodecs.NONE, SessionCodecs.DEFLATE};
+    private static final int[] STRIDES = {1, 3, 4};
+    private static final int SAMPLES = 500;
+
+    @Test
+    public void roundTripsEveryTransformCodecAndStride() throws IOException {
+        ColumnCompression.DecodedColumn decoded = new ColumnCompression.DecodedColumn();
+        for (int transform : TRANSFORMS) {
+            for (SessionCodec codec : CODECS) {
+                for (int stride : STRIDES) {
+                    long[] timestamps = timestamps(SAMPLES);
+                    float[] values = values(SAMPLES, stride);
+                    UnifyChallengeProto.CompressedColumn column = ColumnCompression.encode(7, stride, timestamps, values,
+                            SAMPLES, transform, codec);
+                    decoded.decode(column);
+                    String message = String.format("transform %d, codec %d, stride %d", transform, codec.getId(), stride);
+                    assertDecoded(message, decoded, 7, stride, timestamps, values, SAMPLES);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void roundTripsEmptyAndPartialChunks() throws IOException {
+        ColumnCompression.DecodedColumn decoded = new ColumnCompression.DecodedColumn();
+        long[] timestamps = timestamps(SAMPLES);
+        float[] values = values(SAMPLES, 3);
+        for (int sampleCount : new int[]{0, 1, 2, SAMPLES / 2}) {
+            decoded.decode(ColumnCompression.encode(1, 3, timestamps, values, sampleCount,
+                    ColumnCompression.TRANSFORM_DELTA_XOR, SessionCodecs.DEFLATE));
+            assertDecoded(String.format("%d samples", sampleCount), decoded, 1, 3, timestamps, values, sampleCount);
+        }
+    }
+
+    @Test
+    public void rejectsChecksumMismatch() {
+        for (int transform : TRANSFORMS) {
+            for (SessionCodec codec : CODECS) {
+                UnifyChallengeProto.CompressedColumn column = ColumnCompression.encode(1, 3, timestamps(SAMPLES),
+                        values(SAMPLES, 3), SAMPLES, transform, codec);
+                UnifyChallengeProto.CompressedColumn corrupt = column.toBuilder().setChecksum(column.getChecksum() ^ 1).build();
+                try {
+                    new ColumnCompression.DecodedColumn().decode(corrupt);
+                    fail(String.format("Checksum mismatch accepted with transform %d, codec %d", transform, codec.getId()));
+                } catch (IOException expected) {
+                }
+            }
+        }
+    }
+
+    @Test
+    public void rejectsSampleCountOverflowingPayload() throws IOException {
+        UnifyChallengeProto.CompressedColumn column = ColumnCompression.encode(1, 4, timestamps(SAMPLES),
+                values(SAMPLES, 4), SAMPLES, ColumnCompression.TRANSFORM_NONE, SessionCodecs.NONE);
+        // 2^30 samples of 4 values wrap to 0 values as an int
+        UnifyChallengeProto.CompressedColumn malformed = column.toBuilder().setSampleCount(1 << 30).build();
+        try {
+            new ColumnCompression.DecodedColumn().decode(malformed);
+            fail("Sample count past the payload was accepted");
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void rejectsUnknownTransform() {
+        try {
+            ColumnCompression.encode(1, 1, new long[1], new float[1], 1, 2, SessionCodecs.NONE);
+            fail("Unknown transform was accepted");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    /**
+     * Timestamps with jitter, repeats and steps backwards.
+     */
+    private static long[] timestamps(int sampleCount) {
+        Random random = new Random(sampleCount);
+        long[] timestamps = new long[sampleCount];
+        long timestamp = 1596864527000000000L;
+        for (int i = 0; i < sampleCount; i++) {
+            switch (i % 50) {
+                case 10:
+                    timestamp -= 30000000L;
+                    break;
+                case 20:
+                    break;
+                default:
+                    timestamp += 5000000L + random.nextInt(200000) - 100000;
+            }
+            timestamps[i] = timestamp;
+        }
+        if (sampleCount > 1) {
+            timestamps[sampleCount - 1] = Long.MIN_VALUE / 2;
+        }
+        return timestamps;
+    }
+
+    /**
+     * Slowly changing values mixed with NaNs, infinities and both zeros.
+     */
+    private static float[] values(int sampleCount, int stride) {
+        Random random = new Random(sampleCount * stride);
+        float[] special = {Float.NaN, Float.intBitsToFloat(0x7fc00001), -0f, 0f, Float.POSITIVE_INFINITY,
+                Float.NEGATIVE_INFINITY, Float.MIN_VALUE, -Float.MAX_VALUE};
+        float[] values = new float[sampleCount * stride];
+        for (int j = 0; j < values.length; j++) {
+            values[j] = j % 17 == 0 ? special[(j / 17) % special.length] : (float) Math.sin(j * 0.01) + random.nextFloat() * 1e-3f;
+        }
+        return values;
+    }
+
+    private static void assertDecoded(String message, ColumnCompression.DecodedColumn decoded, int sensorId, int stride,
+                                      long[] timestamps, float[] values, int sampleCount) {
+        assertEquals(message, sensorId, decoded.getSensorId());
+        assertEquals(message, stride, decoded.getStride());
+        assertEquals(message, sampleCount, decoded.size());
+        for (int i = 0; i < sampleCount; i++) {
+            assertEquals(message, timestamps[i], decoded.getTimestamp(i));
+            for (int axis = 0; axis < stride; axis++) {
+                // Bit for bit, so NaN payloads and the sign of zero survive
+                assertEquals(message, Float.floatToRawIntBits(values[i * stride + axis]),
+                        Float.floatToRawIntBits(decoded.getValue(i, axis)));
+            }
+        }
+    }
+}
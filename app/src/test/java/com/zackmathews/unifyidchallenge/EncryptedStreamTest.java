@@ -0,0 +1,223 @@
+package com.zackmathews.unifyidchallenge;
+
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Round trips sessions through @see {@link EncryptedOutputStream} and @see {@link EncryptedInputStream},
+ * and checks that truncated, tampered or wrongly keyed sessions are rejected.
+ */
+public class EncryptedStreamTest {
+    private static final int CHUNK_SIZE = 64;
+    private static final int SEALED_CHUNK_SIZE = CHUNK_SIZE + EncryptedOutputStream.TAG_SIZE;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static KeyPair keyPair;
+    private static KeyPair otherKeyPair;
+
+    @BeforeClass
+    public static void generateKeys() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+        otherKeyPair = generator.generateKeyPair();
+    }
+
+    @Test
+    public void roundTripsAcrossChunks() throws IOException {
+        // Empty, within one chunk, exactly on chunk boundaries and past them
+        int[] sizes = {0, 1, CHUNK_SIZE - 1, CHUNK_SIZE, 2 * CHUNK_SIZE, 3 * CHUNK_SIZE + 7};
+        for (int size : sizes) {
+            byte[] plaintext = plaintext(size);
+            byte[] encrypted = encrypt(plaintext);
+            assertArrayEquals(String.format("%d bytes", size), plaintext, decrypt(encrypted));
+            assertArrayEquals(String.format("%d bytes read one at a time", size), plaintext, decryptBytes(encrypted));
+        }
+    }
+
+    @Test
+    public void writesOneSealedChunkPerChunkSize() throws IOException {
+        byte[] empty = encrypt(new byte[0]);
+        byte[] boundary = encrypt(plaintext(2 * CHUNK_SIZE));
+        // The header is the same size for every session under the same key size
+        assertEquals(2 * CHUNK_SIZE + EncryptedOutputStream.TAG_SIZE, boundary.length - empty.length);
+    }
+
+    @Test
+    public void rejectsSessionTruncatedAtChunkBoundary() throws IOException {
+        byte[] encrypted = encrypt(plaintext(3 * CHUNK_SIZE + 7));
+        int lastChunkSize = 7 + EncryptedOutputStream.TAG_SIZE;
+        // Drop the last chunk, then the last two, so the stream ends on a full chunk either way
+        for (int dropped : new int[]{lastChunkSize, lastChunkSize + SEALED_CHUNK_SIZE}) {
+            byte[] truncated = Arrays.copyOf(encrypted, encrypted.length - dropped);
+            try {
+                decrypt(truncated);
+                fail(String.format("Session truncated by %d bytes was accepted", dropped));
+            } catch (IOException expected) {
+            }
+        }
+    }
+
+    @Test
+    public void rejectsTamperedChunk() throws IOException {
+        byte[] encrypted = encrypt(plaintext(3 * CHUNK_SIZE + 7));
+        // A byte in the middle of the second to last full chunk
+        encrypted[encrypted.length - 7 - EncryptedOutputStream.TAG_SIZE - SEALED_CHUNK_SIZE - SEALED_CHUNK_SIZE / 2] ^= 1;
+        try {
+            decrypt(encrypted);
+            fail("Tampered chunk was accepted");
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void rejectsWrongPrivateKey() throws IOException {
+        byte[] encrypted = encrypt(plaintext(CHUNK_SIZE));
+        try {
+            new EncryptedInputStream(new ByteArrayInputStream(encrypted), otherKeyPair.getPrivate());
+            fail("Session was opened with the wrong key");
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void sessionReaderReadsEncryptedSession() throws IOException {
+        File file = folder.newFile("ID_SENSOR_1");
+        float[] values = new float[3];
+        Random random = new Random(1);
+        float[][] written = new float[20000][];
+        try (ColumnarSessionWriter writer = ColumnarSessionWriter.open(file, null, keyPair.getPublic())) {
+            for (int i = 0; i < written.length; i++) {
+                for (int axis = 0; axis < values.length; axis++) {
+                    values[axis] = random.nextFloat();
+                }
+                written[i] = values.clone();
+                writer.writeSample(1, i * 5000000L, values, values.length);
+            }
+        }
+        // Spans several encryption chunks
+        assertTrue(file.length() > 4 * EncryptedOutputStream.DEFAULT_CHUNK_SIZE);
+
+        try (SessionReader reader = SessionReader.open(file, keyPair.getPrivate())) {
+            for (int i = 0; i < written.length; i++) {
+                assertTrue(reader.next());
+                assertEquals(1, reader.getSensorId());
+                assertEquals(i * 5000000L, reader.getTimestamp());
+                assertEquals(written[i].length, reader.getValueCount());
+                for (int axis = 0; axis < written[i].length; axis++) {
+                    assertEquals(written[i][axis], reader.getValue(axis), 0);
+                }
+            }
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    public void sessionReaderReadsEmptyEncryptedSession() throws IOException {
+        File file = folder.newFile("ID_SENSOR_2");
+        ColumnarSessionWriter.open(file, SessionCodecs.DEFLATE, keyPair.getPublic()).close();
+        try (SessionReader reader = SessionReader.open(file, keyPair.getPrivate())) {
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    public void sessionReaderRejectsWrongPrivateKey() throws IOException {
+        File file = folder.newFile("ID_SENSOR_3");
+        try (ColumnarSessionWriter writer = ColumnarSessionWriter.open(file, null, keyPair.getPublic())) {
+            writer.writeSample(1, 0, new float[]{1, 2, 3}, 3);
+        }
+        try {
+            SessionReader.open(file, otherKeyPair.getPrivate()).close();
+            fail("Session was opened with the wrong key");
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void sessionReaderRejectsTruncatedSession() throws IOException {
+        File file = folder.newFile("ID_SENSOR_4");
+        float[] values = {1, 2, 3};
+        try (ColumnarSessionWriter writer = ColumnarSessionWriter.open(file, null, keyPair.getPublic())) {
+            for (int i = 0; i < 20000; i++) {
+                writer.writeSample(1, i, values, values.length);
+            }
+        }
+        // An empty session is the header and one empty chunk, cut right after the first full chunk
+        File empty = folder.newFile("ID_SENSOR_5");
+        ColumnarSessionWriter.open(empty, null, keyPair.getPublic()).close();
+        long headerSize = empty.length() - EncryptedOutputStream.TAG_SIZE;
+        try (RandomAccessFile truncated = new RandomAccessFile(file, "rw")) {
+            truncated.setLength(headerSize + EncryptedOutputStream.DEFAULT_CHUNK_SIZE + EncryptedOutputStream.TAG_SIZE);
+        }
+        try (SessionReader reader = SessionReader.open(file, keyPair.getPrivate())) {
+            while (reader.next()) {
+                // Samples are returned up to the end of the last authenticated chunk
+            }
+            fail("Truncated session was read to the end");
+        } catch (IOException expected) {
+        }
+    }
+
+    private static byte[] plaintext(int size) {
+        byte[] plaintext = new byte[size];
+        new Random(size).nextBytes(plaintext);
+        return plaintext;
+    }
+
+    private static byte[] encrypt(byte[] plaintext) throws IOException {
+        ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+        try (EncryptedOutputStream stream = new EncryptedOutputStream(encrypted, keyPair.getPublic(), CHUNK_SIZE)) {
+            // Uneven writes, so chunks are filled across calls
+            int offset = 0;
+            int length = 1;
+            while (offset < plaintext.length) {
+                int count = Math.min(length, plaintext.length - offset);
+                stream.write(plaintext, offset, count);
+                offset += count;
+                length = length * 3 % 97 + 1;
+            }
+        }
+        return encrypted.toByteArray();
+    }
+
+    private static byte[] decrypt(byte[] encrypted) throws IOException {
+        ByteArrayOutputStream plaintext = new ByteArrayOutputStream();
+        try (InputStream stream = new EncryptedInputStream(new ByteArrayInputStream(encrypted), keyPair.getPrivate())) {
+            byte[] buffer = new byte[50];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                plaintext.write(buffer, 0, read);
+            }
+        }
+        return plaintext.toByteArray();
+    }
+
+    private static byte[] decryptBytes(byte[] encrypted) throws IOException {
+        ByteArrayOutputStream plaintext = new ByteArrayOutputStream();
+        try (InputStream stream = new EncryptedInputStream(new ByteArrayInputStream(encrypted), keyPair.getPrivate())) {
+            int b;
+            while ((b = stream.read()) != -1) {
+                plaintext.write(b);
+            }
+        }
+        return plaintext.toByteArray();
+    }
+}
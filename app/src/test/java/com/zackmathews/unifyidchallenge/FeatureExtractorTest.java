@@ -0,0 +1,133 @@
+package com.zackmathews.unifyidchallenge;
+
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Feeds @see {@link FeatureExtractor} a sine of known amplitude and frequency and checks the features of each window.
+ */
+public class FeatureExtractorTest {
+    private static final long MS = 1000000L;
+    private static final long WINDOW = 1000 * MS;
+    private static final long SAMPLE_PERIOD = 20 * MS;
+    private static final int ACCELEROMETER = 1;
+    private static final double AMPLITUDE = 2;
+    private static final double FREQUENCY = 2;
+    private static final double OFFSET = 3;
+    // Unaligned with the window grid, so the first window is partial
+    private static final long START = 10300 * MS;
+    private static final int SECONDS = 5;
+
+    private final List<UnifyChallengeProto.FeatureWindow> windows = new ArrayList<>();
+    private long lastTimestamp;
+
+    @Test
+    public void extractsFeaturesOfSine() {
+        FeatureExtractor extractor = feedSine();
+        // Windows from 10s to 15s, then the one holding the last sample at 15.28s
+        assertEquals(6, windows.size());
+        assertEquals(6, extractor.getWindowCount());
+
+        float[] frequencies = FeatureExtractor.DEFAULT_SPECTRAL_FREQUENCIES;
+        int fullWindows = 0;
+        for (UnifyChallengeProto.FeatureWindow window : windows) {
+            assertEquals(ACCELEROMETER, window.getSensorId());
+            // Only whole windows hold whole periods of the sine
+            if (window.getSampleCount() != WINDOW / SAMPLE_PERIOD) continue;
+            fullWindows++;
+            assertEquals(OFFSET, window.getMean(0), 1e-4);
+            assertEquals(AMPLITUDE * AMPLITUDE / 2, window.getVariance(0), 1e-4);
+            assertEquals(OFFSET - AMPLITUDE, window.getMin(0), .05);
+            assertEquals(OFFSET + AMPLITUDE, window.getMax(0), .05);
+            // Mean absolute slope of a sine is 4 A f, the finite differences undershoot it slightly
+            assertEquals(4 * AMPLITUDE * FREQUENCY, window.getJerk(0), .02 * 4 * AMPLITUDE * FREQUENCY);
+            // Twice per period
+            assertEquals(2 * FREQUENCY * WINDOW / 1e9, window.getZeroCrossings(0), 0);
+            assertEquals(frequencies.length, window.getSpectralEnergyCount());
+            for (int f = 0; f < frequencies.length; f++) {
+                double expected = frequencies[f] == FREQUENCY ? AMPLITUDE * AMPLITUDE / 2 : 0;
+                assertEquals(String.format("energy at %.0fHz", frequencies[f]), expected, window.getSpectralEnergy(f), 1e-3);
+            }
+        }
+        assertEquals(SECONDS - 1, fullWindows);
+    }
+
+    @Test
+    public void closesWindowsOnMultiplesOfWindow() {
+        feedSine();
+        long previousStart = Long.MIN_VALUE;
+        for (UnifyChallengeProto.FeatureWindow window : windows) {
+            long windowStart = window.getStartTimestamp() / WINDOW * WINDOW;
+            assertTrue(window.getStartTimestamp() > previousStart);
+            assertTrue(window.getEndTimestamp() < windowStart + WINDOW);
+            previousStart = window.getStartTimestamp();
+        }
+        assertEquals(START, windows.get(0).getStartTimestamp());
+        assertEquals(11000 * MS - SAMPLE_PERIOD, windows.get(0).getEndTimestamp());
+        for (int i = 1; i < windows.size(); i++) {
+            assertEquals((10 + i) * 1000 * MS, windows.get(i).getStartTimestamp());
+        }
+    }
+
+    @Test
+    public void closesWindowOnFirstSampleAfterIt() {
+        final List<Long> closedAt = new ArrayList<>();
+        FeatureExtractor extractor = new FeatureExtractor.Builder()
+                .setWindow(WINDOW)
+                .addChannel(ACCELEROMETER, 1)
+                .setListener(new FeatureExtractor.Listener() {
+                    @Override
+                    public void onFeatures(UnifyChallengeProto.FeatureWindow window) {
+                        closedAt.add(lastTimestamp);
+                        windows.add(window);
+                    }
+                })
+                .build();
+        float[] value = new float[1];
+        for (long timestamp : new long[]{500 * MS, 999 * MS, 1000 * MS, 2999 * MS, 3000 * MS}) {
+            lastTimestamp = timestamp;
+            extractor.onSample(ACCELEROMETER, timestamp, value, 1);
+        }
+        // The window from 2s only opens with the sample at 2999ms
+        assertEquals(3, windows.size());
+        assertEquals(2, windows.get(0).getSampleCount());
+        assertEquals(1000 * MS, windows.get(1).getStartTimestamp());
+        assertEquals(1, windows.get(1).getSampleCount());
+        assertEquals(2999 * MS, windows.get(2).getStartTimestamp());
+        // Each closed by the first sample on or past the next multiple of the window
+        assertEquals(1000 * MS, (long) closedAt.get(0));
+        assertEquals(2999 * MS, (long) closedAt.get(1));
+        assertEquals(3000 * MS, (long) closedAt.get(2));
+        extractor.flush();
+        assertEquals(4, windows.size());
+        assertEquals(3000 * MS, windows.get(3).getStartTimestamp());
+    }
+
+    private FeatureExtractor feedSine() {
+        FeatureExtractor extractor = new FeatureExtractor.Builder()
+                .setWindow(WINDOW)
+                .addChannel(ACCELEROMETER, 1)
+                .setListener(new FeatureExtractor.Listener() {
+                    @Override
+                    public void onFeatures(UnifyChallengeProto.FeatureWindow window) {
+                        windows.add(window);
+                    }
+                })
+                .build();
+        float[] value = new float[1];
+        for (long timestamp = START; timestamp < START + SECONDS * 1000 * MS; timestamp += SAMPLE_PERIOD) {
+            // Phase shifted, so no sample lands exactly on a mean crossing
+            value[0] = (float) (OFFSET + AMPLITUDE * Math.sin(2 * Math.PI * FREQUENCY * timestamp / 1e9 + .3));
+            lastTimestamp = timestamp;
+            extractor.onSample(ACCELEROMETER, timestamp, value, 1);
+        }
+        extractor.flush();
+        return extractor;
+    }
+}
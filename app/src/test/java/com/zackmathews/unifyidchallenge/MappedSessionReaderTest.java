@@ -0,0 +1,206 @@
+package com.zackmathews.unifyidchallenge;
+
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+
+import static org.junit.Assert.*;
+
+/**
+ * Reads the same sessions with @see {@link MappedSessionReader} and @see {@link SessionReader} side by side
+ * and checks that they return the same samples, sensors and session fields.
+ */
+public class MappedSessionReaderTest {
+    private static final int ACCELEROMETER = 1;
+    private static final int GYROSCOPE = 4;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void agreesOnSampleFile() throws IOException {
+        File sampleFile = new File(System.getProperty("sample.file", "SAMPLE_FILE_PROTO"));
+        assertTrue(assertReadersAgree(sampleFile) > 0);
+    }
+
+    @Test
+    public void agreesOnVersion1Sensors() throws IOException {
+        File file = folder.newFile("ID_SENSOR_1");
+        UnifyChallengeProto.SensorDataCollection sensors = UnifyChallengeProto.SensorDataCollection.newBuilder()
+                .addSensors(UnifyChallengeProto.SensorInfo.newBuilder().setSensorId(ACCELEROMETER).setName("accel"))
+                // Without a name, must not be matched by records without a sensor type
+                .addSensors(UnifyChallengeProto.SensorInfo.newBuilder().setSensorId(GYROSCOPE))
+                .build();
+        UnifyChallengeProto.SensorDataCollection records = UnifyChallengeProto.SensorDataCollection.newBuilder()
+                .addSensorData(record(1).setSensorType("accel"))
+                .addSensorData(record(2).setSensorType("gyro"))
+                .addSensorData(record(3))
+                .addSensorData(record(4).setSensorType(""))
+                .addSensorData(record(5).setSensorId(GYROSCOPE))
+                .addSensorData(record(6).setSensorType("gyro"))
+                .build();
+        // Sensor metadata ahead of the records, as SessionStreamWriter writes it
+        try (OutputStream stream = new FileOutputStream(file)) {
+            sensors.writeTo(stream);
+            records.writeTo(stream);
+        }
+        assertEquals(6, assertReadersAgree(file));
+
+        try (MappedSessionReader reader = new MappedSessionReader(file)) {
+            int[] ids = {ACCELEROMETER, -1, -2, -2, GYROSCOPE, -1};
+            String[] names = {"accel", "gyro", "", "", "", "gyro"};
+            for (int i = 0; i < ids.length; i++) {
+                assertTrue(reader.next());
+                assertEquals(ids[i], reader.getSensorId());
+                assertEquals(names[i], reader.getSensorName());
+            }
+        }
+    }
+
+    @Test
+    public void agreesOnVersion2And3Sessions() throws IOException {
+        for (SessionCodec codec : new SessionCodec[]{null, SessionCodecs.DEFLATE}) {
+            File file = folder.newFile();
+            writeSession(file, codec, 3000);
+            assertEquals(6000, assertReadersAgree(file));
+        }
+    }
+
+    @Test
+    public void agreesOnFeatureOnlySession() throws IOException {
+        File file = folder.newFile("ID_SENSOR_2");
+        writeSession(file, null, 0);
+        assertEquals(0, assertReadersAgree(file));
+    }
+
+    @Test
+    public void failsAtSameSampleOnTruncatedSession() throws IOException {
+        for (SessionCodec codec : new SessionCodec[]{null, SessionCodecs.DEFLATE}) {
+            File file = folder.newFile();
+            writeSession(file, codec, 3000);
+            // Cut into the last thing written, a chunk or a feature window
+            truncate(file, 7);
+            try {
+                assertReadersAgree(file);
+                fail(String.format("Truncated session with codec %s was read to the end", codec));
+            } catch (IOException expected) {
+            }
+        }
+        // The last record ends with its 7 byte timestamp, cut right between two of its fields
+        File file = new File(System.getProperty("sample.file", "SAMPLE_FILE_PROTO"));
+        File truncated = folder.newFile("ID_SENSOR_3");
+        try (RandomAccessFile source = new RandomAccessFile(file, "r");
+             RandomAccessFile copy = new RandomAccessFile(truncated, "rw")) {
+            byte[] bytes = new byte[(int) source.length() - 7];
+            source.readFully(bytes);
+            copy.write(bytes);
+        }
+        try {
+            assertReadersAgree(truncated);
+            fail("Truncated sample file was read to the end");
+        } catch (IOException expected) {
+        }
+    }
+
+    private static UnifyChallengeProto.SensorData.Builder record(long timestamp) {
+        return UnifyChallengeProto.SensorData.newBuilder()
+                .setTimestamp(timestamp)
+                .addSensorValues(timestamp)
+                .addSensorValues(-timestamp);
+    }
+
+    /**
+     * Writes sampleCount samples of two sensors with every field a session may hold around them.
+     */
+    private static void writeSession(File file, SessionCodec codec, int sampleCount) throws IOException {
+        try (ColumnarSessionWriter writer = ColumnarSessionWriter.open(file, codec)) {
+            writer.writeClockAnchor(UnifyChallengeProto.ClockAnchor.newBuilder()
+                    .setWallClockMillis(1596864527000L).setElapsedRealtimeNanos(1000000000L).build());
+            writer.writeFramePeriod(5000000L);
+            writer.writeFeatureConfig(UnifyChallengeProto.FeatureConfig.newBuilder()
+                    .setWindowNanos(1000000000L).addSpectralFrequencies(2).build());
+            writer.writeSensorInfo(UnifyChallengeProto.SensorInfo.newBuilder().setSensorId(ACCELEROMETER).setName("accel").build());
+            float[] values = new float[3];
+            for (int i = 0; i < sampleCount; i++) {
+                for (int axis = 0; axis < values.length; axis++) {
+                    values[axis] = (float) Math.sin(i * 0.01 + axis);
+                }
+                writer.writeSample(ACCELEROMETER, i * 5000000L, values, 3);
+                writer.writeSample(GYROSCOPE, i * 5000000L + 1, values, 2);
+                if (i == sampleCount / 2) {
+                    // Described after its first samples
+                    writer.writeSensorInfo(UnifyChallengeProto.SensorInfo.newBuilder().setSensorId(GYROSCOPE).setName("gyro").build());
+                }
+            }
+            for (int i = 0; i < 3; i++) {
+                writer.writeFeatureWindow(UnifyChallengeProto.FeatureWindow.newBuilder()
+                        .setSensorId(ACCELEROMETER).setStartTimestamp(i * 1000000000L)
+                        .setEndTimestamp(i * 1000000000L + 995000000L).setSampleCount(200).addMean(i).build());
+            }
+        }
+    }
+
+    private static void truncate(File file, int bytes) throws IOException {
+        try (RandomAccessFile access = new RandomAccessFile(file, "rw")) {
+            access.setLength(access.length() - bytes);
+        }
+    }
+
+    /**
+     * Reads a session with both readers in lockstep.
+     *
+     * @return how many samples were read.
+     * @throws IOException if both readers failed at the same sample
+     */
+    private static int assertReadersAgree(File file) throws IOException {
+        try (SessionReader expected = SessionReader.open(file);
+             MappedSessionReader actual = new MappedSessionReader(file)) {
+            assertEquals(expected.getVersion(), actual.getVersion());
+            int sampleCount = 0;
+            while (true) {
+                String message = String.format("%s sample %d", file.getName(), sampleCount);
+                IOException expectedFailure = null;
+                IOException actualFailure = null;
+                boolean expectedNext = false;
+                boolean actualNext = false;
+                try {
+                    expectedNext = expected.next();
+                } catch (IOException e) {
+                    expectedFailure = e;
+                }
+                try {
+                    actualNext = actual.next();
+                } catch (IOException e) {
+                    actualFailure = e;
+                }
+                assertEquals(message, expectedFailure != null, actualFailure != null);
+                if (expectedFailure != null) throw expectedFailure;
+                assertEquals(message, expectedNext, actualNext);
+                if (!expectedNext) break;
+                assertEquals(message, expected.getSensorId(), actual.getSensorId());
+                assertEquals(message, expected.getSensorName(), actual.getSensorName());
+                assertEquals(message, expected.getTimestamp(), actual.getTimestamp());
+                assertEquals(message, expected.getValueCount(), actual.getValueCount());
+                for (int axis = 0; axis < expected.getValueCount(); axis++) {
+                    assertEquals(message, Float.floatToRawIntBits(expected.getValue(axis)),
+                            Float.floatToRawIntBits(actual.getValue(axis)));
+                }
+                sampleCount++;
+            }
+            assertEquals(expected.getSensorInfos(), actual.getSensorInfos());
+            assertEquals(expected.getClockAnchor(), actual.getClockAnchor());
+            assertEquals(expected.getFramePeriod(), actual.getFramePeriod());
+            assertEquals(expected.getFeatureConfig(), actual.getFeatureConfig());
+            assertEquals(expected.getFeatureWindows(), actual.getFeatureWindows());
+            return sampleCount;
+        }
+    }
+}
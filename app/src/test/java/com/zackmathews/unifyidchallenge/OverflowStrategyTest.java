@@ -0,0 +1,116 @@
+package com.zackmathews.unifyidchallenge;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.reactivex.rxjava3.core.BackpressureStrategy;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableEmitter;
+import io.reactivex.rxjava3.core.FlowableOnSubscribe;
+import io.reactivex.rxjava3.functions.Function;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+
+import static org.junit.Assert.*;
+
+/**
+ * Overflows @see {@link OverflowStrategy} with pooled packets while the subscriber requests nothing.
+ */
+public class OverflowStrategyTest {
+    private static final int POOL_CAPACITY = 16;
+    private static final int OVERFLOW_CAPACITY = 8;
+    private static final int SAMPLES = 100;
+
+    private SensorPacketPool pool;
+    private CaptureStats stats;
+    private FlowableEmitter<SensorDataPacket> emitter;
+    private final float[] values = new float[3];
+
+    @Before
+    public void setUp() {
+        pool = new SensorPacketPool(POOL_CAPACITY);
+        stats = new CaptureStats();
+    }
+
+    @Test
+    public void bufferRecyclesNewestPackets() {
+        TestSubscriber<Long> subscriber = overflow(OverflowStrategy.buffer(OVERFLOW_CAPACITY));
+        assertEquals(0, pool.getMissCount());
+        assertEquals(POOL_CAPACITY - OVERFLOW_CAPACITY, pool.getFreeCount());
+
+        subscriber.request(SAMPLES);
+        subscriber.assertValues(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        assertEquals(SAMPLES - OVERFLOW_CAPACITY, stats.getDroppedCount());
+        assertEquals(OVERFLOW_CAPACITY, stats.getDeliveredCount());
+        assertEquals(POOL_CAPACITY, pool.getFreeCount());
+    }
+
+    @Test
+    public void dropOldestRecyclesEvictedPackets() {
+        TestSubscriber<Long> subscriber = overflow(OverflowStrategy.dropOldest(OVERFLOW_CAPACITY));
+        assertEquals(0, pool.getMissCount());
+
+        subscriber.request(SAMPLES);
+        subscriber.assertValues(92L, 93L, 94L, 95L, 96L, 97L, 98L, 99L);
+        assertEquals(SAMPLES - OVERFLOW_CAPACITY, stats.getDroppedCount());
+        assertEquals(0, stats.getBacklog());
+        assertEquals(POOL_CAPACITY, pool.getFreeCount());
+    }
+
+    @Test
+    public void latestKeepsOnePacket() {
+        TestSubscriber<Long> subscriber = overflow(OverflowStrategy.latest());
+        assertEquals(0, pool.getMissCount());
+        assertEquals(POOL_CAPACITY - 1, pool.getFreeCount());
+
+        subscriber.request(1);
+        subscriber.assertValues(99L);
+    }
+
+    @Test
+    public void cancelRecyclesBufferedPackets() {
+        TestSubscriber<Long> subscriber = overflow(OverflowStrategy.buffer(OVERFLOW_CAPACITY));
+        subscriber.cancel();
+        assertEquals(POOL_CAPACITY, pool.getFreeCount());
+        assertEquals(0, pool.getMissCount());
+    }
+
+    @Test
+    public void completesAfterDrainingBuffer() {
+        TestSubscriber<Long> subscriber = overflow(OverflowStrategy.buffer(OVERFLOW_CAPACITY));
+        emitter.onComplete();
+        subscriber.assertNotComplete();
+
+        subscriber.request(SAMPLES);
+        subscriber.assertValueCount(OVERFLOW_CAPACITY);
+        subscriber.assertComplete();
+    }
+
+    /**
+     * Emits SAMPLES packets numbered by timestamp without requesting any of them.
+     */
+    private TestSubscriber<Long> overflow(OverflowStrategy strategy) {
+        Flowable<SensorDataPacket> source = Flowable.create(new FlowableOnSubscribe<SensorDataPacket>() {
+            @Override
+            public void subscribe(FlowableEmitter<SensorDataPacket> e) {
+                emitter = e;
+            }
+        }, BackpressureStrategy.MISSING);
+        TestSubscriber<Long> subscriber = strategy.apply(source, stats)
+                .map(new Function<SensorDataPacket, Long>() {
+                    @Override
+                    public Long apply(SensorDataPacket packet) {
+                        long timestamp = packet.timestamp;
+                        packet.recycle();
+                        return timestamp;
+                    }
+                })
+                .test(0);
+        for (int i = 0; i < SAMPLES; i++) {
+            SensorDataPacket packet = pool.obtain();
+            packet.set(1, i, values);
+            stats.onEmitted();
+            emitter.onNext(packet);
+        }
+        return subscriber;
+    }
+}
@@ -0,0 +1,180 @@
+package com.zackmathews.unifyidchallenge;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Feeds @see {@link SensorResampler} samples with known values and checks the frames it emits.
+ */
+public class SensorResamplerTest {
+    private static final long MS = 1000000L;
+    private static final int ACCELEROMETER = 1;
+    private static final int GYROSCOPE = 4;
+    private static final int ROTATION_VECTOR = 15;
+    private static final float DELTA = 1e-5f;
+
+    private final RecordingListener frames = new RecordingListener();
+
+    @Test
+    public void alignsFramesToPeriodGrid() {
+        long[][] cases = {
+                // First sample, first frame
+                {1003 * MS + 7, 1010 * MS},
+                {1010 * MS, 1010 * MS},
+                {1 * MS, 10 * MS},
+                {0, 0},
+                // Negative remainders round up towards zero
+                {-25 * MS - 7, -20 * MS},
+                {-30 * MS, -30 * MS},
+                {-1, 0},
+        };
+        for (long[] c : cases) {
+            frames.clear();
+            SensorResampler resampler = newResampler(10 * MS, 0).addChannel(ACCELEROMETER, 1, SensorResampler.INTERPOLATE_LINEAR)
+                    .setListener(frames).build();
+            resampler.onSample(ACCELEROMETER, c[0], new float[]{0}, 1);
+            resampler.onSample(ACCELEROMETER, c[0] + 35 * MS, new float[]{1}, 1);
+            assertEquals(String.format("first frame of a session starting at %d", c[0]), c[1], (long) frames.timestamps.get(0));
+            for (long timestamp : frames.timestamps) {
+                assertEquals(0, timestamp % (10 * MS));
+            }
+        }
+    }
+
+    @Test
+    public void interpolatesLinearlyBetweenSamples() {
+        SensorResampler resampler = newResampler(10 * MS, 0).addChannel(ACCELEROMETER, 3, SensorResampler.INTERPOLATE_LINEAR)
+                .setListener(frames).build();
+        resampler.onSample(ACCELEROMETER, 0, new float[]{0, 0, 0}, 3);
+        resampler.onSample(ACCELEROMETER, 40 * MS, new float[]{4, 8, -4}, 3);
+
+        assertEquals(5, frames.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i * 10 * MS, (long) frames.timestamps.get(i));
+            assertArrayEquals(new float[]{i, 2 * i, -i}, frames.frames.get(i), DELTA);
+        }
+        assertEquals(0, resampler.getHeldFrameCount());
+    }
+
+    @Test
+    public void slerpsRotationVector() {
+        SensorResampler resampler = newResampler(10 * MS, 0).addChannel(ROTATION_VECTOR, 4, SensorResampler.INTERPOLATE_SLERP)
+                .setListener(frames).build();
+        // Identity, then 90 degrees about z
+        resampler.onSample(ROTATION_VECTOR, 0, rotationAboutZ(0), 4);
+        resampler.onSample(ROTATION_VECTOR, 40 * MS, rotationAboutZ(Math.PI / 2), 4);
+
+        assertEquals(5, frames.size());
+        for (int i = 0; i < 5; i++) {
+            assertArrayEquals(rotationAboutZ(Math.PI / 8 * i), frames.frames.get(i), DELTA);
+        }
+    }
+
+    @Test
+    public void slerpsAlongShorterArc() {
+        SensorResampler resampler = newResampler(10 * MS, 0).addChannel(ROTATION_VECTOR, 4, SensorResampler.INTERPOLATE_SLERP)
+                .setListener(frames).build();
+        // The same 90 degree rotation with the opposite sign, interpolating component wise would pass through zero
+        float[] flipped = rotationAboutZ(Math.PI / 2);
+        for (int i = 0; i < flipped.length; i++) {
+            flipped[i] = -flipped[i];
+        }
+        resampler.onSample(ROTATION_VECTOR, 0, rotationAboutZ(0), 4);
+        resampler.onSample(ROTATION_VECTOR, 40 * MS, flipped, 4);
+
+        assertArrayEquals(rotationAboutZ(Math.PI / 4), frames.frames.get(2), DELTA);
+        for (float[] frame : frames.frames) {
+            double norm = 0;
+            for (float value : frame) {
+                norm += value * value;
+            }
+            assertEquals(1, norm, DELTA);
+        }
+    }
+
+    @Test
+    public void holdsStalledChannelAfterMaxLookahead() {
+        SensorResampler resampler = newResampler(10 * MS, 50 * MS)
+                .addChannel(ACCELEROMETER, 1, SensorResampler.INTERPOLATE_LINEAR)
+                .addChannel(GYROSCOPE, 1, SensorResampler.INTERPOLATE_LINEAR)
+                .setListener(frames).build();
+        resampler.onSample(GYROSCOPE, 0, new float[]{5}, 1);
+        for (int i = 0; i <= 4; i++) {
+            resampler.onSample(ACCELEROMETER, i * 10 * MS, new float[]{i}, 1);
+        }
+        // The gyroscope may still catch up within the lookahead
+        assertEquals(1, frames.size());
+
+        for (int i = 5; i <= 20; i++) {
+            resampler.onSample(ACCELEROMETER, i * 10 * MS, new float[]{i}, 1);
+        }
+        // Frames trail the newest sample by the lookahead
+        assertEquals(16, frames.size());
+        assertEquals(150 * MS, (long) frames.timestamps.get(15));
+        int accelerometer = resampler.getChannelOffset(ACCELEROMETER);
+        int gyroscope = resampler.getChannelOffset(GYROSCOPE);
+        for (int i = 0; i < frames.size(); i++) {
+            assertEquals(i, frames.frames.get(i)[accelerometer], DELTA);
+            assertEquals(5, frames.frames.get(i)[gyroscope], DELTA);
+        }
+        assertEquals(15, resampler.getHeldFrameCount());
+
+        resampler.flush();
+        assertEquals(21, frames.size());
+        assertEquals(200 * MS, (long) frames.timestamps.get(20));
+    }
+
+    @Test
+    public void dropsOutOfOrderSamples() {
+        SensorResampler resampler = newResampler(10 * MS, 0).addChannel(ACCELEROMETER, 1, SensorResampler.INTERPOLATE_LINEAR)
+                .setListener(frames).build();
+        resampler.onSample(ACCELEROMETER, 0, new float[]{0}, 1);
+        resampler.onSample(ACCELEROMETER, 20 * MS, new float[]{2}, 1);
+        // Older than the latest sample, and a repeat of it
+        resampler.onSample(ACCELEROMETER, 10 * MS, new float[]{100}, 1);
+        resampler.onSample(ACCELEROMETER, 20 * MS, new float[]{100}, 1);
+        resampler.onSample(ACCELEROMETER, 30 * MS, new float[]{3}, 1);
+
+        assertEquals(2, resampler.getDroppedSampleCount());
+        assertEquals(4, frames.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i * 10 * MS, (long) frames.timestamps.get(i));
+            assertEquals(i, frames.frames.get(i)[0], DELTA);
+        }
+    }
+
+    private static SensorResampler.Builder newResampler(long framePeriod, long maxLookahead) {
+        return new SensorResampler.Builder().setFramePeriod(framePeriod).setMaxLookahead(maxLookahead);
+    }
+
+    /**
+     * @return x, y, z, w quaternion of a rotation by angle radians about the z axis.
+     */
+    private static float[] rotationAboutZ(double angle) {
+        return new float[]{0, 0, (float) Math.sin(angle / 2), (float) Math.cos(angle / 2)};
+    }
+
+    private static class RecordingListener implements SensorResampler.Listener {
+        final List<Long> timestamps = new ArrayList<>();
+        final List<float[]> frames = new ArrayList<>();
+
+        @Override
+        public void onFrame(long timestamp, float[] frame) {
+            timestamps.add(timestamp);
+            frames.add(frame.clone());
+        }
+
+        int size() {
+            return timestamps.size();
+        }
+
+        void clear() {
+            timestamps.clear();
+            frames.clear();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.zackmathews.unifyidchallenge;
+
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Round trips entries through the file of @see {@link SessionCatalog} by loading it again with a new catalog.
+ */
+public class SessionCatalogTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file;
+
+    @Before
+    public void setUp() {
+        file = new File(folder.getRoot(), "catalog");
+    }
+
+    @Test
+    public void roundTripsEntries() throws IOException {
+        SessionCatalog catalog = new SessionCatalog(file);
+        catalog.add(entry("ID_SENSOR_1", 100));
+        catalog.add(entry("ID_SENSOR_2", 200));
+
+        List<UnifyChallengeProto.CatalogEntry> entries = new SessionCatalog(file).getEntries();
+        assertEquals(Arrays.asList(entry("ID_SENSOR_1", 100), entry("ID_SENSOR_2", 200)), entries);
+    }
+
+    @Test
+    public void laterRecordReplacesEarlierOne() throws IOException {
+        SessionCatalog catalog = new SessionCatalog(file);
+        catalog.add(entry("ID_SENSOR_1", 100));
+        catalog.add(entry("ID_SENSOR_2", 200));
+        catalog.setUploadState(Collections.singletonList("ID_SENSOR_1"), UnifyChallengeProto.UploadState.UPLOADED, "batch");
+        // Replacing an entry keeps its place in the order sessions were first recorded
+        catalog.add(entry("ID_SENSOR_2", 300));
+
+        SessionCatalog loaded = new SessionCatalog(file);
+        List<UnifyChallengeProto.CatalogEntry> entries = loaded.getEntries();
+        assertEquals(2, entries.size());
+        assertEquals("ID_SENSOR_1", entries.get(0).getName());
+        assertEquals(UnifyChallengeProto.UploadState.UPLOADED, entries.get(0).getUploadState());
+        assertEquals("batch", entries.get(0).getBatchId());
+        assertEquals(entry("ID_SENSOR_2", 300), entries.get(1));
+
+        loaded.remove("ID_SENSOR_1");
+        assertEquals(Collections.singletonList(entry("ID_SENSOR_2", 300)), new SessionCatalog(file).getEntries());
+        assertNull(new SessionCatalog(file).getEntry("ID_SENSOR_1"));
+    }
+
+    @Test
+    public void loadCutsTornRecord() throws IOException {
+        SessionCatalog catalog = new SessionCatalog(file);
+        catalog.add(entry("ID_SENSOR_1", 100));
+        catalog.add(entry("ID_SENSOR_2", 200));
+        long intactLength = file.length();
+        // The process died halfway through appending a record
+        byte[] record = delimited(entry("ID_SENSOR_3", 300));
+        try (FileOutputStream stream = new FileOutputStream(file, true)) {
+            stream.write(record, 0, record.length / 2);
+        }
+
+        SessionCatalog loaded = new SessionCatalog(file);
+        assertEquals(Arrays.asList(entry("ID_SENSOR_1", 100), entry("ID_SENSOR_2", 200)), loaded.getEntries());
+        assertEquals(intactLength, file.length());
+
+        // Records appended after the cut are read back
+        loaded.add(entry("ID_SENSOR_3", 300));
+        assertEquals(Arrays.asList(entry("ID_SENSOR_1", 100), entry("ID_SENSOR_2", 200), entry("ID_SENSOR_3", 300)),
+                new SessionCatalog(file).getEntries());
+    }
+
+    @Test
+    public void loadCutsRecordTornBetweenFields() throws IOException {
+        SessionCatalog catalog = new SessionCatalog(file);
+        catalog.add(entry("ID_SENSOR_1", 100));
+        long intactLength = file.length();
+        // Cut right before the upload state, the last field of the replacing record
+        byte[] record = delimited(entry("ID_SENSOR_1", 300).toBuilder()
+                .setUploadState(UnifyChallengeProto.UploadState.UPLOADED).build());
+        try (FileOutputStream stream = new FileOutputStream(file, true)) {
+            stream.write(record, 0, record.length - 2);
+        }
+
+        assertEquals(Collections.singletonList(entry("ID_SENSOR_1", 100)), new SessionCatalog(file).getEntries());
+        assertEquals(intactLength, file.length());
+    }
+
+    @Test
+    public void compactsOnceReplacedRecordsOutnumberLiveOnes() throws IOException {
+        SessionCatalog catalog = new SessionCatalog(file);
+        for (int i = 0; i < 10; i++) {
+            catalog.add(entry("ID_SENSOR_" + i, i));
+        }
+        // 70 records, more than twice the 10 live ones
+        for (int i = 0; i < 60; i++) {
+            catalog.add(entry("ID_SENSOR_0", i));
+        }
+        List<UnifyChallengeProto.CatalogEntry> live = catalog.getEntries();
+        long uncompactedLength = file.length();
+
+        assertEquals(live, new SessionCatalog(file).getEntries());
+        assertTrue(file.length() < uncompactedLength);
+        assertEquals(delimited(live).length, file.length());
+        assertEquals(live, new SessionCatalog(file).getEntries());
+        assertFalse(new File(folder.getRoot(), "catalog.tmp").exists());
+    }
+
+    @Test
+    public void keepsFewReplacedRecords() throws IOException {
+        SessionCatalog catalog = new SessionCatalog(file);
+        catalog.add(entry("ID_SENSOR_1", 100));
+        // Outnumbered by replaced records, but too few to be worth rewriting the file
+        for (int i = 0; i < 30; i++) {
+            catalog.add(entry("ID_SENSOR_2", i));
+        }
+        long length = file.length();
+
+        assertEquals(2, new SessionCatalog(file).getEntries().size());
+        assertEquals(length, file.length());
+    }
+
+    private static UnifyChallengeProto.CatalogEntry entry(String name, long sizeBytes) {
+        return UnifyChallengeProto.CatalogEntry.newBuilder()
+                .setName(name)
+                .setSizeBytes(sizeBytes)
+                .setUploadState(UnifyChallengeProto.UploadState.NOT_UPLOADED)
+                .build();
+    }
+
+    private static byte[] delimited(UnifyChallengeProto.CatalogEntry entry) throws IOException {
+        return delimited(Collections.singletonList(entry));
+    }
+
+    private static byte[] delimited(List<UnifyChallengeProto.CatalogEntry> entries) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        for (UnifyChallengeProto.CatalogEntry entry : entries) {
+            entry.writeDelimitedTo(stream);
+        }
+        return stream.toByteArray();
+    }
+}
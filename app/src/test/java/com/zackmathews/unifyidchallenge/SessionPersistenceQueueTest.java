@@ -0,0 +1,193 @@
+package com.zackmathews.unifyidchallenge;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Hands sessions to @see {@link SessionPersistenceQueue} and checks which files are left in its directory.
+ */
+public class SessionPersistenceQueueTest {
+    private static final int ACCELEROMETER = 1;
+    private static final String MARKER = "ID_SENSOR_MARKER";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final BlockingQueue<File> persisted = new LinkedBlockingQueue<>();
+    private final SessionPersistenceQueue.Listener listener = new SessionPersistenceQueue.Listener() {
+        @Override
+        public void onSessionPersisted(File session) {
+            persisted.add(session);
+        }
+    };
+    private File directory;
+
+    @Before
+    public void setUp() {
+        directory = folder.getRoot();
+    }
+
+    @Test
+    public void failedRewriteKeepsJournal() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        PublicKey recipient = generator.generateKeyPair().getPublic();
+        SessionPersistenceQueue queue = new SessionPersistenceQueue(directory, SessionCodecs.DEFLATE, recipient);
+        queue.setListener(listener);
+        // The compacted session can't be created where a directory is in the way
+        assertTrue(new File(directory, "ID_SENSOR_1.compacted").mkdir());
+        File partialFile = new File(directory, "ID_SENSOR_1" + SessionPersistenceQueue.PARTIAL_SUFFIX);
+        ColumnarSessionWriter writer = ColumnarSessionWriter.open(partialFile);
+        writeSamples(writer, 100, new float[]{0, 2.5f, 3.7f});
+        queue.enqueue(writer, partialFile, null);
+        awaitIdle(queue);
+
+        assertTrue(partialFile.exists());
+        assertEquals(100, countSamples(partialFile));
+        assertFalse(new File(directory, "ID_SENSOR_1").exists());
+        assertFalse(new File(directory, "ID_SENSOR_1" + SessionPersistenceQueue.PENDING_SUFFIX).exists());
+    }
+
+    @Test
+    public void recoverSalvagesJournalUpToTornTail() throws Exception {
+        float[] values = {0, 2.5f, 3.7f};
+        File partialFile = writeJournal("ID_SENSOR_2", 5000, values);
+        // Cut into the last chunk, which holds everything past the first four full chunks
+        truncate(partialFile, 7);
+        SessionPersistenceQueue queue = new SessionPersistenceQueue(directory);
+        queue.setListener(listener);
+        queue.recover();
+        awaitIdle(queue);
+
+        File session = new File(directory, "ID_SENSOR_2");
+        assertTrue(session.exists());
+        assertFalse(partialFile.exists());
+        assertFalse(new File(directory, "ID_SENSOR_2.compacted").exists());
+        int salvaged = 4 * ColumnarSessionWriter.DEFAULT_CHUNK_SAMPLES;
+        try (SessionReader reader = SessionReader.open(session)) {
+            for (int i = 0; i < salvaged; i++) {
+                assertTrue(reader.next());
+                assertEquals(ACCELEROMETER, reader.getSensorId());
+                assertEquals(i * 5L, reader.getTimestamp());
+                assertEquals(values.length, reader.getValueCount());
+                for (int axis = 0; axis < values.length; axis++) {
+                    assertEquals(values[axis], reader.getValue(axis), 0);
+                }
+            }
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    public void recoverPersistsPendingSession() throws Exception {
+        File pendingFile = new File(directory, "ID_SENSOR_3" + SessionPersistenceQueue.PENDING_SUFFIX);
+        try (ColumnarSessionWriter writer = ColumnarSessionWriter.open(pendingFile)) {
+            // Pending sessions are persisted as they are, whatever they hold
+            writeSamples(writer, 10, new float[]{0, 0, 9.8f});
+        }
+        SessionPersistenceQueue queue = new SessionPersistenceQueue(directory);
+        queue.setListener(listener);
+        queue.recover();
+        awaitIdle(queue);
+
+        File session = new File(directory, "ID_SENSOR_3");
+        assertFalse(pendingFile.exists());
+        assertTrue(session.exists());
+        assertEquals(10, countSamples(session));
+    }
+
+    @Test
+    public void recoverKeepsJournalIfRewriteFails() throws Exception {
+        File partialFile = writeJournal("ID_SENSOR_4", 100, new float[]{0, 2.5f, 3.7f});
+        assertTrue(new File(directory, "ID_SENSOR_4.compacted").mkdir());
+        SessionPersistenceQueue queue = new SessionPersistenceQueue(directory);
+        queue.setListener(listener);
+        queue.recover();
+        awaitIdle(queue);
+
+        assertTrue(partialFile.exists());
+        assertEquals(100, countSamples(partialFile));
+        assertFalse(new File(directory, "ID_SENSOR_4").exists());
+    }
+
+    @Test
+    public void recoverDiscardsSessionThatIsNotCallAnswerMotion() throws Exception {
+        // Lying flat, gravity is all on z
+        File partialFile = writeJournal("ID_SENSOR_5", 1000, new float[]{0, 0, 9.8f});
+        SessionPersistenceQueue queue = new SessionPersistenceQueue(directory);
+        queue.setListener(listener);
+        queue.recover();
+        awaitIdle(queue);
+
+        assertFalse(partialFile.exists());
+        assertFalse(new File(directory, "ID_SENSOR_5").exists());
+        assertFalse(new File(directory, "ID_SENSOR_5.compacted").exists());
+        assertFalse(new File(directory, "ID_SENSOR_5" + SessionPersistenceQueue.PENDING_SUFFIX).exists());
+        assertTrue(persisted.isEmpty());
+    }
+
+    /**
+     * Persists a marker session behind everything queued so far, the queue runs its jobs in order.
+     */
+    private void awaitIdle(SessionPersistenceQueue queue) throws IOException, InterruptedException {
+        File partialFile = new File(directory, MARKER + SessionPersistenceQueue.PARTIAL_SUFFIX);
+        ColumnarSessionWriter writer = ColumnarSessionWriter.open(partialFile);
+        writeSamples(writer, 1, new float[]{0, 0, 0});
+        queue.enqueue(writer, partialFile, null);
+        File session;
+        do {
+            session = persisted.poll(10, TimeUnit.SECONDS);
+            assertNotNull("The queue never got to the marker session", session);
+        } while (!session.getName().equals(MARKER));
+        assertTrue(session.delete());
+    }
+
+    /**
+     * Writes the journal of a session that was still being captured when the process died.
+     */
+    private File writeJournal(String name, int sampleCount, float[] values) throws IOException {
+        File partialFile = new File(directory, name + SessionPersistenceQueue.PARTIAL_SUFFIX);
+        try (ColumnarSessionWriter writer = ColumnarSessionWriter.open(partialFile)) {
+            writeSamples(writer, sampleCount, values);
+        }
+        return partialFile;
+    }
+
+    private static void truncate(File file, int bytes) throws IOException {
+        try (RandomAccessFile access = new RandomAccessFile(file, "rw")) {
+            access.setLength(access.length() - bytes);
+        }
+    }
+
+    /**
+     * Writes samples 5ms apart. Without a clock anchor timestamps are in milliseconds.
+     */
+    private static void writeSamples(ColumnarSessionWriter writer, int sampleCount, float[] values) throws IOException {
+        for (int i = 0; i < sampleCount; i++) {
+            writer.writeSample(ACCELEROMETER, i * 5L, values, values.length);
+        }
+    }
+
+    private static int countSamples(File session) throws IOException {
+        int sampleCount = 0;
+        try (SessionReader reader = SessionReader.open(session)) {
+            while (reader.next()) {
+                sampleCount++;
+            }
+        }
+        return sampleCount;
+    }
+}
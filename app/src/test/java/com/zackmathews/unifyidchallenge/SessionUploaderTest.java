@@ -0,0 +1,348 @@
+package com.zackmathews.unifyidchallenge;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs @see {@link SessionUploader} against an in-process HTTP server that implements the upload protocol.
+ */
+public class SessionUploaderTest {
+    private static final int CHUNK_BYTES = 1000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private MockUploadServer server;
+    private File sessionDirectory;
+    private File uploadDirectory;
+    private final Map<String, byte[]> sessions = new HashMap<>();
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockUploadServer();
+        sessionDirectory = folder.newFolder("files");
+        uploadDirectory = new File(sessionDirectory, "uploads");
+    }
+
+    @After
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void uploadsSessionsInBoundedBatches() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            writeSession(i, 3000);
+        }
+        RecordingListener listener = new RecordingListener(3, 0);
+        SessionUploader uploader = newUploader(7000, 2, 1, listener);
+        uploader.uploadPending();
+        assertTrue(listener.await());
+        uploader.shutdown();
+
+        assertEquals(3, server.completedBatches.size());
+        Map<String, byte[]> uploaded = new HashMap<>();
+        for (byte[] batch : server.completedBatches.values()) {
+            UnifyChallengeProto.SessionBatch sessionBatch = UnifyChallengeProto.SessionBatch.parseFrom(batch);
+            assertTrue(sessionBatch.getSessionsCount() <= 2);
+            for (UnifyChallengeProto.BatchedSession session : sessionBatch.getSessionsList()) {
+                uploaded.put(session.getName(), session.getSession().toByteArray());
+            }
+        }
+        assertEquals(sessions.keySet(), uploaded.keySet());
+        for (String name : sessions.keySet()) {
+            assertArrayEquals(sessions.get(name), uploaded.get(name));
+            assertFalse(new File(sessionDirectory, name).exists());
+        }
+        assertTrue(server.maxConcurrentRequests <= 2);
+        assertEquals(0, readManifest().getBatchesCount());
+    }
+
+    @Test
+    public void retriesFailedRequests() throws Exception {
+        writeSession(0, 4500);
+        server.failNextRequests = 3;
+        RecordingListener listener = new RecordingListener(1, 0);
+        SessionUploader uploader = newUploader(SessionUploader.DEFAULT_MAX_BATCH_BYTES, 2, 5, listener);
+        uploader.uploadPending();
+        assertTrue(listener.await());
+        uploader.shutdown();
+
+        assertEquals(1, server.completedBatches.size());
+        byte[] batch = server.completedBatches.values().iterator().next();
+        UnifyChallengeProto.BatchedSession session = UnifyChallengeProto.SessionBatch.parseFrom(batch).getSessions(0);
+        assertArrayEquals(sessions.get(session.getName()), session.getSession().toByteArray());
+    }
+
+    @Test
+    public void resumesFromManifestWithoutResendingChunks() throws Exception {
+        writeSession(0, 6000);
+        server.failChunksFrom = 2;
+        RecordingListener failed = new RecordingListener(0, 1);
+        SessionUploader uploader = newUploader(SessionUploader.DEFAULT_MAX_BATCH_BYTES, 1, 1, failed);
+        uploader.uploadPending();
+        assertTrue(failed.await());
+        uploader.shutdown();
+        assertTrue(server.completedBatches.isEmpty());
+        assertEquals(Arrays.asList(0, 1), readManifest().getBatches(0).getUploadedChunksList());
+
+        // A new process picks up the manifest
+        server.failChunksFrom = Integer.MAX_VALUE;
+        server.receivedChunks.clear();
+        RecordingListener uploaded = new RecordingListener(1, 0);
+        uploader = newUploader(SessionUploader.DEFAULT_MAX_BATCH_BYTES, 2, 1, uploaded);
+        uploader.uploadPending();
+        assertTrue(uploaded.await());
+        uploader.shutdown();
+
+        assertFalse(server.receivedChunks.contains(0));
+        assertFalse(server.receivedChunks.contains(1));
+        assertEquals(1, server.completedBatches.size());
+        byte[] batch = server.completedBatches.values().iterator().next();
+        UnifyChallengeProto.BatchedSession session = UnifyChallengeProto.SessionBatch.parseFrom(batch).getSessions(0);
+        assertArrayEquals(sessions.get(session.getName()), session.getSession().toByteArray());
+        assertEquals(0, readManifest().getBatchesCount());
+    }
+
+    @Test
+    public void keepsUploadingWhenManifestCantBeWritten() throws Exception {
+        writeSession(0, 4500);
+        server.onChunk = new Runnable() {
+            @Override
+            public void run() {
+                // The manifest's temp file can't be opened once it is a directory
+                new File(uploadDirectory, "manifest.tmp").mkdir();
+            }
+        };
+        RecordingListener listener = new RecordingListener(1, 0);
+        SessionUploader uploader = newUploader(SessionUploader.DEFAULT_MAX_BATCH_BYTES, 2, 3, listener);
+        uploader.uploadPending();
+        assertTrue(listener.await());
+        uploader.shutdown();
+
+        // Every chunk is sent once, a failed manifest write isn't retried as a failed chunk
+        List<Integer> received = new ArrayList<>(server.receivedChunks);
+        Collections.sort(received);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), received);
+        assertEquals(1, server.completedBatches.size());
+        byte[] batch = server.completedBatches.values().iterator().next();
+        UnifyChallengeProto.BatchedSession session = UnifyChallengeProto.SessionBatch.parseFrom(batch).getSessions(0);
+        assertArrayEquals(sessions.get(session.getName()), session.getSession().toByteArray());
+    }
+
+    @Test
+    public void skipsSessionsTooLargeToBatch() throws Exception {
+        writeSession(0, 3000);
+        // Sparse, its length no longer fits an int
+        File tooLarge = new File(sessionDirectory, String.format("ID_SENSOR_%d", 1596864527001L));
+        try (RandomAccessFile file = new RandomAccessFile(tooLarge, "rw")) {
+            file.setLength(1L << 31);
+        }
+        RecordingListener listener = new RecordingListener(1, 0);
+        SessionUploader uploader = newUploader(SessionUploader.DEFAULT_MAX_BATCH_BYTES, 2, 1, listener);
+        uploader.uploadPending();
+        assertTrue(listener.await());
+        uploader.shutdown();
+
+        assertEquals(1, server.completedBatches.size());
+        byte[] batch = server.completedBatches.values().iterator().next();
+        UnifyChallengeProto.SessionBatch sessionBatch = UnifyChallengeProto.SessionBatch.parseFrom(batch);
+        assertEquals(1, sessionBatch.getSessionsCount());
+        UnifyChallengeProto.BatchedSession session = sessionBatch.getSessions(0);
+        assertArrayEquals(sessions.get(session.getName()), session.getSession().toByteArray());
+        assertTrue(tooLarge.exists());
+        assertEquals(0, readManifest().getBatchesCount());
+    }
+
+    private SessionUploader newUploader(long maxBatchBytes, int maxParallelUploads, int maxAttempts, SessionUploader.Listener listener) {
+        return new SessionUploader.Builder()
+                .setEndpoint(server.getEndpoint())
+                .setDirectories(sessionDirectory, uploadDirectory)
+                .setMaxBatchBytes(maxBatchBytes)
+                .setChunkBytes(CHUNK_BYTES)
+                .setMaxParallelUploads(maxParallelUploads)
+                .setRetryPolicy(maxAttempts, 10)
+                .setListener(listener)
+                .build();
+    }
+
+    private void writeSession(int index, int size) throws IOException {
+        byte[] session = new byte[size];
+        new Random(index).nextBytes(session);
+        String name = String.format("ID_SENSOR_%d", 1596864527000L + index);
+        try (FileOutputStream stream = new FileOutputStream(new File(sessionDirectory, name))) {
+            stream.write(session);
+        }
+        sessions.put(name, session);
+    }
+
+    private UnifyChallengeProto.UploadManifest readManifest() throws IOException {
+        try (InputStream stream = new FileInputStream(new File(uploadDirectory, "manifest"))) {
+            return UnifyChallengeProto.UploadManifest.parseFrom(stream);
+        }
+    }
+
+    private static class RecordingListener implements SessionUploader.Listener {
+        private final CountDownLatch uploaded;
+        private final CountDownLatch failed;
+
+        RecordingListener(int uploadedBatches, int failedBatches) {
+            uploaded = new CountDownLatch(uploadedBatches);
+            failed = new CountDownLatch(failedBatches);
+        }
+
+        @Override
+        public void onBatchUploaded(String batchId, List<String> sessions) {
+            uploaded.countDown();
+        }
+
+        @Override
+        public void onBatchFailed(String batchId) {
+            failed.countDown();
+        }
+
+        boolean await() throws InterruptedException {
+            return uploaded.await(10, TimeUnit.SECONDS) && failed.await(10, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Stores chunks by their Content-Range and assembles a batch when it is completed.
+     */
+    private static class MockUploadServer implements HttpHandler {
+        private static final Pattern CHUNK_PATH = Pattern.compile("/batches/([^/]+)/chunks/(\\d+)");
+        private static final Pattern COMPLETE_PATH = Pattern.compile("/batches/([^/]+)/complete");
+        private static final Pattern CONTENT_RANGE = Pattern.compile("bytes (\\d+)-(\\d+)/(\\d+)");
+
+        private final HttpServer server;
+        private final Map<String, TreeMap<Long, byte[]>> chunks = new HashMap<>();
+        private final Map<String, Long> sizes = new HashMap<>();
+        final Map<String, byte[]> completedBatches = Collections.synchronizedMap(new HashMap<String, byte[]>());
+        final List<Integer> receivedChunks = Collections.synchronizedList(new ArrayList<Integer>());
+        volatile int failNextRequests;
+        volatile int failChunksFrom = Integer.MAX_VALUE;
+        volatile int maxConcurrentRequests;
+        volatile Runnable onChunk;
+        private int concurrentRequests;
+
+        MockUploadServer() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/", this);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+        }
+
+        String getEndpoint() {
+            return String.format("http://127.0.0.1:%d/", server.getAddress().getPort());
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            synchronized (this) {
+                maxConcurrentRequests = Math.max(maxConcurrentRequests, ++concurrentRequests);
+            }
+            try {
+                byte[] body = readBody(exchange.getRequestBody());
+                // Keeps requests in flight long enough to overlap
+                Thread.sleep(10);
+                exchange.sendResponseHeaders(respond(exchange, body), -1);
+            } catch (InterruptedException e) {
+                exchange.sendResponseHeaders(500, -1);
+            } finally {
+                exchange.close();
+                synchronized (this) {
+                    concurrentRequests--;
+                }
+            }
+        }
+
+        private synchronized int respond(HttpExchange exchange, byte[] body) {
+            if (failNextRequests > 0) {
+                failNextRequests--;
+                return 503;
+            }
+            String path = exchange.getRequestURI().getPath();
+            Matcher chunk = CHUNK_PATH.matcher(path);
+            if (chunk.matches() && "PUT".equals(exchange.getRequestMethod())) {
+                int index = Integer.parseInt(chunk.group(2));
+                if (index >= failChunksFrom) return 503;
+                Matcher range = CONTENT_RANGE.matcher(exchange.getRequestHeaders().getFirst("Content-Range"));
+                if (!range.matches()) return 400;
+                long start = Long.parseLong(range.group(1));
+                if (Long.parseLong(range.group(2)) - start + 1 != body.length) return 400;
+                String batchId = chunk.group(1);
+                if (!chunks.containsKey(batchId)) {
+                    chunks.put(batchId, new TreeMap<Long, byte[]>());
+                }
+                chunks.get(batchId).put(start, body);
+                sizes.put(batchId, Long.parseLong(range.group(3)));
+                receivedChunks.add(index);
+                if (onChunk != null) {
+                    onChunk.run();
+                }
+                return 200;
+            }
+            Matcher complete = COMPLETE_PATH.matcher(path);
+            if (complete.matches() && "POST".equals(exchange.getRequestMethod())) {
+                String batchId = complete.group(1);
+                if (completedBatches.containsKey(batchId)) return 200;
+                if (!chunks.containsKey(batchId)) return 404;
+                ByteArrayOutputStream batch = new ByteArrayOutputStream();
+                for (Map.Entry<Long, byte[]> entry : chunks.get(batchId).entrySet()) {
+                    if (entry.getKey() != batch.size()) return 409;
+                    batch.write(entry.getValue(), 0, entry.getValue().length);
+                }
+                if (batch.size() != sizes.get(batchId)) return 409;
+                completedBatches.put(batchId, batch.toByteArray());
+                return 200;
+            }
+            return 404;
+        }
+
+        private static byte[] readBody(InputStream stream) throws IOException {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                body.write(buffer, 0, read);
+            }
+            return body.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.zackmathews.unifyidchallenge.benchmark;
+
+import com.zackmathews.unifyidchallenge.CallAnswerMotionDetector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of classifying a whole session.
+ * The legacy classifier scans the stored session once capture ends, the streaming detector
+ * pays per sample while capturing and answers in constant time at the end, so both halves are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClassifierBenchmark {
+    @Param({SensorStream.SYNTHETIC, SensorStream.SAMPLE_FILE})
+    public String source;
+
+    @Param({"10000"})
+    public int samples;
+
+    private SensorStream stream;
+    private List<LegacyPipeline.Packet> accelerometerPackets;
+    private final CallAnswerMotionDetector detector = new CallAnswerMotionDetector();
+    private final CallAnswerMotionDetector fedDetector = new CallAnswerMotionDetector();
+
+    @Setup
+    public void setup() throws IOException {
+        stream = SensorStream.create(source, samples);
+        // The original capture only stored accelerometer samples
+        accelerometerPackets = new ArrayList<>();
+        for (int i = 0; i < stream.size; i++) {
+            if (stream.sensorIds[i] == SensorStream.ACCELEROMETER) {
+                accelerometerPackets.add(LegacyPipeline.replay(stream.sensorNames[i], stream.timestamps[i], stream.values[i]));
+            }
+        }
+        feed(fedDetector);
+    }
+
+    @Benchmark
+    public boolean legacyTwoPointer() {
+        return LegacyPipeline.isSimpleCallAnswerMotion(accelerometerPackets);
+    }
+
+    @Benchmark
+    public boolean streamingSession() {
+        detector.reset();
+        feed(detector);
+        return detector.isSimpleCallAnswerMotion();
+    }
+
+    @Benchmark
+    public boolean streamingDecision() {
+        return fedDetector.isSimpleCallAnswerMotion();
+    }
+
+    private void feed(CallAnswerMotionDetector target) {
+        for (int i = 0; i < stream.size; i++) {
+            float[] values = stream.values[i];
+            target.onSample(stream.sensorIds[i], stream.eventTimes[i], values, values.length);
+        }
+    }
+}
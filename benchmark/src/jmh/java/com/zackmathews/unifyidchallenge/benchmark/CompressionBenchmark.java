@@ -0,0 +1,97 @@
+package com.zackmathews.unifyidchallenge.benchmark;
+
+import com.zackmathews.unifyidchallenge.ColumnCompression;
+import com.zackmathews.unifyidchallenge.ColumnarSessionWriter;
+import com.zackmathews.unifyidchallenge.SessionCodec;
+import com.zackmathews.unifyidchallenge.SessionCodecs;
+import com.zackmathews.unifyidchallenge.SessionReader;
+import com.zackmathews.unifyidchallenge.SessionWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of compressing and decompressing a session per sample, for each codec and transform.
+ * The size each combination compresses to is printed after the trial, next to the uncompressed version 2 size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(CompressionBenchmark.SAMPLES)
+public class CompressionBenchmark {
+    static final int SAMPLES = 20000;
+
+    @Param({SensorStream.SYNTHETIC, SensorStream.SAMPLE_FILE})
+    public String source;
+
+    @Param({"none", "deflate1", "deflate6", "deflate9"})
+    public String codec;
+
+    @Param({"" + ColumnCompression.TRANSFORM_NONE, "" + ColumnCompression.TRANSFORM_DELTA_XOR})
+    public int transform;
+
+    private SensorStream stream;
+    private SessionCodec sessionCodec;
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private byte[] session;
+    private int uncompressedSize;
+
+    @Setup
+    public void setup() throws IOException {
+        stream = SensorStream.create(source, SAMPLES);
+        sessionCodec = "none".equals(codec) ? SessionCodecs.NONE : SessionCodecs.deflate(Integer.parseInt(codec.substring("deflate".length())));
+        session = write();
+        output.reset();
+        uncompressedSize = write(new ColumnarSessionWriter(output)).length;
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.println(String.format("%n%s, %s, transform %d: %d bytes, %.2f bytes per sample, %.2fx smaller than version 2",
+                source, codec, transform, session.length, (double) session.length / stream.size, (double) uncompressedSize / session.length));
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        output.reset();
+        return write(new ColumnarSessionWriter(output, ColumnarSessionWriter.DEFAULT_COMPRESSED_CHUNK_SAMPLES, sessionCodec, transform));
+    }
+
+    private byte[] write(SessionWriter writer) throws IOException {
+        try {
+            for (int i = 0; i < stream.size; i++) {
+                float[] values = stream.values[i];
+                writer.writeSample(stream.sensorIds[i], stream.eventTimes[i], values, values.length);
+            }
+        } finally {
+            writer.close();
+        }
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public void read(Blackhole blackhole) throws IOException {
+        try (SessionReader reader = new SessionReader(new ByteArrayInputStream(session))) {
+            while (reader.next()) {
+                blackhole.consume(reader.getTimestamp());
+                for (int i = 0; i < reader.getValueCount(); i++) {
+                    blackhole.consume(reader.getValue(i));
+                }
+            }
+        }
+    }
+}
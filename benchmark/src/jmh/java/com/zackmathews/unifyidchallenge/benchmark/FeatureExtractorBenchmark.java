@@ -0,0 +1,114 @@
+package com.zackmathews.unifyidchallenge.benchmark;
+
+import com.zackmathews.unifyidchallenge.ColumnCompression;
+import com.zackmathews.unifyidchallenge.ColumnarSessionWriter;
+import com.zackmathews.unifyidchallenge.FeatureExtractor;
+import com.zackmathews.unifyidchallenge.SessionCodecs;
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of extracting windowed features, reported per input sample.
+ * After the trial, the size of a compressed session of features only is printed next to the compressed raw session.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(FeatureExtractorBenchmark.SAMPLES)
+public class FeatureExtractorBenchmark {
+    static final int SAMPLES = 10000;
+
+    @Param({SensorStream.SYNTHETIC, SensorStream.SAMPLE_FILE})
+    public String source;
+
+    @Param({"1000", "5000"})
+    public long windowMs;
+
+    private SensorStream stream;
+    private FeatureExtractor extractor;
+
+    @Setup
+    public void setup(final Blackhole blackhole) throws IOException {
+        stream = SensorStream.create(source, SAMPLES);
+        extractor = newExtractor().setListener(new FeatureExtractor.Listener() {
+            @Override
+            public void onFeatures(UnifyChallengeProto.FeatureWindow window) {
+                blackhole.consume(window);
+            }
+        }).build();
+    }
+
+    private FeatureExtractor.Builder newExtractor() {
+        return new FeatureExtractor.Builder()
+                .setWindow(TimeUnit.MILLISECONDS.toNanos(windowMs))
+                .addChannel(SensorStream.ACCELEROMETER, 3)
+                .addChannel(SensorStream.GYROSCOPE, 3)
+                .addChannel(SensorStream.ROTATION_VECTOR, 4);
+    }
+
+    @Benchmark
+    public long extract() {
+        extractor.reset();
+        for (int i = 0; i < stream.size; i++) {
+            float[] values = stream.values[i];
+            extractor.onSample(stream.sensorIds[i], stream.eventTimes[i], values, values.length);
+        }
+        extractor.flush();
+        return extractor.getWindowCount();
+    }
+
+    @TearDown
+    public void reportSize() throws IOException {
+        // Laps of the replayed recording repeat exactly and deflate far better than any real session, measure one pass
+        SensorStream stream = SensorStream.SAMPLE_FILE.equals(source) ? SensorStream.sampleFile() : this.stream;
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        try (ColumnarSessionWriter writer = newWriter(raw)) {
+            for (int i = 0; i < stream.size; i++) {
+                float[] values = stream.values[i];
+                writer.writeSample(stream.sensorIds[i], stream.eventTimes[i], values, values.length);
+            }
+        }
+        ByteArrayOutputStream features = new ByteArrayOutputStream();
+        try (final ColumnarSessionWriter writer = newWriter(features)) {
+            FeatureExtractor extractor = newExtractor().build();
+            writer.writeFeatureConfig(extractor.getConfig());
+            extractor.setListener(new FeatureExtractor.Listener() {
+                @Override
+                public void onFeatures(UnifyChallengeProto.FeatureWindow window) {
+                    try {
+                        writer.writeFeatureWindow(window);
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+            for (int i = 0; i < stream.size; i++) {
+                float[] values = stream.values[i];
+                extractor.onSample(stream.sensorIds[i], stream.eventTimes[i], values, values.length);
+            }
+            extractor.flush();
+        }
+        System.out.println(String.format("%n%s, %d samples, %dms windows: raw session %d bytes, features only %d bytes, %.1fx smaller",
+                source, stream.size, windowMs, raw.size(), features.size(), (double) raw.size() / features.size()));
+    }
+
+    private static ColumnarSessionWriter newWriter(ByteArrayOutputStream output) throws IOException {
+        return new ColumnarSessionWriter(output, ColumnarSessionWriter.DEFAULT_COMPRESSED_CHUNK_SAMPLES, SessionCodecs.DEFLATE,
+                ColumnCompression.TRANSFORM_DELTA_XOR);
+    }
+}
@@ -0,0 +1,120 @@
+package com.zackmathews.unifyidchallenge.benchmark;
+
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * The original capture, classification and persistence code,
+ * kept as a baseline so the benchmarks show what each change bought.
+ */
+final class LegacyPipeline {
+    static class Packet {
+        String sensorType;
+        Float[] values;
+        Date date;
+    }
+
+    private LegacyPipeline() {
+    }
+
+    static Packet capture(String sensorName, float[] eventValues) {
+        Packet packet = new Packet();
+        packet.date = new Date(System.currentTimeMillis());
+        packet.values = new Float[eventValues.length];
+        for (int i = 0; i < eventValues.length; i++) {
+            packet.values[i] = eventValues[i];
+        }
+        packet.sensorType = sensorName;
+        return packet;
+    }
+
+    /**
+     * Same as capture but stamped with the replayed time, so classification sees real windows.
+     */
+    static Packet replay(String sensorName, long timestamp, float[] eventValues) {
+        Packet packet = capture(sensorName, eventValues);
+        packet.date = new Date(timestamp);
+        return packet;
+    }
+
+    static boolean isSimpleCallAnswerMotion(List<Packet> packets) {
+        if (packets != null && packets.size() > 0) {
+            final long EVENT_WINDOW = 1000;
+
+            final float TABLE_Z_THRESHOLD = 3.7f;
+            final float TABLE_Z_DRIFT = .75f;
+            final float EAR_Y_THRESHOLD = 2.5f;
+            final float EAR_Y_DRIFT = .75f;
+
+            int length = packets.size();
+            Date start = packets.get(0).date;
+            Date end = (length - 1 > 0) ? packets.get(length - 1).date : null;
+            if (end == null) return false;
+
+            float[] startAvgAccelerometer = new float[3];
+            float[] endAvgAccelerometer = new float[3];
+            int lo = 1, hi = length - 1;
+            int loCount = 0, hiCount = 0;
+            boolean isFinishedLo = false;
+            boolean isFinishedHi = false;
+            while (lo < hi || (!isFinishedLo && !isFinishedHi)) {
+                Packet loPacket = packets.get(lo);
+                Packet hiPacket = packets.get(hi);
+                Date loTimestamp = loPacket.date;
+                Date hiTimestamp = hiPacket.date;
+                if (start.getTime() + EVENT_WINDOW > loTimestamp.getTime()) {
+                    startAvgAccelerometer[0] += Math.abs(loPacket.values[0]);
+                    startAvgAccelerometer[1] += Math.abs(loPacket.values[1]);
+                    startAvgAccelerometer[2] += Math.abs(loPacket.values[2]);
+                    loCount++;
+                } else {
+                    isFinishedLo = true;
+                }
+
+                if (end.getTime() - EVENT_WINDOW < hiTimestamp.getTime()) {
+                    endAvgAccelerometer[0] += Math.abs(hiPacket.values[0]);
+                    endAvgAccelerometer[1] += Math.abs(hiPacket.values[1]);
+                    endAvgAccelerometer[2] += Math.abs(hiPacket.values[2]);
+                    hiCount++;
+                } else {
+                    isFinishedHi = true;
+                }
+                lo++;
+                hi--;
+            }
+            startAvgAccelerometer[0] /= loCount;
+            startAvgAccelerometer[1] /= loCount;
+            startAvgAccelerometer[2] /= loCount;
+
+            endAvgAccelerometer[0] /= hiCount;
+            endAvgAccelerometer[1] /= hiCount;
+            endAvgAccelerometer[2] /= hiCount;
+
+            return startAvgAccelerometer[2] > TABLE_Z_THRESHOLD - TABLE_Z_DRIFT
+                    && startAvgAccelerometer[2] < TABLE_Z_THRESHOLD + TABLE_Z_DRIFT
+                    && endAvgAccelerometer[1] > EAR_Y_THRESHOLD - EAR_Y_DRIFT
+                    && endAvgAccelerometer[1] < EAR_Y_THRESHOLD + EAR_Y_DRIFT;
+        }
+        return false;
+    }
+
+    static void writeSession(List<Packet> packets, OutputStream stream) throws IOException {
+        List<UnifyChallengeProto.SensorData> sensorData = new ArrayList<>();
+        for (Packet packet : packets) {
+            List<Float> values = Arrays.asList(packet.values);
+            UnifyChallengeProto.SensorData data = UnifyChallengeProto.SensorData
+                    .newBuilder().addAllSensorValues(values)
+                    .setSensorType(packet.sensorType)
+                    .setTimestamp(packet.date.getTime()).build();
+            sensorData.add(data);
+        }
+        UnifyChallengeProto.SensorDataCollection collection = UnifyChallengeProto.SensorDataCollection.newBuilder().addAllSensorData(sensorData).build();
+        collection.writeTo(stream);
+    }
+}
@@ -0,0 +1,71 @@
+package com.zackmathews.unifyidchallenge.benchmark;
+
+import com.zackmathews.unifyidchallenge.MetricsRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-sample bookkeeping on the capture thread, reported per sample.
+ * The legacy variant builds the log line the repo used to pass to Log.d for every sample, without the logging itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(MetricsBenchmark.SAMPLES)
+public class MetricsBenchmark {
+    static final int SAMPLES = 10000;
+
+    @Param({SensorStream.SYNTHETIC, SensorStream.SAMPLE_FILE})
+    public String source;
+
+    private SensorStream stream;
+    private MetricsRegistry.Counter[] sampleCounters;
+    private MetricsRegistry.Gauge queueDepth;
+    private MetricsRegistry.Histogram callbackLatency;
+
+    @Setup
+    public void setup() throws IOException {
+        stream = SensorStream.create(source, SAMPLES);
+        MetricsRegistry metrics = new MetricsRegistry();
+        sampleCounters = new MetricsRegistry.Counter[64];
+        for (int i = 0; i < sampleCounters.length; i++) {
+            sampleCounters[i] = metrics.counter(String.format("capture.samples.%d", i));
+        }
+        queueDepth = metrics.gauge("capture.queueDepth");
+        callbackLatency = metrics.histogram("capture.callbackLatencyUs", MetricsRegistry.LATENCY_BOUNDS_US);
+    }
+
+    @Benchmark
+    public void legacyLogLine(Blackhole blackhole) {
+        for (int i = 0; i < stream.size; i++) {
+            float[] values = stream.values[i];
+            blackhole.consume(String.format("Received packet { type: %d, data: %s, date: %s",
+                    stream.sensorIds[i], Arrays.toString(Arrays.copyOf(values, values.length)),
+                    new Date(stream.timestamps[i])));
+        }
+    }
+
+    @Benchmark
+    public void metrics() {
+        long callbackNanos = System.nanoTime();
+        for (int i = 0; i < stream.size; i++) {
+            sampleCounters[stream.sensorIds[i] & 63].increment();
+            queueDepth.set(stream.size - i);
+            callbackLatency.record((System.nanoTime() - callbackNanos) / 1000);
+        }
+    }
+}
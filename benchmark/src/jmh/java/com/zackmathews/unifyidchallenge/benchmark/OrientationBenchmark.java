@@ -0,0 +1,102 @@
+package com.zackmathews.unifyidchallenge.benchmark;
+
+import com.zackmathews.unifyidchallenge.OrientationFilter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of computing orientation from accelerometer and gyroscope samples, reported per input sample.
+ * After the run, the filter's tilt is compared with the rotation vector recorded in SAMPLE_FILE_PROTO.
+ * Heading isn't compared, the filter has no magnetometer so its heading is relative to where it started.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(OrientationBenchmark.SAMPLES)
+public class OrientationBenchmark {
+    static final int SAMPLES = 10000;
+
+    @Param({SensorStream.SYNTHETIC, SensorStream.SAMPLE_FILE})
+    public String source;
+
+    @Param({"0.033", "0.1"})
+    public float beta;
+
+    private SensorStream stream;
+    private OrientationFilter filter;
+    private final float[] rotation = new float[4];
+
+    @Setup
+    public void setup() throws IOException {
+        stream = SensorStream.create(source, SAMPLES);
+        filter = new OrientationFilter(beta);
+    }
+
+    @Benchmark
+    public float fuse() {
+        filter.reset();
+        float sum = 0;
+        for (int i = 0; i < stream.size; i++) {
+            float[] values = stream.values[i];
+            filter.onSample(stream.sensorIds[i], stream.eventTimes[i], values, values.length);
+            // Read the orientation as often as the capture emits it
+            if (stream.sensorIds[i] == SensorStream.GYROSCOPE) {
+                filter.getRotationVector(rotation);
+                sum += rotation[3];
+            }
+        }
+        return sum;
+    }
+
+    @TearDown
+    public void reportAccuracy() throws IOException {
+        if (!SensorStream.SAMPLE_FILE.equals(source)) return;
+        SensorStream recording = SensorStream.sampleFile();
+        OrientationFilter filter = new OrientationFilter(beta);
+        float[] estimated = new float[3];
+        float[] recorded = new float[3];
+        double sum = 0;
+        double max = 0;
+        int count = 0;
+        for (int i = 0; i < recording.size; i++) {
+            float[] values = recording.values[i];
+            filter.onSample(recording.sensorIds[i], recording.eventTimes[i], values, values.length);
+            if (recording.sensorIds[i] != SensorStream.ROTATION_VECTOR || !filter.hasOrientation()) continue;
+            filter.getRotationVector(rotation);
+            toGravity(rotation, estimated);
+            toGravity(values, recorded);
+            double cos = estimated[0] * recorded[0] + estimated[1] * recorded[1] + estimated[2] * recorded[2];
+            double error = Math.toDegrees(Math.acos(Math.max(-1, Math.min(1, cos))));
+            sum += error;
+            max = Math.max(max, error);
+            count++;
+        }
+        System.out.println(String.format("%nbeta %.3f: tilt error against the recorded rotation vector mean %.2f deg, max %.2f deg over %d samples",
+                beta, sum / count, max, count));
+    }
+
+    /**
+     * Writes the world's up axis in device coordinates, the third row of the rotation matrix of an x, y, z, w quaternion.
+     */
+    private static void toGravity(float[] q, float[] out) {
+        float x = q[0];
+        float y = q[1];
+        float z = q[2];
+        float w = q[3];
+        out[0] = 2 * (x * z - w * y);
+        out[1] = 2 * (y * z + w * x);
+        out[2] = w * w - x * x - y * y + z * z;
+    }
+}
@@ -0,0 +1,74 @@
+package com.zackmathews.unifyidchallenge.benchmark;
+
+import com.zackmathews.unifyidchallenge.SensorDataPacket;
+import com.zackmathews.unifyidchallenge.SensorPacketPool;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a sensor callback into a packet, reported per sample.
+ * Run with the gc profiler to compare allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(PacketCaptureBenchmark.SAMPLES)
+public class PacketCaptureBenchmark {
+    static final int SAMPLES = 10000;
+
+    @Param({SensorStream.SYNTHETIC, SensorStream.SAMPLE_FILE})
+    public String source;
+
+    private SensorStream stream;
+    private SensorPacketPool pool;
+
+    @Setup
+    public void setup() throws IOException {
+        stream = SensorStream.create(source, SAMPLES);
+        pool = new SensorPacketPool(512);
+    }
+
+    /**
+     * Date, boxed Float[] and packet allocated for every event.
+     */
+    @Benchmark
+    public void legacyPacket(Blackhole blackhole) {
+        for (int i = 0; i < stream.size; i++) {
+            blackhole.consume(LegacyPipeline.capture(stream.sensorNames[i], stream.values[i]));
+        }
+    }
+
+    /**
+     * A primitive packet allocated for every event, as when no pool is configured.
+     */
+    @Benchmark
+    public void unpooledPacket(Blackhole blackhole) {
+        for (int i = 0; i < stream.size; i++) {
+            SensorDataPacket packet = new SensorDataPacket();
+            packet.set(stream.sensorIds[i], System.currentTimeMillis(), stream.values[i]);
+            blackhole.consume(packet);
+        }
+    }
+
+    @Benchmark
+    public void pooledPacket(Blackhole blackhole) {
+        for (int i = 0; i < stream.size; i++) {
+            SensorDataPacket packet = pool.obtain();
+            packet.set(stream.sensorIds[i], System.currentTimeMillis(), stream.values[i]);
+            blackhole.consume(packet);
+            packet.recycle();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.zackmathews.unifyidchallenge.benchmark;
+
+import com.zackmathews.unifyidchallenge.SensorResampler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of aligning accelerometer, gyroscope and rotation vector samples onto a common timeline, reported per input sample.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(ResamplerBenchmark.SAMPLES)
+public class ResamplerBenchmark {
+    static final int SAMPLES = 10000;
+
+    @Param({SensorStream.SYNTHETIC, SensorStream.SAMPLE_FILE})
+    public String source;
+
+    @Param({"5000", "20000"})
+    public int framePeriodUs;
+
+    private SensorStream stream;
+    private SensorResampler resampler;
+
+    @Setup
+    public void setup(final Blackhole blackhole) throws IOException {
+        stream = SensorStream.create(source, SAMPLES);
+        resampler = new SensorResampler.Builder()
+                .setFramePeriod(TimeUnit.MICROSECONDS.toNanos(framePeriodUs))
+                .setMaxLookahead(TimeUnit.MILLISECONDS.toNanos(250))
+                .addChannel(SensorStream.ACCELEROMETER, 3, SensorResampler.INTERPOLATE_LINEAR)
+                .addChannel(SensorStream.GYROSCOPE, 3, SensorResampler.INTERPOLATE_LINEAR)
+                .addChannel(SensorStream.ROTATION_VECTOR, 4, SensorResampler.INTERPOLATE_SLERP)
+                .setListener(new SensorResampler.Listener() {
+                    @Override
+                    public void onFrame(long timestamp, float[] frame) {
+                        blackhole.consume(frame);
+                    }
+                })
+                .build();
+    }
+
+    @Benchmark
+    public long resample() {
+        resampler.reset();
+        for (int i = 0; i < stream.size; i++) {
+            float[] values = stream.values[i];
+            resampler.onSample(stream.sensorIds[i], stream.eventTimes[i], values, values.length);
+        }
+        resampler.flush();
+        return resampler.getFrameCount();
+    }
+}
@@ -0,0 +1,140 @@
+package com.zackmathews.unifyidchallenge.benchmark;
+
+import com.zackmathews.unifyidchallenge.SessionReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A replayable stream of sensor samples, laid out as flat arrays so benchmarks don't allocate while replaying.
+ * Each sample has its own values array, like the SensorEvent.values the framework hands to a listener.
+ */
+final class SensorStream {
+    // Sensor.TYPE_* values, the benchmarks run without the Android framework
+    static final int ACCELEROMETER = 1;
+    static final int GYROSCOPE = 4;
+    static final int ROTATION_VECTOR = 11;
+
+    static final String SYNTHETIC = "synthetic";
+    static final String SAMPLE_FILE = "sample";
+
+    final int size;
+    final int[] sensorIds;
+    final String[] sensorNames;
+    // Wall clock milliseconds, as the legacy pipeline stamped samples
+    final long[] timestamps;
+    // The same times as sensor event time nanoseconds, as the app stamps samples now
+    final long[] eventTimes;
+    final float[][] values;
+
+    private SensorStream(int size) {
+        this.size = size;
+        sensorIds = new int[size];
+        sensorNames = new String[size];
+        timestamps = new long[size];
+        eventTimes = new long[size];
+        values = new float[size][];
+    }
+
+    static SensorStream create(String source, int size) throws IOException {
+        if (SYNTHETIC.equals(source)) return synthetic(size);
+        if (SAMPLE_FILE.equals(source)) return sampleFile(size);
+        throw new IllegalArgumentException("Unknown stream source " + source);
+    }
+
+    /**
+     * Accelerometer and gyroscope at 200Hz plus rotation vector at 50Hz, interleaved.
+     * The accelerometer lies flat for the first half of the stream and is held to the ear for the second.
+     */
+    static SensorStream synthetic(int size) {
+        SensorStream stream = new SensorStream(size);
+        Random random = new Random(42);
+        long start = 1596864527000L;
+        for (int i = 0; i < size; ) {
+            // Every 20ms: four accelerometer and four gyroscope samples, one rotation vector sample
+            int sensor = i % 9;
+            long timestamp = start + i / 9 * 20 + sensor % 4 * 5;
+            boolean isFlat = i < size / 2;
+            if (sensor < 4) {
+                stream.set(i++, ACCELEROMETER, "BMI160 Accelerometer", timestamp, isFlat
+                        ? new float[]{noise(random, .1f), noise(random, .2f), noise(random, 3.7f)}
+                        : new float[]{noise(random, .5f), noise(random, 2.5f), noise(random, 1f)});
+            } else if (sensor < 8) {
+                stream.set(i++, GYROSCOPE, "BMI160 Gyroscope", timestamp,
+                        new float[]{noise(random, 0f), noise(random, 0f), noise(random, 0f)});
+            } else {
+                stream.set(i++, ROTATION_VECTOR, "Rotation Vector Sensor", timestamp,
+                        new float[]{noise(random, .01f), noise(random, -.004f), noise(random, -.9f), noise(random, .4f), 1.57f});
+            }
+        }
+        return stream;
+    }
+
+    /**
+     * @return every sample of SAMPLE_FILE_PROTO exactly once, for comparing against the recording itself.
+     */
+    static SensorStream sampleFile() throws IOException {
+        return sampleFile(0);
+    }
+
+    /**
+     * Replays SAMPLE_FILE_PROTO, repeated with shifted timestamps until the stream holds size samples.
+     * The file location comes from the sample.file system property.
+     *
+     * @param size number of samples, 0 for a single pass over the file
+     */
+    static SensorStream sampleFile(int size) throws IOException {
+        File file = new File(System.getProperty("sample.file", "SAMPLE_FILE_PROTO"));
+        List<Long> times = new ArrayList<>();
+        List<float[]> samples = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        try (SessionReader reader = SessionReader.open(file)) {
+            while (reader.next()) {
+                float[] values = new float[reader.getValueCount()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = reader.getValue(i);
+                }
+                times.add(reader.getTimestamp());
+                samples.add(values);
+                names.add(reader.getSensorName());
+            }
+        }
+        if (samples.isEmpty()) throw new IOException("No samples in " + file);
+        long first = times.get(0);
+        long duration = times.get(times.size() - 1) - first + 1;
+        if (size == 0) {
+            size = samples.size();
+        }
+        SensorStream stream = new SensorStream(size);
+        for (int i = 0; i < size; i++) {
+            int source = i % samples.size();
+            long lap = i / samples.size();
+            String name = names.get(source);
+            stream.set(i, idForName(name), name, times.get(source) + lap * duration, samples.get(source));
+        }
+        return stream;
+    }
+
+    private static int idForName(String name) {
+        if (name.contains("Accelerometer")) return ACCELEROMETER;
+        if (name.contains("Gyroscope")) return GYROSCOPE;
+        if (name.contains("Rotation")) return ROTATION_VECTOR;
+        return 0;
+    }
+
+    private static float noise(Random random, float center) {
+        return center + (random.nextFloat() - .5f) * .1f;
+    }
+
+    private void set(int index, int sensorId, String sensorName, long timestamp, float[] sample) {
+        sensorIds[index] = sensorId;
+        sensorNames[index] = sensorName;
+        timestamps[index] = timestamp;
+        eventTimes[index] = TimeUnit.MILLISECONDS.toNanos(timestamp);
+        values[index] = sample;
+    }
+}
@@ -0,0 +1,186 @@
+package com.zackmathews.unifyidchallenge.benchmark;
+
+import com.zackmathews.unifyidchallenge.ColumnarSessionWriter;
+import com.zackmathews.unifyidchallenge.EncryptedInputStream;
+import com.zackmathews.unifyidchallenge.EncryptedOutputStream;
+import com.zackmathews.unifyidchallenge.MappedSessionReader;
+import com.zackmathews.unifyidchallenge.SessionReader;
+import com.zackmathews.unifyidchallenge.SessionStreamWriter;
+import com.zackmathews.unifyidchallenge.SessionWriter;
+import com.zackmatthews.unifyidchallenge.proto.UnifyChallengeProto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of writing and reading a session in each file layout, reported per sample.
+ * Sessions go to and from memory so disk speed doesn't hide encoding costs,
+ * the memory mapped reader reads files that stay in the page cache. Encrypted variants include the RSA key wrap
+ * every session pays for.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(SerializationBenchmark.SAMPLES)
+public class SerializationBenchmark {
+    static final int SAMPLES = 20000;
+
+    @Param({SensorStream.SYNTHETIC, SensorStream.SAMPLE_FILE})
+    public String source;
+
+    private SensorStream stream;
+    private List<LegacyPipeline.Packet> packets;
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private byte[] v1Session;
+    private byte[] v2Session;
+    private KeyPair keyPair;
+    private byte[] encryptedV2Session;
+    private File v1File;
+    private File v2File;
+
+    @Setup
+    public void setup() throws IOException, GeneralSecurityException {
+        stream = SensorStream.create(source, SAMPLES);
+        packets = new ArrayList<>();
+        for (int i = 0; i < stream.size; i++) {
+            packets.add(LegacyPipeline.replay(stream.sensorNames[i], stream.timestamps[i], stream.values[i]));
+        }
+        v1Session = writeStreamV1();
+        v2Session = writeColumnarV2();
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+        encryptedV2Session = writeEncryptedV2();
+        v1File = writeTempFile(v1Session);
+        v2File = writeTempFile(v2Session);
+    }
+
+    private static File writeTempFile(byte[] session) throws IOException {
+        File file = File.createTempFile("session", ".bench");
+        try (FileOutputStream stream = new FileOutputStream(file)) {
+            stream.write(session);
+        }
+        return file;
+    }
+
+    @TearDown
+    public void tearDown() {
+        v1File.delete();
+        v2File.delete();
+    }
+
+    @Benchmark
+    public byte[] writeCollectionV1() throws IOException {
+        output.reset();
+        LegacyPipeline.writeSession(packets, output);
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeStreamV1() throws IOException {
+        output.reset();
+        return write(new SessionStreamWriter(output));
+    }
+
+    @Benchmark
+    public byte[] writeColumnarV2() throws IOException {
+        output.reset();
+        return write(new ColumnarSessionWriter(output));
+    }
+
+    @Benchmark
+    public byte[] writeEncryptedV2() throws IOException {
+        output.reset();
+        return write(new ColumnarSessionWriter(new EncryptedOutputStream(output, keyPair.getPublic())));
+    }
+
+    private byte[] write(SessionWriter writer) throws IOException {
+        try {
+            for (int i = 0; i < stream.size; i++) {
+                float[] values = stream.values[i];
+                writer.writeSample(stream.sensorIds[i], stream.timestamps[i], values, values.length);
+            }
+        } finally {
+            writer.close();
+        }
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public UnifyChallengeProto.SensorDataCollection parseCollectionV1() throws IOException {
+        return UnifyChallengeProto.SensorDataCollection.parseFrom(v1Session);
+    }
+
+    @Benchmark
+    public void readStreamV1(Blackhole blackhole) throws IOException {
+        read(v1Session, blackhole);
+    }
+
+    @Benchmark
+    public void readColumnarV2(Blackhole blackhole) throws IOException {
+        read(v2Session, blackhole);
+    }
+
+    @Benchmark
+    public void readEncryptedV2(Blackhole blackhole) throws IOException {
+        read(new EncryptedInputStream(new ByteArrayInputStream(encryptedV2Session), keyPair.getPrivate()), blackhole);
+    }
+
+    @Benchmark
+    public void readMappedV1(Blackhole blackhole) throws IOException {
+        readMapped(v1File, blackhole);
+    }
+
+    @Benchmark
+    public void readMappedV2(Blackhole blackhole) throws IOException {
+        readMapped(v2File, blackhole);
+    }
+
+    private void readMapped(File session, Blackhole blackhole) throws IOException {
+        try (MappedSessionReader reader = new MappedSessionReader(session)) {
+            while (reader.next()) {
+                blackhole.consume(reader.getTimestamp());
+                for (int i = 0; i < reader.getValueCount(); i++) {
+                    blackhole.consume(reader.getValue(i));
+                }
+            }
+        }
+    }
+
+    private void read(byte[] session, Blackhole blackhole) throws IOException {
+        read(new ByteArrayInputStream(session), blackhole);
+    }
+
+    private void read(InputStream session, Blackhole blackhole) throws IOException {
+        try (SessionReader reader = new SessionReader(session)) {
+            while (reader.next()) {
+                blackhole.consume(reader.getTimestamp());
+                for (int i = 0; i < reader.getValueCount(); i++) {
+                    blackhole.consume(reader.getValue(i));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.zackmathews.unifyidchallenge.benchmark;
+
+import com.zackmathews.unifyidchallenge.SensorDataPacket;
+import com.zackmathews.unifyidchallenge.SensorSessionBuffer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of holding a session in memory, reported per appended sample.
+ * Each invocation records a fresh session, so growth of the backing storage is included.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(SessionBufferBenchmark.SAMPLES)
+public class SessionBufferBenchmark {
+    static final int SAMPLES = 50000;
+
+    @Param({SensorStream.SYNTHETIC, SensorStream.SAMPLE_FILE})
+    public String source;
+
+    private SensorStream stream;
+    private final SensorDataPacket packet = new SensorDataPacket();
+
+    @Setup
+    public void setup() throws IOException {
+        stream = SensorStream.create(source, SAMPLES);
+    }
+
+    @Benchmark
+    public List<LegacyPipeline.Packet> legacyList() {
+        List<LegacyPipeline.Packet> packets = new ArrayList<>();
+        for (int i = 0; i < stream.size; i++) {
+            packets.add(LegacyPipeline.replay(stream.sensorNames[i], stream.timestamps[i], stream.values[i]));
+        }
+        return packets;
+    }
+
+    @Benchmark
+    public SensorSessionBuffer columnarBuffer() {
+        return record(new SensorSessionBuffer());
+    }
+
+    @Benchmark
+    public SensorSessionBuffer windowedBuffer() {
+        return record(SensorSessionBuffer.windowed(TimeUnit.SECONDS.toNanos(1), TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    private SensorSessionBuffer record(SensorSessionBuffer buffer) {
+        for (int i = 0; i < stream.size; i++) {
+            packet.set(stream.sensorIds[i], stream.eventTimes[i], stream.values[i]);
+            buffer.append(packet);
+        }
+        return buffer;
+    }
+}